@@ -0,0 +1,98 @@
+package thonlivethondie.artconnect.common.security;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 하나에 로그가 쓰는 비용 비교 (출력 대상은 버리는 스트림이므로 I/O 대기 자체는 제외)
+ * legacy: 기존 필터, JwtService처럼 요청마다 INFO 로그 3줄을 동기 appender로 출력
+ * recorder: 카운터만 올리고 100건 중 1건만 비동기 appender로 출력하는 AuthEventRecorder
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AuthLoggingBenchmark {
+
+    private static final String ACCESS_TOKEN =
+            "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzUxMiJ9.eyJzdWIiOiJBY2Nlc3NUb2tlbiIsInVzZXJJZCI6MX0.signature";
+
+    private org.slf4j.Logger legacyLog;
+    private AuthEventRecorder recorder;
+    private AsyncAppender asyncAppender;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        Logger legacy = context.getLogger("legacy");
+        legacy.setLevel(Level.INFO);
+        legacy.setAdditive(false);
+        legacy.addAppender(nullAppender(context, "LEGACY"));
+
+        asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC_AUTH");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(nullAppender(context, "AUTH"));
+        asyncAppender.start();
+
+        Logger auth = context.getLogger("auth");
+        auth.setLevel(Level.INFO);
+        auth.setAdditive(false);
+        auth.addAppender(asyncAppender);
+
+        legacyLog = LoggerFactory.getLogger("legacy");
+        recorder = new AuthEventRecorder(100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncAppender.stop();
+    }
+
+    @Benchmark
+    public void legacy() {
+        legacyLog.info("checkAccessTokenAndAuthentication() 호출");
+        legacyLog.info("Refresh Token 없음!");
+        legacyLog.info("재발급된 Access Token : {}", ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public void recorder() {
+        recorder.record(AuthEvent.ACCESS_TOKEN_ACCEPTED, "userId", "1");
+    }
+
+    private static OutputStreamAppender<ILoggingEvent> nullAppender(LoggerContext context, String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,89 @@
+package thonlivethondie.artconnect.filter;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.common.security.PublicPaths;
+import thonlivethondie.artconnect.service.JwtService;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 경로 요청 하나에 JWT 필터가 쓰는 비용 비교
+ * legacyTokenWork: 기존 필터가 "/login" 외의 공개 경로에서도 하던 AccessToken 검증 2회 (isTokenValid, extractUserId, 회원 조회 제외)
+ * pathPatterns: 공개 경로 패턴을 요청마다 PathPattern으로 하나씩 비교하는 방식
+ * publicPathTrie: 미리 만든 경로 트라이로 판단하고 토큰 작업을 건너뛰는 현재 필터 (shouldNotFilter)
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationProcessingFilterBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key";
+
+    private static final String[] PATHS = {
+            "/login", "/oauth2/authorization/kakao", "/css/main.css", "/images/icons/logo.png",
+            "/api/auth/sign-up", "/login/oauth2/code/google", "/h2-console/login.do", "/"
+    };
+
+    private JwtService jwtService;
+    private String staleAccessToken;
+    private List<PathPattern> pathPatterns;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, new AuthEventRecorder(0));
+        staleAccessToken = JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .withClaim("userId", 1L)
+                .withClaim("role", "USER")
+                .withClaim("userType", "DESIGNER")
+                .sign(Algorithm.HMAC512(SECRET_KEY));
+
+        PathPatternParser parser = new PathPatternParser();
+        pathPatterns = Arrays.stream(PublicPaths.PATTERNS).map(parser::parse).toList();
+    }
+
+    private String nextPath() {
+        index = (index + 1) % PATHS.length;
+        return PATHS[index];
+    }
+
+    @Benchmark
+    public void legacyTokenWork(Blackhole blackhole) {
+        blackhole.consume(nextPath().equals("/login"));
+        blackhole.consume(jwtService.isTokenValid(staleAccessToken));
+        blackhole.consume(jwtService.extractUserId(staleAccessToken));
+    }
+
+    @Benchmark
+    public boolean pathPatterns() {
+        PathContainer path = PathContainer.parsePath(nextPath());
+        for (PathPattern pattern : pathPatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean publicPathTrie() {
+        return PublicPaths.matches(nextPath());
+    }
+}
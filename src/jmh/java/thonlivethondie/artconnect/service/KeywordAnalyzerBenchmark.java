@@ -0,0 +1,124 @@
+package thonlivethondie.artconnect.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.common.DesignStyle;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 키워드 추출 및 한국어 → enum 매핑 성능 비교
+ * legacy: 기존 DesignerMatchingService의 split/matches/enum 전체 순회 방식
+ * analyzer: 미리 컴파일된 정규식과 Aho–Corasick 사전을 사용하는 KeywordAnalyzer
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordAnalyzerBenchmark {
+
+    private static final String DESIGN_DIRECTION = "따뜻하고 감성적인 빈티지 스타일, 자연스러운 우드톤과 모던한 타이포그래피";
+    private static final String TARGET_CUSTOMER = "20-30대 직장인 여성, SNS 감성을 선호하는 카페 방문 고객층";
+    private static final String REQUIRED_DESIGNS = "로고, 명함, 메뉴판, 포스터/전단지, 패키지 & 스티커";
+
+    private KeywordAnalyzer keywordAnalyzer;
+
+    @Setup
+    public void setUp() {
+        keywordAnalyzer = new KeywordAnalyzer();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        List<String> keywords = Stream.of(
+                        legacyExtractKeywordsFromText(DESIGN_DIRECTION),
+                        legacyExtractKeywordsFromText(TARGET_CUSTOMER),
+                        legacyExtractKeywordsFromText(REQUIRED_DESIGNS))
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList());
+
+        List<String> mappedKeywords = keywords.stream()
+                .flatMap(keyword -> Stream.of(legacyMapDesignStyleKeyword(keyword), legacyMapDesignCategoryKeyword(keyword))
+                        .filter(mapped -> !mapped.isEmpty()))
+                .distinct()
+                .collect(Collectors.toList());
+
+        blackhole.consume(keywords);
+        blackhole.consume(mappedKeywords);
+    }
+
+    @Benchmark
+    public void analyzer(Blackhole blackhole) {
+        List<String> keywords = Stream.of(
+                        keywordAnalyzer.extractKeywords(DESIGN_DIRECTION),
+                        keywordAnalyzer.extractKeywords(TARGET_CUSTOMER),
+                        keywordAnalyzer.extractKeywords(REQUIRED_DESIGNS))
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList());
+
+        List<String> mappedKeywords = keywordAnalyzer
+                .findDesignTerms(DESIGN_DIRECTION + "\n" + TARGET_CUSTOMER + "\n" + REQUIRED_DESIGNS)
+                .toKeywords();
+
+        blackhole.consume(keywords);
+        blackhole.consume(mappedKeywords);
+    }
+
+    // ---- 기존 구현 (비교용) ----
+
+    private List<String> legacyExtractKeywordsFromText(String text) {
+        return Arrays.stream(text.split("[,]+"))
+                .map(String::trim)
+                .filter(phrase -> !phrase.isEmpty())
+                .flatMap(phrase -> Arrays.stream(phrase.split("[\\s\\-/&()]+"))
+                        .map(String::trim)
+                        .filter(keyword -> !keyword.isEmpty() && keyword.length() >= 2)
+                        .filter(this::legacyIsValidKeyword))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private boolean legacyIsValidKeyword(String keyword) {
+        String[] stopWords = {
+                "그리고", "하고", "또는", "등", "같은", "느낌", "스타일", "디자인",
+                "위한", "대한", "있는", "하는", "되는", "것", "수", "를", "을", "이", "가", "의", "에", "로", "으로"
+        };
+
+        String lowerKeyword = keyword.toLowerCase();
+        for (String stopWord : stopWords) {
+            if (lowerKeyword.equals(stopWord)) {
+                return false;
+            }
+        }
+        return !keyword.matches("\\d+");
+    }
+
+    private String legacyMapDesignStyleKeyword(String keyword) {
+        for (DesignStyle style : DesignStyle.values()) {
+            if (style.getDescription().contains(keyword) || keyword.contains(style.getDescription())) {
+                return style.name().toLowerCase();
+            }
+        }
+        return "";
+    }
+
+    private String legacyMapDesignCategoryKeyword(String keyword) {
+        for (DesignCategory category : DesignCategory.values()) {
+            if (category.getDescription().contains(keyword) || keyword.contains(category.getDescription())) {
+                return category.name().toLowerCase();
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,147 @@
+package thonlivethondie.artconnect.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최대 개수(LRU)와 항목별 만료 시각을 갖는 메모리 캐시
+ * <p>
+ * - 메모리: 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 만료: 저장할 때 항목별 만료 시각을 지정하며, 만료된 항목은 조회 시 또는 {@link #purgeExpired(long)}로 제거
+ * - 통계: 조회 적중/미적중 횟수와 만료/최대 개수 초과로 제거된 항목 수를 모니터링용으로 집계
+ * 모든 접근은 캐시 인스턴스 단위로 동기화됩니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxEntries;
+
+    /**
+     * 접근 순서로 정렬된 캐시 (LRU 제거용)
+     */
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong expiredEvictionCount = new AtomicLong();
+    private final AtomicLong capacityEvictionCount = new AtomicLong();
+
+    /**
+     * @param maxEntries 저장할 최대 항목 수
+     */
+    public BoundedTtlCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxEntries) {
+                    capacityEvictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 현재 시각 기준으로 값을 조회합니다.
+     *
+     * @param key 키
+     * @return 값 (없거나 만료된 경우 null)
+     */
+    public V get(K key) {
+        return get(key, System.currentTimeMillis());
+    }
+
+    /**
+     * 값을 조회합니다. 만료된 항목은 제거하고 null을 반환합니다.
+     *
+     * @param key 키
+     * @param now 기준 시각 (epoch milliseconds)
+     * @return 값 (없거나 만료된 경우 null)
+     */
+    public synchronized V get(K key, long now) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry != null && entry.expiresAt() <= now) {
+            entries.remove(key);
+            expiredEvictionCount.incrementAndGet();
+            entry = null;
+        }
+
+        (entry != null ? hitCount : missCount).incrementAndGet();
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * 값을 저장합니다. 최대 개수를 넘으면 가장 오래 사용되지 않은 항목이 제거됩니다.
+     *
+     * @param key       키
+     * @param value     값
+     * @param expiresAt 만료 시각 (epoch milliseconds)
+     */
+    public synchronized void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * 만료된 항목들을 한 번에 제거합니다.
+     *
+     * @param now 기준 시각 (epoch milliseconds)
+     * @return 제거한 항목 수
+     */
+    public synchronized int purgeExpired(long now) {
+        int removed = 0;
+
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt() <= now) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        expiredEvictionCount.addAndGet(removed);
+        return removed;
+    }
+
+    /**
+     * 현재 저장된 항목 수를 반환합니다 (만료되었지만 아직 제거되지 않은 항목 포함).
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 통계를 반환합니다 (모니터링용).
+     */
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), maxEntries, hitCount.get(), missCount.get(),
+                expiredEvictionCount.get(), capacityEvictionCount.get());
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    /**
+     * 캐시 통계 (모니터링용)
+     *
+     * @param size                  현재 저장된 항목 수
+     * @param maxEntries            저장할 최대 항목 수
+     * @param hitCount              조회 적중 횟수
+     * @param missCount             조회 미적중 횟수 (없거나 만료된 항목)
+     * @param expiredEvictionCount  만료로 제거된 항목 수
+     * @param capacityEvictionCount 최대 개수 초과로 제거된 항목 수
+     */
+    public record Stats(int size,
+                        int maxEntries,
+                        long hitCount,
+                        long missCount,
+                        long expiredEvictionCount,
+                        long capacityEvictionCount) {
+    }
+}
@@ -0,0 +1,10 @@
+package thonlivethondie.artconnect.common.event;
+
+/**
+ * 디자이너의 검색 대상 정보(전문분야, 디자인 스타일, 포트폴리오)가 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 디자이너 검색 인덱스를 갱신하는 데 사용됩니다.
+ *
+ * @param designerId 변경된 디자이너의 사용자 ID
+ */
+public record DesignerProfileChangedEvent(Long designerId) {
+}
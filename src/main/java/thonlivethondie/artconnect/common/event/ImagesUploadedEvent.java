@@ -0,0 +1,19 @@
+package thonlivethondie.artconnect.common.event;
+
+import java.util.List;
+
+/**
+ * 이미지 행이 저장되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 축소 이미지(썸네일, 중간 크기)를 생성하는 데 사용됩니다.
+ *
+ * @param owner     이미지를 소유한 엔티티 종류
+ * @param fileNames 업로드된 원본 파일명(S3 키) 목록
+ */
+public record ImagesUploadedEvent(Owner owner, List<String> fileNames) {
+
+    public enum Owner {
+        PORTFOLIO,
+        STORE,
+        WORK_SUBMISSION
+    }
+}
@@ -12,6 +12,7 @@ public enum ErrorCode {
 
     // 사용자 관련 에러
     USER_NOT_FOUND(BAD_REQUEST, "U001", "사용자를 찾을 수 없습니다."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "U002", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 매장 관련 에러
     INVALID_USER_TYPE(BAD_REQUEST, "S001", "사용자 유형이 올바르지 않습니다."),
@@ -33,6 +34,12 @@ public enum ErrorCode {
     IMAGE_REQUIRED(BAD_REQUEST, "WS002", "이미지는 필수입니다."),
     
     IMAGE_UPLOAD_FAILED(BAD_REQUEST, "I001", "이미지 업로드에 실패했습니다."),
+    INVALID_MULTIPART_REQUEST(BAD_REQUEST, "I003", "multipart 요청 형식이 올바르지 않습니다."),
+    FILE_SIZE_EXCEEDED(BAD_REQUEST, "I004", "파일 크기가 허용 범위를 초과했습니다."),
+    UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "I005", "업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    UPLOAD_NOT_FOUND(BAD_REQUEST, "I006", "업로드 요청을 찾을 수 없거나 파일이 아직 업로드되지 않았습니다."),
+    UPLOAD_SIZE_MISMATCH(BAD_REQUEST, "I007", "업로드된 파일 크기가 요청한 크기와 다릅니다."),
+    FILE_COUNT_EXCEEDED(BAD_REQUEST, "I008", "한 번에 업로드할 수 있는 파일 개수를 초과했습니다."),
 
     // 포트폴리오 에러
     PORTFOLIO_NOT_FOUND(BAD_REQUEST, "P001", "포트폴리오를 찾을 수 없습니다."),
@@ -40,6 +47,10 @@ public enum ErrorCode {
     PORTFOLIO_IMAGE_NOT_FOUND(BAD_REQUEST, "P003", "포트폴리오 이미지를 찾을 수 없습니다"),
     PORTFOLIO_IMAGE_ACCESS_DENIED(BAD_REQUEST, "P004", "포트폴리오 이미지에 접근할 권한이 없습니다."),
 
+    // AI 호출 관련 에러
+    AI_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "A001", "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    AI_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "A002", "AI 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E999", "서버 내부 오류가 발생했습니다."),
 
     // 프로필 이미지 수정 관련 예러
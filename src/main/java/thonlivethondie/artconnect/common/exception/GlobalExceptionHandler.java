@@ -32,6 +32,23 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceUnavailableException(
+            ServiceUnavailableException e,
+            HttpServletRequest request) {
+
+        log.warn("ServiceUnavailableException: {}", e.getMessage());
+
+        ErrorResponseDto errorResponse = ErrorResponseDto.of(
+                e.getErrorCode(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus())
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDto> handleValidationException(
             MethodArgumentNotValidException e,
@@ -0,0 +1,14 @@
+package thonlivethondie.artconnect.common.exception;
+
+/**
+ * 외부 의존 서비스(AI 등)의 과부하나 응답 지연으로 요청을 처리할 수 없는 경우의 예외
+ */
+public class ServiceUnavailableException extends ArtConnectException {
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public ServiceUnavailableException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode, cause);
+    }
+}
@@ -0,0 +1,28 @@
+package thonlivethondie.artconnect.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import thonlivethondie.artconnect.service.image.ImageUrlResolver;
+
+import java.io.IOException;
+
+/**
+ * 비공개 이미지 URL을 응답할 때 서명된 단기 URL로 바꾸는 직렬화기
+ * DTO의 URL 필드에 {@code @JsonSerialize(using = PrivateImageUrlSerializer.class)}로 지정합니다.
+ * Spring이 생성자에 {@link ImageUrlResolver}를 주입합니다.
+ */
+public class PrivateImageUrlSerializer extends StdSerializer<String> {
+
+    private final transient ImageUrlResolver imageUrlResolver;
+
+    public PrivateImageUrlSerializer(ImageUrlResolver imageUrlResolver) {
+        super(String.class);
+        this.imageUrlResolver = imageUrlResolver;
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(imageUrlResolver.toPrivateUrl(value));
+    }
+}
@@ -0,0 +1,34 @@
+package thonlivethondie.artconnect.common.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증 이벤트 종류
+ * 대부분은 정상적으로 자주 발생하는 이벤트이므로 횟수만 세고 일부만 표본으로 로그를 남기며,
+ * alwaysLogged 이벤트(보안상 확인이 필요한 이벤트)만 매번 WARN 로그를 남깁니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AuthEvent {
+    ACCESS_TOKEN_ACCEPTED("access_token.accepted", false),
+    TOKEN_EXPIRED("token.expired", false),
+    TOKEN_INVALID("token.invalid", false),
+    TOKEN_UNKNOWN_CLAIM("token.unknown_claim", false),
+    REFRESH_REISSUED("refresh.reissued", false),
+    REFRESH_REJECTED("refresh.rejected", false),
+    REFRESH_REUSE_DETECTED("refresh.reuse_detected", true),
+    LOGIN_SUCCEEDED("login.succeeded", false),
+    LOGIN_FAILED("login.failed", false),
+    LOGIN_REJECTED_BUSY("login.rejected_busy", false),
+    PASSWORD_REHASHED("login.password_rehashed", false),
+    OAUTH2_LOGIN_SUCCEEDED("oauth2_login.succeeded", false),
+    OAUTH2_LOGIN_FAILED("oauth2_login.failed", false);
+
+    /**
+     * 로그에 기록하는 이벤트 이름
+     */
+    private final String key;
+
+    private final boolean alwaysLogged;
+}
@@ -0,0 +1,83 @@
+package thonlivethondie.artconnect.common.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증 이벤트 기록기
+ * <p>
+ * 요청마다 로그 한 줄을 동기로 쓰지 않도록 다음을 적용합니다.
+ * - 모든 이벤트는 이벤트별 카운터(LongAdder)로만 집계 (모니터링용 getCounts)
+ * - 로그는 sample-rate 건 중 한 건만 표본으로 남기고, 메시지 문자열은 로그를 남길 때만 생성
+ * - 재사용된 RefreshToken처럼 보안상 확인이 필요한 이벤트는 매번 WARN 로그
+ * - "auth" 로거는 logback-spring.xml에서 비동기 appender로 출력 (요청 스레드가 출력 I/O를 기다리지 않음)
+ * 로그는 "event=... key=value" 형식이며, 토큰이나 비밀번호 같은 비밀 값은 넘기지 않아야 합니다.
+ */
+@Component
+public class AuthEventRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger("auth");
+
+    private final int sampleRate;
+    private final LongAdder[] counters = new LongAdder[AuthEvent.values().length];
+
+    public AuthEventRecorder(@Value("${auth.logging.sample-rate:100}") int sampleRate) {
+        this.sampleRate = sampleRate;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 인증 이벤트를 기록합니다.
+     *
+     * @param event   이벤트 종류
+     * @param details 로그에 함께 남길 key, value 쌍 (비밀 값 제외)
+     */
+    public void record(AuthEvent event, Object... details) {
+        LongAdder counter = counters[event.ordinal()];
+        counter.increment();
+
+        if (event.isAlwaysLogged()) {
+            if (log.isWarnEnabled()) {
+                log.warn(format(event, counter.sum(), details));
+            }
+            return;
+        }
+
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0 && log.isInfoEnabled()) {
+            log.info(format(event, counter.sum(), details));
+        }
+    }
+
+    /**
+     * 이벤트별 발생 횟수를 반환합니다 (모니터링용).
+     */
+    public Map<AuthEvent, Long> getCounts() {
+        Map<AuthEvent, Long> counts = new EnumMap<>(AuthEvent.class);
+        for (AuthEvent event : AuthEvent.values()) {
+            counts.put(event, counters[event.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    private String format(AuthEvent event, long total, Object[] details) {
+        StringBuilder message = new StringBuilder(64)
+                .append("event=").append(event.getKey())
+                .append(" total=").append(total);
+        if (!event.isAlwaysLogged()) {
+            message.append(" sample=1/").append(sampleRate);
+        }
+        for (int i = 0; i + 1 < details.length; i += 2) {
+            message.append(' ').append(details[i]).append('=').append(details[i + 1]);
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package thonlivethondie.artconnect.common.security;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.UserType;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * JWT 인증을 마친 요청의 사용자 정보
+ * <p>
+ * AccessToken의 userId, role, userType 클레임으로 만들어지므로 요청마다 회원을 조회하지 않습니다.
+ * username은 기존과 같이 userId 문자열이므로 컨트롤러에서는 그대로 @AuthenticationPrincipal UserDetails로 받을 수 있습니다.
+ * 서비스는 current()로 현재 요청의 사용자 정보를 꺼내 조회 권한 검사에 사용하고,
+ * 쓰기 작업이나 탈퇴 여부가 중요한 작업은 DB를 조회합니다.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+    private final Role role;
+    private final UserType userType;
+
+    public AuthenticatedUser(Long userId, Role role, UserType userType) {
+        super(String.valueOf(userId), "",
+                role == null ? List.of() : List.of(new SimpleGrantedAuthority(role.getKey())));
+        this.userId = userId;
+        this.role = role;
+        this.userType = userType;
+    }
+
+    /**
+     * 현재 요청의 인증 사용자 정보를 반환합니다.
+     *
+     * @return 인증 사용자 정보 (인증되지 않은 요청이면 빈 Optional 객체)
+     */
+    public static Optional<AuthenticatedUser> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 현재 요청의 사용자가 주어진 회원이고 주어진 회원 유형인지 확인합니다.
+     * 회원 유형은 가입 시 정해진 뒤 바뀌지 않으므로 토큰의 클레임만으로 판단합니다.
+     */
+    public static boolean isCurrent(Long userId, UserType userType) {
+        return current()
+                .filter(user -> Objects.equals(user.getUserId(), userId) && user.getUserType() == userType)
+                .isPresent();
+    }
+}
@@ -0,0 +1,144 @@
+package thonlivethondie.artconnect.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 계산 전용 실행기 (격벽, bulkhead)
+ * <p>
+ * bcrypt 해시는 CPU를 많이 쓰므로 로그인이 몰리면 Tomcat 요청 스레드가 모두 해시 계산에 묶일 수 있습니다.
+ * - 해시 계산은 CPU 코어 수만큼의 전용 스레드에서만 실행 (동시에 계산하는 해시 수 제한)
+ * - 대기열 크기를 제한하고, 가득 차면 기다리지 않고 즉시 "인증 요청 과다" 에러로 실패
+ * - 대기열에서 제한 시간 넘게 기다린 요청은 계산하지 않고 실패 (전용 스레드가 꺼낼 때도 확인)
+ * - 이미 시작된 계산은 중단하지 않고 끝날 때까지 기다림 (bcrypt는 인터럽트로 멈추지 않으므로 중단해도 스레드가 반환되지 않음)
+ * 과부하 시 요청을 빠르게 거절하므로 처리되는 로그인의 응답 시간은 요청량이 늘어도 일정하게 유지됩니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordHashingExecutor(
+            @Value("${auth.password.workers:0}") int workers,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.timeout-ms:3000}") long timeoutMillis) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 해시 계산을 전용 스레드에서 실행하고 결과를 기다립니다.
+     * 제한 시간은 대기열에서 기다리는 시간에만 적용하며, 계산이 시작되면 끝날 때까지 기다립니다.
+     *
+     * @param task 해시 계산 (비밀번호 인코딩 또는 비교)
+     * @return 계산 결과
+     * @throws ServiceUnavailableException 대기열이 가득 찼거나 대기열에서 제한 시간을 넘은 경우 (AUTH_BUSY)
+     */
+    public <T> T execute(Supplier<T> task) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // 전용 스레드가 계산을 시작하거나 요청한 쪽이 대기를 포기할 때 먼저 설정한 쪽만 진행
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<T> future = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            // 제한 시간이 지난 요청은 계산하지 않고 다음 요청을 처리
+            if (System.nanoTime() - deadline >= 0) {
+                throw queueTimeout();
+            }
+            return task.get();
+        });
+
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("비밀번호 해시 대기열이 가득 차 요청을 거절합니다 - 대기 중: {}", executor.getQueue().size());
+            throw new ServiceUnavailableException(ErrorCode.AUTH_BUSY, e);
+        }
+
+        try {
+            try {
+                return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 아직 대기열에 있으면 포기하고, 이미 계산 중이면 중단하지 않고 결과를 기다림
+                if (claimed.compareAndSet(false, true)) {
+                    executor.remove(future);
+                    throw queueTimeout();
+                }
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            if (claimed.compareAndSet(false, true)) {
+                executor.remove(future);
+            }
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorCode.AUTH_BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 계산에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 대기열에서 기다리는 해시 계산이 없는지 확인합니다.
+     * 꼭 필요하지 않은 해시 계산(로그인 시 재해시)은 여유가 있을 때만 실행하기 위해 사용합니다.
+     */
+    public boolean hasSpareCapacity() {
+        return executor.getQueue().isEmpty();
+    }
+
+    /**
+     * 실행기 상태를 반환합니다 (모니터링용).
+     */
+    public Stats getStats() {
+        return new Stats(executor.getActiveCount(), executor.getQueue().size(), rejectedCount.get());
+    }
+
+    private ServiceUnavailableException queueTimeout() {
+        rejectedCount.incrementAndGet();
+        log.warn("비밀번호 해시 대기 시간 초과 - 제한 시간: {}ms", timeoutMillis);
+        return new ServiceUnavailableException(ErrorCode.AUTH_BUSY);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 해시 실행기 상태 (모니터링용)
+     *
+     * @param activeCount   해시를 계산 중인 스레드 수
+     * @param queuedCount   대기열에서 기다리는 요청 수
+     * @param rejectedCount 대기열 초과 또는 대기 시간 초과로 거절한 요청 수
+     */
+    public record Stats(int activeCount, int queuedCount, long rejectedCount) {
+    }
+}
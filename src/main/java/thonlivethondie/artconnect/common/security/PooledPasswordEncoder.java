@@ -0,0 +1,36 @@
+package thonlivethondie.artconnect.common.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 인코딩과 비교를 {@link PasswordHashingExecutor}의 전용 스레드에서 실행하는 PasswordEncoder
+ * <p>
+ * 로그인(DaoAuthenticationProvider)과 회원가입이 같은 실행기를 사용하므로 해시 계산에 쓰는 CPU가 함께 제한됩니다.
+ * upgradeEncoding은 저장된 해시의 형식만 확인하므로 요청 스레드에서 바로 실행하며,
+ * 대기 중인 해시 계산이 있으면 재해시(로그인 시 새 비용으로 다시 인코딩)를 다음 로그인으로 미룹니다.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword) && executor.hasSpareCapacity();
+    }
+}
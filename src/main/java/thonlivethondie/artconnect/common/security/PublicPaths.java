@@ -0,0 +1,150 @@
+package thonlivethondie.artconnect.common.security;
+
+import java.util.Arrays;
+
+/**
+ * 인증 없이 접근할 수 있는 경로 목록과 이 목록으로 미리 만들어 둔 경로 트라이
+ * <p>
+ * SecurityConfig의 permitAll 설정과 JwtAuthenticationProcessingFilter가 같은 목록을 사용하므로,
+ * 공개 경로 요청은 토큰 추출, 서명 검증, 회원 조회 없이 바로 다음 필터로 넘어갑니다.
+ * 패턴은 정확한 경로("/login") 또는 "/**"로 끝나는 접두 경로("/oauth2/**", 접두 경로 자체 포함)만 지원합니다.
+ * 요청 경로를 "/" 단위로 한 번 훑으며 트라이를 따라가므로 패턴 수와 관계없이 경로 길이에 비례하는 시간에 판단하고,
+ * 판단 중에 객체를 생성하지 않습니다.
+ */
+public final class PublicPaths {
+
+    public static final String[] PATTERNS = {
+            "/",
+            "/index.html",  // 명시적으로 index.html 추가
+            "/login",       // 로그인 경로 추가
+            "/oauth2/**",   // OAuth2 관련 모든 경로 추가
+            "/oauth2/authorization/**", // OAuth2 인증 시작점
+            "/login/oauth2/**",        // OAuth2 리다이렉트 경로
+            "/css/**",
+            "/images/**",
+            "/js/**",
+            "/h2-console/**",
+            "/api/auth/**"
+    };
+
+    private static final String ANY_PATH = "**";
+
+    private static final Node ROOT = compile(PATTERNS);
+
+    private PublicPaths() {
+    }
+
+    /**
+     * 요청 경로가 공개 경로인지 확인합니다.
+     *
+     * @param path 컨텍스트 경로를 제외한 요청 경로 (예: /api/auth/sign-up)
+     * @return 공개 경로이면 true (끝에 "/"가 붙은 경로 등 패턴과 정확히 같지 않으면 false)
+     */
+    public static boolean matches(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        if (path.length() == 1) {
+            return ROOT.exact || ROOT.prefix;
+        }
+
+        Node node = ROOT;
+        int start = 1;
+        while (!node.prefix) {
+            if (start == path.length()) {
+                return false;
+            }
+
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+
+            node = node.child(path, start, end);
+            if (node == null) {
+                return false;
+            }
+            if (end == path.length()) {
+                return node.exact || node.prefix;
+            }
+            start = end + 1;
+        }
+        return true;
+    }
+
+    private static Node compile(String[] patterns) {
+        Node root = new Node();
+        for (String pattern : patterns) {
+            if (!pattern.startsWith("/")) {
+                throw new IllegalArgumentException("공개 경로는 /로 시작해야 합니다: " + pattern);
+            }
+
+            Node node = root;
+            String[] segments = pattern.equals("/") ? new String[0] : pattern.substring(1).split("/", -1);
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.equals(ANY_PATH)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("/**는 공개 경로의 끝에만 사용할 수 있습니다: " + pattern);
+                    }
+                    node.prefix = true;
+                    break;
+                }
+                if (segment.isEmpty() || segment.contains("*") || segment.contains("{")) {
+                    throw new IllegalArgumentException("지원하지 않는 공개 경로 패턴입니다: " + pattern);
+                }
+                node = node.getOrAddChild(segment);
+                if (i == segments.length - 1) {
+                    node.exact = true;
+                }
+            }
+            if (segments.length == 0) {
+                node.exact = true;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * 경로 트라이 노드 (자식은 몇 개뿐이므로 배열로 보관)
+     */
+    private static final class Node {
+
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+
+        /**
+         * 이 노드까지의 경로가 정확히 공개 경로인지
+         */
+        private boolean exact;
+
+        /**
+         * 이 노드까지의 경로와 그 하위 경로가 모두 공개 경로인지 ("/**")
+         */
+        private boolean prefix;
+
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrAddChild(String segment) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+    }
+}
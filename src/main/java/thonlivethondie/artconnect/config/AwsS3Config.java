@@ -2,13 +2,19 @@ package thonlivethondie.artconnect.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+
 @Slf4j
 @Configuration
 public class AwsS3Config {
@@ -22,12 +28,52 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    /**
+     * S3 호환 저장소 주소 (예: 로컬 MinIO, LocalStack). 비어 있으면 AWS S3를 사용합니다.
+     */
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    /**
+     * 동시에 진행할 수 있는 최대 업로드(파트) 수
+     */
+    @Value("${cloud.aws.s3.upload.max-concurrency:10}")
+    private int maxUploadConcurrency;
+
+    /**
+     * 이 크기 이상인 파일은 멀티파트로 업로드
+     */
+    @Value("${cloud.aws.s3.upload.multipart-threshold-mb:16}")
+    private long multipartThresholdMb;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+
+        if (endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            // S3 호환 저장소는 버킷을 경로로 지정 (http://host:port/bucket/key)
+            log.info("S3 호환 저장소 사용 - endpoint: {}", endpoint);
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+        return (AmazonS3Client) builder.build();
+    }
+
+    /**
+     * S3 업로드 전용 TransferManager
+     * 고정 개수의 가상 스레드로 동시 업로드 수를 제한하며, 큰 파일은 멀티파트로 업로드합니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(maxUploadConcurrency,
+                        Thread.ofVirtual().name("s3-transfer-", 0).factory()))
+                .withMultipartUploadThreshold(multipartThresholdMb * 1024 * 1024)
                 .build();
     }
 }
@@ -2,6 +2,7 @@ package thonlivethondie.artconnect.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -14,13 +15,18 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.common.security.PasswordHashingExecutor;
+import thonlivethondie.artconnect.common.security.PooledPasswordEncoder;
+import thonlivethondie.artconnect.common.security.PublicPaths;
 import thonlivethondie.artconnect.filter.CustomJsonUsernamePasswordAuthenticationFilter;
 import thonlivethondie.artconnect.filter.JwtAuthenticationProcessingFilter;
 import thonlivethondie.artconnect.handler.LoginFailureHandler;
@@ -29,8 +35,10 @@ import thonlivethondie.artconnect.oauth2.handler.OAuth2LoginFailureHandler;
 import thonlivethondie.artconnect.oauth2.handler.OAuth2LoginSuccessHandler;
 import thonlivethondie.artconnect.oauth2.service.CustomOAuth2UserService;
 import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.service.AuthenticatedPrincipalCache;
 import thonlivethondie.artconnect.service.JwtService;
 import thonlivethondie.artconnect.service.LoginService;
+import thonlivethondie.artconnect.service.RefreshTokenService;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -43,6 +51,10 @@ public class SecurityConfig {
 
     private final LoginService loginService;
     private final JwtService jwtService;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthEventRecorder authEventRecorder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
 
@@ -50,6 +62,9 @@ public class SecurityConfig {
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
 
+    @Value("${auth.password.bcrypt-cost:10}")
+    private int bcryptCost;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -67,20 +82,8 @@ public class SecurityConfig {
 
                 // URL 권한 관리
                 .authorizeHttpRequests(auth -> auth
-                        // 정적 리소스 및 특정 경로 허용
-                        .requestMatchers(
-                                "/",
-                                "/index.html",  // 명시적으로 index.html 추가
-                                "/login",       // 로그인 경로 추가
-                                "/oauth2/**",   // OAuth2 관련 모든 경로 추가
-                                "/oauth2/authorization/**", // OAuth2 인증 시작점
-                                "/login/oauth2/**",        // OAuth2 리다이렉트 경로
-                                "/css/**",
-                                "/images/**",
-                                "/js/**",
-                                "/h2-console/**",
-                                "/api/auth/**"
-                        ).permitAll()
+                        // 정적 리소스 및 특정 경로 허용 (JwtAuthenticationProcessingFilter도 같은 목록의 경로는 건너뜀)
+                        .requestMatchers(PublicPaths.PATTERNS).permitAll()
 
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated()
@@ -136,9 +139,15 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 설정한 비용(bcrypt-cost)의 bcrypt로 인코딩하고, 해시 계산은 PasswordHashingExecutor의 전용 스레드에서 실행
+     * 저장된 해시의 비용이 설정보다 낮으면 upgradeEncoding()이 true를 반환하여 로그인 시 새 비용으로 다시 인코딩
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptCost));
+        return new PooledPasswordEncoder(new DelegatingPasswordEncoder("bcrypt", encoders), passwordHashingExecutor);
     }
 
     //[PART 2]
@@ -147,6 +156,7 @@ public class SecurityConfig {
      * PasswordEncoder를 사용하는 AuthenticationProvider 지정 (PasswordEncoder는 위에서 등록한 PasswordEncoder 사용)
      * FormLogin(기존 스프링 시큐리티 로그인)과 동일하게 DaoAuthenticationProvider 사용
      * UserDetailsService는 커스텀 LoginService로 등록
+     * UserDetailsPasswordService도 LoginService로 등록하여 비용이 낮은 해시는 로그인 성공 시 다시 인코딩해 저장
      * 또한, FormLogin과 동일하게 AuthenticationManager로는 구현체인 ProviderManager 사용(return ProviderManager)
      */
     @Bean
@@ -154,6 +164,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(loginService);
+        provider.setUserDetailsPasswordService(loginService);
         return new ProviderManager(provider);
     }
 
@@ -163,7 +174,7 @@ public class SecurityConfig {
      */
     @Bean
     public LoginSuccessHandler loginSuccessHandler() {
-        return new LoginSuccessHandler(jwtService, userRepository, objectMapper);
+        return new LoginSuccessHandler(jwtService, refreshTokenService, userRepository, objectMapper, authEventRecorder);
     }
 
     /**
@@ -171,7 +182,7 @@ public class SecurityConfig {
      */
     @Bean
     public LoginFailureHandler loginFailureHandler() {
-        return new LoginFailureHandler();
+        return new LoginFailureHandler(authEventRecorder);
     }
 
     //[PART 4]
@@ -194,7 +205,8 @@ public class SecurityConfig {
     //[PART 5]
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        JwtAuthenticationProcessingFilter jwtAuthenticationFilter = new JwtAuthenticationProcessingFilter(jwtService, userRepository);
+        JwtAuthenticationProcessingFilter jwtAuthenticationFilter = new JwtAuthenticationProcessingFilter(
+                jwtService, userRepository, authenticatedPrincipalCache, refreshTokenService, authEventRecorder);
         return jwtAuthenticationFilter;
     }
 }
@@ -2,17 +2,21 @@ package thonlivethondie.artconnect.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import thonlivethondie.artconnect.dto.*;
 import thonlivethondie.artconnect.service.AiRecommendationService;
+import thonlivethondie.artconnect.service.AiRecommendationStreamService;
 import thonlivethondie.artconnect.service.DesignerMatchingService;
 import thonlivethondie.artconnect.service.DesignerMatchingSessionService;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -23,44 +27,64 @@ public class AiController {
     private final AiRecommendationService aiRecommendationService;
     private final DesignerMatchingService designerMatchingService;
     private final DesignerMatchingSessionService sessionService;
+    private final AiRecommendationStreamService aiRecommendationStreamService;
 
+    /**
+     * AI 디자인 제안을 받고, 제안에 맞는 디자이너를 매칭하여 세션과 초기 추천을 반환합니다.
+     * AI 응답은 요청 스레드에서 기다리지 않으며(비동기 응답), 응답이 오면 AI 호출 스레드에서 매칭과 세션 생성을 이어서 수행합니다.
+     *
+     * @param request AI 추천 요청 DTO
+     * @return AI 제안, 초기 추천 디자이너, 세션 ID
+     */
     @PostMapping("/recommend")
-    public ResponseEntity<AiRecommendationResponseDto> getRecommendation(@RequestBody AiRequestDto request) {
+    public CompletableFuture<ResponseEntity<AiRecommendationResponseDto>> getRecommendation(@RequestBody AiRequestDto request) {
         log.info("AI 추천 요청 시작 - 프롬프트: {}", request.getPrompt());
 
-        try {
-            // 1. AI로부터 디자인 제안 받기
-            log.info("AI 디자인 제안 서비스 호출 시작");
-            AiProposalDto proposal = aiRecommendationService.getProposal(request.getPrompt());
-            log.info("AI 디자인 제안 완료 - 방향성: {}", proposal.getDesignDirection());
-
-            // 2. 제안을 기반으로 점수가 매겨진 디자이너 찾기 (최대 10명)
-            log.info("점수 기반 디자이너 매칭 서비스 호출 시작");
-            List<ScoredDesignerDto> scoredDesigners = designerMatchingService.findScoredMatchingDesigners(proposal);
-            log.info("점수 기반 디자이너 매칭 완료 - 매칭된 디자이너 수: {}", scoredDesigners.size());
-
-            // 3. 세션 생성 및 저장
-            DesignerMatchingSessionDto session = new DesignerMatchingSessionDto();
-            session.setProposal(proposal);
-            session.setAllMatchingDesigners(scoredDesigners);
-            
-            String sessionId = sessionService.createSession(session);
-            log.info("디자이너 매칭 세션 생성 완료 - 세션 ID: {}", sessionId);
-
-            // 4. 초기 추천 디자이너 2명 선택 (1등, 2등)
-            List<RecommendedDesignerDto> initialRecommendations = sessionService.getInitialRecommendations(sessionId);
-            log.info("초기 디자이너 추천 완료 - 추천 디자이너 수: {}", initialRecommendations.size());
-
-            // 5. 결과를 통합된 응답 DTO로 조합
-            AiRecommendationResponseDto response = new AiRecommendationResponseDto(proposal, initialRecommendations, sessionId);
+        // 1. AI로부터 디자인 제안 받기
+        log.info("AI 디자인 제안 서비스 호출 시작");
+        return aiRecommendationService.getProposal(request.getPrompt())
+                .thenApply(proposal -> {
+                    log.info("AI 디자인 제안 완료 - 방향성: {}", proposal.getDesignDirection());
+
+                    // 2. 제안을 기반으로 점수가 매겨진 디자이너 찾기 (최대 10명)
+                    log.info("점수 기반 디자이너 매칭 서비스 호출 시작");
+                    List<ScoredDesignerDto> scoredDesigners = designerMatchingService.findScoredMatchingDesigners(proposal);
+                    log.info("점수 기반 디자이너 매칭 완료 - 매칭된 디자이너 수: {}", scoredDesigners.size());
+
+                    // 3. 세션 생성 및 저장
+                    String sessionId = sessionService.createSession(proposal, scoredDesigners);
+                    log.info("디자이너 매칭 세션 생성 완료 - 세션 ID: {}", sessionId);
+
+                    // 4. 초기 추천 디자이너 2명 선택 (1등, 2등)
+                    List<RecommendedDesignerDto> initialRecommendations = sessionService.getInitialRecommendations(sessionId);
+                    log.info("초기 디자이너 추천 완료 - 추천 디자이너 수: {}", initialRecommendations.size());
+
+                    // 5. 결과를 통합된 응답 DTO로 조합
+                    AiRecommendationResponseDto response = new AiRecommendationResponseDto(proposal, initialRecommendations, sessionId);
+
+                    log.info("AI 추천 요청 완료");
+                    return ResponseEntity.ok(response);
+                })
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        // GlobalExceptionHandler에서 처리
+                        log.error("AI 추천 처리 중 오류 발생", e);
+                    }
+                });
+    }
 
-            log.info("AI 추천 요청 완료");
-            return ResponseEntity.ok(response);
+    /**
+     * AI 추천을 SSE로 스트리밍합니다.
+     * AI 응답 조각(token), 디자인 방향성 기준 디자이너 미리보기(designers), 최종 결과(result) 순으로 이벤트를 전송합니다.
+     *
+     * @param request AI 추천 요청 DTO
+     * @return SSE 연결
+     */
+    @PostMapping(value = "/recommend/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRecommendation(@RequestBody AiRequestDto request) {
+        log.info("AI 추천 스트리밍 요청 시작 - 프롬프트: {}", request.getPrompt());
 
-        } catch (Exception e) {
-            log.error("AI 추천 처리 중 오류 발생", e);
-            throw e; // GlobalExceptionHandler에서 처리하도록 예외를 다시 던짐
-        }
+        return aiRecommendationStreamService.streamRecommendation(request.getPrompt());
     }
 
     /**
@@ -134,7 +158,7 @@ public class AiController {
         log.info("세션 정보 조회 요청 - 세션 ID: {}", sessionId);
 
         try {
-            DesignerMatchingSessionDto session = sessionService.getSession(sessionId);
+            DesignerMatchingSessionDto session = sessionService.getSessionInfo(sessionId);
             
             if (session == null) {
                 log.warn("세션을 찾을 수 없음 - 세션 ID: {}", sessionId);
@@ -150,22 +174,29 @@ public class AiController {
         }
     }
 
+    /**
+     * 세션의 AI 제안을 바탕으로 작업의뢰서 초안을 생성합니다.
+     * AI 응답은 요청 스레드에서 기다리지 않습니다 (비동기 응답).
+     *
+     * @param sessionId 매칭 세션 ID
+     * @return AI가 작성한 작업의뢰서
+     */
     @PostMapping("/generate-work-request/{sessionId}")
-    public ResponseEntity<WorkRequestCreateRequestDto> generateWorkRequestFromSession(
+    public CompletableFuture<ResponseEntity<WorkRequestCreateRequestDto>> generateWorkRequestFromSession(
             @PathVariable String sessionId) {
 
         log.info("세션 기반 작업의뢰서 자동 생성 요청 - 세션 ID: {}", sessionId);
 
-        try {
-            // 세션 ID를 기반으로 AI 제안 정보를 활용하여 작업의뢰서 생성
-            WorkRequestCreateRequestDto workRequest = aiRecommendationService.generateWorkRequestFromSession(sessionId);
-
-            log.info("작업의뢰서 자동 생성 완료 - 세션 ID: {}, 프로젝트명: {}", sessionId, workRequest.projectTitle());
-
-            return ResponseEntity.ok(workRequest);
-        } catch (Exception e) {
-            log.error("작업의뢰서 자동 생성 중 오류 발생 - 세션 ID: {}", sessionId, e);
-            throw e;
-        }
+        // 세션 ID를 기반으로 AI 제안 정보를 활용하여 작업의뢰서 생성
+        return aiRecommendationService.generateWorkRequestFromSession(sessionId)
+                .thenApply(workRequest -> {
+                    log.info("작업의뢰서 자동 생성 완료 - 세션 ID: {}, 프로젝트명: {}", sessionId, workRequest.projectTitle());
+                    return ResponseEntity.ok(workRequest);
+                })
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.error("작업의뢰서 자동 생성 중 오류 발생 - 세션 ID: {}", sessionId, e);
+                    }
+                });
     }
 }
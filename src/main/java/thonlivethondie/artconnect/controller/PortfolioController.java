@@ -1,9 +1,11 @@
 package thonlivethondie.artconnect.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,8 +14,10 @@ import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.dto.DesignerPortfolioResponseDto;
 import thonlivethondie.artconnect.dto.PortfolioRequestDto;
 import thonlivethondie.artconnect.dto.PortfolioResponseDto;
+import thonlivethondie.artconnect.dto.UploadCompleteRequestDto;
 import thonlivethondie.artconnect.service.PortfolioService;
 
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -150,6 +154,46 @@ public class PortfolioController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 포트폴리오 이미지 업로드 (스트리밍)
+     * multipart 본문을 임시 저장하지 않고 읽으면서 바로 S3에 업로드합니다.
+     */
+    @PostMapping(value = "/{portfolioId}/images/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PortfolioResponseDto> streamPortfolioImages(
+            @PathVariable Long portfolioId,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        log.info("포트폴리오 이미지 스트리밍 업로드 요청 - userId: {}, portfolioId: {}", userId, portfolioId);
+
+        PortfolioResponseDto response = portfolioService.uploadPortfolioImages(
+                userId, portfolioId, request.getInputStream(), request.getContentType());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 포트폴리오 이미지 업로드 완료 (presigned URL)
+     * /api/uploads/intents 로 발급받은 URL에 업로드를 마친 파일을 포트폴리오에 연결합니다.
+     */
+    @PostMapping("/{portfolioId}/images/complete")
+    public ResponseEntity<PortfolioResponseDto> completePortfolioImageUploads(
+            @PathVariable Long portfolioId,
+            @RequestBody @Valid UploadCompleteRequestDto request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        PortfolioResponseDto response = portfolioService.completePortfolioImageUploads(
+                userId, portfolioId, request.fileNames());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 포트폴리오 이미지 삭제
      */
@@ -1,9 +1,11 @@
 package thonlivethondie.artconnect.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,8 +15,10 @@ import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.dto.StoreNameResponseDto;
 import thonlivethondie.artconnect.dto.StoreResponseDto;
 import thonlivethondie.artconnect.dto.StoreUpdateRequestDto;
+import thonlivethondie.artconnect.dto.UploadCompleteRequestDto;
 import thonlivethondie.artconnect.service.StoreService;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -79,6 +83,43 @@ public class StoreController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 매장 이미지 업로드 (스트리밍)
+     * multipart 본문을 임시 저장하지 않고 읽으면서 바로 S3에 업로드합니다.
+     */
+    @PostMapping(value = "/images/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StoreResponseDto> streamStoreImages(
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        log.info("매장 이미지 스트리밍 업로드 요청 - userId: {}", userId);
+
+        StoreResponseDto response = storeService.uploadStoreImages(
+                userId, request.getInputStream(), request.getContentType());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 매장 이미지 업로드 완료 (presigned URL)
+     * /api/uploads/intents 로 발급받은 URL에 업로드를 마친 파일을 매장에 연결합니다.
+     */
+    @PostMapping("/images/complete")
+    public ResponseEntity<StoreResponseDto> completeStoreImageUploads(
+            @RequestBody @Valid UploadCompleteRequestDto request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        StoreResponseDto response = storeService.completeStoreImageUploads(userId, request.fileNames());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 매장 이미지 삭제
      */
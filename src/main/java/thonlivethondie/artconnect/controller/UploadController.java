@@ -0,0 +1,45 @@
+package thonlivethondie.artconnect.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import thonlivethondie.artconnect.dto.UploadIntentRequestDto;
+import thonlivethondie.artconnect.dto.UploadIntentResponseDto;
+import thonlivethondie.artconnect.service.StagedUploadService;
+
+/**
+ * presigned URL 업로드 컨트롤러
+ * <p>
+ * 이미지 데이터가 API 서버를 거치지 않도록 클라이언트가 S3에 직접 업로드합니다.
+ * 1. POST /api/uploads/intents 로 파일별 업로드 URL과 헤더를 발급받음 (비공개 이미지는 access: PRIVATE)
+ * 2. 발급받은 URL로 헤더를 포함하여 PUT 요청
+ * 3. 대상별 완료 API(예: POST /api/portfolios/{portfolioId}/images/complete)에 fileName 목록을 전달
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final StagedUploadService stagedUploadService;
+
+    /**
+     * 업로드 URL 발급
+     */
+    @PostMapping("/intents")
+    public ResponseEntity<UploadIntentResponseDto> createUploadIntents(
+            @RequestBody @Valid UploadIntentRequestDto request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        UploadIntentResponseDto response = stagedUploadService.createUploadIntents(userId, request.access(), request.files());
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,8 +1,10 @@
 package thonlivethondie.artconnect.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,12 +14,14 @@ import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.dto.WorkRequestCreateRequestDto;
 import thonlivethondie.artconnect.dto.WorkRequestResponseDto;
 import thonlivethondie.artconnect.dto.WorkRequestSimpleDto;
+import thonlivethondie.artconnect.dto.WorkRequestUploadCompleteDto;
 import thonlivethondie.artconnect.dto.AcceptedProjectSimpleDto;
 import thonlivethondie.artconnect.dto.ProjectSimpleDetailDto;
 import thonlivethondie.artconnect.dto.CompletedProjectForBusinessOwnerDto;
 import thonlivethondie.artconnect.dto.CompletedProjectForDesignerDto;
 import thonlivethondie.artconnect.service.WorkRequestService;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -58,6 +62,49 @@ public class WorkRequestController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 작업의뢰서 생성 (스트리밍)
+     * multipart 본문을 임시 저장하지 않고 읽으면서 이미지를 바로 S3에 업로드합니다.
+     * 의뢰서 내용은 "workRequest" 파트(JSON), 이미지는 "images" 파트로 전달합니다.
+     */
+    @PostMapping(value = "/to/{designerId}/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<WorkRequestResponseDto> streamWorkRequest(
+            @PathVariable Long designerId,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        log.info("작업의뢰서 스트리밍 생성 요청 - 의뢰자: {}, 디자이너: {}", userId, designerId);
+
+        WorkRequestResponseDto response = workRequestService.createWorkRequest(
+                request.getInputStream(), request.getContentType(), userId, designerId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 작업의뢰서 생성 (presigned URL)
+     * /api/uploads/intents 로 발급받은 URL에 업로드를 마친 이미지를 의뢰서에 연결합니다.
+     */
+    @PostMapping("/to/{designerId}/complete")
+    public ResponseEntity<WorkRequestResponseDto> createWorkRequestFromUploads(
+            @PathVariable Long designerId,
+            @Valid @RequestBody WorkRequestUploadCompleteDto request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        log.info("작업의뢰서 생성 요청 (업로드 완료) - 의뢰자: {}, 디자이너: {}", userId, designerId);
+
+        WorkRequestResponseDto response = workRequestService.createWorkRequestFromUploads(
+                request.workRequest(), request.fileNames(), userId, designerId);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 디자이너가 받은 의뢰서 목록 조회
      */
@@ -1,8 +1,10 @@
 package thonlivethondie.artconnect.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,8 +15,10 @@ import thonlivethondie.artconnect.dto.FeedbackCreateRequestDto;
 import thonlivethondie.artconnect.dto.WorkSubmissionCreateRequestDto;
 import thonlivethondie.artconnect.dto.WorkSubmissionListResponseDto;
 import thonlivethondie.artconnect.dto.WorkSubmissionResponseDto;
+import thonlivethondie.artconnect.dto.WorkSubmissionUploadCompleteDto;
 import thonlivethondie.artconnect.service.WorkSubmissionService;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -61,6 +65,49 @@ public class WorkSubmissionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 디자이너가 시안을 제출 (스트리밍)
+     * multipart 본문을 임시 저장하지 않고 읽으면서 이미지를 바로 S3에 업로드합니다.
+     * 시안 내용은 "workSubmission" 파트(JSON), 이미지는 "images" 파트로 전달합니다.
+     */
+    @PostMapping(value = "/work-request/{workRequestId}/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<WorkSubmissionResponseDto> streamDesign(
+            @PathVariable Long workRequestId,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        log.info("시안 스트리밍 제출 요청 - workRequestId: {}, designerId: {}", workRequestId, userId);
+
+        WorkSubmissionResponseDto response = workSubmissionService.submitDesign(
+                workRequestId, request.getInputStream(), request.getContentType(), userId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 디자이너가 시안을 제출 (presigned URL)
+     * /api/uploads/intents 에서 access: PRIVATE 으로 발급받은 URL에 업로드를 마친 이미지로 시안을 제출합니다.
+     */
+    @PostMapping("/work-request/{workRequestId}/complete")
+    public ResponseEntity<WorkSubmissionResponseDto> submitDesignFromUploads(
+            @PathVariable Long workRequestId,
+            @Valid @RequestBody WorkSubmissionUploadCompleteDto request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // UserDetails에서 userId 추출
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        log.info("시안 제출 요청 (업로드 완료) - workRequestId: {}, designerId: {}", workRequestId, userId);
+
+        WorkSubmissionResponseDto response = workSubmissionService.submitDesignFromUploads(
+                workRequestId, request.workSubmission(), request.fileNames(), userId);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 시안 및 피드백 내역 조회
      * 소상공인과 디자이너 모두 조회 가능
@@ -1,6 +1,8 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 
 /**
  * 소상공인 마이페이지 응답 DTO
@@ -10,7 +12,7 @@ public record BusinessOwnerMyPageResponse(
         String nickname,
         String email,
         String phoneNumber,
-        String imageUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String imageUrl,
         UserType userType
 ) {
     public static BusinessOwnerMyPageResponse from(
@@ -1,8 +1,10 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 import thonlivethondie.artconnect.common.DesignCategory;
 import thonlivethondie.artconnect.common.DesignStyle;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 import thonlivethondie.artconnect.entity.User;
 
 import java.util.List;
@@ -19,7 +21,7 @@ public record DesignerInfoDto(
         String major,
         List<DesignCategory> specialities,
         List<DesignStyle> designStyles,
-        String profileImageUrl
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String profileImageUrl
 ) {
     public DesignerInfoDto {
         // 불변성을 위한 방어적 복사
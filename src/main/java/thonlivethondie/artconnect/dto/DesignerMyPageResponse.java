@@ -1,8 +1,10 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import thonlivethondie.artconnect.common.DesignCategory;
 import thonlivethondie.artconnect.common.DesignStyle;
 import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 import thonlivethondie.artconnect.entity.User;
 
 import java.util.List;
@@ -15,7 +17,7 @@ public record DesignerMyPageResponse(
         String nickname,
         String email,
         String phoneNumber,
-        String imageUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String imageUrl,
         UserType userType,
         String education,
         String major,
@@ -1,5 +1,8 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
+
 import java.time.LocalDateTime;
 
 /**
@@ -10,7 +13,7 @@ public record FeedbackDto(
     String content,
     String authorName,
     String authorType, // "BUSINESS_OWNER" 또는 "DESIGNER"
-    String imageUrl,   // 작성자 프로필 이미지 URL
+    @JsonSerialize(using = PublicImageUrlSerializer.class) String imageUrl,   // 작성자 프로필 이미지 URL
     LocalDateTime createdAt
 ) {
 }
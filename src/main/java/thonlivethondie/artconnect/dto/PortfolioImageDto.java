@@ -1,11 +1,19 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 import thonlivethondie.artconnect.entity.PortfolioImage;
 
+/**
+ * 포트폴리오 이미지 DTO
+ * imageUrl은 상세 화면용 축소 이미지(없으면 원본), thumbnailUrl은 목록 카드용 축소 이미지(없으면 imageUrl)입니다.
+ */
 public record PortfolioImageDto(
         Long id,
         String imageName,
-        String imageUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String imageUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String thumbnailUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String originalUrl,
         Long imageSize,
         Boolean isThumbnail
 ) {
@@ -13,6 +21,8 @@ public record PortfolioImageDto(
         return new PortfolioImageDto(
                 portfolioImage.getId(),
                 portfolioImage.getImageName(),
+                portfolioImage.getDisplayUrl(),
+                portfolioImage.getPreviewUrl(),
                 portfolioImage.getImageUrl(),
                 portfolioImage.getImageSize(),
                 portfolioImage.getIsThumbnail()
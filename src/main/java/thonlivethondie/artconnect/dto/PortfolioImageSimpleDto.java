@@ -1,9 +1,11 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 
 /**
  * 포트폴리오 이미지의 간단한 정보를 위한 DTO 클래스
@@ -17,6 +19,7 @@ public class PortfolioImageSimpleDto {
 
   private Long id;
   
+  @JsonSerialize(using = PublicImageUrlSerializer.class)
   private String imageUrl;
   
   private String imageName;
@@ -0,0 +1,22 @@
+package thonlivethondie.artconnect.dto;
+
+/**
+ * 디자이너별 포트폴리오 미리보기 이미지 조회 결과를 위한 프로젝션
+ * 여러 디자이너의 미리보기 이미지를 한 번의 쿼리로 조회할 때 사용합니다.
+ */
+public interface PortfolioPreviewImageDto {
+
+    Long getDesignerId();
+
+    Long getId();
+
+    String getImageUrl();
+
+    String getThumbnailUrl();
+
+    String getMediumUrl();
+
+    String getImageName();
+
+    Boolean getIsThumbnail();
+}
@@ -1,8 +1,11 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 import thonlivethondie.artconnect.entity.Portfolio;
+import thonlivethondie.artconnect.entity.PortfolioImage;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,7 +19,7 @@ public record PortfolioResponseDto(
         String description,
         List<DesignCategory> designCategories,
         List<PortfolioImageDto> portfolioImages,
-        String thumbnailUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String thumbnailUrl,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -37,12 +40,27 @@ public record PortfolioResponseDto(
                 .portfolioImages(portfolio.getPortfolioImages().stream()
                         .map(PortfolioImageDto::from)
                         .toList())
-                .thumbnailUrl(portfolio.getThumbnailUrl())
+                .thumbnailUrl(resolveThumbnailUrl(portfolio))
                 .createdAt(portfolio.getCreateDate())
                 .updatedAt(portfolio.getUpdatedDate())
                 .build();
     }
 
+    /**
+     * 대표 이미지의 목록 카드용 축소 이미지 URL을 반환합니다 (없으면 저장된 대표 이미지 URL).
+     */
+    private static String resolveThumbnailUrl(Portfolio portfolio) {
+        String thumbnailUrl = portfolio.getThumbnailUrl();
+        if (thumbnailUrl == null) {
+            return null;
+        }
+        return portfolio.getPortfolioImages().stream()
+                .filter(image -> thumbnailUrl.equals(image.getImageUrl()))
+                .findFirst()
+                .map(PortfolioImage::getPreviewUrl)
+                .orElse(thumbnailUrl);
+    }
+
     // 편의 메서드들
     public boolean hasImages() {
         return !portfolioImages.isEmpty();
@@ -1,11 +1,14 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 
 
 @Getter
 @AllArgsConstructor
 public class ProfileImageResponseDto {
+    @JsonSerialize(using = PublicImageUrlSerializer.class)
     private String profileImageUrl;
 }
@@ -1,9 +1,11 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 import java.util.List;
 
 /**
@@ -23,6 +25,7 @@ public class RecommendedDesignerDto {
     private String specialty;
 
     // User 엔티티의 imageUrl 가져오기
+    @JsonSerialize(using = PublicImageUrlSerializer.class)
     private String profileImageUrl;
 
     // PortfolioImage 엔티티의 imageUrl 2장 가져오기
@@ -0,0 +1,19 @@
+package thonlivethondie.artconnect.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * presigned URL 업로드 완료 요청 DTO
+ * 업로드를 마친 파일을 포트폴리오, 매장 등에 연결할 때 사용합니다.
+ */
+public record UploadCompleteRequestDto(
+        @NotEmpty(message = "업로드를 완료한 파일을 최소 1개 지정해야 합니다.")
+        List<@NotBlank String> fileNames
+) {
+    public UploadCompleteRequestDto {
+        fileNames = fileNames != null ? List.copyOf(fileNames) : List.of();
+    }
+}
@@ -0,0 +1,47 @@
+package thonlivethondie.artconnect.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+
+import java.util.List;
+
+/**
+ * presigned URL 업로드 요청 DTO
+ * 업로드할 파일 정보를 보내면 파일별로 S3에 직접 업로드할 수 있는 URL을 발급합니다.
+ * 시안 이미지처럼 비공개로 저장할 파일은 access를 PRIVATE으로 지정해야 하며 (기본값 PUBLIC),
+ * 완료 요청 시 대상의 공개 범위와 다르면 거부됩니다.
+ */
+public record UploadIntentRequestDto(
+        @NotEmpty(message = "업로드할 파일을 최소 1개 지정해야 합니다.")
+        List<@Valid FileInfo> files,
+
+        ObjectAccess access
+) {
+    public UploadIntentRequestDto {
+        // 불변성을 위한 방어적 복사
+        files = files != null ? List.copyOf(files) : List.of();
+        access = access != null ? access : ObjectAccess.PUBLIC;
+    }
+
+    /**
+     * 업로드할 파일 정보
+     *
+     * @param filename    원본 파일명
+     * @param contentType 콘텐츠 타입 (image/*)
+     * @param size        파일 크기 (bytes)
+     */
+    public record FileInfo(
+            @NotBlank(message = "파일명은 필수입니다.")
+            String filename,
+
+            @NotBlank(message = "콘텐츠 타입은 필수입니다.")
+            String contentType,
+
+            @Positive(message = "파일 크기는 0보다 커야 합니다.")
+            long size
+    ) {
+    }
+}
@@ -0,0 +1,33 @@
+package thonlivethondie.artconnect.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * presigned URL 업로드 응답 DTO
+ * 클라이언트는 파일별 uploadUrl로 headers를 포함하여 PUT 요청을 보낸 뒤,
+ * fileName 목록으로 완료 요청을 보냅니다.
+ */
+public record UploadIntentResponseDto(
+        List<Intent> uploads
+) {
+    public UploadIntentResponseDto {
+        uploads = uploads != null ? List.copyOf(uploads) : List.of();
+    }
+
+    /**
+     * 파일별 업로드 정보
+     *
+     * @param fileName  완료 요청에 사용할 파일명 (S3 키)
+     * @param uploadUrl presigned PUT URL
+     * @param headers   PUT 요청에 반드시 포함해야 하는 헤더
+     * @param expiresAt URL 만료 시각 (epoch millis)
+     */
+    public record Intent(
+            String fileName,
+            String uploadUrl,
+            Map<String, String> headers,
+            long expiresAt
+    ) {
+    }
+}
@@ -1,11 +1,13 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
 import thonlivethondie.artconnect.entity.WorkRequestImage;
 
 public record WorkRequestImageDto(
         Long id,
         String imageName,
-        String imageUrl,
+        @JsonSerialize(using = PublicImageUrlSerializer.class) String imageUrl,
         Long imageSize,
         String imageType
 ) {
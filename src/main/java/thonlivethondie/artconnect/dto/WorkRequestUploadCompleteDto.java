@@ -0,0 +1,23 @@
+package thonlivethondie.artconnect.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * presigned URL로 업로드한 이미지와 함께 작업의뢰서를 생성하는 요청 DTO
+ * 이미지는 선택 사항입니다.
+ */
+public record WorkRequestUploadCompleteDto(
+        @Valid
+        @NotNull(message = "작업의뢰서 내용은 필수입니다.")
+        WorkRequestCreateRequestDto workRequest,
+
+        List<@NotBlank String> fileNames
+) {
+    public WorkRequestUploadCompleteDto {
+        fileNames = fileNames != null ? List.copyOf(fileNames) : List.of();
+    }
+}
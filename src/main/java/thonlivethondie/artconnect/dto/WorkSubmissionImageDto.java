@@ -1,13 +1,32 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import thonlivethondie.artconnect.common.json.PrivateImageUrlSerializer;
+import thonlivethondie.artconnect.entity.WorkSubmissionImage;
+
 /**
  * 시안 이미지 DTO
+ * imageUrl은 상세 화면용 축소 이미지(없으면 원본), thumbnailUrl은 목록 카드용 축소 이미지(없으면 imageUrl)입니다.
+ * 시안 이미지는 비공개로 저장되므로 URL은 응답할 때 서명된 단기 URL로 바뀝니다.
  */
 public record WorkSubmissionImageDto(
     Long id,
-    String imageUrl,
+    @JsonSerialize(using = PrivateImageUrlSerializer.class) String imageUrl,
+    @JsonSerialize(using = PrivateImageUrlSerializer.class) String thumbnailUrl,
+    @JsonSerialize(using = PrivateImageUrlSerializer.class) String originalUrl,
     String imageName,
     Long imageSize,
     String imageType
 ) {
+    public static WorkSubmissionImageDto from(WorkSubmissionImage image) {
+        return new WorkSubmissionImageDto(
+            image.getId(),
+            image.getDisplayUrl(),
+            image.getPreviewUrl(),
+            image.getImageUrl(),
+            image.getImageName(),
+            image.getImageSize(),
+            image.getImageType()
+        );
+    }
 }
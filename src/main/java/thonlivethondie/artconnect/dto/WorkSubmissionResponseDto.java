@@ -1,5 +1,8 @@
 package thonlivethondie.artconnect.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import thonlivethondie.artconnect.common.json.PublicImageUrlSerializer;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,7 +15,7 @@ public record WorkSubmissionResponseDto(
     String comment,
     String storeName,
     String designerName,
-    String designerProfileImageUrl,
+    @JsonSerialize(using = PublicImageUrlSerializer.class) String designerProfileImageUrl,
     LocalDate endDate,
     LocalDateTime createdAt,
     List<WorkSubmissionImageDto> images,
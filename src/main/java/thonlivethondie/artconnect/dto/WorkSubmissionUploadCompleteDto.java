@@ -0,0 +1,22 @@
+package thonlivethondie.artconnect.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * presigned URL로 업로드한 시안 이미지로 시안을 제출하는 요청 DTO
+ */
+public record WorkSubmissionUploadCompleteDto(
+        @Valid
+        @NotNull(message = "시안 내용은 필수입니다.")
+        WorkSubmissionCreateRequestDto workSubmission,
+
+        List<@NotBlank String> fileNames
+) {
+    public WorkSubmissionUploadCompleteDto {
+        fileNames = fileNames != null ? List.copyOf(fileNames) : List.of();
+    }
+}
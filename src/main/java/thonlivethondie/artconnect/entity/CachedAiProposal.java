@@ -0,0 +1,49 @@
+package thonlivethondie.artconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정규화된 프롬프트별 AI 디자인 제안 캐시 (ai.proposal-cache.persistent=true 인 경우 사용)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "cached_ai_proposals")
+public class CachedAiProposal {
+
+    /**
+     * 정규화된 프롬프트의 SHA-256 해시 (hex)
+     */
+    @Id
+    @Column(name = "prompt_hash", length = 64)
+    private String promptHash;
+
+    @Column(name = "design_direction", columnDefinition = "TEXT")
+    private String designDirection;
+
+    @Column(name = "target_customer", columnDefinition = "TEXT")
+    private String targetCustomer;
+
+    @Column(name = "required_designs", columnDefinition = "TEXT")
+    private String requiredDesigns;
+
+    /**
+     * 만료 시각 (epoch millis)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    @Builder
+    public CachedAiProposal(String promptHash, String designDirection, String targetCustomer,
+                            String requiredDesigns, long expiresAt) {
+        this.promptHash = promptHash;
+        this.designDirection = designDirection;
+        this.targetCustomer = targetCustomer;
+        this.requiredDesigns = requiredDesigns;
+        this.expiresAt = expiresAt;
+    }
+}
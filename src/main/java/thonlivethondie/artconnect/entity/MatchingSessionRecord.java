@@ -0,0 +1,68 @@
+package thonlivethondie.artconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 여러 인스턴스가 공유하는 디자이너 매칭 세션 저장 테이블
+ * 세션 본문은 바이너리로 직렬화하여 저장하고, 자주 갱신되는 반환 상태는 별도 컬럼에 저장합니다.
+ * 세션 ID를 직접 할당하므로 저장 시 merge를 위한 SELECT가 발생하지 않도록 {@link Persistable}을 구현합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "matching_sessions",
+        indexes = @Index(name = "idx_matching_sessions_expires_at", columnList = "expires_at"))
+public class MatchingSessionRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "session_id", length = 64)
+    private String sessionId;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    /**
+     * 이미 반환된 디자이너 수 (세션 추천 순서 기준 커서)
+     */
+    @Column(name = "returned_count", nullable = false)
+    private int returnedCount;
+
+    /**
+     * 만료 시각 (epoch millis)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    public MatchingSessionRecord(String sessionId, byte[] payload, int returnedCount, long expiresAt) {
+        this.sessionId = sessionId;
+        this.payload = payload;
+        this.returnedCount = returnedCount;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return sessionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,78 @@
+package thonlivethondie.artconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 삭제할 S3 객체 목록 (삭제 대기열, outbox)
+ * 이미지 행을 삭제하는 트랜잭션에서 함께 기록하므로, 커밋된 삭제는 S3 장애가 있어도 유실되지 않습니다.
+ * 백그라운드 작업이 원본과 축소 이미지를 함께 일괄 삭제하며, 실패한 객체는 재시도 간격을 늘려 가며 다시 시도합니다.
+ * 삭제 시각에 다시 이미지 행이 가리키고 있는 객체({@link StoredObject})는 삭제하지 않고 목록에서만 제거합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pending_deletions",
+        indexes = @Index(name = "idx_pending_deletions_next_attempt_at", columnList = "next_attempt_at"))
+public class PendingDeletion implements Persistable<String> {
+
+    /**
+     * 원본 S3 키 (파일명)
+     */
+    @Id
+    @Column(name = "file_name")
+    private String fileName;
+
+    /**
+     * 실패한 삭제 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 삭제 시도 시각 (epoch millis)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private long nextAttemptAt;
+
+    /**
+     * 정리 작업이 S3 삭제를 위해 점유한 시각까지 (epoch millis, 점유하지 않았으면 0)
+     * 점유하는 동안 nextAttemptAt도 같은 시각으로 미뤄 두므로 다른 정리 작업이 같은 항목을 다시 가져가지 않습니다.
+     */
+    @Column(name = "claimed_until", nullable = false)
+    private long claimedUntil;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PendingDeletion(String fileName, long nextAttemptAt) {
+        this.fileName = fileName;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 정리 작업이 S3에서 삭제하는 중인지 확인합니다 (점유 시간이 지났으면 중단된 것으로 봄).
+     */
+    public boolean isClaimed(long now) {
+        return claimedUntil > now;
+    }
+
+    @Override
+    public String getId() {
+        return fileName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,112 @@
+package thonlivethondie.artconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+
+/**
+ * S3에 업로드했지만 아직 이미지 행이 저장되지 않은 파일 목록 (업로드 대기 목록)
+ * 업로드 전에 기록하고, 이미지 행을 저장하는 트랜잭션에서 함께 삭제합니다.
+ * 오래 남아 있는 행은 저장에 실패했거나 처리 도중 중단된 업로드이므로 S3 객체와 함께 정리합니다.
+ * <p>
+ * 클라이언트가 presigned URL로 직접 업로드하는 경우에는 요청한 사용자와 파일 정보도 함께 기록하여
+ * 완료 요청 시 본인의 업로드인지, 요청한 크기대로 업로드되었는지 확인합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pending_uploads",
+        indexes = @Index(name = "idx_pending_uploads_created_at", columnList = "created_at"))
+public class PendingUpload implements Persistable<String> {
+
+    /**
+     * S3 키 (파일명)
+     */
+    @Id
+    @Column(name = "file_name")
+    private String fileName;
+
+    /**
+     * 기록 시각 (epoch millis)
+     */
+    @Column(name = "created_at", nullable = false)
+    private long createdAt;
+
+    /**
+     * 업로드를 요청한 사용자 ID (presigned URL 업로드만 기록)
+     */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 원본 파일명 (presigned URL 업로드만 기록)
+     */
+    @Column(name = "original_filename")
+    private String originalFilename;
+
+    /**
+     * 콘텐츠 타입 (presigned URL 업로드만 기록)
+     */
+    @Column(name = "content_type")
+    private String contentType;
+
+    /**
+     * 업로드할 파일 크기 (presigned URL 업로드만 기록)
+     */
+    @Column(name = "expected_size")
+    private Long expectedSize;
+
+    /**
+     * 업로드 URL에 서명한 공개 범위 (presigned URL 업로드만 기록)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "access")
+    private ObjectAccess access;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PendingUpload(String fileName, long createdAt) {
+        this.fileName = fileName;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * presigned URL 업로드 요청을 기록합니다.
+     */
+    public PendingUpload(String fileName, long createdAt, Long userId,
+                         String originalFilename, String contentType, long expectedSize, ObjectAccess access) {
+        this(fileName, createdAt);
+        this.userId = userId;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.expectedSize = expectedSize;
+        this.access = access;
+    }
+
+    /**
+     * 해당 사용자가 주어진 공개 범위로 요청한 presigned URL 업로드인지 확인합니다.
+     */
+    public boolean isDirectUploadOf(Long userId, ObjectAccess access) {
+        return this.userId != null && this.userId.equals(userId) && expectedSize != null && this.access == access;
+    }
+
+    @Override
+    public String getId() {
+        return fileName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
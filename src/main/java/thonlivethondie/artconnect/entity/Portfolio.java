@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import thonlivethondie.artconnect.common.BaseEntity;
 import thonlivethondie.artconnect.common.DesignCategory;
 import thonlivethondie.artconnect.common.UserType;
@@ -32,6 +33,7 @@ public class Portfolio extends BaseEntity {
 
     // 포트폴리오 디자인 카테고리들 (최대 3개)
     @OneToMany(mappedBy = "portfolio", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<PortfolioDesignCategory> designCategories = new ArrayList<>();
 
     // 포트폴리오 이미지들
@@ -10,7 +10,8 @@ import thonlivethondie.artconnect.common.BaseEntity;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "portfolio_images")
+@Table(name = "portfolio_images",
+        indexes = @Index(name = "idx_portfolio_images_image_url", columnList = "image_url"))
 public class PortfolioImage extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +34,12 @@ public class PortfolioImage extends BaseEntity {
     @Column(name = "is_thumbnail", columnDefinition = "BOOLEAN DEFAULT false")
     private Boolean isThumbnail = false; // 썸네일 여부
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl; // 목록 카드용 축소 이미지 (생성 전이거나 원본이 작으면 null)
+
+    @Column(name = "medium_url")
+    private String mediumUrl; // 상세 화면용 축소 이미지 (생성 전이거나 원본이 작으면 null)
+
     @Builder
     public PortfolioImage(Portfolio portfolio,
                           String imageUrl,
@@ -45,4 +52,18 @@ public class PortfolioImage extends BaseEntity {
         this.imageSize = imageSize;
         this.isThumbnail = isThumbnail != null ? isThumbnail : false;
     }
+
+    /**
+     * 목록 카드처럼 작게 표시할 때 사용할 URL (가장 작은 축소 이미지, 없으면 원본)
+     */
+    public String getPreviewUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : getDisplayUrl();
+    }
+
+    /**
+     * 상세 화면에 표시할 때 사용할 URL (중간 크기 축소 이미지, 없으면 원본)
+     */
+    public String getDisplayUrl() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
 }
@@ -0,0 +1,87 @@
+package thonlivethondie.artconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 발급한 RefreshToken 목록
+ * 토큰 원문 대신 고정 길이의 SHA-256 해시를 기본 키로 저장하므로 재발급 요청은 기본 키 조회 한 번으로 처리됩니다.
+ * 로그인 한 번에서 시작된 토큰들은 같은 family로 묶이며, 재발급하면 이전 토큰에 사용 시각을 기록하고 같은 family의 새 토큰을 저장합니다.
+ * 이미 사용한 토큰이 다시 들어오면 탈취된 것으로 보고 family 전체를 삭제합니다.
+ * 사용한 토큰도 재사용 감지를 위해 만료될 때까지 남겨 두며, 만료된 토큰은 백그라운드 작업이 삭제합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        })
+public class RefreshToken implements Persistable<String> {
+
+    /**
+     * 토큰 원문의 SHA-256 해시 (16진수 64자)
+     */
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 같은 로그인에서 재발급된 토큰 묶음 ID
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * 클라이언트가 보낸 기기 ID (없으면 null)
+     */
+    @Column(name = "device_id")
+    private String deviceId;
+
+    /**
+     * 만료 시각 (epoch millis)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    /**
+     * 재발급에 사용한 시각 (epoch millis, 사용 전이면 null)
+     */
+    @Column(name = "used_at")
+    private Long usedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public RefreshToken(String tokenHash, Long userId, String familyId, String deviceId, long expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.deviceId = deviceId;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -10,7 +10,8 @@ import thonlivethondie.artconnect.common.BaseEntity;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "store_images")
+@Table(name = "store_images",
+        indexes = @Index(name = "idx_store_images_image_url", columnList = "image_url"))
 public class StoreImage extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +34,12 @@ public class StoreImage extends BaseEntity {
     @Column(name = "image_type")
     private String imageType;
 
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl; // 목록 카드용 축소 이미지 (생성 전이거나 원본이 작으면 null)
+
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl; // 상세 화면용 축소 이미지 (생성 전이거나 원본이 작으면 null)
+
     @Builder
     public StoreImage(Store store, String imageName, String imageUrl, Long imageSize, String imageType) {
         this.store = store;
@@ -56,4 +63,18 @@ public class StoreImage extends BaseEntity {
             this.imageType = imageType;
         }
     }
+
+    /**
+     * 목록 카드처럼 작게 표시할 때 사용할 URL (가장 작은 축소 이미지, 없으면 원본)
+     */
+    public String getPreviewUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : getDisplayUrl();
+    }
+
+    /**
+     * 상세 화면에 표시할 때 사용할 URL (중간 크기 축소 이미지, 없으면 원본)
+     */
+    public String getDisplayUrl() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
 }
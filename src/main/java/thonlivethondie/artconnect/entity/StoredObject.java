@@ -0,0 +1,57 @@
+package thonlivethondie.artconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 내용 기반 이름(SHA-256 체크섬)으로 저장된 S3 객체의 참조 수
+ * 같은 내용의 이미지는 하나의 객체를 공유하므로, 이 객체를 가리키는 이미지 행 수를 기록하여
+ * 마지막 이미지 행이 삭제될 때만 S3 객체를 삭제합니다.
+ * 내용 기반 이름을 사용하기 전에 업로드된 객체(UUID 이름)는 기록하지 않으며, 참조가 하나인 것으로 취급합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_objects")
+public class StoredObject implements Persistable<String> {
+
+    /**
+     * S3 키 (파일명)
+     */
+    @Id
+    @Column(name = "file_name")
+    private String fileName;
+
+    /**
+     * 이 객체를 가리키는 이미지 행 수
+     */
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Transient
+    private boolean isNew = true;
+
+    public StoredObject(String fileName, long refCount) {
+        this.fileName = fileName;
+        this.refCount = refCount;
+    }
+
+    @Override
+    public String getId() {
+        return fileName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -15,7 +15,10 @@ import java.util.stream.Collectors;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_users_social_type_social_id", columnNames = {"social_type", "social_id"})
+        })
 public class User extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -56,16 +59,16 @@ public class User extends BaseEntity {
     private Role role;
 
     @Enumerated(EnumType.STRING)
+    @Column(name = "social_type")
     private SocialType socialType; // KAKAO, GOOGLE, NAVER
 
     @Enumerated(EnumType.STRING)
     @Column(name = "user_type")
     private UserType userType; // 소상공인, 디자이너
 
+    @Column(name = "social_id")
     private String socialId;
 
-    private String refreshToken;
-
     // 사용자 프로필 이미지
     @Column(name = "image_name")
     private String imageName;
@@ -108,10 +111,6 @@ public class User extends BaseEntity {
         this.imageUrl = imageUrl;
     }
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
     // 전문분야 목록 조회
     public List<DesignCategory> getSelectedSpecialities() {
         return this.speciality.stream()
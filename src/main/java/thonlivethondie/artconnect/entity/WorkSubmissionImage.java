@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "work_submission_images")
+@Table(name = "work_submission_images",
+        indexes = @Index(name = "idx_work_submission_images_image_url", columnList = "image_url"))
 public class WorkSubmissionImage {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +33,12 @@ public class WorkSubmissionImage {
     @Column(name = "image_type")
     private String imageType;
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl; // 목록 카드용 축소 이미지 (생성 전이거나 원본이 작으면 null)
+
+    @Column(name = "medium_url")
+    private String mediumUrl; // 상세 화면용 축소 이미지 (생성 전이거나 원본이 작으면 null)
+
     @Builder
     public WorkSubmissionImage(WorkSubmission workSubmission,
                             String imageName,
@@ -44,4 +51,18 @@ public class WorkSubmissionImage {
         this.imageSize = imageSize;
         this.imageType = imageType;
     }
+
+    /**
+     * 목록 카드처럼 작게 표시할 때 사용할 URL (가장 작은 축소 이미지, 없으면 원본)
+     */
+    public String getPreviewUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : getDisplayUrl();
+    }
+
+    /**
+     * 상세 화면에 표시할 때 사용할 URL (중간 크기 축소 이미지, 없으면 원본)
+     */
+    public String getDisplayUrl() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
 }
@@ -10,6 +10,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.StreamUtils;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -51,6 +52,9 @@ public class CustomJsonUsernamePasswordAuthenticationFilter extends AbstractAuth
      * AbstractAuthenticationProcessingFilter(부모)의 getAuthenticationManager()로 AuthenticationManager 객체를 반환 받은 후
      * authenticate()의 파라미터로 UsernamePasswordAuthenticationToken 객체를 넣고 인증 처리
      * (여기서 AuthenticationManager 객체는 ProviderManager -> SecurityConfig에서 설정)
+     *
+     * 비밀번호 해시 대기열이 가득 차 거절된 경우(ServiceUnavailableException)에는
+     * AuthenticationServiceException으로 감싸 LoginFailureHandler가 503으로 응답하게 함
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException, IOException {
@@ -67,6 +71,10 @@ public class CustomJsonUsernamePasswordAuthenticationFilter extends AbstractAuth
 
         UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(email, password);//principal 과 credentials 전달
 
-        return this.getAuthenticationManager().authenticate(authRequest);
+        try {
+            return this.getAuthenticationManager().authenticate(authRequest);
+        } catch (ServiceUnavailableException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
     }
 }
@@ -1,11 +1,11 @@
 package thonlivethondie.artconnect.filter;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
@@ -13,30 +13,41 @@ import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.common.security.AuthenticatedUser;
+import thonlivethondie.artconnect.common.security.PublicPaths;
 import thonlivethondie.artconnect.entity.User;
 import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.service.AuthenticatedPrincipalCache;
 import thonlivethondie.artconnect.service.JwtService;
-import thonlivethondie.artconnect.util.PasswordUtil;
+import thonlivethondie.artconnect.service.RefreshTokenService;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
-@Slf4j
 public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
-    private static final String NO_CHECK_URL = "/login"; // "/login"으로 들어오는 요청은 Filter 작동 X
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthEventRecorder authEventRecorder;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
+    /**
+     * SecurityConfig에서 permitAll로 설정한 공개 경로(로그인, OAuth2, 정적 리소스 등)는 필터 작동 X
+     * 헤더에 오래된 토큰이 남아 있어도 토큰 추출, 검증, 회원 조회를 하지 않고 바로 다음 필터 호출
+     */
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        if (request.getRequestURI().equals(NO_CHECK_URL)) {
-            filterChain.doFilter(request, response); // "/login" 요청이 들어오면, 다음 필터 호출
-            return; // return으로 이후 현재 필터 진행 막기 (안해주면 아래로 내려가서 계속 필터 진행시킴)
-        }
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicPaths.matches(request.getRequestURI().substring(request.getContextPath().length()));
+    }
 
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // 사용자 요청 헤더에서 RefreshToken 추출
         // -> RefreshToken이 없거나 유효하지 않다면(DB에 저장된 RefreshToken과 다르다면) null을 반환
         // 사용자의 요청 헤더에 RefreshToken이 있는 경우는, AccessToken이 만료되어 요청한 경우밖에 없다.
@@ -49,7 +60,6 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         // RefreshToken까지 보낸 것이므로 리프레시 토큰이 DB의 리프레시 토큰과 일치하는지 판단 후,
         // 일치한다면 AccessToken을 재발급해준다.
         if (refreshToken != null) {
-            log.info("Refresh Token 존재함!");
             checkRefreshTokenAndReIssueAccessToken(response, refreshToken);
             return; // RefreshToken을 보낸 경우에는 AccessToken을 재발급 하고 인증 처리는 하지 않게 하기위해 바로 return으로 필터 진행 막기
         }
@@ -58,66 +68,101 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         // AccessToken이 없거나 유효하지 않다면, 인증 객체가 담기지 않은 상태로 다음 필터로 넘어가기 때문에 403 에러 발생
         // AccessToken이 유효하다면, 인증 객체가 담긴 상태로 다음 필터로 넘어가기 때문에 인증 성공
         if (refreshToken == null) {
-            log.info("Refresh Token 없음!");
             checkAccessTokenAndAuthentication(request, response, filterChain);
         }
     }
 
     /**
-     * [리프레시 토큰으로 유저 정보 찾기 & 액세스 토큰/리프레시 토큰 재발급 메소드]
-     * 파라미터로 들어온 헤더에서 추출한 리프레시 토큰으로 DB에서 유저를 찾고, 해당 유저가 있다면
-     * JwtService.createAccessToken()으로 AccessToken 생성,
-     * reIssueRefreshToken()로 리프레시 토큰 재발급 & DB에 리프레시 토큰 업데이트 메소드 호출
-     * 그 후 JwtService.sendAccessTokenAndRefreshToken()으로 응답 헤더에 보내기
+     * [리프레시 토큰 재발급(rotation) & 액세스 토큰 재발급 메소드]
+     * 파라미터로 들어온 헤더에서 추출한 리프레시 토큰을 RefreshTokenService.rotate()로 사용 처리하고
+     * 같은 family의 새 리프레시 토큰을 발급 (토큰 해시로 기본 키 조회, 이미 사용한 토큰이면 family 전체 삭제)
+     * 토큰의 회원으로 JwtService.createAccessToken()을 호출하여 AccessToken 생성 후
+     * JwtService.sendAccessTokenAndRefreshToken()으로 응답 헤더에 보내기
      */
     public void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-        userRepository.findByRefreshToken(refreshToken)
-                .ifPresent(user -> {
-                    String reIssuedRefreshToken = reIssueRefreshToken(user);
-                    jwtService.sendAccessAndRefreshToken(response, jwtService.createAccessToken(user.getId()),
-                            reIssuedRefreshToken);
-                });
-    }
-
-    /**
-     * [리프레시 토큰 재발급 & DB에 리프레시 토큰 업데이트 메소드]
-     * jwtService.createRefreshToken()으로 리프레시 토큰 재발급 후
-     * DB에 재발급한 리프레시 토큰 업데이트 후 Flush
-     */
-    private String reIssueRefreshToken(User user) {
-        String reIssuedRefreshToken = jwtService.createRefreshToken();
-        user.updateRefreshToken(reIssuedRefreshToken);
-        userRepository.saveAndFlush(user);
-        return reIssuedRefreshToken;
+        refreshTokenService.rotate(refreshToken)
+                .ifPresentOrElse(
+                        rotation -> userRepository.findById(rotation.userId())
+                                .ifPresent(user -> {
+                                    jwtService.sendAccessAndRefreshToken(response,
+                                            jwtService.createAccessToken(user), rotation.refreshToken());
+                                    authEventRecorder.record(AuthEvent.REFRESH_REISSUED, "userId", user.getId());
+                                }),
+                        () -> authEventRecorder.record(AuthEvent.REFRESH_REJECTED));
     }
 
     /**
      * [액세스 토큰 체크 & 인증 처리 메소드]
-     * request에서 extractAccessToken()으로 액세스 토큰 추출 후, isTokenValid()로 유효한 토큰인지 검증
-     * 유효한 토큰이면, 액세스 토큰에서 extractEmail로 Email을 추출한 후 findByEmail()로 해당 이메일을 사용하는 유저 객체 반환
-     * 그 유저 객체를 saveAuthentication()으로 인증 처리하여
+     * request에서 extractAccessToken()으로 액세스 토큰 추출 후, resolvePrincipal()로 인증 사용자 정보 조회
+     * 그 사용자 정보를 saveAuthentication()으로 인증 처리하여
      * 인증 허가 처리된 객체를 SecurityContextHolder에 담기
      * 그 후 다음 인증 필터로 진행
      */
     public void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response,
                                                   FilterChain filterChain) throws ServletException, IOException {
-        log.info("checkAccessTokenAndAuthentication() 호출");
         jwtService.extractAccessToken(request)
-                .filter(jwtService::isTokenValid)
-                .ifPresent(accessToken -> jwtService.extractUserId(accessToken)
-                        .ifPresent(userId -> userRepository.findById(Long.parseLong(userId))
-                                .ifPresent(this::saveAuthentication)));
+                .flatMap(this::resolvePrincipal)
+                .ifPresent(this::saveAuthentication);
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * [액세스 토큰 → 인증 사용자 정보 조회 메소드]
+     * 서명을 한 번 검증하고, 토큰의 userId, role, userType Claim으로 사용자 정보 생성 (DB 조회 없음, 캐시 사용 X)
+     * role Claim이 없는 이전 버전 토큰만 resolveLegacyPrincipal()로 회원을 조회
+     */
+    private Optional<UserDetails> resolvePrincipal(String accessToken) {
+        DecodedJWT decodedJWT = jwtService.verify(accessToken).orElse(null);
+        if (decodedJWT == null) {
+            return Optional.empty();
+        }
+
+        Optional<UserDetails> principal = jwtService.extractPrincipal(decodedJWT)
+                .<UserDetails>map(user -> user)
+                .or(() -> resolveLegacyPrincipal(accessToken, decodedJWT));
+
+        principal.ifPresent(userDetails ->
+                authEventRecorder.record(AuthEvent.ACCESS_TOKEN_ACCEPTED, "userId", userDetails.getUsername()));
+        return principal;
+    }
+
+    /**
+     * [이전 버전 액세스 토큰 → 인증 사용자 정보 조회 메소드]
+     * 이미 조회한 토큰이면 캐시된 사용자 정보를 그대로 사용 (DB 조회 없음)
+     * 처음 보는 토큰이면 userId로 회원을 조회하고, 토큰 만료 시각을 넘지 않도록 캐시에 저장
+     */
+    private Optional<UserDetails> resolveLegacyPrincipal(String accessToken, DecodedJWT decodedJWT) {
+        UserDetails cached = principalCache.get(accessToken);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserDetails> principal = jwtService.extractUserId(decodedJWT)
+                .flatMap(userRepository::findById)
+                .map(this::toUserDetails);
+
+        if (decodedJWT.getExpiresAt() != null) {
+            principal.ifPresent(userDetails -> principalCache.put(
+                    accessToken, userDetails, decodedJWT.getExpiresAt().getTime()));
+        }
+        return principal;
+    }
+
+    /**
+     * 회원 객체를 토큰 Claim으로 만든 것과 같은 인증 사용자 정보로 변환
+     * 인증 이후에는 비밀번호를 사용하지 않으므로 캐시에 비밀번호 해시를 보관하지 않음
+     */
+    private UserDetails toUserDetails(User myUser) {
+        return new AuthenticatedUser(myUser.getId(), myUser.getRole(), myUser.getUserType());
+    }
+
     /**
      * [인증 허가 메소드]
-     * 파라미터의 유저 : 우리가 만든 회원 객체 / 빌더의 유저 : UserDetails의 User 객체
      * <p>
      * new UsernamePasswordAuthenticationToken()로 인증 객체인 Authentication 객체 생성
      * UsernamePasswordAuthenticationToken의 파라미터
-     * 1. 위에서 만든 UserDetailsUser 객체 (유저 정보)
+     * 1. toUserDetails()로 만든 UserDetails 객체 (유저 정보)
      * 2. credential(보통 비밀번호로, 인증 시에는 보통 null로 제거)
      * 3. Collection < ? extends GrantedAuthority>로,
      * UserDetails의 User 객체 안에 Set<GrantedAuthority> authorities이 있어서 getter로 호출한 후에,
@@ -126,18 +171,7 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
      * SecurityContextHolder.getContext()로 SecurityContext를 꺼낸 후,
      * setAuthentication()을 이용하여 위에서 만든 Authentication 객체에 대한 인증 허가 처리
      */
-    public void saveAuthentication(User myUser) {
-        String password = myUser.getPassword();
-        if (password == null) { // 소셜 로그인 유저의 비밀번호 임의로 설정 하여 소셜 로그인 유저도 인증 되도록 설정
-            password = PasswordUtil.generateRandomPassword();
-        }
-
-        UserDetails userDetailsUser = org.springframework.security.core.userdetails.User.builder()
-                .username(myUser.getId().toString())
-                .password(password)
-                .roles(myUser.getRole().name())
-                .build();
-
+    public void saveAuthentication(UserDetails userDetailsUser) {
         Authentication authentication =
                 new UsernamePasswordAuthenticationToken(userDetailsUser, null,
                         authoritiesMapper.mapAuthorities(userDetailsUser.getAuthorities()));
@@ -2,21 +2,36 @@ package thonlivethondie.artconnect.handler;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
 
 import java.io.IOException;
 
-@Slf4j
+@RequiredArgsConstructor
 public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+    private final AuthEventRecorder authEventRecorder;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException {
+        // 비밀번호 해시 대기열 초과로 거절된 로그인은 자격 증명 오류와 구분하여 503으로 응답
+        if (exception.getCause() instanceof ServiceUnavailableException busy) {
+            response.setStatus(busy.getErrorCode().getStatus().value());
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write(busy.getErrorCode().getMessage());
+            authEventRecorder.record(AuthEvent.LOGIN_REJECTED_BUSY);
+            return;
+        }
+
         response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
         response.setCharacterEncoding("UTF-8");
         response.setContentType("text/plain;charset=UTF-8");
         response.getWriter().write("로그인 실패! 이메일이나 비밀번호를 확인해주세요.");
-        log.info("로그인에 실패했습니다. 메시지 : {}", exception.getMessage());
+        authEventRecorder.record(AuthEvent.LOGIN_FAILED, "reason", exception.getClass().getSimpleName());
     }
 }
@@ -5,13 +5,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
 import thonlivethondie.artconnect.dto.LoginSuccessResponse;
 import thonlivethondie.artconnect.repository.UserRepository;
 import thonlivethondie.artconnect.service.JwtService;
+import thonlivethondie.artconnect.service.RefreshTokenService;
 
 import java.io.IOException;
 
@@ -19,11 +21,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
-
-    @Value("${jwt.access.expiration}")
-    private String accessTokenExpiration;
+    private final AuthEventRecorder authEventRecorder;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -31,15 +32,13 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
         String username = extractUsername(authentication); // 인증 정보에서 Username(userId) 추출
         Long userId = Long.parseLong(username);
 
-        String accessToken = jwtService.createAccessToken(userId); // JwtService의 createAccessToken을 사용하여 AccessToken 발급
-        String refreshToken = jwtService.createRefreshToken(); // JwtService의 createRefreshToken을 사용하여 RefreshToken 발급
-
-        jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken); // 응답 헤더에 AccessToken, RefreshToken 실어서 응답
-
         userRepository.findById(userId)
                 .ifPresent(user -> {
-                    user.updateRefreshToken(refreshToken);
-                    userRepository.saveAndFlush(user);
+                    String accessToken = jwtService.createAccessToken(user); // 회원의 role, userType을 Claim에 담아 AccessToken 발급
+                    String refreshToken = refreshTokenService.issue( // 새 family의 RefreshToken 발급 및 refresh_tokens 테이블에 저장
+                            user.getId(), request.getHeader(RefreshTokenService.DEVICE_ID_HEADER));
+
+                    jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken); // 응답 헤더에 AccessToken, RefreshToken 실어서 응답
 
                     // JSON 응답 추가
                     try {
@@ -56,9 +55,7 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
                         log.error("JSON 응답 생성 중 오류 발생", e);
                     }
                 });
-        log.info("로그인에 성공하였습니다. userId : {}", userId);
-        log.info("로그인에 성공하였습니다. AccessToken : {}", accessToken);
-        log.info("발급된 AccessToken 만료 기간 : {}", accessTokenExpiration);
+        authEventRecorder.record(AuthEvent.LOGIN_SUCCEEDED, "userId", userId);
     }
 
     private String extractUsername(Authentication authentication) {
@@ -5,13 +5,16 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.entity.User;
 import thonlivethondie.artconnect.oauth2.CustomOAuth2User;
 import thonlivethondie.artconnect.repository.UserRepository;
 import thonlivethondie.artconnect.service.JwtService;
+import thonlivethondie.artconnect.service.RefreshTokenService;
 
 import java.io.IOException;
 import java.net.URLEncoder;
@@ -23,23 +26,22 @@ import java.nio.charset.StandardCharsets;
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthEventRecorder authEventRecorder;
     private final UserRepository userRepository;
     private final String FRONTEND_URL = "http://localhost:3000";
 
-    @Value("${jwt.access.expiration}")
-    private String accessTokenExpiration;
-
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
-        log.info("OAuth2 Login 성공!");
-
         try {
             CustomOAuth2User oAuth2User = (CustomOAuth2User) authentication.getPrincipal();
             Long userId = oAuth2User.getUserId();
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalStateException("일치하는 회원이 없습니다."));
 
-            // AccessToken과 RefreshToken 생성
-            String accessToken = jwtService.createAccessToken(userId);
-            String refreshToken = jwtService.createRefreshToken();
+            // AccessToken(회원의 role, userType Claim 포함)과 RefreshToken 생성
+            String accessToken = jwtService.createAccessToken(user);
+            String refreshToken = refreshTokenService.issue(userId, request.getHeader(RefreshTokenService.DEVICE_ID_HEADER));
 
             // 응답 헤더에 토큰 추가
             response.addHeader(jwtService.getAccessHeader(), "Bearer " + accessToken);
@@ -48,13 +50,6 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
             // JwtService를 통해 토큰 전송
             jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 
-            // RefreshToken을 데이터베이스에 저장
-            userRepository.findById(userId)
-                    .ifPresent(user -> {
-                        user.updateRefreshToken(refreshToken);
-                        userRepository.saveAndFlush(user);
-                    });
-
             // 모든 소셜 로그인 사용자에게 토큰을 URL 파라미터로 전달
             String redirectUrl = FRONTEND_URL +
                     "?accessToken=" + URLEncoder.encode(accessToken, StandardCharsets.UTF_8) +
@@ -62,9 +57,7 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
             response.sendRedirect(redirectUrl);
 
-            log.info("OAuth2 로그인에 성공하였습니다. userId : {}", userId);
-            log.info("OAuth2 로그인에 성공하였습니다. AccessToken : {}", accessToken);
-            log.info("발급된 AccessToken 만료 기간 : {}", accessTokenExpiration);
+            authEventRecorder.record(AuthEvent.OAUTH2_LOGIN_SUCCEEDED, "userId", userId);
 
         } catch (Exception e) {
             log.error("OAuth2 로그인 처리 중 오류 발생: {}", e.getMessage());
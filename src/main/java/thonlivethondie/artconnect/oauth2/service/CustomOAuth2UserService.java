@@ -1,49 +1,76 @@
 package thonlivethondie.artconnect.oauth2.service;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 import thonlivethondie.artconnect.common.SocialType;
 import thonlivethondie.artconnect.entity.User;
 import thonlivethondie.artconnect.oauth2.CustomOAuth2User;
 import thonlivethondie.artconnect.oauth2.OAuthAttributes;
+import thonlivethondie.artconnect.oauth2.service.SocialIdentityCache.SocialIdentity;
 import thonlivethondie.artconnect.repository.UserRepository;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final SocialIdentityCache socialIdentityCache;
+
+    /**
+     * 소셜 로그인 API의 사용자 정보 요청에 사용하는 DefaultOAuth2UserService (모든 요청이 공유)
+     * 하나의 JDK HttpClient를 사용하므로 소셜 플랫폼과의 연결을 재사용합니다.
+     */
+    private final DefaultOAuth2UserService delegate;
 
     private static final String NAVER = "naver";
     private static final String KAKAO = "kakao";
 
+    public CustomOAuth2UserService(
+            UserRepository userRepository,
+            SocialIdentityCache socialIdentityCache,
+            @Value("${auth.oauth2.user-info.connect-timeout-ms:3000}") long connectTimeoutMillis,
+            @Value("${auth.oauth2.user-info.read-timeout-ms:5000}") long readTimeoutMillis) {
+        this.userRepository = userRepository;
+        this.socialIdentityCache = socialIdentityCache;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        this.delegate = new DefaultOAuth2UserService();
+        this.delegate.setRestOperations(restTemplate);
+    }
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        log.info("CustomOAuth2UserService.loadUser() 실행 - OAuth2 로그인 요청 진입");
-
         /**
-         * DefaultOAuth2UserService 객체를 생성하여, loadUser(userRequest)를 통해 DefaultOAuth2User 객체를 생성 후 반환
+         * 공유하는 DefaultOAuth2UserService의 loadUser(userRequest)를 통해 DefaultOAuth2User 객체를 생성 후 반환
          * DefaultOAuth2UserService의 loadUser()는 소셜 로그인 API의 사용자 정보 제공 URI로 요청을 보내서
          * 사용자 정보를 얻은 후, 이를 통해 DefaultOAuth2User 객체를 생성 후 반환한다.
          * 결과적으로, OAuth2User는 OAuth 서비스에서 가져온 유저 정보를 담고 있는 유저
+         * (사용자 정보에는 이메일 등 개인정보가 포함되므로 로그로 남기지 않는다.)
          */
-        OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
         OAuth2User oAuth2User = delegate.loadUser(userRequest);
 
-        // 여기에 로그 추가
-        log.info("API 응답 데이터: {}", oAuth2User.getAttributes());
-
         /**
          * userRequest에서 registrationId 추출 후 registrationId으로 SocialType 저장
          * http://localhost:8080/oauth2/authorization/kakao에서 kakao가 registrationId
@@ -58,16 +85,16 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         // socialType에 따라 유저 정보를 통해 OAuthAttributes 객체 생성
         OAuthAttributes extractAttributes = OAuthAttributes.of(socialType, userNameAttributeName, attributes);
 
-        User createdUser = getUser(extractAttributes, socialType); // getUser() 메소드로 User 객체 생성 후 반환
+        SocialIdentity identity = getUser(extractAttributes, socialType); // getUser() 메소드로 회원 정보 조회 또는 생성 후 반환
 
         // DefaultOAuth2User를 구현한 CustomOAuth2User 객체를 생성해서 반환
         return new CustomOAuth2User(
-                Collections.singleton(new SimpleGrantedAuthority(createdUser.getRole().getKey())),
+                Collections.singleton(new SimpleGrantedAuthority(identity.role().getKey())),
                 attributes,
                 extractAttributes.getNameAttributeKey(),
-                createdUser.getId(),
-                createdUser.getEmail(),
-                createdUser.getRole()
+                identity.userId(),
+                identity.email(),
+                identity.role()
         );
     }
 
@@ -84,25 +111,38 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     }
 
     /**
-     * SocialType과 attributes에 들어있는 소셜 로그인의 식별값 id를 통해 회원을 찾아 반환하는 메소드
-     * 만약 찾은 회원이 있다면, 그대로 반환하고 없다면 saveUser()를 호출하여 회원을 저장한다.
+     * SocialType과 attributes에 들어있는 소셜 로그인의 식별값 id를 통해 회원 정보를 찾아 반환하는 메소드
+     * 최근 로그인한 소셜 계정이면 캐시된 회원 정보를 그대로 반환한다. (DB 조회 없음)
+     * 캐시에 없으면 (social_type, social_id) 유니크 인덱스로 회원을 조회하고, 없다면 saveUser()를 호출하여 회원을 저장한다.
      */
-    private User getUser(OAuthAttributes attributes, SocialType socialType) {
-        User findUser = userRepository.findBySocialTypeAndSocialId(socialType,
-                attributes.getOAuth2UserInfo().getId()).orElse(null);
-
-        if(findUser == null) {
-            return saveUser(attributes, socialType);
+    private SocialIdentity getUser(OAuthAttributes attributes, SocialType socialType) {
+        String socialId = attributes.getOAuth2UserInfo().getId();
+        SocialIdentity cached = socialIdentityCache.get(socialType, socialId);
+        if (cached != null) {
+            return cached;
         }
-        return findUser;
+
+        User user = userRepository.findBySocialTypeAndSocialId(socialType, socialId)
+                .orElseGet(() -> saveUser(attributes, socialType));
+
+        SocialIdentity identity = new SocialIdentity(user.getId(), user.getEmail(), user.getRole());
+        socialIdentityCache.put(socialType, socialId, identity);
+        return identity;
     }
 
     /**
      * OAuthAttributes의 toEntity() 메소드를 통해 빌더로 User 객체 생성 후 반환
      * 생성된 User 객체를 DB에 저장 : socialType, socialId, email, role 값만 있는 상태
+     * 같은 소셜 계정으로 동시에 처음 로그인하면 유니크 인덱스로 한 요청만 저장되고,
+     * 나머지 요청은 먼저 저장된 회원을 다시 조회하여 사용한다.
      */
     private User saveUser(OAuthAttributes attributes, SocialType socialType) {
         User createdUser = attributes.toEntity(socialType, attributes.getOAuth2UserInfo());
-        return userRepository.save(createdUser);
+        try {
+            return userRepository.saveAndFlush(createdUser);
+        } catch (DataIntegrityViolationException e) {
+            return userRepository.findBySocialTypeAndSocialId(socialType, createdUser.getSocialId())
+                    .orElseThrow(() -> e);
+        }
     }
 }
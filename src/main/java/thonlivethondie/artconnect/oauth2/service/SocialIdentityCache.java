@@ -0,0 +1,84 @@
+package thonlivethondie.artconnect.oauth2.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.common.cache.BoundedTtlCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 소셜 로그인한 회원 식별 정보 캐시 ((socialType, socialId) → 회원 ID, 이메일, 권한)
+ * <p>
+ * 같은 소셜 계정으로 다시 로그인하면 회원 조회 쿼리 없이 캐시된 회원 정보를 사용합니다.
+ * - 만료: 짧은 유지 시간 (탈퇴 등 회원 정보 변경은 유지 시간 안에 반영, 로그인 성공 처리에서 회원을 다시 조회함)
+ * - 메모리: 최대 개수(LRU) 제한
+ */
+@Component
+public class SocialIdentityCache {
+
+    private final long ttlMillis;
+
+    /**
+     * 소셜 식별값 → 회원 정보
+     */
+    private final BoundedTtlCache<Key, SocialIdentity> entries;
+
+    public SocialIdentityCache(
+            @Value("${auth.oauth2.identity-cache.max-entries:10000}") int maxEntries,
+            @Value("${auth.oauth2.identity-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.entries = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * 캐시된 회원 정보를 조회합니다.
+     *
+     * @param socialType 소셜 로그인 종류
+     * @param socialId   소셜 플랫폼의 회원 식별값
+     * @return 회원 정보 (없거나 만료된 경우 null)
+     */
+    public SocialIdentity get(SocialType socialType, String socialId) {
+        return entries.get(new Key(socialType, socialId));
+    }
+
+    /**
+     * 조회하거나 저장한 회원 정보를 캐시에 저장합니다.
+     */
+    public void put(SocialType socialType, String socialId, SocialIdentity identity) {
+        entries.put(new Key(socialType, socialId), identity, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 캐시 통계를 반환합니다 (모니터링용).
+     */
+    public Stats getStats() {
+        BoundedTtlCache.Stats stats = entries.getStats();
+        return new Stats(stats.size(), stats.maxEntries(), stats.hitCount(), stats.missCount());
+    }
+
+    private record Key(SocialType socialType, String socialId) {
+    }
+
+    /**
+     * 소셜 로그인 회원 정보 (CustomOAuth2User 생성에 필요한 값만 보관)
+     *
+     * @param userId 회원 ID
+     * @param email  회원 이메일
+     * @param role   회원 권한
+     */
+    public record SocialIdentity(Long userId, String email, Role role) {
+    }
+
+    /**
+     * 소셜 로그인 회원 정보 캐시 통계 (모니터링용)
+     *
+     * @param size       현재 저장된 회원 수
+     * @param maxEntries 저장할 최대 회원 수
+     * @param hitCount   캐시 적중 횟수 (회원 조회 생략)
+     * @param missCount  캐시 미적중 횟수
+     */
+    public record Stats(int size, int maxEntries, long hitCount, long missCount) {
+    }
+}
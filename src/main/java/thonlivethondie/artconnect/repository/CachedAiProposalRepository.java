@@ -0,0 +1,17 @@
+package thonlivethondie.artconnect.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.entity.CachedAiProposal;
+
+public interface CachedAiProposalRepository extends JpaRepository<CachedAiProposal, String> {
+
+    /**
+     * 만료된 제안을 일괄 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM CachedAiProposal c WHERE c.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
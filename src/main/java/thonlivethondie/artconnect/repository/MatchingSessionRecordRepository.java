@@ -0,0 +1,56 @@
+package thonlivethondie.artconnect.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.entity.MatchingSessionRecord;
+
+import java.util.Optional;
+
+public interface MatchingSessionRecordRepository extends JpaRepository<MatchingSessionRecord, String> {
+
+    /**
+     * 만료되지 않은 세션을 조회합니다.
+     */
+    @Query("SELECT m FROM MatchingSessionRecord m WHERE m.sessionId = :sessionId AND m.expiresAt > :now")
+    Optional<MatchingSessionRecord> findActiveById(@Param("sessionId") String sessionId, @Param("now") long now);
+
+    /**
+     * 세션 본문은 그대로 두고 반환 상태만 갱신합니다.
+     * 다른 인스턴스가 먼저 더 큰 값을 기록한 경우 되돌리지 않습니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MatchingSessionRecord m SET m.returnedCount = :returnedCount "
+            + "WHERE m.sessionId = :sessionId AND m.returnedCount < :returnedCount")
+    int updateReturnedCount(@Param("sessionId") String sessionId, @Param("returnedCount") int returnedCount);
+
+    /**
+     * 반환 수를 1 증가시킵니다 (새로고침). 모두 반환된 경우에는 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수 (모두 반환되었거나 세션이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MatchingSessionRecord m SET m.returnedCount = m.returnedCount + 1 "
+            + "WHERE m.sessionId = :sessionId AND m.returnedCount < :size")
+    int incrementReturnedCount(@Param("sessionId") String sessionId, @Param("size") int size);
+
+    /**
+     * 세션의 반환 수를 조회합니다.
+     */
+    @Query("SELECT m.returnedCount FROM MatchingSessionRecord m WHERE m.sessionId = :sessionId")
+    Optional<Integer> findReturnedCount(@Param("sessionId") String sessionId);
+
+    /**
+     * 만료된 세션을 일괄 삭제합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MatchingSessionRecord m WHERE m.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+
+    /**
+     * 만료되지 않은 세션 수를 조회합니다.
+     */
+    @Query("SELECT COUNT(m) FROM MatchingSessionRecord m WHERE m.expiresAt > :now")
+    long countActive(@Param("now") long now);
+}
@@ -0,0 +1,74 @@
+package thonlivethondie.artconnect.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.entity.PendingDeletion;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingDeletionRepository extends JpaRepository<PendingDeletion, String> {
+
+    /**
+     * 잠금 대기 시간 힌트 값: 잠긴 행을 건너뜀 (Hibernate LockOptions.SKIP_LOCKED)
+     */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * 삭제를 시도할 시각이 된 항목을 오래된 순으로 쓰기 잠금과 함께 조회합니다.
+     * 다른 트랜잭션이 잠근 항목은 기다리지 않고 건너뜁니다 (SKIP LOCKED, 지원하지 않는 DB는 기다림).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("SELECT d FROM PendingDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt")
+    List<PendingDeletion> findDueForUpdate(@Param("now") long now, Pageable pageable);
+
+    /**
+     * 주어진 항목을 쓰기 잠금과 함께 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM PendingDeletion d WHERE d.fileName IN :fileNames")
+    List<PendingDeletion> findAllForUpdate(@Param("fileNames") Collection<String> fileNames);
+
+    /**
+     * 정리 작업이 S3 삭제를 위해 항목을 점유합니다.
+     * 점유 시각까지 다음 시도 시각도 미뤄 두므로 점유가 끝나기 전에는 다른 정리 작업이 가져가지 않습니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PendingDeletion d SET d.claimedUntil = :claimedUntil, d.nextAttemptAt = :claimedUntil "
+            + "WHERE d.fileName IN :fileNames")
+    int claim(@Param("fileNames") Collection<String> fileNames, @Param("claimedUntil") long claimedUntil);
+
+    /**
+     * 삭제가 끝난 항목을 대기열에서 일괄 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM PendingDeletion d WHERE d.fileName IN :fileNames")
+    int deleteByFileNames(@Param("fileNames") Collection<String> fileNames);
+
+    /**
+     * 대기 중인 항목의 삭제 시각을 주어진 시각 이후로 늦춥니다.
+     */
+    @Modifying
+    @Query("UPDATE PendingDeletion d SET d.nextAttemptAt = :deleteAt "
+            + "WHERE d.fileName IN :fileNames AND d.nextAttemptAt < :deleteAt")
+    int postpone(@Param("fileNames") Collection<String> fileNames, @Param("deleteAt") long deleteAt);
+
+    /**
+     * 삭제에 실패한 항목의 시도 횟수와 다음 시도 시각을 갱신하고 점유를 해제합니다.
+     */
+    @Modifying
+    @Query("UPDATE PendingDeletion d SET d.attempts = :attempts, d.nextAttemptAt = :nextAttemptAt, d.claimedUntil = 0 "
+            + "WHERE d.fileName IN :fileNames")
+    int updateRetry(@Param("fileNames") Collection<String> fileNames,
+                    @Param("attempts") int attempts,
+                    @Param("nextAttemptAt") long nextAttemptAt);
+}
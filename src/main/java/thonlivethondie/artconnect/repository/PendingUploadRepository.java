@@ -0,0 +1,28 @@
+package thonlivethondie.artconnect.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.entity.PendingUpload;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, String> {
+
+    /**
+     * 기준 시각 이전에 기록된 업로드 대기 파일명을 오래된 순으로 조회합니다.
+     */
+    @Query("SELECT p.fileName FROM PendingUpload p WHERE p.createdAt < :threshold ORDER BY p.createdAt")
+    List<String> findFileNamesCreatedBefore(@Param("threshold") long threshold, Pageable pageable);
+
+    /**
+     * 업로드 대기 목록에서 일괄 삭제합니다.
+     * 이미지 행을 저장하는 트랜잭션 안에서도 호출하므로 영속성 컨텍스트는 비우지 않습니다.
+     */
+    @Modifying
+    @Query("DELETE FROM PendingUpload p WHERE p.fileName IN :fileNames")
+    int deleteByFileNames(@Param("fileNames") Collection<String> fileNames);
+}
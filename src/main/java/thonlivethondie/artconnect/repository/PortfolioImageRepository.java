@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.dto.PortfolioPreviewImageDto;
 import thonlivethondie.artconnect.entity.PortfolioImage;
 
 import java.util.List;
@@ -16,4 +17,42 @@ public interface PortfolioImageRepository extends JpaRepository<PortfolioImage,
     @Modifying
     @Query("UPDATE PortfolioImage pi SET pi.isThumbnail = CASE WHEN pi.id = :imageId THEN true ELSE false END WHERE pi.portfolio.id = :portfolioId")
     void updateThumbnailStatus(@Param("portfolioId") Long portfolioId, @Param("imageId") Long imageId);
+
+    /**
+     * 원본 URL이 같은 이미지 행에 축소 이미지 URL을 기록
+     */
+    @Modifying
+    @Query("UPDATE PortfolioImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.mediumUrl = :mediumUrl WHERE pi.imageUrl = :imageUrl")
+    int updateVariantUrls(@Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
+
+    /**
+     * 여러 디자이너의 포트폴리오 미리보기 이미지를 디자이너별로 최대 limit개씩 한 번에 조회
+     * 썸네일 이미지를 우선하고, 그 다음 포트폴리오/이미지 등록 순으로 선택
+     */
+    @Query(value = """
+            SELECT ranked.designer_id AS designerId,
+                   ranked.portfolio_image_id AS id,
+                   ranked.image_url AS imageUrl,
+                   ranked.thumbnail_url AS thumbnailUrl,
+                   ranked.medium_url AS mediumUrl,
+                   ranked.image_name AS imageName,
+                   ranked.is_thumbnail AS isThumbnail
+            FROM (
+                SELECT p.designer_id, pi.portfolio_image_id, pi.image_url, pi.thumbnail_url, pi.medium_url,
+                       pi.image_name, pi.is_thumbnail,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY p.designer_id
+                           ORDER BY pi.is_thumbnail DESC, p.portfolio_id, pi.portfolio_image_id
+                       ) AS rn
+                FROM portfolio_images pi
+                JOIN portfolios p ON p.portfolio_id = pi.portfolio_id
+                WHERE p.designer_id IN (:designerIds)
+            ) ranked
+            WHERE ranked.rn <= :limit
+            ORDER BY ranked.designer_id, ranked.rn
+            """, nativeQuery = true)
+    List<PortfolioPreviewImageDto> findPreviewImagesByDesignerIds(@Param("designerIds") List<Long> designerIds,
+                                                                  @Param("limit") int limit);
 }
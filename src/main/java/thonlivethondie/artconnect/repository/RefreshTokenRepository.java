@@ -0,0 +1,35 @@
+package thonlivethondie.artconnect.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.entity.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * 아직 사용하지 않은 유효한 토큰에 사용 시각을 기록합니다.
+     * 같은 토큰으로 동시에 재발급을 요청해도 한 요청만 성공합니다.
+     *
+     * @return 갱신된 행 수 (이미 사용했거나 만료된 토큰이면 0)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now "
+            + "WHERE r.tokenHash = :tokenHash AND r.usedAt IS NULL AND r.expiresAt > :now")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("now") long now);
+
+    /**
+     * 같은 로그인에서 재발급된 토큰을 모두 삭제합니다 (재사용 감지 시).
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteFamily(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 토큰을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
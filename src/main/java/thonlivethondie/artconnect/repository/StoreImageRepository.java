@@ -1,7 +1,19 @@
 package thonlivethondie.artconnect.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import thonlivethondie.artconnect.entity.StoreImage;
 
 public interface StoreImageRepository extends JpaRepository<StoreImage, Long> {
+
+    /**
+     * 원본 URL이 같은 이미지 행에 축소 이미지 URL을 기록
+     */
+    @Modifying
+    @Query("UPDATE StoreImage si SET si.thumbnailUrl = :thumbnailUrl, si.mediumUrl = :mediumUrl WHERE si.imageUrl = :imageUrl")
+    int updateVariantUrls(@Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
 }
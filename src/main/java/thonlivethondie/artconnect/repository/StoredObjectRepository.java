@@ -0,0 +1,53 @@
+package thonlivethondie.artconnect.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import thonlivethondie.artconnect.entity.StoredObject;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+
+    /**
+     * 객체의 참조 수를 늘립니다.
+     *
+     * @return 갱신된 행 수 (기록되지 않은 객체면 0)
+     */
+    @Modifying
+    @Query("UPDATE StoredObject s SET s.refCount = s.refCount + :count WHERE s.fileName = :fileName")
+    int addReferences(@Param("fileName") String fileName, @Param("count") long count);
+
+    /**
+     * 객체의 참조 수를 줄입니다 (0 아래로는 줄이지 않음).
+     */
+    @Modifying
+    @Query("UPDATE StoredObject s SET s.refCount = CASE WHEN s.refCount > :count THEN s.refCount - :count ELSE 0 END "
+            + "WHERE s.fileName = :fileName")
+    int releaseReferences(@Param("fileName") String fileName, @Param("count") long count);
+
+    /**
+     * 주어진 객체 중 아직 이미지 행이 가리키고 있는 객체의 파일명을 조회합니다.
+     */
+    @Query("SELECT s.fileName FROM StoredObject s WHERE s.fileName IN :fileNames AND s.refCount > 0")
+    List<String> findReferencedFileNames(@Param("fileNames") Collection<String> fileNames);
+
+    /**
+     * 주어진 객체의 참조 수 행을 쓰기 잠금과 함께 조회합니다 (삭제 직전의 참조 확인용).
+     * 잠금을 건 트랜잭션이 끝날 때까지 같은 객체의 참조 수를 늘리는 트랜잭션은 기다립니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredObject s WHERE s.fileName IN :fileNames")
+    List<StoredObject> findAllForUpdate(@Param("fileNames") Collection<String> fileNames);
+
+    /**
+     * S3에서 삭제한 객체 중 참조가 없는 기록을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM StoredObject s WHERE s.fileName IN :fileNames AND s.refCount <= 0")
+    int deleteUnreferenced(@Param("fileNames") Collection<String> fileNames);
+}
@@ -1,17 +1,39 @@
 package thonlivethondie.artconnect.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.common.UserType;
 import thonlivethondie.artconnect.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-    Optional<User> findByRefreshToken(String refreshToken);
+
+    /**
+     * 회원가입 시 비밀번호를 인코딩하기 전에 이메일 중복 여부만 확인하기 위해 사용하는 쿼리
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * 로그인 시 새 비용으로 다시 인코딩한 비밀번호를 저장합니다 (회원 엔티티를 조회하지 않음).
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 
     /**
      * 이미 사용한 소셜 플랫폼으로 로그인한 사용자가 존재하는 지 확인하기 우해 사용하는 쿼리
+     * (social_type, social_id) 유니크 인덱스로 조회
      */
     Optional<User> findBySocialTypeAndSocialId(SocialType socialType, String socialId);
+
+    /**
+     * 디자이너 검색 인덱스 구성 시 특정 유형의 사용자 전체를 조회하기 위해 사용하는 쿼리
+     */
+    List<User> findAllByUserType(UserType userType);
 }
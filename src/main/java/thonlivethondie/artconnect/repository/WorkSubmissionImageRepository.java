@@ -1,6 +1,9 @@
 package thonlivethondie.artconnect.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import thonlivethondie.artconnect.entity.WorkSubmissionImage;
 
@@ -13,4 +16,13 @@ public interface WorkSubmissionImageRepository extends JpaRepository<WorkSubmiss
      * WorkSubmission ID로 이미지 목록 조회
      */
     List<WorkSubmissionImage> findByWorkSubmissionId(Long workSubmissionId);
+
+    /**
+     * 원본 URL이 같은 이미지 행에 축소 이미지 URL을 기록
+     */
+    @Modifying
+    @Query("UPDATE WorkSubmissionImage wsi SET wsi.thumbnailUrl = :thumbnailUrl, wsi.mediumUrl = :mediumUrl WHERE wsi.imageUrl = :imageUrl")
+    int updateVariantUrls(@Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
 }
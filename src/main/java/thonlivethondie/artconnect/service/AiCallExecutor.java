@@ -0,0 +1,194 @@
+package thonlivethondie.artconnect.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * AI 모델 호출 전용 실행기 (격벽, bulkhead)
+ * <p>
+ * AI 응답이 느려질 때 AI를 기다리는 요청 수를 제한하여, 나머지 Tomcat 요청 스레드로 다른 API를 계속 처리할 수 있도록 다음을 적용합니다.
+ * - 전용 가상 스레드에서 호출하고, 동시 호출 수를 세마포어로 제한
+ * - 허용량이 가득 차면 잠시 기다린 뒤 즉시 "AI 사용량 초과" 에러로 실패 (대기열을 쌓지 않음)
+ * - 호출마다 전체 제한 시간을 두고, 초과하면 진행 중인 호출을 중단하고 실패
+ * - 첫 호출이 hedge-delay 안에 응답하지 않으면 여유 허용량이 있을 때 같은 요청을 한 번 더 보내고 먼저 도착한 응답을 사용
+ * <p>
+ * {@link #call}은 허용량만 호출한 스레드에서 확보하고, 응답 대기(재요청, 제한 시간 포함)는 전용 가상 스레드에서 수행한 뒤
+ * 결과를 {@link CompletableFuture}로 반환합니다. 컨트롤러가 이를 그대로 반환하면 Tomcat 요청 스레드는 AI 응답을 기다리지 않고 반환됩니다.
+ */
+@Slf4j
+@Component
+public class AiCallExecutor implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ai-call-", 0).factory());
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final long callTimeoutMillis;
+    private final long hedgeDelayMillis;
+    private final Duration streamIdleTimeout;
+
+    public AiCallExecutor(
+            @Value("${ai.executor.max-concurrent-calls:16}") int maxConcurrentCalls,
+            @Value("${ai.executor.acquire-timeout-ms:200}") long acquireTimeoutMillis,
+            @Value("${ai.executor.call-timeout-ms:30000}") long callTimeoutMillis,
+            @Value("${ai.executor.hedge-delay-ms:10000}") long hedgeDelayMillis,
+            @Value("${ai.executor.stream-idle-timeout-ms:15000}") long streamIdleTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.callTimeoutMillis = callTimeoutMillis;
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        this.streamIdleTimeout = Duration.ofMillis(streamIdleTimeoutMillis);
+    }
+
+    /**
+     * AI 호출을 전용 가상 스레드에서 실행하고 결과를 비동기로 반환합니다 (최대 call-timeout).
+     * 허용량은 호출한 스레드에서 확보하므로 허용량 초과는 즉시 예외로 알 수 있고, 응답 대기는 호출한 스레드를 붙잡지 않습니다.
+     * 같은 요청을 두 번 보낼 수 있으므로 부수 효과가 없는 호출에만 사용합니다.
+     *
+     * @param operation 로그용 작업 이름
+     * @param call      AI 호출
+     * @return 먼저 성공한 호출의 결과 (제한 시간 초과 시 AI_TIMEOUT으로, 호출 실패 시 그 예외로 완료)
+     * @throws ServiceUnavailableException 허용량 초과(AI_BUSY)
+     */
+    public <T> CompletableFuture<T> call(String operation, Supplier<T> call) {
+        acquire(operation);
+        try {
+            return CompletableFuture.supplyAsync(() -> await(operation, call), executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new ServiceUnavailableException(ErrorCode.AI_BUSY, e);
+        }
+    }
+
+    /**
+     * 허용량 하나를 확보한 상태에서 AI를 호출하고 결과를 기다립니다.
+     * 첫 호출이 지연되면 재요청하며, 끝나면 확보한 허용량을 모두 반환합니다.
+     */
+    private <T> T await(String operation, Supplier<T> call) {
+        int acquiredPermits = 1;
+
+        ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+
+        try {
+            attempts.add(completionService.submit(call::get));
+            int pending = 1;
+            boolean hedged = hedgeDelayMillis <= 0;
+
+            long startTime = System.nanoTime();
+            long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(callTimeoutMillis);
+            long hedgeAt = startTime + TimeUnit.MILLISECONDS.toNanos(hedgeDelayMillis);
+            Throwable lastError = null;
+
+            while (pending > 0) {
+                long now = System.nanoTime();
+                if (now >= deadline) {
+                    log.warn("AI 호출 시간 초과 - 작업: {}, 제한 시간: {}ms", operation, callTimeoutMillis);
+                    throw new ServiceUnavailableException(ErrorCode.AI_TIMEOUT);
+                }
+
+                long waitUntil = hedged ? deadline : Math.min(deadline, hedgeAt);
+                Future<T> completed = completionService.poll(waitUntil - now, TimeUnit.NANOSECONDS);
+
+                if (completed == null) {
+                    if (!hedged && System.nanoTime() >= hedgeAt) {
+                        hedged = true;
+                        if (permits.tryAcquire()) {
+                            acquiredPermits++;
+                            attempts.add(completionService.submit(call::get));
+                            pending++;
+                            log.info("AI 응답 지연으로 재요청 - 작업: {}, 지연: {}ms", operation, hedgeDelayMillis);
+                        }
+                    }
+                    continue;
+                }
+
+                pending--;
+                try {
+                    return completed.get();
+                } catch (ExecutionException e) {
+                    lastError = e.getCause();
+                    log.warn("AI 호출 실패 - 작업: {}, 원인: {}", operation, lastError.getMessage());
+                }
+            }
+
+            throw lastError instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new RuntimeException(operation + " AI 호출에 실패했습니다.", lastError);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorCode.AI_TIMEOUT, e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+            permits.release(acquiredPermits);
+        }
+    }
+
+    /**
+     * AI 스트리밍 호출에 허용량 제한과 응답 간격 제한을 적용합니다.
+     * 허용량은 구독 전에 확보하며, 스트림이 완료/실패/취소되면 반환합니다.
+     *
+     * @param operation 로그용 작업 이름
+     * @param stream    AI 스트리밍 호출
+     * @return 제한이 적용된 스트림
+     * @throws ServiceUnavailableException 허용량 초과(AI_BUSY)
+     */
+    public <T> Flux<T> stream(String operation, Supplier<Flux<T>> stream) {
+        acquire(operation);
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+
+        try {
+            return stream.get()
+                    .timeout(streamIdleTimeout)
+                    .onErrorMap(TimeoutException.class, e -> new ServiceUnavailableException(ErrorCode.AI_TIMEOUT, e))
+                    .doFinally(signal -> release.run());
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 사용 가능한 AI 호출 허용량을 반환합니다 (모니터링용).
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire(String operation) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("AI 호출 허용량 초과 - 작업: {}", operation);
+                throw new ServiceUnavailableException(ErrorCode.AI_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorCode.AI_BUSY, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
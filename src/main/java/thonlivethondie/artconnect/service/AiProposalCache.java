@@ -0,0 +1,243 @@
+package thonlivethondie.artconnect.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import thonlivethondie.artconnect.common.cache.BoundedTtlCache;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.entity.CachedAiProposal;
+import thonlivethondie.artconnect.repository.CachedAiProposalRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * AI 디자인 제안 캐시
+ * <p>
+ * 표현만 조금 다른 같은 요청(예: "카페 로고 만들어주세요", "카페 로고를 만들어 주세요!")이
+ * 같은 키를 갖도록 프롬프트를 정규화한 뒤 제안 결과를 보관합니다.
+ * - 정규화: 유니코드 NFKC, 소문자 변환, 문장부호 제거, 단어 끝 조사 제거, 공백 제거
+ * - 메모리: 최대 개수(LRU)와 만료 시간 제한
+ * - 영속화(선택): ai.proposal-cache.persistent=true 이면 DB 테이블에도 저장하여 재시작 후와 다른 인스턴스에서도 재사용하며,
+ *   만료된 행은 백그라운드 작업이 주기적으로 삭제
+ */
+@Slf4j
+@Component
+public class AiProposalCache {
+
+    /**
+     * 문장부호 및 기호
+     */
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{P}\\p{S}]+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 단어 끝에서 제거할 조사 (긴 것부터 검사)
+     * 명사의 마지막 글자와 겹치기 쉬운 한 글자 조사(이, 가, 의, 로, 과, 도, 만)는 제거하지 않습니다.
+     * 제거하면 서로 다른 요청이 같은 키로 합쳐지기 때문입니다 (예: "고양이 로고"와 "고양 로고", "레트로"와 "레트").
+     */
+    private static final List<String> PARTICLES = List.of(
+            "으로", "에서", "에게", "까지", "부터", "처럼", "이랑", "하고",
+            "을", "를", "은", "는", "에", "와"
+    );
+
+    /**
+     * 조사를 제거한 뒤 남아야 하는 최소 어간 길이 (예: "아이"의 "이"는 제거하지 않음)
+     */
+    private static final int MIN_STEM_LENGTH = 2;
+
+    private final long ttlMillis;
+    private final CachedAiProposalRepository cachedAiProposalRepository;
+
+    /**
+     * 정규화된 키 → 제안
+     */
+    private final BoundedTtlCache<String, AiProposalDto> entries;
+
+    private final AtomicLong persistentHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public AiProposalCache(
+            @Value("${ai.proposal-cache.max-entries:1000}") int maxEntries,
+            @Value("${ai.proposal-cache.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${ai.proposal-cache.persistent:false}") boolean persistent,
+            ObjectProvider<CachedAiProposalRepository> cachedAiProposalRepository) {
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.cachedAiProposalRepository = persistent ? cachedAiProposalRepository.getIfAvailable() : null;
+        this.entries = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * 캐시된 제안을 조회합니다.
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @return 캐시된 제안의 복사본 (없거나 만료된 경우 null)
+     */
+    public AiProposalDto get(String userPrompt) {
+        String key = normalize(userPrompt);
+        if (key == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        AiProposalDto cached = entries.get(key, now);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        AiProposalDto persisted = findPersisted(key, now);
+        if (persisted != null) {
+            persistentHitCount.incrementAndGet();
+            return copyOf(persisted);
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 제안을 캐시에 저장합니다.
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @param proposal   AI가 생성한 디자인 제안
+     */
+    public void put(String userPrompt, AiProposalDto proposal) {
+        String key = normalize(userPrompt);
+        if (key == null || proposal == null) {
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        entries.put(key, copyOf(proposal), expiresAt);
+
+        if (cachedAiProposalRepository != null) {
+            try {
+                cachedAiProposalRepository.save(CachedAiProposal.builder()
+                        .promptHash(hash(key))
+                        .designDirection(proposal.getDesignDirection())
+                        .targetCustomer(proposal.getTargetCustomer())
+                        .requiredDesigns(proposal.getRequiredDesigns())
+                        .expiresAt(expiresAt)
+                        .build());
+            } catch (Exception e) {
+                log.warn("AI 제안 캐시 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * DB에 저장된 제안 중 만료된 행을 삭제합니다 (백그라운드 작업).
+     * 조회 시에는 만료된 행을 무시만 하므로, 삭제하지 않으면 테이블이 계속 커집니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.proposal-cache.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        if (cachedAiProposalRepository == null) {
+            return;
+        }
+
+        int deleted = cachedAiProposalRepository.deleteExpired(System.currentTimeMillis());
+        if (deleted > 0) {
+            log.info("만료된 AI 제안 캐시 삭제 - {}개", deleted);
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다 (모니터링용).
+     */
+    public Stats getStats() {
+        BoundedTtlCache.Stats stats = entries.getStats();
+        return new Stats(stats.size(), stats.maxEntries(), stats.hitCount(), persistentHitCount.get(), missCount.get());
+    }
+
+    /**
+     * 프롬프트를 캐시 키로 정규화합니다.
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @return 정규화된 키 (비어 있는 경우 null)
+     */
+    public static String normalize(String userPrompt) {
+        if (userPrompt == null || userPrompt.isBlank()) {
+            return null;
+        }
+
+        String text = Normalizer.normalize(userPrompt, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        text = PUNCTUATION.matcher(text).replaceAll(" ");
+
+        StringBuilder key = new StringBuilder(text.length());
+        for (String word : WHITESPACE.split(text.trim())) {
+            key.append(stripParticle(word));
+        }
+        return key.isEmpty() ? null : key.toString();
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            if (word.endsWith(particle) && word.length() - particle.length() >= MIN_STEM_LENGTH) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    private AiProposalDto findPersisted(String key, long now) {
+        if (cachedAiProposalRepository == null) {
+            return null;
+        }
+
+        try {
+            return cachedAiProposalRepository.findById(hash(key))
+                    .filter(cached -> cached.getExpiresAt() > now)
+                    .map(cached -> {
+                        AiProposalDto proposal = new AiProposalDto(
+                                cached.getDesignDirection(), cached.getTargetCustomer(), cached.getRequiredDesigns());
+                        entries.put(key, proposal, cached.getExpiresAt());
+                        return proposal;
+                    })
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("AI 제안 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 정규화된 키의 SHA-256 해시 (DB 기본 키용)
+     */
+    private static String hash(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AiProposalDto copyOf(AiProposalDto proposal) {
+        return new AiProposalDto(proposal.getDesignDirection(), proposal.getTargetCustomer(), proposal.getRequiredDesigns());
+    }
+
+    /**
+     * AI 제안 캐시 통계 (모니터링용)
+     *
+     * @param size               현재 메모리에 저장된 제안 수
+     * @param maxEntries         메모리에 저장할 최대 제안 수
+     * @param hitCount           메모리 캐시 적중 횟수
+     * @param persistentHitCount DB 캐시 적중 횟수
+     * @param missCount          캐시 미적중 횟수 (AI 호출)
+     */
+    public record Stats(int size, int maxEntries, long hitCount, long persistentHitCount, long missCount) {
+    }
+}
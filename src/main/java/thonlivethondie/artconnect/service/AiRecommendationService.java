@@ -9,15 +9,18 @@ import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
 import thonlivethondie.artconnect.dto.AiProposalDto;
-import thonlivethondie.artconnect.dto.DesignerMatchingSessionDto;
 import thonlivethondie.artconnect.dto.WorkRequestCreateRequestDto;
 import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.service.session.MatchingSession;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,48 +30,126 @@ public class AiRecommendationService {
 
     private final AnthropicChatModel anthropicChatModel;
     private final DesignerMatchingSessionService sessionService;
+    private final AiProposalCache aiProposalCache;
+    private final AiCallExecutor aiCallExecutor;
 
     /**
      * 사용자 프롬프트를 기반으로 AI로부터 디자인 제안을 받아옵니다.
+     * 정규화된 프롬프트가 같은 요청의 제안이 캐시에 있으면 AI를 호출하지 않고 완료된 결과를 반환합니다.
+     * AI 응답은 호출한 스레드에서 기다리지 않으며, 응답 변환은 AI 호출 스레드에서 수행합니다.
      *
      * @param userPrompt 사용자가 입력한 디자인 요청 내용
      * @return AI가 생성한 디자인 제안 정보
+     * @throws ServiceUnavailableException AI 호출 허용량 초과(AI_BUSY)
      */
-    public AiProposalDto getProposal(String userPrompt) {
+    public CompletableFuture<AiProposalDto> getProposal(String userPrompt) {
         log.info("AI 디자인 제안 요청 시작 - 사용자 프롬프트: {}", userPrompt);
 
-        try {
-            // BeanOutputConverter를 사용하여 JSON 응답을 AiProposalDto로 자동 변환
-            BeanOutputConverter<AiProposalDto> outputConverter = new BeanOutputConverter<>(AiProposalDto.class);
+        AiProposalDto cachedProposal = aiProposalCache.get(userPrompt);
+        if (cachedProposal != null) {
+            log.info("AI 디자인 제안 캐시 적중 - 디자인 방향성: {}", cachedProposal.getDesignDirection());
+            return CompletableFuture.completedFuture(cachedProposal);
+        }
+
+        // BeanOutputConverter를 사용하여 JSON 응답을 AiProposalDto로 자동 변환
+        BeanOutputConverter<AiProposalDto> outputConverter = new BeanOutputConverter<>(AiProposalDto.class);
 
-            // 시스템 프롬프트 구성 - AI가 디자인 컨설턴트 역할을 하도록 지시
-            String systemPromptText = createSystemPrompt(outputConverter.getFormat());
+        // AI에게 프롬프트 전송
+        Prompt prompt = createProposalPrompt(userPrompt, outputConverter);
+        return aiCallExecutor.call("디자인 제안",
+                        () -> anthropicChatModel.call(prompt).getResult().getOutput().getContent())
+                .thenApply(aiResponse -> {
+                    log.info("AI 응답 수신 완료");
+                    log.debug("AI 응답 내용: {}", aiResponse);
 
-            // 메시지 리스트 구성
-            List<Message> messages = List.of(
-                    new SystemMessage(systemPromptText),
-                    new UserMessage(userPrompt)
-            );
+                    try {
+                        // JSON 응답을 AiProposalDto 객체로 변환
+                        AiProposalDto proposal = outputConverter.convert(aiResponse);
+
+                        log.info("AI 디자인 제안 생성 완료 - 디자인 방향성: {}", proposal.getDesignDirection());
+                        aiProposalCache.put(userPrompt, proposal);
+                        return proposal;
+
+                    } catch (Exception e) {
+                        log.error("AI 디자인 제안 생성 중 오류 발생", e);
+                        throw new RuntimeException("AI 디자인 제안 생성에 실패했습니다.", e);
+                    }
+                });
+    }
+
+    /**
+     * 캐시된 디자인 제안을 조회합니다 (스트리밍 요청에서 AI 호출 전에 확인).
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @return 캐시된 제안 (없으면 null)
+     */
+    public AiProposalDto getCachedProposal(String userPrompt) {
+        return aiProposalCache.get(userPrompt);
+    }
 
-            // AI에게 프롬프트 전송
-            Prompt prompt = new Prompt(messages);
-            String aiResponse = anthropicChatModel.call(prompt).getResult().getOutput().getContent();
+    /**
+     * 사용자 프롬프트를 기반으로 AI 디자인 제안을 스트리밍으로 받아옵니다.
+     * AI 호출 허용량이 가득 찬 경우 스트림을 만들기 전에 {@link ServiceUnavailableException}이 발생합니다.
+     * AI 응답(JSON) 텍스트 조각을 도착하는 순서대로 전달하며,
+     * 전체 응답은 {@link #completeStreamedProposal(String, String)}으로 변환합니다.
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @return AI 응답 텍스트 조각 스트림
+     */
+    public Flux<String> streamProposal(String userPrompt) {
+        log.info("AI 디자인 제안 스트리밍 요청 시작 - 사용자 프롬프트: {}", userPrompt);
 
-            log.info("AI 응답 수신 완료");
-            log.debug("AI 응답 내용: {}", aiResponse);
+        Prompt prompt = createProposalPrompt(userPrompt, new BeanOutputConverter<>(AiProposalDto.class));
+        return aiCallExecutor.stream("디자인 제안 스트리밍", () -> anthropicChatModel.stream(prompt))
+                .mapNotNull(response -> response.getResult() != null && response.getResult().getOutput() != null
+                        ? response.getResult().getOutput().getContent()
+                        : null)
+                .filter(content -> !content.isEmpty());
+    }
 
-            // JSON 응답을 AiProposalDto 객체로 변환
-            AiProposalDto proposal = outputConverter.convert(aiResponse);
+    /**
+     * 스트리밍으로 받은 전체 AI 응답을 디자인 제안으로 변환하고 캐시에 저장합니다.
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @param aiResponse 스트리밍으로 받은 전체 AI 응답
+     * @return AI가 생성한 디자인 제안 정보
+     */
+    public AiProposalDto completeStreamedProposal(String userPrompt, String aiResponse) {
+        log.debug("AI 스트리밍 응답 내용: {}", aiResponse);
 
-            log.info("AI 디자인 제안 생성 완료 - 디자인 방향성: {}", proposal.getDesignDirection());
+        try {
+            AiProposalDto proposal = new BeanOutputConverter<>(AiProposalDto.class).convert(aiResponse);
+
+            log.info("AI 디자인 제안 스트리밍 완료 - 디자인 방향성: {}", proposal.getDesignDirection());
+            aiProposalCache.put(userPrompt, proposal);
             return proposal;
 
         } catch (Exception e) {
-            log.error("AI 디자인 제안 생성 중 오류 발생", e);
+            log.error("AI 스트리밍 응답 변환 중 오류 발생", e);
             throw new RuntimeException("AI 디자인 제안 생성에 실패했습니다.", e);
         }
     }
 
+    /**
+     * 디자인 제안 요청 프롬프트를 구성합니다.
+     *
+     * @param userPrompt      사용자가 입력한 디자인 요청 내용
+     * @param outputConverter 응답 JSON 형식 정보를 제공하는 변환기
+     * @return 시스템 메시지와 사용자 메시지로 구성된 프롬프트
+     */
+    private Prompt createProposalPrompt(String userPrompt, BeanOutputConverter<AiProposalDto> outputConverter) {
+        // 시스템 프롬프트 구성 - AI가 디자인 컨설턴트 역할을 하도록 지시
+        String systemPromptText = createSystemPrompt(outputConverter.getFormat());
+
+        // 메시지 리스트 구성
+        List<Message> messages = List.of(
+                new SystemMessage(systemPromptText),
+                new UserMessage(userPrompt)
+        );
+
+        return new Prompt(messages);
+    }
+
     /**
      * AI가 디자인 컨설턴트 역할을 하도록 하는 시스템 프롬프트를 생성합니다.
      *
@@ -97,56 +178,67 @@ public class AiRecommendationService {
                 """, format);
     }
 
-    public WorkRequestCreateRequestDto generateWorkRequestFromSession(String sessionId) {
+    /**
+     * 세션의 AI 제안을 바탕으로 AI가 작성한 작업의뢰서를 받아옵니다.
+     * AI 응답은 호출한 스레드에서 기다리지 않으며, 응답 정리와 변환은 AI 호출 스레드에서 수행합니다.
+     *
+     * @param sessionId 매칭 세션 ID
+     * @return AI가 작성한 작업의뢰서
+     * @throws IllegalArgumentException    세션이나 세션의 AI 제안이 없는 경우
+     * @throws ServiceUnavailableException AI 호출 허용량 초과(AI_BUSY)
+     */
+    public CompletableFuture<WorkRequestCreateRequestDto> generateWorkRequestFromSession(String sessionId) {
         log.info("세션 기반 AI 작업의뢰서 생성 요청 시작 - 세션 ID: {}", sessionId);
 
-        try {
-            DesignerMatchingSessionDto session = sessionService.getSession(sessionId);
+        MatchingSession session = sessionService.getSession(sessionId);
 
-            if (session == null) {
-                throw new IllegalArgumentException("세션을 찾을 수 없습니다." + sessionId);
-            }
+        if (session == null) {
+            throw new IllegalArgumentException("세션을 찾을 수 없습니다." + sessionId);
+        }
 
-            AiProposalDto proposal = session.getProposal();
-            if (proposal == null) {
-                throw new IllegalArgumentException("세션에 AI 제안 정보가 없습니다." + sessionId);
-            }
+        AiProposalDto proposal = session.getProposal();
+        if (proposal == null) {
+            throw new IllegalArgumentException("세션에 AI 제안 정보가 없습니다." + sessionId);
+        }
 
-            // BeanOutputConverter를 사용하여 JSON 응답을 WorkRequestCreateRequestDto로 자동 변환
-            BeanOutputConverter<WorkRequestCreateRequestDto> outputConverter =
-                    new BeanOutputConverter<>(WorkRequestCreateRequestDto.class);
+        // BeanOutputConverter를 사용하여 JSON 응답을 WorkRequestCreateRequestDto로 자동 변환
+        BeanOutputConverter<WorkRequestCreateRequestDto> outputConverter =
+                new BeanOutputConverter<>(WorkRequestCreateRequestDto.class);
 
-            // 작업의뢰서 생성을 위한 시스템 프롬프트 구성
-            String systemPromptText = createWorkRequestSystemPrompt(outputConverter.getFormat());
+        // 작업의뢰서 생성을 위한 시스템 프롬프트 구성
+        String systemPromptText = createWorkRequestSystemPrompt(outputConverter.getFormat());
 
-            // AI 제안을 기반으로 한 상세 프롬프트 생성
-            String aiPrompt = createWorkRequestPromptFromProposal(proposal);
+        // AI 제안을 기반으로 한 상세 프롬프트 생성
+        String aiPrompt = createWorkRequestPromptFromProposal(proposal);
 
-            // 메시지 리스트 구성
-            List<Message> messages = List.of(
-                    new SystemMessage(systemPromptText),
-                    new UserMessage(aiPrompt)
-            );
+        // 메시지 리스트 구성
+        List<Message> messages = List.of(
+                new SystemMessage(systemPromptText),
+                new UserMessage(aiPrompt)
+        );
 
-            // AI에게 프롬프트 전송
-            Prompt prompt = new Prompt(messages);
-            String aiResponse = anthropicChatModel.call(prompt).getResult().getOutput().getContent();
+        // AI에게 프롬프트 전송
+        Prompt prompt = new Prompt(messages);
+        return aiCallExecutor.call("작업의뢰서 생성",
+                        () -> anthropicChatModel.call(prompt).getResult().getOutput().getContent())
+                .thenApply(aiResponse -> {
+                    log.info("AI 작업의뢰서 응답 수신 완료 {}", aiResponse);
 
-            log.info("AI 작업의뢰서 응답 수신 완료 {}", aiResponse);
+                    try {
+                        // JSON 응답 검증 및 정리
+                        String cleanedResponse = cleanJsonResponse(aiResponse);
+                        log.info("정리된 응답: {}", cleanedResponse);
 
-            // JSON 응답 검증 및 정리
-            String cleanedResponse = cleanJsonResponse(aiResponse);
-            log.info("정리된 응답: {}", cleanedResponse);
+                        // JSON 응답을 WorkRequestCreateRequestDto 객체로 변환
+                        WorkRequestCreateRequestDto workRequest = outputConverter.convert(cleanedResponse);
 
-            // JSON 응답을 WorkRequestCreateRequestDto 객체로 변환
-            WorkRequestCreateRequestDto workRequest = outputConverter.convert(cleanedResponse);
-            
-            log.info("AI 작업의뢰서 생성 완료 - 프로젝트명: {}", workRequest.projectTitle());
-            return workRequest;
-        } catch (Exception e) {
-            log.error("AI 작업의뢰서 생성 중 오류 발생 - 세션 ID: {}", sessionId, e);
-            throw new RuntimeException("AI 작업의뢰서 생성에 실패했습니다.", e);
-        }
+                        log.info("AI 작업의뢰서 생성 완료 - 프로젝트명: {}", workRequest.projectTitle());
+                        return workRequest;
+                    } catch (Exception e) {
+                        log.error("AI 작업의뢰서 생성 중 오류 발생 - 세션 ID: {}", sessionId, e);
+                        throw new RuntimeException("AI 작업의뢰서 생성에 실패했습니다.", e);
+                    }
+                });
     }
 
     private String createWorkRequestPromptFromProposal(AiProposalDto aiProposal) {
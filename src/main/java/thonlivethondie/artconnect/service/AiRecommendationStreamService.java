@@ -0,0 +1,226 @@
+package thonlivethondie.artconnect.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.dto.AiRecommendationResponseDto;
+import thonlivethondie.artconnect.dto.ErrorResponseDto;
+import thonlivethondie.artconnect.dto.RecommendedDesignerDto;
+import thonlivethondie.artconnect.dto.ScoredDesignerDto;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * AI 디자이너 추천을 SSE(Server-Sent Events)로 스트리밍하는 서비스 클래스
+ * <p>
+ * 이벤트 순서:
+ * 1. token: AI 응답(JSON) 텍스트 조각 (도착하는 즉시 전달)
+ * 2. designers: designDirection이 완성되는 즉시 이를 기준으로 매칭한 상위 디자이너 미리보기
+ * 3. result: 전체 제안 기준으로 매칭하고 세션을 생성한 최종 응답 ({@link AiRecommendationResponseDto})
+ * 실패하면 error 이벤트({@link ErrorResponseDto})를 전송하고 연결을 종료합니다.
+ * <p>
+ * 캐시된 제안이 있으면 AI를 호출하지 않고 result 이벤트만 전송합니다.
+ * <p>
+ * AI 응답 스트림은 HTTP 클라이언트의 이벤트 루프 스레드에서 도착하므로,
+ * 디자이너 매칭(DB 조회)과 SSE 전송은 boundedElastic 스케줄러로 옮겨 이벤트 루프를 막지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiRecommendationStreamService {
+
+    /**
+     * SSE 연결 유지 시간 (2분)
+     */
+    private static final long STREAM_TIMEOUT_MILLIS = 120_000L;
+
+    /**
+     * error 이벤트에 기록할 요청 경로
+     */
+    private static final String STREAM_PATH = "/api/ai/recommend/stream";
+
+    /**
+     * 미리보기로 보낼 디자이너 수 (초기 추천과 동일)
+     */
+    private static final int PREVIEW_DESIGNER_LIMIT = 2;
+
+    /**
+     * designDirection 키 (부분 응답에서 값이 시작될 위치를 찾는 용도)
+     */
+    private static final String DESIGN_DIRECTION_KEY = "\"designDirection\"";
+
+    /**
+     * 부분 응답에서 완성된 designDirection 값을 찾는 패턴 (닫는 따옴표까지 도착한 경우만 매칭)
+     */
+    private static final Pattern DESIGN_DIRECTION = Pattern.compile("\"designDirection\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    private final AiRecommendationService aiRecommendationService;
+    private final DesignerMatchingService designerMatchingService;
+    private final DesignerMatchingSessionService sessionService;
+
+    /**
+     * 사용자 프롬프트에 대한 디자이너 추천을 SSE로 스트리밍합니다.
+     *
+     * @param userPrompt 사용자가 입력한 디자인 요청 내용
+     * @return SSE 연결
+     */
+    public SseEmitter streamRecommendation(String userPrompt) {
+        SseEmitter emitter = createEmitter();
+
+        AiProposalDto cachedProposal = aiRecommendationService.getCachedProposal(userPrompt);
+        if (cachedProposal != null) {
+            log.info("AI 디자인 제안 캐시 적중 (스트리밍) - 디자인 방향성: {}", cachedProposal.getDesignDirection());
+            sendResult(emitter, cachedProposal);
+            return emitter;
+        }
+
+        Flux<String> tokens;
+        try {
+            tokens = aiRecommendationService.streamProposal(userPrompt);
+        } catch (ServiceUnavailableException e) {
+            sendError(emitter, e.getErrorCode());
+            return emitter;
+        }
+
+        StringBuilder aiResponse = new StringBuilder();
+        DesignDirectionScanner scanner = new DesignDirectionScanner();
+        AtomicBoolean previewSent = new AtomicBoolean();
+
+        Disposable subscription = tokens
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        token -> {
+                            aiResponse.append(token);
+                            send(emitter, "token", token);
+
+                            if (!previewSent.get()) {
+                                String designDirection = scanner.find(aiResponse);
+                                if (designDirection != null) {
+                                    previewSent.set(true);
+                                    sendPreview(emitter, designDirection);
+                                }
+                            }
+                        },
+                        error -> {
+                            log.error("AI 추천 스트리밍 중 오류 발생", error);
+                            sendError(emitter, error instanceof ServiceUnavailableException unavailable
+                                    ? unavailable.getErrorCode()
+                                    : ErrorCode.INTERNAL_SERVER_ERROR);
+                        },
+                        () -> {
+                            try {
+                                AiProposalDto proposal = aiRecommendationService.completeStreamedProposal(
+                                        userPrompt, aiResponse.toString());
+                                sendResult(emitter, proposal);
+                            } catch (Exception e) {
+                                log.error("AI 추천 스트리밍 결과 처리 중 오류 발생", e);
+                                sendError(emitter, ErrorCode.INTERNAL_SERVER_ERROR);
+                            }
+                        });
+
+        // 클라이언트 연결이 끊기거나 시간이 초과되면 AI 스트림도 중단
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+
+        return emitter;
+    }
+
+    /**
+     * 완성된 designDirection을 기준으로 디자이너를 매칭하여 미리보기를 전송합니다.
+     */
+    private void sendPreview(SseEmitter emitter, String designDirection) {
+        List<RecommendedDesignerDto> preview = designerMatchingService
+                .findScoredMatchingDesigners(new AiProposalDto(designDirection, null, null)).stream()
+                .limit(PREVIEW_DESIGNER_LIMIT)
+                .map(ScoredDesignerDto::getDesigner)
+                .collect(Collectors.toList());
+
+        log.info("디자이너 미리보기 전송 - 디자인 방향성: {}, 디자이너 수: {}", designDirection, preview.size());
+        send(emitter, "designers", preview);
+    }
+
+    /**
+     * 전체 제안을 기준으로 디자이너를 매칭하고 세션을 생성한 뒤 최종 결과를 전송하고 연결을 종료합니다.
+     */
+    private void sendResult(SseEmitter emitter, AiProposalDto proposal) {
+        List<ScoredDesignerDto> scoredDesigners = designerMatchingService.findScoredMatchingDesigners(proposal);
+        String sessionId = sessionService.createSession(proposal, scoredDesigners);
+        List<RecommendedDesignerDto> initialRecommendations = sessionService.getInitialRecommendations(sessionId);
+
+        send(emitter, "result", new AiRecommendationResponseDto(proposal, initialRecommendations, sessionId));
+        emitter.complete();
+        log.info("AI 추천 스트리밍 완료 - 세션 ID: {}", sessionId);
+    }
+
+    /**
+     * SSE 연결을 만듭니다 (테스트에서 전송한 이벤트를 확인할 수 있도록 분리).
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(STREAM_TIMEOUT_MILLIS);
+    }
+
+    private void sendError(SseEmitter emitter, ErrorCode errorCode) {
+        send(emitter, "error", ErrorResponseDto.of(errorCode, STREAM_PATH));
+        emitter.complete();
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우 (onError/onCompletion에서 스트림 정리)
+            log.debug("SSE 이벤트 전송 실패 - 이벤트: {}, 원인: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 스트리밍 중인 응답에서 완성된 designDirection 값을 찾습니다.
+     * 토큰이 도착할 때마다 응답 전체를 다시 검사하지 않도록, 키를 찾기 전에는 새로 도착한 부분만 검사하고
+     * 키를 찾은 뒤에는 키 위치부터만 패턴을 적용합니다.
+     */
+    static final class DesignDirectionScanner {
+
+        /**
+         * 키를 찾은 위치 (찾기 전에는 -1)
+         */
+        private int keyIndex = -1;
+
+        /**
+         * 키를 찾기 시작할 위치 (토큰 경계에 걸친 키를 놓치지 않도록 키 길이만큼 겹쳐서 검사)
+         */
+        private int searchFrom;
+
+        /**
+         * @param response 지금까지 도착한 응답
+         * @return 완성된 designDirection 값 (아직 완성되지 않았으면 null)
+         */
+        String find(StringBuilder response) {
+            if (keyIndex < 0) {
+                keyIndex = response.indexOf(DESIGN_DIRECTION_KEY, searchFrom);
+                if (keyIndex < 0) {
+                    searchFrom = Math.max(0, response.length() - DESIGN_DIRECTION_KEY.length() + 1);
+                    return null;
+                }
+            }
+
+            Matcher matcher = DESIGN_DIRECTION.matcher(response).region(keyIndex, response.length());
+            if (!matcher.lookingAt()) {
+                return null;
+            }
+            return matcher.group(1).replace("\\\"", "\"").replace("\\n", "\n");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package thonlivethondie.artconnect.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.cache.BoundedTtlCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 이전 버전 AccessToken → 인증 사용자 정보 캐시
+ * <p>
+ * role, userType Claim이 없는 이전 버전 토큰으로 반복 요청하면 회원 조회 없이 캐시된 사용자 정보로 인증합니다.
+ * Claim이 있는 토큰은 서명 검증만으로 사용자 정보를 만들 수 있으므로 캐시하지 않습니다
+ * (모든 요청이 캐시의 잠금을 거치면 HMAC 검증 한 번보다 비쌀 수 있음).
+ * 이전 버전 토큰이 모두 만료되면 캐시는 비어 있게 됩니다.
+ * - 키: 토큰 원문 대신 SHA-256 해시 (메모리에 토큰을 그대로 보관하지 않음)
+ * - 만료: 설정된 유지 시간과 토큰 만료 시각 중 이른 시각 (회원 정보 변경은 유지 시간 안에 반영)
+ * - 메모리: 최대 개수(LRU) 제한
+ */
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private final long ttlMillis;
+
+    /**
+     * 토큰 해시 → 사용자 정보
+     */
+    private final BoundedTtlCache<String, UserDetails> entries;
+
+    public AuthenticatedPrincipalCache(
+            @Value("${jwt.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.entries = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * 캐시된 사용자 정보를 조회합니다.
+     *
+     * @param accessToken 요청 헤더의 AccessToken
+     * @return 사용자 정보 (없거나 만료된 경우 null)
+     */
+    public UserDetails get(String accessToken) {
+        return entries.get(hash(accessToken));
+    }
+
+    /**
+     * 검증을 마친 AccessToken의 사용자 정보를 저장합니다.
+     *
+     * @param accessToken    서명과 만료 시각을 검증한 이전 버전 AccessToken
+     * @param principal      인증 사용자 정보
+     * @param tokenExpiresAt 토큰 만료 시각 (epoch milliseconds)
+     */
+    public void put(String accessToken, UserDetails principal, long tokenExpiresAt) {
+        long expiresAt = Math.min(System.currentTimeMillis() + ttlMillis, tokenExpiresAt);
+        entries.put(hash(accessToken), principal, expiresAt);
+    }
+
+    /**
+     * 캐시 통계를 반환합니다 (모니터링용).
+     */
+    public Stats getStats() {
+        BoundedTtlCache.Stats stats = entries.getStats();
+        return new Stats(stats.size(), stats.maxEntries(), stats.hitCount(), stats.missCount());
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 인증 사용자 정보 캐시 통계 (모니터링용)
+     *
+     * @param size       현재 저장된 토큰 수
+     * @param maxEntries 저장할 최대 토큰 수
+     * @param hitCount   캐시 적중 횟수 (회원 조회 생략)
+     * @param missCount  캐시 미적중 횟수
+     */
+    public record Stats(int size, int maxEntries, long hitCount, long missCount) {
+    }
+}
@@ -1,24 +1,54 @@
 package thonlivethondie.artconnect.service;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import thonlivethondie.artconnect.common.exception.BadRequestException;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.service.upload.ImageFormat;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AwsS3Service {
@@ -26,7 +56,15 @@ public class AwsS3Service {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    /**
+     * 업로드하는 객체의 Cache-Control 헤더
+     * 객체는 내용 기반 이름이나 UUID 이름으로 한 번만 쓰고 덮어쓰지 않으므로 브라우저와 CDN이 오래 캐시해도 됩니다.
+     */
+    @Value("${cloud.aws.s3.cache-control:public, max-age=31536000, immutable}")
+    private String cacheControl;
+
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     public String uploadFile(MultipartFile file) {
         List<String> urls = uploadFile(Collections.singletonList(file));
@@ -36,32 +74,337 @@ public class AwsS3Service {
         return urls.get(0); // 첫 번째 URL 반환
     }
 
+    /**
+     * 여러 파일을 동시에 업로드하고 전달된 순서대로 URL을 반환합니다.
+     * 동시 업로드 수는 TransferManager의 전송 스레드 수로 제한되며, 큰 파일은 멀티파트로 업로드됩니다.
+     * 하나라도 실패하면 진행 중인 업로드를 중단하고 이미 업로드된 객체를 삭제합니다.
+     *
+     * @param multipartFiles 업로드할 파일 목록
+     * @return 업로드된 파일 URL 목록 (입력 순서 유지)
+     */
     public List<String> uploadFile(List<MultipartFile> multipartFiles) {
-        List<String> fileUrlList = new ArrayList<>();
-
-        // forEach 구문을 통해 multipartFiles 리스트로 넘어온 파일들을 순차적으로 fileUrlList 에 추가
-        multipartFiles.forEach(file -> {
-            String fileName = createFileName(file.getOriginalFilename());
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(file.getSize());
-            objectMetadata.setContentType(file.getContentType());
-
-            try (InputStream inputStream = file.getInputStream()) {
-                amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-            } catch (IOException e) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+        List<String> fileNames = multipartFiles.stream()
+                .map(file -> createFileName(file.getOriginalFilename()))
+                .toList();
+        try {
+            return uploadFile(multipartFiles, fileNames, ObjectAccess.PUBLIC);
+        } catch (ResponseStatusException e) {
+            try {
+                deleteFiles(fileNames);
+            } catch (AmazonClientException deleteException) {
+                log.warn("업로드 실패 후 정리 중 오류 발생 - 파일 수: {}, 원인: {}", fileNames.size(), deleteException.getMessage());
             }
-            
-            // S3 URL 생성하여 추가
-            String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-            fileUrlList.add(fileUrl);
+            throw e;
+        }
+    }
 
-        });
+    /**
+     * 미리 정한 파일명(S3 키)으로 여러 파일을 동시에 업로드합니다.
+     * 업로드 전에 키를 기록해 두어야 하는 경우(내용 기반 이름, 삭제 예약 등)에 사용합니다.
+     * 실패하면 진행 중인 업로드를 중단하지만, 같은 키를 다른 요청이 사용하고 있을 수 있으므로
+     * 이미 업로드된 객체는 삭제하지 않습니다 (호출자가 미리 예약한 정리 작업이 삭제).
+     *
+     * @param multipartFiles 업로드할 파일 목록
+     * @param fileNames      파일별 S3 키 (multipartFiles와 같은 순서)
+     * @param access         공개 범위
+     * @return 업로드된 파일 URL 목록 (입력 순서 유지)
+     */
+    public List<String> uploadFile(List<MultipartFile> multipartFiles, List<String> fileNames, ObjectAccess access) {
+        List<Upload> uploads = new ArrayList<>(multipartFiles.size());
+        List<InputStream> inputStreams = new ArrayList<>(multipartFiles.size());
+
+        try {
+            // 1. 모든 파일의 업로드를 시작 (전송 스레드에서 동시에 진행)
+            for (int i = 0; i < multipartFiles.size(); i++) {
+                MultipartFile file = multipartFiles.get(i);
+                String fileName = fileNames.get(i);
+                ObjectMetadata objectMetadata = objectMetadata(file.getContentType());
+                objectMetadata.setContentLength(file.getSize());
+
+                InputStream inputStream = file.getInputStream();
+                inputStreams.add(inputStream);
+
+                uploads.add(transferManager.upload(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+                        .withCannedAcl(access.getAcl())));
+            }
+
+            // 2. 모든 업로드 완료 대기
+            for (Upload upload : uploads) {
+                upload.waitForCompletion();
+            }
+        } catch (IOException | AmazonClientException e) {
+            abort(uploads);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(uploads);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+        } finally {
+            inputStreams.forEach(this::closeQuietly);
+        }
 
+        // 3. S3 URL 생성 (네트워크 호출 없이 버킷/키로 구성)
+        List<String> fileUrlList = new ArrayList<>(fileNames.size());
+        for (String fileName : fileNames) {
+            fileUrlList.add(amazonS3.getUrl(bucket, fileName).toString());
+        }
         return fileUrlList;
     }
 
+    /**
+     * 스트림을 고정 크기 버퍼 단위로 읽어 내용 기반 이름(SHA-256 체크섬 + 내용으로 판별한 확장자)으로 S3에 업로드합니다.
+     * 크기와 체크섬은 읽으면서 계산하므로 데이터를 한 번만 읽으며, 파일 크기와 관계없이 메모리 사용량이 버퍼 하나로 고정됩니다.
+     * - 버퍼 하나보다 작은 파일: 체크섬으로 이름을 정한 뒤, 같은 내용의 객체가 이미 있으면 PUT을 생략
+     * - 큰 파일: 임시 이름으로 버퍼 크기의 파트씩 멀티파트 업로드한 뒤, 같은 내용의 객체가 없을 때만
+     *   S3 안에서 내용 기반 이름으로 복사하고 임시 객체를 삭제 (데이터를 다시 전송하지 않음)
+     * 콜백이 true를 반환한 파일명(삭제 대기 중인 객체)은 같은 이름의 객체가 있어도 다시 씁니다.
+     *
+     * @param contentType 콘텐츠 타입
+     * @param inputStream 업로드할 데이터
+     * @param buffer      전송 버퍼 (5MB 이상, 멀티파트 파트 크기)
+     * @param maxSize     허용할 최대 크기 (byte)
+     * @param access      공개 범위
+     * @param beforeWrite S3에 객체를 쓰기 전에 그 파일명을 전달받는 콜백 (정리 예약용, 임시 객체 포함),
+     *                    기존 객체를 재사용하면 안 되는 경우 true 반환
+     * @return 업로드 결과
+     * @throws BadRequestException 최대 크기를 넘은 경우 (FILE_SIZE_EXCEEDED)
+     */
+    public StreamedObject uploadStream(String contentType, InputStream inputStream, byte[] buffer, long maxSize,
+                                       ObjectAccess access, Predicate<String> beforeWrite) throws IOException {
+        MessageDigest digest = sha256();
+        int filled = readChunk(inputStream, buffer, digest);
+        long size = filled;
+        String extension = ImageFormat.extensionOf(buffer, filled);
+
+        if (filled < buffer.length) {
+            // 버퍼 하나에 모두 들어간 경우 체크섬을 먼저 구해 중복이면 업로드 생략
+            checkSize(size, maxSize);
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            String fileName = access.fileNameOf(checksum + extension);
+            boolean reused = !beforeWrite.test(fileName) && exists(fileName);
+            if (!reused) {
+                ObjectMetadata objectMetadata = objectMetadata(contentType);
+                objectMetadata.setContentLength(filled);
+                amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(buffer, 0, filled), objectMetadata)
+                        .withCannedAcl(access.getAcl()));
+            }
+            return new StreamedObject(fileName, getFileUrl(fileName), size, checksum, reused);
+        }
+
+        String tempFileName = access.fileNameOf(UUID.randomUUID().toString());
+        beforeWrite.test(tempFileName);
+
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, tempFileName, objectMetadata(contentType))
+                .withCannedACL(access.getAcl())).getUploadId();
+
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            int partNumber = 1;
+            while (filled > 0) {
+                checkSize(size, maxSize);
+                partETags.add(amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(tempFileName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, filled))
+                        .withPartSize(filled)).getPartETag());
+
+                filled = readChunk(inputStream, buffer, digest);
+                size += filled;
+            }
+
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, tempFileName, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, tempFileName, uploadId));
+            throw e;
+        }
+
+        // 임시 객체를 내용 기반 이름으로 옮김 (같은 내용의 객체가 있으면 복사 생략, 메타데이터는 그대로 복사)
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        String fileName = access.fileNameOf(checksum + extension);
+        boolean reused = !beforeWrite.test(fileName) && exists(fileName);
+        if (!reused) {
+            amazonS3.copyObject(new CopyObjectRequest(bucket, tempFileName, bucket, fileName)
+                    .withCannedAccessControlList(access.getAcl()));
+        }
+        try {
+            deleteFile(tempFileName);
+        } catch (AmazonClientException e) {
+            log.debug("임시 업로드 객체 삭제 실패 (정리 작업에서 삭제) - 파일명: {}, 원인: {}", tempFileName, e.getMessage());
+        }
+
+        return new StreamedObject(fileName, getFileUrl(fileName), size, checksum, reused);
+    }
+
+    /**
+     * S3에 객체가 있는지 확인합니다 (HEAD 요청).
+     */
+    public boolean exists(String fileName) {
+        return findObjectMetadata(fileName) != null;
+    }
+
+    /**
+     * 작은 데이터(축소 이미지 등)를 한 번의 PUT으로 업로드합니다.
+     *
+     * @param fileName    S3 키
+     * @param contentType 콘텐츠 타입
+     * @param data        업로드할 데이터
+     * @param access      공개 범위
+     * @return 업로드된 파일 URL
+     */
+    public String uploadBytes(String fileName, String contentType, byte[] data, ObjectAccess access) {
+        ObjectMetadata objectMetadata = objectMetadata(contentType);
+        objectMetadata.setContentLength(data.length);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(data), objectMetadata)
+                .withCannedAcl(access.getAcl()));
+        return getFileUrl(fileName);
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 수 있는 presigned PUT URL을 생성합니다 (네트워크 호출 없음).
+     * 서명에 콘텐츠 타입, 크기(Content-Length), 공개 범위 권한(ACL), Cache-Control이 포함되므로
+     * 클라이언트는 {@link #directUploadHeaders(String, long, ObjectAccess)}의 헤더를 그대로 보내야 하며,
+     * 발급받을 때 알린 크기와 다른 파일이나 다른 권한으로 올린 파일은 S3가 서명 불일치로 거부합니다.
+     * 비공개 URL로 올린 객체는 처음부터 비공개이므로 완료 요청 전에도 공개되지 않습니다.
+     *
+     * @param fileName      S3 키
+     * @param contentType   업로드할 파일의 콘텐츠 타입
+     * @param contentLength 업로드할 파일의 크기 (byte)
+     * @param access        공개 범위
+     * @param expiration    URL 만료 시각
+     * @return presigned PUT URL
+     */
+    public String generateUploadUrl(String fileName, String contentType, long contentLength, ObjectAccess access,
+                                    Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, fileName, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        directUploadHeaders(contentType, contentLength, access).forEach((name, value) -> {
+            if (!name.equals(Headers.CONTENT_TYPE)) {
+                request.putCustomRequestHeader(name, value);
+            }
+        });
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    /**
+     * presigned PUT URL로 업로드할 때 함께 보내야 하는 헤더를 반환합니다.
+     * Content-Length는 HTTP 클라이언트가 본문 크기로 설정하므로 브라우저에서는 따로 지정하지 않아도 됩니다.
+     */
+    public Map<String, String> directUploadHeaders(String contentType, long contentLength, ObjectAccess access) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(Headers.CONTENT_TYPE, contentType);
+        headers.put(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        headers.put(Headers.S3_CANNED_ACL, access.getAcl().toString());
+        if (cacheControl != null && !cacheControl.isBlank()) {
+            headers.put(Headers.CACHE_CONTROL, cacheControl);
+        }
+        return headers;
+    }
+
+    /**
+     * 비공개 객체를 읽을 수 있는 presigned GET URL을 생성합니다 (네트워크 호출 없음).
+     *
+     * @param fileName   S3 키
+     * @param expiration URL 만료 시각
+     * @return presigned GET URL
+     */
+    public String generateDownloadUrl(String fileName, Date expiration) {
+        return amazonS3.generatePresignedUrl(bucket, fileName, expiration, HttpMethod.GET).toString();
+    }
+
+    /**
+     * 업로드된 파일의 메타데이터를 조회합니다 (HEAD 요청).
+     *
+     * @param fileName S3 키
+     * @return 메타데이터 (파일이 없으면 null)
+     */
+    public ObjectMetadata findObjectMetadata(String fileName) {
+        try {
+            return amazonS3.getObjectMetadata(bucket, fileName);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드된 파일을 읽는 스트림을 엽니다. 사용 후 반드시 닫아야 합니다.
+     *
+     * @param fileName S3 키
+     * @return 파일 내용 스트림
+     */
+    public InputStream openFile(String fileName) {
+        return amazonS3.getObject(bucket, fileName).getObjectContent();
+    }
+
+    /**
+     * 파일명(S3 키)으로 URL을 만듭니다 (네트워크 호출 없음).
+     */
+    public String getFileUrl(String fileName) {
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
+    /**
+     * 업로드할 객체의 공통 메타데이터 (콘텐츠 타입, Cache-Control)
+     */
+    private ObjectMetadata objectMetadata(String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        if (cacheControl != null && !cacheControl.isBlank()) {
+            objectMetadata.setCacheControl(cacheControl);
+        }
+        return objectMetadata;
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽습니다.
+     *
+     * @return 읽은 바이트 수 (스트림이 끝났으면 0)
+     */
+    private int readChunk(InputStream inputStream, byte[] buffer, MessageDigest digest) throws IOException {
+        int filled = inputStream.readNBytes(buffer, 0, buffer.length);
+        digest.update(buffer, 0, filled);
+        return filled;
+    }
+
+    private void checkSize(long size, long maxSize) {
+        if (size > maxSize) {
+            throw new BadRequestException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 진행 중인 업로드를 중단합니다.
+     */
+    private void abort(List<Upload> uploads) {
+        for (Upload upload : uploads) {
+            if (!upload.isDone()) {
+                upload.abort();
+            }
+        }
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("업로드 스트림 종료 실패: {}", e.getMessage());
+        }
+    }
+
     // 파일명을 난수화하기 위해 UUID 를 활용하여 난수를 돌린다.
     public String createFileName(String fileName) {
         return UUID.randomUUID().toString().concat(getFileExtension(fileName));
@@ -77,8 +420,51 @@ public class AwsS3Service {
     }
 
 
+    /**
+     * 여러 파일을 한 번의 요청으로 삭제합니다 (요청당 최대 1000개).
+     *
+     * @param fileNames 삭제할 파일명(S3 키) 목록
+     */
+    public void deleteFiles(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                .withKeys(fileNames.toArray(String[]::new))
+                .withQuiet(true));
+    }
+
+    /**
+     * 여러 파일을 한 번의 요청으로 삭제하고, 삭제하지 못한 파일명을 반환합니다 (요청당 최대 1000개).
+     *
+     * @param fileNames 삭제할 파일명(S3 키) 목록
+     * @return 삭제에 실패한 파일명 (모두 삭제되면 비어 있음)
+     * @throws AmazonClientException 요청 자체가 실패한 경우
+     */
+    public Set<String> deleteFilesAndGetFailures(List<String> fileNames) {
+        try {
+            deleteFiles(fileNames);
+            return Set.of();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toSet());
+        }
+    }
+
     public void deleteFile(String fileName) {
         amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
-        System.out.println(bucket);
+    }
+
+    /**
+     * 스트리밍 업로드 결과
+     *
+     * @param fileName S3 키 (내용 기반 이름, 체크섬 + 확장자)
+     * @param url      S3 URL
+     * @param size     파일 크기
+     * @param checksum SHA-256 체크섬 (16진수)
+     * @param reused   같은 내용의 객체가 이미 있어 업로드를 생략했는지 여부
+     */
+    public record StreamedObject(String fileName, String url, long size, String checksum, boolean reused) {
     }
 }
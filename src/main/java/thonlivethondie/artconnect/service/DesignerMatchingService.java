@@ -4,14 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import thonlivethondie.artconnect.common.DesignCategory;
-import thonlivethondie.artconnect.common.DesignStyle;
 import thonlivethondie.artconnect.dto.*;
-import thonlivethondie.artconnect.entity.Portfolio;
-import thonlivethondie.artconnect.entity.PortfolioDesignCategory;
-import thonlivethondie.artconnect.entity.PortfolioImage;
 import thonlivethondie.artconnect.entity.User;
-import thonlivethondie.artconnect.repository.PortfolioRepository;
+import thonlivethondie.artconnect.repository.PortfolioImageRepository;
+import thonlivethondie.artconnect.repository.UserRepository;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -22,7 +18,25 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class DesignerMatchingService {
 
-    private final PortfolioRepository portfolioRepository;
+    /**
+     * 키워드 검색으로 가져올 최대 후보 디자이너 수
+     */
+    private static final int MAX_CANDIDATES = 50;
+
+    /**
+     * 점수 기반 매칭에서 반환할 최대 디자이너 수
+     */
+    private static final int TOP_DESIGNER_LIMIT = 10;
+
+    /**
+     * 디자이너별 미리보기 포트폴리오 이미지 수
+     */
+    private static final int PREVIEW_IMAGE_LIMIT = 2;
+
+    private final PortfolioImageRepository portfolioImageRepository;
+    private final UserRepository userRepository;
+    private final DesignerSearchIndex designerSearchIndex;
+    private final KeywordAnalyzer keywordAnalyzer;
 
     /**
      * AI의 제안을 기반으로 적합한 디자이너를 찾습니다.
@@ -38,8 +52,8 @@ public class DesignerMatchingService {
         List<String> keywords = extractKeywords(proposal);
         log.info("추출된 키워드: {}", keywords);
 
-        // 2. 한국어 키워드를 영어 키워드로 변환 (매핑)
-        List<String> mappedKeywords = mapKoreanToEnglishKeywords(keywords);
+        // 2. 제안에 등장하는 디자인 카테고리/스타일을 영어 키워드로 변환 (매핑)
+        List<String> mappedKeywords = mapToDesignKeywords(proposal);
         log.info("매핑된 키워드: {}", mappedKeywords);
 
         // 3. 원본 키워드와 매핑된 키워드를 합쳐서 검색
@@ -48,8 +62,8 @@ public class DesignerMatchingService {
                 .collect(Collectors.toList());
         log.info("최종 검색 키워드: {}", allKeywords);
 
-        // 4. 키워드를 사용하여 디자이너 검색
-        List<User> matchingDesigners = portfolioRepository.findDesignersByKeywords(allKeywords);
+        // 4. 키워드를 사용하여 디자이너 검색 (메모리 인덱스)
+        List<User> matchingDesigners = findDesignersByIds(designerSearchIndex.search(allKeywords, MAX_CANDIDATES));
         log.info("매칭된 디자이너 수: {}", matchingDesigners.size());
 
         // 5. User 엔티티를 RecommendedDesignerDto로 변환
@@ -74,8 +88,8 @@ public class DesignerMatchingService {
         List<String> keywords = extractKeywords(proposal);
         log.info("추출된 키워드: {}", keywords);
 
-        // 2. 한국어 키워드를 영어 키워드로 변환 (매핑)
-        List<String> mappedKeywords = mapKoreanToEnglishKeywords(keywords);
+        // 2. 제안에 등장하는 디자인 카테고리/스타일을 영어 키워드로 변환 (매핑)
+        List<String> mappedKeywords = mapToDesignKeywords(proposal);
         log.info("매핑된 키워드: {}", mappedKeywords);
 
         // 3. 원본 키워드와 매핑된 키워드를 합쳐서 검색
@@ -84,75 +98,79 @@ public class DesignerMatchingService {
                 .collect(Collectors.toList());
         log.info("최종 검색 키워드: {}", allKeywords);
 
-        // 4. 키워드를 사용하여 디자이너 검색
-        List<User> matchingDesigners = portfolioRepository.findDesignersByKeywords(allKeywords);
-        log.info("매칭된 디자이너 수: {}", matchingDesigners.size());
+        // 4. 키워드를 사용하여 디자이너 검색 (메모리 인덱스)
+        List<Long> matchingDesignerIds = designerSearchIndex.search(allKeywords, MAX_CANDIDATES);
+        log.info("매칭된 디자이너 수: {}", matchingDesignerIds.size());
 
-        // 5. 각 디자이너에 대해 키워드 매칭 점수 계산
-        List<ScoredDesignerDto> scoredDesigners = calculateMatchingScores(matchingDesigners, allKeywords);
+        // 5. 각 디자이너에 대해 키워드 매칭 점수 계산 (미리 계산된 특징 정보 사용)
+        List<DesignerScore> designerScores = calculateMatchingScores(matchingDesignerIds, allKeywords);
 
         // 6. 점수순으로 정렬하고 상위 10명만 선택
-        List<ScoredDesignerDto> topDesigners = scoredDesigners.stream()
-                .sorted((a, b) -> Integer.compare(b.getMatchingScore(), a.getMatchingScore()))
-                .limit(10)
+        List<DesignerScore> topScores = designerScores.stream()
+                .sorted(Comparator.comparingInt(DesignerScore::score).reversed())
+                .limit(TOP_DESIGNER_LIMIT)
                 .collect(Collectors.toList());
 
+        // 7. 상위 디자이너에 대해서만 DTO 생성 (포트폴리오 이미지는 일괄 조회)
+        List<ScoredDesignerDto> topDesigners = convertToScoredDesignerDto(topScores);
+
         log.info("점수 기반 디자이너 매칭 완료 - 상위 디자이너 수: {}", topDesigners.size());
         return topDesigners;
     }
 
     /**
-     * 한국어 키워드를 영어 키워드로 매핑합니다.
-     * DesignStyle과 DesignCategory enum의 description을 name으로 변환합니다.
+     * 디자이너 ID 목록으로 추천 디자이너 DTO를 생성합니다.
+     * 세션에 저장된 디자이너 ID를 응답 DTO로 변환할 때 사용하며, 전달된 ID 순서를 유지합니다.
      *
-     * @param keywords 원본 키워드 목록
-     * @return 매핑된 영어 키워드 목록
+     * @param designerIds 디자이너 ID 목록
+     * @return 추천된 디자이너 목록
      */
-    private List<String> mapKoreanToEnglishKeywords(List<String> keywords) {
-        if (keywords == null || keywords.isEmpty()) {
-            return List.of();
-        }
-
-        return keywords.stream()
-                .flatMap(keyword -> {
-                    String trimmedKeyword = keyword.trim();
-                    return Stream.of(
-                            mapDesignStyleKeyword(trimmedKeyword),
-                            mapDesignCategoryKeyword(trimmedKeyword)
-                    ).filter(mapped -> !mapped.isEmpty());
-                })
-                .distinct()
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<RecommendedDesignerDto> findRecommendedDesigners(List<Long> designerIds) {
+        return convertToRecommendedDesignerDto(findDesignersByIds(designerIds));
     }
 
     /**
-     * 한국어 키워드를 DesignStyle enum name으로 매핑합니다.
+     * 디자이너들을 ID로 일괄 조회합니다.
+     * 전달된 ID 순서를 유지하며, 존재하지 않는 디자이너는 제외합니다.
      *
-     * @param keyword 한국어 키워드
-     * @return 매핑된 영어 키워드 (소문자)
+     * @param designerIds 조회할 디자이너 ID 목록
+     * @return 디자이너 목록
      */
-    private String mapDesignStyleKeyword(String keyword) {
-        for (DesignStyle style : DesignStyle.values()) {
-            if (style.getDescription().contains(keyword) || keyword.contains(style.getDescription())) {
-                return style.name().toLowerCase();
-            }
+    private List<User> findDesignersByIds(List<Long> designerIds) {
+        if (designerIds.isEmpty()) {
+            return List.of();
         }
-        return "";
+
+        Map<Long, User> designersById = userRepository.findAllById(designerIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+
+        return designerIds.stream()
+                .map(designersById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
-     * 한국어 키워드를 DesignCategory enum name으로 매핑합니다.
+     * AI 제안에 등장하는 디자인 카테고리/스타일 용어를 enum name 키워드로 매핑합니다.
+     * 제안 전체 텍스트를 용어 사전으로 한 번만 순회합니다.
      *
-     * @param keyword 한국어 키워드
-     * @return 매핑된 영어 키워드 (소문자)
+     * @param proposal AI 제안 DTO
+     * @return 매핑된 영어 키워드 목록 (예: logo, cute)
      */
-    private String mapDesignCategoryKeyword(String keyword) {
-        for (DesignCategory category : DesignCategory.values()) {
-            if (category.getDescription().contains(keyword) || keyword.contains(category.getDescription())) {
-                return category.name().toLowerCase();
-            }
+    private List<String> mapToDesignKeywords(AiProposalDto proposal) {
+        if (proposal == null) {
+            return List.of();
         }
-        return "";
+
+        String proposalText = Stream.of(
+                        proposal.getDesignDirection(),
+                        proposal.getTargetCustomer(),
+                        proposal.getRequiredDesigns())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("\n"));
+
+        return keywordAnalyzer.findDesignTerms(proposalText).toKeywords();
     }
 
     /**
@@ -168,9 +186,9 @@ public class DesignerMatchingService {
         }
 
         return Stream.of(
-                        extractKeywordsFromText(proposal.getDesignDirection()),
-                        extractKeywordsFromText(proposal.getTargetCustomer()),
-                        extractKeywordsFromText(proposal.getRequiredDesigns())
+                        keywordAnalyzer.extractKeywords(proposal.getDesignDirection()),
+                        keywordAnalyzer.extractKeywords(proposal.getTargetCustomer()),
+                        keywordAnalyzer.extractKeywords(proposal.getRequiredDesigns())
                 )
                 .flatMap(List::stream)
                 .distinct()
@@ -178,82 +196,49 @@ public class DesignerMatchingService {
     }
 
     /**
-     * 텍스트에서 키워드를 추출합니다.
-     * 쉼표, 공백을 기준으로 분리하되, 의미있는 복합어는 보존합니다.
+     * User 엔티티 목록을 RecommendedDesignerDto 목록으로 변환합니다.
+     * 포트폴리오 이미지는 전체 디자이너에 대해 한 번의 쿼리로 조회합니다.
      *
-     * @param text 키워드를 추출할 텍스트
-     * @return 추출된 키워드 목록
+     * @param users 변환할 User 엔티티 목록
+     * @return 변환된 RecommendedDesignerDto 목록
      */
-    private List<String> extractKeywordsFromText(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return List.of();
-        }
+    private List<RecommendedDesignerDto> convertToRecommendedDesignerDto(List<User> users) {
+        Map<Long, List<PortfolioImageSimpleDto>> portfolioImages = getPortfolioImages(
+                users.stream().map(User::getId).collect(Collectors.toList()));
 
-        // 먼저 쉼표와 큰 단위로 분리
-        return Arrays.stream(text.split("[,]+"))
-                .map(String::trim)
-                .filter(phrase -> !phrase.isEmpty())
-                .flatMap(phrase -> {
-                    // 각 구문을 더 세밀하게 분리하되, 복합어는 보존
-                    return Arrays.stream(phrase.split("[\\s\\-/&()]+"))
-                            .map(String::trim)
-                            .filter(keyword -> !keyword.isEmpty() && keyword.length() >= 2)
-                            .filter(this::isValidKeyword);
-                })
-                .distinct()
+        return users.stream()
+                .map(user -> convertToRecommendedDesignerDto(user,
+                        portfolioImages.getOrDefault(user.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 키워드가 유효한지 검증합니다.
-     * 의미없는 단어들을 필터링합니다.
-     *
-     * @param keyword 검증할 키워드
-     * @return 유효한 키워드인 경우 true
-     */
-    private boolean isValidKeyword(String keyword) {
-        // 불용어 목록 (의미없는 단어들)
-        String[] stopWords = {
-                "그리고", "하고", "또는", "등", "같은", "느낌", "스타일", "디자인",
-                "위한", "대한", "있는", "하는", "되는", "것", "수", "를", "을", "이", "가", "의", "에", "로", "으로"
-        };
-
-        String lowerKeyword = keyword.toLowerCase();
-
-        // 불용어 체크
-        for (String stopWord : stopWords) {
-            if (lowerKeyword.equals(stopWord)) {
-                return false;
-            }
-        }
-
-        // 숫자만 있는 키워드 제외
-        if (keyword.matches("\\d+")) {
-            return false;
-        }
-
-        return true;
-    }
-
-    /**
-     * User 엔티티 목록을 RecommendedDesignerDto 목록으로 변환합니다.
+     * 점수가 계산된 디자이너 목록을 ScoredDesignerDto 목록으로 변환합니다.
      *
-     * @param users 변환할 User 엔티티 목록
-     * @return 변환된 RecommendedDesignerDto 목록
+     * @param designerScores 점수가 계산된 디자이너 목록
+     * @return 변환된 ScoredDesignerDto 목록 (입력 순서 유지)
      */
-    private List<RecommendedDesignerDto> convertToRecommendedDesignerDto(List<User> users) {
-        return users.stream()
-                .map(this::convertToRecommendedDesignerDto)
+    private List<ScoredDesignerDto> convertToScoredDesignerDto(List<DesignerScore> designerScores) {
+        List<User> designers = findDesignersByIds(
+                designerScores.stream().map(DesignerScore::designerId).collect(Collectors.toList()));
+        Map<Long, RecommendedDesignerDto> designerDtos = convertToRecommendedDesignerDto(designers).stream()
+                .collect(Collectors.toMap(RecommendedDesignerDto::getUserId, dto -> dto));
+
+        return designerScores.stream()
+                .filter(designerScore -> designerDtos.containsKey(designerScore.designerId()))
+                .map(designerScore -> new ScoredDesignerDto(designerDtos.get(designerScore.designerId()),
+                        designerScore.score(), designerScore.matchedKeywords()))
                 .collect(Collectors.toList());
     }
 
     /**
      * User 엔티티를 RecommendedDesignerDto로 변환합니다.
      *
-     * @param user 변환할 User 엔티티
+     * @param user            변환할 User 엔티티
+     * @param portfolioImages 디자이너의 미리보기 포트폴리오 이미지 목록
      * @return 변환된 RecommendedDesignerDto
      */
-    private RecommendedDesignerDto convertToRecommendedDesignerDto(User user) {
+    private RecommendedDesignerDto convertToRecommendedDesignerDto(User user, List<PortfolioImageSimpleDto> portfolioImages) {
         RecommendedDesignerDto dto = new RecommendedDesignerDto();
         dto.setUserId(user.getId());
         dto.setNickname(user.getNickname());
@@ -268,174 +253,139 @@ public class DesignerMatchingService {
         // 프로필 이미지 URL 설정
         dto.setProfileImageUrl(user.getImageUrl());
         
-        // 포트폴리오 이미지 최대 2개 가져오기
-        List<PortfolioImageSimpleDto> portfolioImages = getPortfolioImages(user.getId());
+        // 포트폴리오 이미지 최대 2개 설정
         dto.setPortfolioImageUrl(portfolioImages);
 
         return dto;
     }
 
     /**
-     * 디자이너의 포트폴리오 이미지를 최대 2개까지 가져옵니다.
+     * 여러 디자이너의 포트폴리오 이미지를 디자이너별로 최대 2개까지 한 번에 가져옵니다.
      * 썸네일 이미지를 우선적으로 선택하고, 없으면 일반 이미지를 선택합니다.
      *
-     * @param userId 디자이너의 사용자 ID
-     * @return 포트폴리오 이미지 DTO 목록 (최대 2개)
+     * @param userIds 디자이너의 사용자 ID 목록
+     * @return 디자이너 ID별 포트폴리오 이미지 DTO 목록 (최대 2개)
      */
-    private List<PortfolioImageSimpleDto> getPortfolioImages(Long userId) {
-        try {
-            // 해당 디자이너의 포트폴리오 목록 조회
-            List<Portfolio> portfolios = portfolioRepository.findByDesignerId(userId);
-            
-            if (portfolios.isEmpty()) {
-                return List.of();
-            }
-
-            // 모든 포트폴리오에서 이미지 수집
-            List<PortfolioImage> allImages = portfolios.stream()
-                    .flatMap(portfolio -> portfolio.getPortfolioImages().stream())
-                    .collect(Collectors.toList());
-
-            if (allImages.isEmpty()) {
-                return List.of();
-            }
-
-            // 썸네일 이미지 우선 선택
-            List<PortfolioImage> thumbnailImages = allImages.stream()
-                    .filter(image -> Boolean.TRUE.equals(image.getIsThumbnail()))
-                    .limit(2)
-                    .collect(Collectors.toList());
-
-            // 썸네일이 2개 미만이면 일반 이미지로 보충
-            if (thumbnailImages.size() < 2) {
-                List<PortfolioImage> nonThumbnailImages = allImages.stream()
-                        .filter(image -> !Boolean.TRUE.equals(image.getIsThumbnail()))
-                        .limit(2 - thumbnailImages.size())
-                        .collect(Collectors.toList());
-                
-                thumbnailImages.addAll(nonThumbnailImages);
-            }
+    private Map<Long, List<PortfolioImageSimpleDto>> getPortfolioImages(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
 
-            // PortfolioImage 엔티티를 PortfolioImageSimpleDto로 변환
-            return thumbnailImages.stream()
-                    .map(this::convertToPortfolioImageSimpleDto)
-                    .collect(Collectors.toList());
+        try {
+            return portfolioImageRepository.findPreviewImagesByDesignerIds(userIds, PREVIEW_IMAGE_LIMIT).stream()
+                    .collect(Collectors.groupingBy(
+                            PortfolioPreviewImageDto::getDesignerId,
+                            Collectors.mapping(this::convertToPortfolioImageSimpleDto, Collectors.toList())));
         } catch (Exception e) {
-            log.warn("포트폴리오 이미지 조회 중 오류 발생 (userId: {}): {}", userId, e.getMessage());
-            return List.of();
+            log.warn("포트폴리오 이미지 조회 중 오류 발생 (userIds: {}): {}", userIds, e.getMessage());
+            return Map.of();
         }
     }
 
     /**
-     * PortfolioImage 엔티티를 PortfolioImageSimpleDto로 변환합니다.
+     * 포트폴리오 미리보기 이미지 조회 결과를 PortfolioImageSimpleDto로 변환합니다.
      * 순환 참조를 방지하기 위해 필요한 정보만 추출합니다.
      *
-     * @param portfolioImage 변환할 PortfolioImage 엔티티
+     * @param previewImage 변환할 미리보기 이미지 조회 결과
      * @return 변환된 PortfolioImageSimpleDto
      */
-    private PortfolioImageSimpleDto convertToPortfolioImageSimpleDto(PortfolioImage portfolioImage) {
+    private PortfolioImageSimpleDto convertToPortfolioImageSimpleDto(PortfolioPreviewImageDto previewImage) {
         PortfolioImageSimpleDto dto = new PortfolioImageSimpleDto();
-        dto.setId(portfolioImage.getId());
-        dto.setImageUrl(portfolioImage.getImageUrl());
-        dto.setImageName(portfolioImage.getImageName());
-        dto.setIsThumbnail(portfolioImage.getIsThumbnail());
+        dto.setId(previewImage.getId());
+        // 목록 카드에 표시되므로 가장 작은 축소 이미지를 사용 (없으면 원본)
+        dto.setImageUrl(Stream.of(previewImage.getThumbnailUrl(), previewImage.getMediumUrl(), previewImage.getImageUrl())
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null));
+        dto.setImageName(previewImage.getImageName());
+        dto.setIsThumbnail(previewImage.getIsThumbnail());
         
         return dto;
     }
 
     /**
      * 디자이너 목록에 대해 키워드 매칭 점수를 계산합니다.
+     * 키워드별 카테고리/스타일 비트마스크는 요청당 한 번만 계산합니다.
      *
-     * @param designers 점수를 계산할 디자이너 목록
+     * @param designerIds 점수를 계산할 디자이너 ID 목록
      * @param keywords 매칭에 사용할 키워드 목록
      * @return 점수가 계산된 디자이너 목록
      */
-    private List<ScoredDesignerDto> calculateMatchingScores(List<User> designers, List<String> keywords) {
-        return designers.stream()
-                .map(designer -> calculateDesignerScore(designer, keywords))
+    private List<DesignerScore> calculateMatchingScores(List<Long> designerIds, List<String> keywords) {
+        List<KeywordFeature> keywordFeatures = keywords.stream()
+                .map(keyword -> KeywordFeature.of(keyword, keywordAnalyzer))
                 .collect(Collectors.toList());
+
+        List<DesignerScore> designerScores = new ArrayList<>(designerIds.size());
+        for (Long designerId : designerIds) {
+            DesignerProfile profile = designerSearchIndex.getProfile(designerId);
+            if (profile != null) {
+                designerScores.add(calculateDesignerScore(profile, keywordFeatures));
+            }
+        }
+        return designerScores;
     }
 
     /**
      * 개별 디자이너에 대해 키워드 매칭 점수를 계산합니다.
+     * 전문분야/스타일/포트폴리오 카테고리는 비트마스크 AND 연산으로,
+     * 포트폴리오 제목/설명은 정렬된 토큰 배열의 이진 탐색으로 매칭합니다.
      *
-     * @param designer 점수를 계산할 디자이너
-     * @param keywords 매칭에 사용할 키워드 목록
-     * @return 점수가 계산된 디자이너 DTO
+     * @param profile 점수를 계산할 디자이너의 특징 정보
+     * @param keywordFeatures 매칭에 사용할 키워드 특징 목록
+     * @return 점수가 계산된 디자이너
      */
-    private ScoredDesignerDto calculateDesignerScore(User designer, List<String> keywords) {
+    private DesignerScore calculateDesignerScore(DesignerProfile profile, List<KeywordFeature> keywordFeatures) {
         int totalScore = 0;
         List<String> matchedKeywords = new ArrayList<>();
 
-        for (String keyword : keywords) {
-            String lowerKeyword = keyword.toLowerCase();
+        for (KeywordFeature keyword : keywordFeatures) {
             int keywordScore = 0;
 
             // 1. 전문분야 매칭 (가중치: 2)
-            if (designer.getSelectedSpecialities() != null) {
-                for (DesignCategory category : designer.getSelectedSpecialities()) {
-                    if (category.name().toLowerCase().contains(lowerKeyword) || 
-                        category.getDescription().toLowerCase().contains(lowerKeyword)) {
-                        keywordScore += 2;
-                        break;
-                    }
-                }
+            if ((profile.specialityMask() & keyword.categoryMask()) != 0) {
+                keywordScore += 2;
             }
 
             // 2. 디자인 스타일 매칭 (가중치: 3)
-            if (designer.getSelectedDesignStyles() != null) {
-                for (DesignStyle style : designer.getSelectedDesignStyles()) {
-                    if (style.name().toLowerCase().contains(lowerKeyword) || 
-                        style.getDescription().toLowerCase().contains(lowerKeyword)) {
-                        keywordScore += 3;
-                        break;
-                    }
-                }
+            if ((profile.styleMask() & keyword.styleMask()) != 0) {
+                keywordScore += 3;
             }
 
-            // 3. 포트폴리오 매칭 (가중치: 1)
-            if (designer.getPortfolios() != null) {
-                for (Portfolio portfolio : designer.getPortfolios()) {
-                    boolean portfolioMatched = false;
-
-                    // 포트폴리오 제목 매칭
-                    if (portfolio.getTitle() != null && 
-                        portfolio.getTitle().toLowerCase().contains(lowerKeyword)) {
-                        keywordScore += 1;
-                        portfolioMatched = true;
-                    }
-
-                    // 포트폴리오 설명 매칭
-                    if (!portfolioMatched && portfolio.getDescription() != null && 
-                        portfolio.getDescription().toLowerCase().contains(lowerKeyword)) {
-                        keywordScore += 1;
-                        portfolioMatched = true;
-                    }
-
-                    // 포트폴리오 디자인 카테고리 매칭
-                    if (!portfolioMatched && portfolio.getDesignCategories() != null) {
-                        for (PortfolioDesignCategory portfolioDesignCategory : portfolio.getDesignCategories()) {
-                            DesignCategory category = portfolioDesignCategory.getDesignCategory();
-                            if (category.name().toLowerCase().contains(lowerKeyword) || 
-                                category.getDescription().toLowerCase().contains(lowerKeyword)) {
-                                keywordScore += 1;
-                                break;
-                            }
-                        }
-                    }
+            // 3. 포트폴리오 매칭 (가중치: 1, 포트폴리오당 1회)
+            for (DesignerProfile.PortfolioFeature portfolio : profile.portfolios()) {
+                if ((portfolio.categoryMask() & keyword.categoryMask()) != 0
+                        || portfolio.hasTokenStartingWith(keyword.normalized())) {
+                    keywordScore += 1;
                 }
             }
 
             if (keywordScore > 0) {
                 totalScore += keywordScore;
-                matchedKeywords.add(keyword);
+                matchedKeywords.add(keyword.keyword());
             }
         }
 
-        // RecommendedDesignerDto 생성
-        RecommendedDesignerDto designerDto = convertToRecommendedDesignerDto(designer);
+        // DTO는 상위 디자이너 선택 후에만 생성
+        return new DesignerScore(profile.designerId(), totalScore, matchedKeywords);
+    }
+
+    /**
+     * 정렬 전 디자이너별 매칭 점수 (DTO 생성 전 중간 결과)
+     */
+    private record DesignerScore(Long designerId, int score, List<String> matchedKeywords) {
+    }
 
-        // ScoredDesignerDto 생성
-        return new ScoredDesignerDto(designerDto, totalScore, matchedKeywords);
+    /**
+     * 키워드 하나에 대한 매칭 정보
+     * 키워드에 등장하는 카테고리/스타일의 비트마스크를 용어 사전으로 미리 계산해 둡니다.
+     */
+    private record KeywordFeature(String keyword, String normalized, int categoryMask, int styleMask) {
+
+        static KeywordFeature of(String keyword, KeywordAnalyzer keywordAnalyzer) {
+            String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+            KeywordAnalyzer.DesignTerms designTerms = keywordAnalyzer.findDesignTerms(normalized);
+            return new KeywordFeature(keyword, normalized, designTerms.categoryMask(), designTerms.styleMask());
+        }
     }
 }
@@ -0,0 +1,63 @@
+package thonlivethondie.artconnect.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 디자이너 매칭 점수 계산을 위해 미리 계산해 둔 디자이너 특징 정보
+ * 전문분야와 디자인 스타일은 enum ordinal 기반 비트마스크로,
+ * 포트폴리오는 카테고리 비트마스크와 정규화(소문자)된 토큰 배열로 보관합니다.
+ * <p>
+ * DesignCategory(7개)와 DesignStyle(15개)은 모두 int 비트마스크 하나에 들어갑니다.
+ *
+ * @param designerId     디자이너의 사용자 ID
+ * @param specialityMask 전문분야(DesignCategory) 비트마스크
+ * @param styleMask      디자인 스타일(DesignStyle) 비트마스크
+ * @param portfolios     포트폴리오별 특징 정보
+ */
+public record DesignerProfile(Long designerId,
+                              int specialityMask,
+                              int styleMask,
+                              List<PortfolioFeature> portfolios) {
+
+    /**
+     * enum 값 목록을 ordinal 기반 비트마스크로 변환합니다.
+     *
+     * @param values 변환할 enum 값 목록
+     * @return 비트마스크
+     */
+    public static int maskOf(Collection<? extends Enum<?>> values) {
+        int mask = 0;
+        for (Enum<?> value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * 포트폴리오 한 건의 특징 정보
+     *
+     * @param categoryMask 포트폴리오 디자인 카테고리 비트마스크
+     * @param tokens       제목/설명에서 추출한 토큰 (정렬됨, 중복 없음)
+     */
+    public record PortfolioFeature(int categoryMask, String[] tokens) {
+
+        /**
+         * 주어진 접두어로 시작하는 토큰이 있는지 확인합니다.
+         * 토큰 배열이 정렬되어 있으므로 이진 탐색으로 확인합니다.
+         *
+         * @param prefix 정규화된 검색어
+         * @return 접두어로 시작하는 토큰이 있으면 true
+         */
+        public boolean hasTokenStartingWith(String prefix) {
+            int index = Arrays.binarySearch(tokens, prefix);
+            if (index >= 0) {
+                return true;
+            }
+
+            int insertionPoint = -index - 1;
+            return insertionPoint < tokens.length && tokens[insertionPoint].startsWith(prefix);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package thonlivethondie.artconnect.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.common.DesignStyle;
+import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.event.DesignerProfileChangedEvent;
+import thonlivethondie.artconnect.entity.Portfolio;
+import thonlivethondie.artconnect.entity.User;
+import thonlivethondie.artconnect.repository.PortfolioRepository;
+import thonlivethondie.artconnect.repository.UserRepository;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 디자이너 키워드 검색을 위한 메모리 기반 역색인
+ * 토큰 → 디자이너 ID 목록(posting list) 형태로 저장하며,
+ * 애플리케이션 시작 시 전체를 구성하고 디자이너 정보 변경 시 해당 디자이너만 갱신합니다.
+ * 변경 이벤트는 이벤트가 발생한 인스턴스의 색인만 갱신하므로, 여러 인스턴스로 운영할 때 다른 인스턴스의 변경은
+ * 주기적인 전체 재구성(matching.index.refresh-interval-ms)으로 반영됩니다. 그 사이에는 이전 검색 결과가 보일 수 있습니다.
+ * <p>
+ * 색인 대상:
+ * - User: speciality (전문분야 카테고리), designStyleCategories (디자인 스타일 카테고리)
+ * - Portfolio: title, description, designCategories
+ * <p>
+ * 토큰은 소문자로 정규화되며, 조회 시 키워드로 시작하는 토큰을 모두 찾는 접두어 검색을 수행합니다.
+ * (예: "카페" 키워드는 "카페를", "카페의" 토큰과도 매칭)
+ * 이전의 데이터베이스 검색(LIKE '%키워드%')은 부분 문자열 검색이었으므로 검색 결과가 달라집니다.
+ * - 토큰 중간이나 끝에 포함된 키워드는 찾지 않습니다 (예: "카페" 키워드는 "북카페" 토큰과 매칭되지 않음)
+ * - 공백이나 문장부호를 포함한 키워드는 토큰으로 나누어 각각 접두어 검색합니다
+ * <p>
+ * 점수 계산용 디자이너 특징 정보({@link DesignerProfile})도 함께 보관하며, 색인과 같은 시점에 갱신됩니다.
+ * <p>
+ * 색인({@link Snapshot})은 변경하지 않는 값으로 다루며, 갱신 시 새 색인을 모두 만든 뒤 참조를 한 번에 교체합니다.
+ * 따라서 조회는 잠금 없이 항상 갱신 전 또는 갱신 후의 완전한 색인만 보게 되고,
+ * 갱신 중인 디자이너가 일부 토큰에서만 빠져 있는 상태는 관찰되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DesignerSearchIndex {
+
+    /**
+     * 토큰 구분자 (공백 및 ASCII 문장부호)
+     */
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[\\s\\p{Punct}]+");
+
+    private final UserRepository userRepository;
+    private final PortfolioRepository portfolioRepository;
+
+    /**
+     * 현재 색인 (갱신 시 새 색인으로 교체)
+     */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 전체 재구성 중에 변경 이벤트로 갱신된 디자이너 ID (재구성 중이 아니면 null, this로 동기화)
+     */
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 전체 디자이너를 대상으로 인덱스를 구성합니다.
+     * 애플리케이션 시작 시, 그리고 다른 인스턴스의 변경을 반영하기 위해 주기적으로 실행됩니다.
+     * 구성 중에 변경 이벤트로 갱신된 디자이너는 데이터베이스를 먼저 읽은 새 색인보다 현재 색인이 최신이므로 현재 값을 유지합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${matching.index.refresh-interval-ms:300000}",
+            fixedDelayString = "${matching.index.refresh-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        List<User> designers = userRepository.findAllByUserType(UserType.DESIGNER);
+        Map<Long, List<Portfolio>> portfoliosByDesigner = portfolioRepository.findAll().stream()
+                .collect(Collectors.groupingBy(portfolio -> portfolio.getDesigner().getId()));
+
+        Snapshot.Builder builder = new Snapshot.Builder(Snapshot.EMPTY);
+        for (User designer : designers) {
+            List<Portfolio> portfolios = portfoliosByDesigner.getOrDefault(designer.getId(), List.of());
+            DesignerProfile profile = buildProfile(designer, portfolios);
+            builder.put(profile, collectTokens(profile));
+        }
+
+        Snapshot rebuilt;
+        synchronized (this) {
+            for (Long designerId : changedDuringRebuild) {
+                DesignerProfile current = snapshot.profiles().get(designerId);
+                if (current == null) {
+                    builder.remove(designerId);
+                } else {
+                    builder.put(current, snapshot.tokensByDesigner().get(designerId));
+                }
+            }
+            changedDuringRebuild = null;
+            rebuilt = builder.build();
+            snapshot = rebuilt;
+        }
+
+        log.info("디자이너 검색 인덱스 구성 완료 - 디자이너 수: {}, 토큰 수: {}, 소요 시간: {}ms",
+                rebuilt.tokensByDesigner().size(), rebuilt.postings().size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 디자이너 정보 변경이 커밋된 후 해당 디자이너의 색인을 갱신합니다.
+     *
+     * @param event 디자이너 정보 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDesignerProfileChanged(DesignerProfileChangedEvent event) {
+        reindex(event.designerId());
+    }
+
+    /**
+     * 특정 디자이너의 색인을 데이터베이스 기준으로 다시 구성합니다.
+     * 디자이너가 존재하지 않으면 색인에서 제거합니다.
+     * 해당 디자이너의 토큰을 반영한 새 색인을 만든 뒤 교체하므로, 조회 중에 일부만 반영된 색인이 보이지 않습니다.
+     *
+     * @param designerId 디자이너의 사용자 ID
+     */
+    public void reindex(Long designerId) {
+        if (designerId == null) {
+            return;
+        }
+
+        Optional<User> designer = userRepository.findById(designerId)
+                .filter(user -> user.getUserType() == UserType.DESIGNER);
+
+        if (designer.isEmpty()) {
+            replace(designerId, null);
+            return;
+        }
+
+        List<Portfolio> portfolios = portfolioRepository.findByDesignerId(designerId);
+        replace(designerId, buildProfile(designer.get(), portfolios));
+        log.debug("디자이너 검색 인덱스 갱신 - designerId: {}", designerId);
+    }
+
+    /**
+     * 키워드와 매칭되는 디자이너 ID를 매칭된 키워드 수가 많은 순으로 반환합니다.
+     * 키워드로 시작하는 토큰을 가진 디자이너만 매칭됩니다 (부분 문자열 검색이 아닌 토큰 접두어 검색).
+     *
+     * @param keywords 검색할 키워드 목록
+     * @param limit    최대 반환 개수
+     * @return 매칭된 디자이너 ID 목록
+     */
+    public List<Long> search(Collection<String> keywords, int limit) {
+        if (keywords == null || keywords.isEmpty()) {
+            return List.of();
+        }
+
+        NavigableMap<String, Set<Long>> postings = snapshot.postings();
+        Map<Long, Integer> hitCounts = new HashMap<>();
+
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+
+            // 하나의 키워드는 디자이너당 한 번만 집계
+            Set<Long> matchedDesigners = new HashSet<>();
+            for (String token : tokenize(keyword)) {
+                postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                        .values()
+                        .forEach(matchedDesigners::addAll);
+            }
+            matchedDesigners.forEach(designerId -> hitCounts.merge(designerId, 1, Integer::sum));
+        }
+
+        return hitCounts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 디자이너의 점수 계산용 특징 정보를 반환합니다.
+     *
+     * @param designerId 디자이너의 사용자 ID
+     * @return 특징 정보 (색인되지 않은 디자이너인 경우 null)
+     */
+    public DesignerProfile getProfile(Long designerId) {
+        return snapshot.profiles().get(designerId);
+    }
+
+    /**
+     * 현재 색인된 디자이너 수를 반환합니다 (모니터링용).
+     *
+     * @return 색인된 디자이너 수
+     */
+    public int getIndexedDesignerCount() {
+        return snapshot.tokensByDesigner().size();
+    }
+
+    /**
+     * 디자이너의 특징 정보와 토큰 목록을 반영한 새 색인을 만들어 현재 색인과 교체합니다.
+     * 토큰이 없거나 profile이 null이면 색인에서 제거합니다.
+     * 교체는 직렬화되어 동시에 갱신된 다른 디자이너의 변경을 덮어쓰지 않습니다.
+     */
+    private synchronized void replace(Long designerId, DesignerProfile profile) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(designerId);
+        }
+
+        Snapshot.Builder builder = new Snapshot.Builder(snapshot);
+        if (profile == null) {
+            builder.remove(designerId);
+        } else {
+            builder.put(profile, collectTokens(profile));
+        }
+        snapshot = builder.build();
+    }
+
+    /**
+     * 디자이너와 포트폴리오 엔티티에서 점수 계산용 특징 정보를 만듭니다.
+     * 문자열 정규화와 엔티티 탐색은 이 시점에 한 번만 수행합니다.
+     */
+    private DesignerProfile buildProfile(User designer, List<Portfolio> portfolios) {
+        List<DesignerProfile.PortfolioFeature> portfolioFeatures = portfolios.stream()
+                .map(portfolio -> {
+                    String[] tokens = Stream.concat(
+                                    tokenize(portfolio.getTitle()).stream(),
+                                    tokenize(portfolio.getDescription()).stream())
+                            .distinct()
+                            .sorted()
+                            .toArray(String[]::new);
+                    return new DesignerProfile.PortfolioFeature(
+                            DesignerProfile.maskOf(portfolio.getSelectedDesignCategories()), tokens);
+                })
+                .collect(Collectors.toList());
+
+        return new DesignerProfile(
+                designer.getId(),
+                DesignerProfile.maskOf(designer.getSelectedSpecialities()),
+                DesignerProfile.maskOf(designer.getSelectedDesignStyles()),
+                portfolioFeatures);
+    }
+
+    /**
+     * 특징 정보에서 색인할 토큰을 수집합니다.
+     */
+    private Set<String> collectTokens(DesignerProfile profile) {
+        Set<String> tokens = new HashSet<>();
+        addEnumTokens(tokens, DesignCategory.values(), profile.specialityMask());
+        addEnumTokens(tokens, DesignStyle.values(), profile.styleMask());
+
+        for (DesignerProfile.PortfolioFeature portfolio : profile.portfolios()) {
+            tokens.addAll(Arrays.asList(portfolio.tokens()));
+            addEnumTokens(tokens, DesignCategory.values(), portfolio.categoryMask());
+        }
+
+        return tokens;
+    }
+
+    /**
+     * 비트마스크에 포함된 enum 값들의 토큰을 추가합니다.
+     */
+    private void addEnumTokens(Set<String> tokens, Enum<?>[] values, int mask) {
+        for (Enum<?> value : values) {
+            if ((mask & (1 << value.ordinal())) != 0) {
+                addEnumTokens(tokens, value);
+            }
+        }
+    }
+
+    /**
+     * enum name 전체(예: banner_ad)와 '_'로 분리된 각 부분(예: banner, ad)을 토큰으로 추가합니다.
+     */
+    private void addEnumTokens(Set<String> tokens, Enum<?> value) {
+        String name = value.name().toLowerCase(Locale.ROOT);
+        tokens.add(name);
+        tokens.addAll(tokenize(name));
+    }
+
+    private List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(TOKEN_DELIMITER.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 시점의 색인 (토큰 → 디자이너 ID 목록, 디자이너 ID → 토큰 목록, 디자이너 ID → 특징 정보)
+     * 공개된 뒤에는 변경하지 않습니다.
+     *
+     * @param postings         토큰 → 디자이너 ID 목록 (접두어 검색을 위해 정렬된 맵 사용)
+     * @param tokensByDesigner 디자이너 ID → 색인된 토큰 목록 (증분 갱신 시 기존 토큰 제거용)
+     * @param profiles         디자이너 ID → 점수 계산용 특징 정보
+     */
+    private record Snapshot(NavigableMap<String, Set<Long>> postings,
+                            Map<Long, Set<String>> tokensByDesigner,
+                            Map<Long, DesignerProfile> profiles) {
+
+        static final Snapshot EMPTY = new Snapshot(new TreeMap<>(), Map.of(), Map.of());
+
+        /**
+         * 기존 색인을 복사하여 새 색인을 만듭니다.
+         * 맵은 얕게 복사하고, 변경되는 토큰의 디자이너 ID 목록만 한 번씩 복사하므로 기존 색인은 그대로 유지됩니다.
+         */
+        static final class Builder {
+
+            private final TreeMap<String, Set<Long>> postings;
+            private final Map<Long, Set<String>> tokensByDesigner;
+            private final Map<Long, DesignerProfile> profiles;
+
+            /**
+             * 기존 색인과 공유하지 않도록 이미 복사한 토큰 목록
+             */
+            private final Set<String> copiedTokens = new HashSet<>();
+
+            Builder(Snapshot base) {
+                this.postings = new TreeMap<>(base.postings());
+                this.tokensByDesigner = new HashMap<>(base.tokensByDesigner());
+                this.profiles = new HashMap<>(base.profiles());
+            }
+
+            /**
+             * 디자이너의 특징 정보와 토큰 목록을 교체합니다. 토큰이 없으면 색인에서 제거합니다.
+             */
+            void put(DesignerProfile profile, Set<String> tokens) {
+                Long designerId = profile.designerId();
+                if (tokens.isEmpty()) {
+                    remove(designerId);
+                    return;
+                }
+
+                Set<String> previousTokens = tokensByDesigner.getOrDefault(designerId, Set.of());
+
+                previousTokens.stream()
+                        .filter(token -> !tokens.contains(token))
+                        .forEach(token -> removePosting(token, designerId));
+                tokens.stream()
+                        .filter(token -> !previousTokens.contains(token))
+                        .forEach(token -> addPosting(token, designerId));
+
+                tokensByDesigner.put(designerId, Set.copyOf(tokens));
+                profiles.put(designerId, profile);
+            }
+
+            void remove(Long designerId) {
+                profiles.remove(designerId);
+                Set<String> previousTokens = tokensByDesigner.remove(designerId);
+                if (previousTokens != null) {
+                    previousTokens.forEach(token -> removePosting(token, designerId));
+                }
+            }
+
+            Snapshot build() {
+                return new Snapshot(postings, tokensByDesigner, profiles);
+            }
+
+            private void addPosting(String token, Long designerId) {
+                postingForUpdate(token).add(designerId);
+            }
+
+            private void removePosting(String token, Long designerId) {
+                if (!postings.containsKey(token)) {
+                    return;
+                }
+                Set<Long> designerIds = postingForUpdate(token);
+                designerIds.remove(designerId);
+                if (designerIds.isEmpty()) {
+                    postings.remove(token);
+                    copiedTokens.remove(token);
+                }
+            }
+
+            /**
+             * 이 Builder에서 처음 변경하는 토큰이면 디자이너 ID 목록을 복사해 두고, 이후에는 복사본을 그대로 변경합니다.
+             */
+            private Set<Long> postingForUpdate(String token) {
+                if (copiedTokens.add(token)) {
+                    postings.put(token, new HashSet<>(postings.getOrDefault(token, Set.of())));
+                }
+                return postings.get(token);
+            }
+        }
+    }
+}
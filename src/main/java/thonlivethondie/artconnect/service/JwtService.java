@@ -1,9 +1,10 @@
 package thonlivethondie.artconnect.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,15 +12,17 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.common.security.AuthenticatedUser;
+import thonlivethondie.artconnect.entity.User;
 
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Getter
@@ -47,37 +50,56 @@ public class JwtService {
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String USERID_CLAIM = "userId";
+    private static final String ROLE_CLAIM = "role";
+    private static final String USER_TYPE_CLAIM = "userType";
     private static final String BEARER = "Bearer ";
 
-    private final UserRepository userRepository;
+    /**
+     * 서명 알고리즘과 검증기는 스레드 안전하므로 한 번만 생성하여 모든 요청에서 재사용
+     */
     private final Algorithm algorithm;
     private final JWTVerifier verifier;
 
-    public JwtService(@Value("${jwt.secret-key}") String secretKey, UserRepository userRepository) {
-        this.userRepository = userRepository;
-        this.algorithm = Algorithm.HMAC256(secretKey);
+    private final AuthEventRecorder authEventRecorder;
+
+    public JwtService(@Value("${jwt.secret-key}") String secretKey, AuthEventRecorder authEventRecorder) {
+        this.authEventRecorder = authEventRecorder;
+        this.algorithm = Algorithm.HMAC512(secretKey);
         this.verifier = JWT.require(this.algorithm).build();
     }
 
-    public String createAccessToken(Long userId) {
+    /**
+     * AccessToken 생성
+     * 요청마다 회원을 조회하지 않도록 userId와 함께 role, userType(선택 전이면 생략)을 Claim에 담음
+     */
+    public String createAccessToken(User user) {
         Date now = new Date();
-        return JWT.create()
+        JWTCreator.Builder builder = JWT.create()
                 .withSubject(ACCESS_TOKEN_SUBJECT)
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
-                .withClaim(USERID_CLAIM, userId)
-                .sign(Algorithm.HMAC512(secretKey));
+                .withClaim(USERID_CLAIM, user.getId());
+
+        if (user.getRole() != null) {
+            builder.withClaim(ROLE_CLAIM, user.getRole().name());
+        }
+        if (user.getUserType() != null) {
+            builder.withClaim(USER_TYPE_CLAIM, user.getUserType().name());
+        }
+        return builder.sign(algorithm);
     }
 
     /**
      * RefreshToken 생성
      * RefreshToken은 Claim에 userId도 넣지 않으므로 withClaim() X
+     * 같은 시각에 발급한 토큰도 서로 다른 값(해시)이 되도록 JWT ID로 무작위 UUID 사용
      */
     public String createRefreshToken() {
         Date now = new Date();
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString())
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     /**
@@ -87,7 +109,6 @@ public class JwtService {
         response.setStatus(HttpServletResponse.SC_OK);
 
         response.setHeader(accessHeader, accessToken);
-        log.info("재발급된 Access Token : {}", accessToken);
     }
 
     /**
@@ -98,8 +119,6 @@ public class JwtService {
 
         response.setHeader(accessHeader, accessToken);
         response.setHeader(refreshHeader, refreshToken);
-
-        log.info("Access Token, Refresh Token 헤더 설정 완료");
     }
 
     /**
@@ -126,37 +145,62 @@ public class JwtService {
 
     /**
      * AccessToken에서 UserId 추출
-     * 추출 전에 JWT.require()로 검증기 생성
-     * verify로 AceessToken 검증 후
-     * 유효하다면 getClaim()으로 이메일 추출
+     * 미리 생성한 검증기로 AccessToken 검증 후
+     * 유효하다면 getClaim()으로 userId 추출
      * 유효하지 않다면 빈 Optional 객체 반환
      */
     public Optional<String> extractUserId(String accessToken) {
+        return verify(accessToken)
+                .flatMap(this::extractUserId)
+                .map(String::valueOf);
+    }
+
+    /**
+     * 검증을 마친 토큰에서 UserId 추출 (서명을 다시 검증하지 않음)
+     */
+    public Optional<Long> extractUserId(DecodedJWT decodedJWT) {
+        return Optional.ofNullable(decodedJWT.getClaim(USERID_CLAIM).asLong());
+    }
+
+    /**
+     * 검증을 마친 AccessToken의 Claim으로 인증 사용자 정보 생성 (DB 조회 없음)
+     * role Claim이 없는 토큰(이전 버전에서 발급)이면 빈 Optional 객체 반환
+     */
+    public Optional<AuthenticatedUser> extractPrincipal(DecodedJWT decodedJWT) {
+        Long userId = decodedJWT.getClaim(USERID_CLAIM).asLong();
+        String role = decodedJWT.getClaim(ROLE_CLAIM).asString();
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+
+        String userType = decodedJWT.getClaim(USER_TYPE_CLAIM).asString();
         try {
-            // 토큰 유효성 검사하는 데에 사용할 알고리즘이 있는 JWT verifier builder 반환
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build() // 반환된 빌더로 JWT verifier 생성
-                    .verify(accessToken) // accessToken을 검증하고 유효하지 않다면 예외 발생
-                    .getClaim(USERID_CLAIM)
-                    .asLong()
-                    .toString());
-        } catch (Exception e) {
-            log.error("액세스 토큰이 유효하지 않습니다.");
+            return Optional.of(new AuthenticatedUser(
+                    userId, Role.valueOf(role), userType == null ? null : UserType.valueOf(userType)));
+        } catch (IllegalArgumentException e) {
+            authEventRecorder.record(AuthEvent.TOKEN_UNKNOWN_CLAIM, "role", role, "userType", userType);
             return Optional.empty();
         }
     }
 
     /**
-     * RefreshToken DB 저장(업데이트)
-     * OAuth 2.0 Login 성공 시 처리하는 LoginSuccessHandler에서 사용할 예정
-     * 아직 개선 필요
+     * 토큰의 서명과 만료 시각을 한 번 검증하고 디코딩된 토큰을 반환합니다.
+     * 검증 결과에서 클레임을 바로 꺼내 쓰므로 같은 토큰을 두 번 검증하지 않습니다.
+     *
+     * @param token AccessToken 또는 RefreshToken
+     * @return 디코딩된 토큰 (유효하지 않다면 빈 Optional 객체)
      */
-    public void updateRefreshTokenOAuth2(String email, String refreshToken) {
-        userRepository.findByEmail(email)
-                .ifPresentOrElse(
-                        user -> user.updateRefreshToken(refreshToken),
-                        () -> new Exception("일치하는 회원이 없습니다.")
-                );
+    public Optional<DecodedJWT> verify(String token) {
+        try {
+            return Optional.of(verifier.verify(token));
+        } catch (TokenExpiredException e) {
+            authEventRecorder.record(AuthEvent.TOKEN_EXPIRED);
+            return Optional.empty();
+        } catch (Exception e) {
+            // 예외 메시지에는 토큰 내용이 포함될 수 있으므로 예외 종류만 기록
+            authEventRecorder.record(AuthEvent.TOKEN_INVALID, "reason", e.getClass().getSimpleName());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -167,21 +211,6 @@ public class JwtService {
      * @return true or false
      */
     public boolean isTokenValid(String token) {
-        try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
-        } catch (Exception e) {
-            log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
-            return false;
-        }
-    }
-
-    public final Authentication verifyAndDecode(String token) throws JWTVerificationException {
-        DecodedJWT decodedJWT = verifier.verify(token);
-        String userId = decodedJWT.getSubject();
-
-        UserDetails principal = new User(userId, "", null);
-
-        return new UsernamePasswordAuthenticationToken(principal, "", null);
+        return verify(token).isPresent();
     }
 }
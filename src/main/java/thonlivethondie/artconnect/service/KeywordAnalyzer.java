@@ -0,0 +1,237 @@
+package thonlivethondie.artconnect.service;
+
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.common.DesignStyle;
+import thonlivethondie.artconnect.util.AhoCorasickMatcher;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 디자이너 매칭을 위한 키워드 분석기
+ * 정규식, 불용어 집합, 디자인 용어 사전을 생성 시 한 번만 구성하고 재사용합니다.
+ * <p>
+ * 디자인 용어 사전은 DesignCategory/DesignStyle의 name, description과 동의어로 구성되며,
+ * Aho–Corasick 매처를 통해 텍스트를 한 번 순회하는 것으로 등장하는 모든 카테고리/스타일을 찾습니다.
+ * 영문 용어는 단어 경계에서만 인정하여 다른 단어 내부의 오탐(예: execute 안의 cute)을 막고,
+ * 한글 용어는 조사와 어미가 붙으므로(예: 귀여운, 로고를) 경계 없이 인정합니다.
+ */
+@Component
+public class KeywordAnalyzer {
+
+    /**
+     * 구문 구분자 (쉼표)
+     */
+    private static final Pattern PHRASE_DELIMITER = Pattern.compile("[,]+");
+
+    /**
+     * 단어 구분자 (공백, 하이픈, 슬래시, 앰퍼샌드, 괄호)
+     */
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[\\s\\-/&()]+");
+
+    /**
+     * 불용어 목록 (의미없는 단어들)
+     */
+    private static final Set<String> STOP_WORDS = Set.of(
+            "그리고", "하고", "또는", "등", "같은", "느낌", "스타일", "디자인",
+            "위한", "대한", "있는", "하는", "되는", "것", "수", "를", "을", "이", "가", "의", "에", "로", "으로"
+    );
+
+    /**
+     * 최소 키워드 길이
+     */
+    private static final int MIN_KEYWORD_LENGTH = 2;
+
+    /**
+     * 카테고리 동의어 (description에 직접 등장하지 않는 표현)
+     */
+    private static final Map<DesignCategory, List<String>> CATEGORY_SYNONYMS = Map.of(
+            DesignCategory.LOGO, List.of("로고", "심볼", "엠블럼"),
+            DesignCategory.BRAND, List.of("브랜드", "브랜딩", "아이덴티티", "branding"),
+            DesignCategory.GOODS, List.of("굿즈", "스티커", "머그컵", "에코백"),
+            DesignCategory.POSTER_FLYER, List.of("포스터", "전단지", "전단", "리플렛", "브로셔", "flyer"),
+            DesignCategory.BANNER_AD, List.of("배너", "광고", "현수막"),
+            DesignCategory.PACKAGE, List.of("패키지", "포장", "라벨", "패키징"),
+            DesignCategory.CARD, List.of("명함", "카드", "인쇄물", "메뉴판", "쿠폰")
+    );
+
+    /**
+     * 스타일 동의어 (description의 어간 및 유사 표현)
+     */
+    private static final Map<DesignStyle, List<String>> STYLE_SYNONYMS = Map.ofEntries(
+            Map.entry(DesignStyle.SIMPLE, List.of("심플", "미니멀", "단순", "깔끔")),
+            Map.entry(DesignStyle.WARM, List.of("따뜻", "포근", "아늑")),
+            Map.entry(DesignStyle.FANCY, List.of("화려", "강렬", "다채로운")),
+            Map.entry(DesignStyle.NEAT, List.of("산뜻", "상큼")),
+            Map.entry(DesignStyle.TRANQUIL, List.of("차분", "잔잔", "은은")),
+            Map.entry(DesignStyle.VINTAGE, List.of("빈티지", "앤티크")),
+            Map.entry(DesignStyle.RETRO, List.of("레트로", "복고", "뉴트로")),
+            Map.entry(DesignStyle.CUTE, List.of("귀여", "귀엽", "아기자기")),
+            Map.entry(DesignStyle.LOVELY, List.of("러블리", "사랑스러")),
+            Map.entry(DesignStyle.REFRESHING, List.of("청량", "시원")),
+            Map.entry(DesignStyle.NATURAL, List.of("자연", "내추럴", "친환경")),
+            Map.entry(DesignStyle.LUXURIOUS, List.of("고급", "럭셔리", "프리미엄", "세련")),
+            Map.entry(DesignStyle.MODERN, List.of("현대", "모던", "트렌디")),
+            Map.entry(DesignStyle.CLASSIC, List.of("클래식", "고전")),
+            Map.entry(DesignStyle.EMOTIONAL, List.of("감성", "감각적"))
+    );
+
+    private final AhoCorasickMatcher<Enum<?>> designTermMatcher = buildDesignTermMatcher();
+
+    /**
+     * 텍스트에서 키워드를 추출합니다.
+     * 쉼표로 구문을 나눈 뒤 공백/구분 기호로 단어를 분리하고, 짧은 단어와 불용어를 제외합니다.
+     *
+     * @param text 키워드를 추출할 텍스트
+     * @return 추출된 키워드 목록 (중복 제거, 등장 순서 유지)
+     */
+    public List<String> extractKeywords(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String phrase : PHRASE_DELIMITER.split(text)) {
+            for (String word : WORD_DELIMITER.split(phrase)) {
+                String keyword = word.trim();
+                if (keyword.length() >= MIN_KEYWORD_LENGTH && isValidKeyword(keyword)) {
+                    keywords.add(keyword);
+                }
+            }
+        }
+        return new ArrayList<>(keywords);
+    }
+
+    /**
+     * 키워드가 유효한지 검증합니다.
+     * 불용어와 숫자로만 이루어진 단어를 제외합니다.
+     *
+     * @param keyword 검증할 키워드
+     * @return 유효한 키워드인 경우 true
+     */
+    public boolean isValidKeyword(String keyword) {
+        return !STOP_WORDS.contains(keyword.toLowerCase(Locale.ROOT)) && !isDigitsOnly(keyword);
+    }
+
+    /**
+     * 텍스트를 한 번 순회하여 등장하는 모든 디자인 카테고리/스타일을 찾습니다.
+     *
+     * @param text 분석할 텍스트
+     * @return 텍스트에 등장한 카테고리/스타일 비트마스크
+     */
+    public DesignTerms findDesignTerms(String text) {
+        if (text == null || text.isEmpty()) {
+            return DesignTerms.EMPTY;
+        }
+
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        int[] masks = new int[2];
+        designTermMatcher.forEachMatch(lowerText, (term, start, end) -> {
+            if (!isAtWordBoundary(lowerText, start, end)) {
+                return;
+            }
+            if (term instanceof DesignCategory category) {
+                masks[0] |= 1 << category.ordinal();
+            } else {
+                masks[1] |= 1 << term.ordinal();
+            }
+        });
+        return new DesignTerms(masks[0], masks[1]);
+    }
+
+    /**
+     * 매칭 구간의 양 끝이 영문자/숫자라면 그 바깥 글자도 영문자/숫자가 아니어야 경계로 인정합니다.
+     * 한글로 끝나는 쪽은 검사하지 않으므로 "cute한"처럼 한글이 바로 붙은 영문 용어도 인정됩니다.
+     */
+    private static boolean isAtWordBoundary(String text, int start, int end) {
+        if (isAsciiLetterOrDigit(text.charAt(start)) && start > 0 && isAsciiLetterOrDigit(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(isAsciiLetterOrDigit(text.charAt(end - 1)) && end < text.length()
+                && isAsciiLetterOrDigit(text.charAt(end)));
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private boolean isDigitsOnly(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!Character.isDigit(keyword.charAt(i))) {
+                return false;
+            }
+        }
+        return !keyword.isEmpty();
+    }
+
+    /**
+     * DesignCategory/DesignStyle의 name, description, description 구성 단어, 동의어로 사전을 구성합니다.
+     * name을 '_'로 나눈 조각 중 2글자 이하(예: banner_ad의 "ad")는 다른 단어 내부에서 오탐되므로 제외합니다.
+     */
+    private static AhoCorasickMatcher<Enum<?>> buildDesignTermMatcher() {
+        Map<String, Set<Enum<?>>> dictionary = new HashMap<>();
+
+        for (DesignCategory category : DesignCategory.values()) {
+            addTerms(dictionary, category, category.getDescription());
+            CATEGORY_SYNONYMS.getOrDefault(category, List.of())
+                    .forEach(synonym -> addTerm(dictionary, synonym, category));
+        }
+
+        for (DesignStyle style : DesignStyle.values()) {
+            addTerms(dictionary, style, style.getDescription());
+            STYLE_SYNONYMS.getOrDefault(style, List.of())
+                    .forEach(synonym -> addTerm(dictionary, synonym, style));
+        }
+
+        return AhoCorasickMatcher.of(dictionary);
+    }
+
+    private static void addTerms(Map<String, Set<Enum<?>>> dictionary, Enum<?> value, String description) {
+        String name = value.name().toLowerCase(Locale.ROOT);
+        addTerm(dictionary, name, value);
+        Arrays.stream(name.split("_"))
+                .filter(part -> part.length() > MIN_KEYWORD_LENGTH)
+                .forEach(part -> addTerm(dictionary, part, value));
+
+        addTerm(dictionary, description, value);
+        Arrays.stream(WORD_DELIMITER.split(description))
+                .filter(word -> word.length() >= MIN_KEYWORD_LENGTH && !STOP_WORDS.contains(word))
+                .forEach(word -> addTerm(dictionary, word, value));
+    }
+
+    private static void addTerm(Map<String, Set<Enum<?>>> dictionary, String term, Enum<?> value) {
+        dictionary.computeIfAbsent(term.toLowerCase(Locale.ROOT), key -> new LinkedHashSet<>()).add(value);
+    }
+
+    /**
+     * 텍스트에서 찾은 디자인 카테고리/스타일 비트마스크 (enum ordinal 기준)
+     *
+     * @param categoryMask DesignCategory 비트마스크
+     * @param styleMask    DesignStyle 비트마스크
+     */
+    public record DesignTerms(int categoryMask, int styleMask) {
+
+        public static final DesignTerms EMPTY = new DesignTerms(0, 0);
+
+        /**
+         * 비트마스크에 포함된 enum의 name을 소문자로 반환합니다.
+         *
+         * @return 카테고리/스타일 키워드 목록 (예: logo, cute)
+         */
+        public List<String> toKeywords() {
+            List<String> keywords = new ArrayList<>();
+            for (DesignStyle style : DesignStyle.values()) {
+                if ((styleMask & (1 << style.ordinal())) != 0) {
+                    keywords.add(style.name().toLowerCase(Locale.ROOT));
+                }
+            }
+            for (DesignCategory category : DesignCategory.values()) {
+                if ((categoryMask & (1 << category.ordinal())) != 0) {
+                    keywords.add(category.name().toLowerCase(Locale.ROOT));
+                }
+            }
+            return keywords;
+        }
+    }
+}
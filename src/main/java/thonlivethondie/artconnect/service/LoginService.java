@@ -2,16 +2,21 @@ package thonlivethondie.artconnect.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
 import thonlivethondie.artconnect.entity.User;
 import thonlivethondie.artconnect.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final AuthEventRecorder authEventRecorder;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -24,4 +29,24 @@ public class LoginService implements UserDetailsService {
                 .roles(user.getRole().name())
                 .build();
     }
+
+    /**
+     * 로그인에 성공한 회원의 비밀번호를 새 비용으로 다시 인코딩한 해시로 교체합니다.
+     * 저장된 해시의 비용이 설정보다 낮을 때 DaoAuthenticationProvider가 호출합니다.
+     *
+     * @param user        로그인한 회원 (username은 회원 ID)
+     * @param newPassword 다시 인코딩한 비밀번호
+     * @return 새 비밀번호가 반영된 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Long userId = Long.valueOf(user.getUsername());
+        userRepository.updatePassword(userId, newPassword);
+        authEventRecorder.record(AuthEvent.PASSWORD_REHASHED, "userId", userId);
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
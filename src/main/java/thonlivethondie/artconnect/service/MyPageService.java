@@ -2,12 +2,14 @@ package thonlivethondie.artconnect.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.common.DesignCategory;
 import thonlivethondie.artconnect.common.DesignStyle;
 import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.event.DesignerProfileChangedEvent;
 import thonlivethondie.artconnect.common.exception.BadRequestException;
 import thonlivethondie.artconnect.common.exception.ErrorCode;
 import thonlivethondie.artconnect.dto.*;
@@ -30,6 +32,7 @@ public class MyPageService {
     private final UserDesignCategoryRepository userDesignCategoryRepository;
     private final UserDesignStyleCategoryRepository userDesignStyleCategoryRepository;
     private final AwsS3Service awsS3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Object getMyPageByUserType(Long userId) {
@@ -57,6 +60,9 @@ public class MyPageService {
         }
 
         updateDesignerInfo(user, request);
+
+        // 커밋 이후 디자이너 검색 인덱스 갱신
+        eventPublisher.publishEvent(new DesignerProfileChangedEvent(userId));
     }
 
     @Transactional
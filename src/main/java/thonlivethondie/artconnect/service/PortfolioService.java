@@ -2,12 +2,18 @@ package thonlivethondie.artconnect.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.event.DesignerProfileChangedEvent;
+import thonlivethondie.artconnect.common.event.ImagesUploadedEvent;
 import thonlivethondie.artconnect.common.exception.BadRequestException;
 import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.security.AuthenticatedUser;
 import thonlivethondie.artconnect.dto.DesignerPortfolioResponseDto;
 import thonlivethondie.artconnect.dto.PortfolioRequestDto;
 import thonlivethondie.artconnect.dto.PortfolioResponseDto;
@@ -17,7 +23,9 @@ import thonlivethondie.artconnect.entity.User;
 import thonlivethondie.artconnect.repository.PortfolioImageRepository;
 import thonlivethondie.artconnect.repository.PortfolioRepository;
 import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
 
+import java.io.InputStream;
 import java.util.Comparator;
 import java.util.List;
 
@@ -30,7 +38,10 @@ public class PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final PortfolioImageRepository portfolioImageRepository;
     private final UserRepository userRepository;
-    private final AwsS3Service awsS3Service;
+    private final S3DeletionService s3DeletionService;
+    private final StagedUploadService stagedUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새 포트폴리오 생성
@@ -38,6 +49,7 @@ public class PortfolioService {
     public PortfolioResponseDto createPortfolio(Long userId, PortfolioRequestDto request) {
         User designer = validateDesigner(userId);
         Portfolio portfolio = createNewPortfolio(designer, request);
+        eventPublisher.publishEvent(new DesignerProfileChangedEvent(userId));
         return PortfolioResponseDto.from(portfolio);
     }
 
@@ -48,17 +60,23 @@ public class PortfolioService {
         validateDesigner(userId);
         Portfolio portfolio = getPortfolioByIdAndUserId(portfolioId, userId);
         portfolio = updatePortfolioInfo(portfolio, request);
+        eventPublisher.publishEvent(new DesignerProfileChangedEvent(userId));
         return PortfolioResponseDto.from(portfolio);
     }
 
     /**
      * 포트폴리오 이미지 업로드
+     * S3 업로드 중에는 트랜잭션을 열지 않고, 업로드가 끝난 뒤 짧은 트랜잭션으로 이미지 행만 저장합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PortfolioResponseDto uploadPortfolioImages(Long userId, Long portfolioId, List<MultipartFile> images) {
-        validateDesigner(userId);
-        Portfolio portfolio = getPortfolioByIdAndUserId(portfolioId, userId);
+        // 업로드 전 권한 확인
+        transactionTemplate.executeWithoutResult(status -> {
+            validateDesigner(userId);
+            getPortfolioByIdAndUserId(portfolioId, userId);
+        });
 
-        log.info("포트폴리오 이미지 업로드 시작 - portfolioId: {}, 이미지 개수: {}", portfolio.getId(), images.size());
+        log.info("포트폴리오 이미지 업로드 시작 - portfolioId: {}, 이미지 개수: {}", portfolioId, images.size());
 
         // 빈 파일 필터링
         List<MultipartFile> validImages = images.stream()
@@ -67,51 +85,93 @@ public class PortfolioService {
 
         if (validImages.isEmpty()) {
             log.warn("업로드할 유효한 이미지가 없습니다.");
-            return PortfolioResponseDto.from(portfolio);
+            return transactionTemplate.execute(status ->
+                    PortfolioResponseDto.from(getPortfolioByIdAndUserId(portfolioId, userId)));
+        }
+
+        return stagedUploadService.uploadAndSave(validImages, ObjectAccess.PUBLIC, stagedImages ->
+                savePortfolioImages(userId, portfolioId, stagedImages));
+    }
+
+    /**
+     * 포트폴리오 이미지 업로드 (스트리밍)
+     * 요청 본문을 읽으면서 이미지를 바로 S3에 업로드하므로 파일을 메모리나 임시 파일에 저장하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PortfolioResponseDto uploadPortfolioImages(Long userId, Long portfolioId, InputStream body, String contentType) {
+        // 업로드 전 권한 확인
+        transactionTemplate.executeWithoutResult(status -> {
+            validateDesigner(userId);
+            getPortfolioByIdAndUserId(portfolioId, userId);
+        });
+
+        log.info("포트폴리오 이미지 스트리밍 업로드 시작 - portfolioId: {}", portfolioId);
+
+        return stagedUploadService.streamAndSave(body, contentType, ObjectAccess.PUBLIC, form ->
+                savePortfolioImages(userId, portfolioId, form.images()));
+    }
+
+    /**
+     * 포트폴리오 이미지 업로드 완료 (presigned URL)
+     * 클라이언트가 S3에 직접 업로드한 이미지를 확인한 뒤 짧은 트랜잭션으로 이미지 행만 저장합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PortfolioResponseDto completePortfolioImageUploads(Long userId, Long portfolioId, List<String> fileNames) {
+        // 권한 확인
+        transactionTemplate.executeWithoutResult(status -> {
+            validateDesigner(userId);
+            getPortfolioByIdAndUserId(portfolioId, userId);
+        });
+
+        log.info("포트폴리오 이미지 업로드 완료 요청 - portfolioId: {}, 이미지 개수: {}", portfolioId, fileNames.size());
+
+        return stagedUploadService.completeAndSave(userId, fileNames, ObjectAccess.PUBLIC, stagedImages ->
+                savePortfolioImages(userId, portfolioId, stagedImages));
+    }
+
+    /**
+     * 업로드된 이미지로 PortfolioImage 엔티티를 저장합니다 (트랜잭션 안에서 호출).
+     */
+    private PortfolioResponseDto savePortfolioImages(Long userId, Long portfolioId,
+                                                     List<StagedUploadService.StagedImage> stagedImages) {
+        // 업로드 중 변경되었을 수 있으므로 다시 조회
+        Portfolio portfolio = getPortfolioByIdAndUserId(portfolioId, userId);
+
+        // 현재 이미지가 없는 경우 첫 번째 업로드 이미지를 썸네일로 설정
+        boolean isFirstImageUpload = portfolio.getPortfolioImages().isEmpty();
+
+        // PortfolioImage 엔티티 생성 및 저장
+        for (int i = 0; i < stagedImages.size(); i++) {
+            StagedUploadService.StagedImage image = stagedImages.get(i);
+
+            PortfolioImage portfolioImage = PortfolioImage.builder()
+                    .portfolio(portfolio)
+                    .imageName(image.originalFilename())
+                    .imageUrl(image.imageUrl())
+                    .imageSize(image.size())
+                    .isThumbnail(isFirstImageUpload && i == 0) // 첫 번째 업로드 시 첫 번째 이미지를 썸네일로 설정
+                    .build();
+
+            portfolio.getPortfolioImages().add(portfolioImage);
+            log.info("포트폴리오 이미지 엔티티 생성 - 파일명: {}, URL: {}, 크기: {}",
+                    image.originalFilename(), image.imageUrl(), image.size());
         }
 
-        try {
-            // S3에 이미지 업로드
-            List<String> imageUrls = awsS3Service.uploadFile(validImages);
-            log.info("S3 업로드 완료 - 업로드된 URL 개수: {}", imageUrls.size());
-
-            // 현재 이미지가 없는 경우 첫 번째 업로드 이미지를 썸네일로 설정
-            boolean isFirstImageUpload = portfolio.getPortfolioImages().isEmpty();
-
-            // PortfolioImage 엔티티 생성 및 저장
-            for (int i = 0; i < validImages.size() && i < imageUrls.size(); i++) {
-                MultipartFile image = validImages.get(i);
-                String imageUrl = imageUrls.get(i);
-
-                PortfolioImage portfolioImage = PortfolioImage.builder()
-                        .portfolio(portfolio)
-                        .imageName(image.getOriginalFilename())
-                        .imageUrl(imageUrl)
-                        .imageSize(image.getSize())
-                        .isThumbnail(isFirstImageUpload && i == 0) // 첫 번째 업로드 시 첫 번째 이미지를 썸네일로 설정
-                        .build();
-
-                portfolio.getPortfolioImages().add(portfolioImage);
-                log.info("포트폴리오 이미지 엔티티 생성 - 파일명: {}, URL: {}, 크기: {}",
-                        image.getOriginalFilename(), imageUrl, image.getSize());
-            }
-
-            // 썸네일 URL 업데이트 (첫 번째 업로드인 경우)
-            if (isFirstImageUpload && !portfolio.getPortfolioImages().isEmpty()) {
-                // 첫 번째 이미지의 URL을 썸네일로 설정
-                String firstImageUrl = portfolio.getPortfolioImages().get(0).getImageUrl();
-                portfolio.updateThumbnailUrl(firstImageUrl);
-            }
-
-            Portfolio savedPortfolio = portfolioRepository.save(portfolio);
-            log.info("포트폴리오 이미지 업로드 완료 - 총 이미지 수: {}", savedPortfolio.getPortfolioImages().size());
-
-            return PortfolioResponseDto.from(savedPortfolio);
-
-        } catch (Exception e) {
-            log.error("포트폴리오 이미지 업로드 실패", e);
-            throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        // 썸네일 URL 업데이트 (첫 번째 업로드인 경우)
+        if (isFirstImageUpload && !portfolio.getPortfolioImages().isEmpty()) {
+            // 첫 번째 이미지의 URL을 썸네일로 설정
+            String firstImageUrl = portfolio.getPortfolioImages().get(0).getImageUrl();
+            portfolio.updateThumbnailUrl(firstImageUrl);
         }
+
+        Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        log.info("포트폴리오 이미지 업로드 완료 - 총 이미지 수: {}", savedPortfolio.getPortfolioImages().size());
+
+        // 커밋 이후 축소 이미지 생성
+        eventPublisher.publishEvent(new ImagesUploadedEvent(ImagesUploadedEvent.Owner.PORTFOLIO,
+                stagedImages.stream().map(StagedUploadService.StagedImage::fileName).toList()));
+
+        return PortfolioResponseDto.from(savedPortfolio);
     }
 
     /**
@@ -130,13 +190,8 @@ public class PortfolioService {
             throw new BadRequestException(ErrorCode.PORTFOLIO_IMAGE_ACCESS_DENIED);
         }
 
-        // S3에서 이미지 삭제
-        try {
-            String fileName = extractFileNameFromUrl(portfolioImage.getImageUrl());
-            awsS3Service.deleteFile(fileName);
-        } catch (Exception e) {
-            log.warn("S3 이미지 삭제 실패: {}", portfolioImage.getImageUrl(), e);
-        }
+        // S3 이미지 참조 반환 (다른 이미지 행이 가리키지 않으면 커밋 후 백그라운드에서 삭제)
+        s3DeletionService.release(List.of(extractFileNameFromUrl(portfolioImage.getImageUrl())));
 
         // 삭제할 이미지가 썸네일인지 또는 썸네일 URL과 일치하는지 확인
         boolean deletingThumbnail = portfolioImage.getIsThumbnail();
@@ -243,24 +298,25 @@ public class PortfolioService {
         validateDesigner(userId);
         Portfolio portfolio = getPortfolioByIdAndUserId(portfolioId, userId);
 
-        // 포트폴리오와 연관된 이미지들도 S3에서 삭제
-        for (PortfolioImage image : portfolio.getPortfolioImages()) {
-            try {
-                String fileName = extractFileNameFromUrl(image.getImageUrl());
-                awsS3Service.deleteFile(fileName);
-            } catch (Exception e) {
-                log.warn("S3 이미지 삭제 실패: {}", image.getImageUrl(), e);
-            }
-        }
+        // 포트폴리오와 연관된 이미지들의 S3 참조 반환 (다른 이미지 행이 가리키지 않으면 커밋 후 백그라운드에서 삭제)
+        s3DeletionService.release(portfolio.getPortfolioImages().stream()
+                .map(image -> extractFileNameFromUrl(image.getImageUrl()))
+                .toList());
 
         portfolioRepository.delete(portfolio);
+        eventPublisher.publishEvent(new DesignerProfileChangedEvent(userId));
         log.info("포트폴리오 삭제 완료 - portfolioId: {}", portfolioId);
     }
 
     /**
      * 디자이너 유효성 검증
+     * 요청한 본인이면 토큰의 userType으로 확인하고 회원을 조회하지 않음 (연관관계 설정용 참조만 반환)
      */
     private User validateDesigner(Long userId) {
+        if (AuthenticatedUser.isCurrent(userId, UserType.DESIGNER)) {
+            return userRepository.getReferenceById(userId);
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BadRequestException(ErrorCode.USER_NOT_FOUND));
 
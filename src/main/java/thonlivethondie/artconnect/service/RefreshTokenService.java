@@ -0,0 +1,133 @@
+package thonlivethondie.artconnect.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.entity.RefreshToken;
+import thonlivethondie.artconnect.repository.RefreshTokenRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * RefreshToken 발급, 재발급(rotation), 정리를 담당하는 서비스 클래스
+ * <p>
+ * - 발급: 로그인마다 새 family로 토큰을 저장 (기기별로 따로 로그인 상태 유지)
+ * - 재발급: 토큰 해시로 기본 키 조회 후, 사용 시각 기록과 새 토큰 저장으로 행 단위 처리 (회원 행은 수정하지 않음)
+ * - 재사용 감지: 이미 사용한 토큰이 다시 들어오면 같은 family의 토큰을 모두 삭제하여 해당 로그인을 끊음
+ * - 정리: 만료된 토큰은 백그라운드 작업이 주기적으로 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    /**
+     * 클라이언트가 기기를 구분하기 위해 보내는 요청 헤더 (선택)
+     */
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+
+    private static final int MAX_DEVICE_ID_LENGTH = 255;
+
+    private final JwtService jwtService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthEventRecorder authEventRecorder;
+
+    /**
+     * 로그인한 회원에게 새 family의 RefreshToken을 발급합니다.
+     *
+     * @param userId   회원 ID
+     * @param deviceId 요청 헤더의 기기 ID (없으면 null)
+     * @return RefreshToken 원문
+     */
+    @Transactional
+    public String issue(Long userId, String deviceId) {
+        return save(userId, UUID.randomUUID().toString(), normalizeDeviceId(deviceId));
+    }
+
+    /**
+     * RefreshToken을 사용 처리하고 같은 family의 새 RefreshToken을 발급합니다.
+     * 이미 사용한 토큰이면 재사용으로 보고 family 전체를 삭제합니다.
+     *
+     * @param refreshToken 서명을 검증한 RefreshToken 원문
+     * @return 회원 ID와 새 RefreshToken (저장되지 않았거나, 만료되었거나, 재사용된 토큰이면 빈 Optional 객체)
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        RefreshToken current = refreshTokenRepository.findById(tokenHash).orElse(null);
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        if (refreshTokenRepository.markUsed(tokenHash, now) == 0) {
+            // 만료되지 않았는데 사용 처리에 실패했다면 이미 사용한 토큰 (동시 요청 포함)
+            if (current.getExpiresAt() > now) {
+                int revoked = refreshTokenRepository.deleteFamily(current.getFamilyId());
+                authEventRecorder.record(AuthEvent.REFRESH_REUSE_DETECTED, "userId", current.getUserId(),
+                        "familyId", current.getFamilyId(), "revoked", revoked);
+            }
+            return Optional.empty();
+        }
+
+        String reissued = save(current.getUserId(), current.getFamilyId(), current.getDeviceId());
+        return Optional.of(new Rotation(current.getUserId(), reissued));
+    }
+
+    /**
+     * 만료된 RefreshToken을 삭제합니다 (백그라운드 작업).
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(System.currentTimeMillis());
+        if (deleted > 0) {
+            log.info("만료된 RefreshToken 삭제 - {}개", deleted);
+        }
+    }
+
+    private String save(Long userId, String familyId, String deviceId) {
+        String refreshToken = jwtService.createRefreshToken();
+        long expiresAt = System.currentTimeMillis() + jwtService.getRefreshTokenExpirationPeriod();
+        refreshTokenRepository.save(new RefreshToken(hash(refreshToken), userId, familyId, deviceId, expiresAt));
+        return refreshToken;
+    }
+
+    private static String normalizeDeviceId(String deviceId) {
+        if (deviceId == null || deviceId.isBlank()) {
+            return null;
+        }
+        String trimmed = deviceId.trim();
+        return trimmed.length() > MAX_DEVICE_ID_LENGTH ? trimmed.substring(0, MAX_DEVICE_ID_LENGTH) : trimmed;
+    }
+
+    /**
+     * RefreshToken 원문의 SHA-256 해시 (DB 기본 키용)
+     */
+    static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * RefreshToken 재발급 결과
+     *
+     * @param userId       회원 ID
+     * @param refreshToken 새 RefreshToken 원문
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
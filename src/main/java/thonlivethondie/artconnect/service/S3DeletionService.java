@@ -0,0 +1,430 @@
+package thonlivethondie.artconnect.service;
+
+import com.amazonaws.AmazonClientException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import thonlivethondie.artconnect.entity.PendingDeletion;
+import thonlivethondie.artconnect.entity.StoredObject;
+import thonlivethondie.artconnect.repository.PendingDeletionRepository;
+import thonlivethondie.artconnect.repository.StoredObjectRepository;
+import thonlivethondie.artconnect.service.image.ImageVariant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * S3 객체의 참조 수를 관리하고, 삭제를 요청 처리와 분리하는 서비스 클래스 (transactional outbox)
+ * <p>
+ * 1. 이미지 행을 삭제하는 트랜잭션 안에서 참조 수를 줄이고, 참조가 없어진 S3 키를 삭제 대기열에 기록 (S3 호출 없음)
+ * 2. 백그라운드 작업이 대기열의 원본과 축소 이미지를 최대 1000개씩 S3 일괄 삭제 요청으로 처리하고, 성공한 항목을 대기열에서 제거
+ * 3. 실패한 항목은 시도 횟수에 따라 재시도 간격을 두 배씩 늘려(최대 간격까지) 다시 시도
+ * 트랜잭션이 롤백되면 대기열 기록도 함께 롤백되므로 사용 중인 객체를 지우지 않고,
+ * 커밋된 삭제는 성공할 때까지 재시도하므로 S3에 고아 객체가 남지 않습니다.
+ * <p>
+ * 내용 기반 이름으로 업로드한 객체는 업로드 전에 유예 시간 뒤의 삭제를 예약해 두고({@link #deferDeletion}),
+ * 이미지 행을 저장할 때 참조 수를 늘립니다({@link #addReferences}). 삭제 시각에 참조가 남아 있는 객체는 삭제하지 않으므로
+ * 저장에 실패했거나 처리 도중 중단된 업로드만 정리됩니다.
+ * <p>
+ * 백그라운드 작업은 S3 호출 동안 트랜잭션과 행 잠금을 잡지 않도록 한 묶음을 세 단계로 처리합니다.
+ * 1. 짧은 트랜잭션에서 다른 인스턴스가 잠근 항목은 건너뛰고(SKIP LOCKED) 참조를 다시 확인한 뒤,
+ *    참조가 없는 항목을 일정 시간 점유하고 커밋 (점유하는 동안 다른 정리 작업은 가져가지 않음)
+ * 2. 트랜잭션 없이 S3에서 일괄 삭제
+ * 3. 짧은 트랜잭션에서 아직 점유 중인 항목만 대기열에서 제거하거나 재시도를 예약
+ * 점유 중인 객체를 다시 업로드하려는 요청은 삭제 예약에서 점유가 끝날 때까지 기다리므로,
+ * 삭제가 끝난 뒤에 객체가 없는 것을 보고 다시 업로드하거나, 삭제 전에 예약을 늦춰 삭제 대상에서 빠집니다.
+ * 삭제 예약 시 이미 대기열에 있던 객체는 S3에 남아 있더라도 업로드를 생략하지 않고 다시 씁니다.
+ */
+@Slf4j
+@Service
+public class S3DeletionService {
+
+    /**
+     * S3 일괄 삭제 요청 한 번에 보낼 수 있는 최대 파일 수
+     */
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    /**
+     * 한 번에 처리할 최대 항목 수 (항목마다 원본과 축소 이미지를 함께 삭제)
+     */
+    static final int DRAIN_BATCH_SIZE = MAX_KEYS_PER_REQUEST / (ImageVariant.values().length + 1);
+
+    /**
+     * 이 횟수 이상 실패한 항목은 경고 로그를 남김
+     */
+    private static final int WARN_ATTEMPTS = 5;
+
+    /**
+     * 삭제 예약 시 정리 작업의 점유가 끝났는지 다시 확인하는 간격
+     */
+    private static final long CLAIM_POLL_INTERVAL_MILLIS = 100;
+
+    private final AwsS3Service awsS3Service;
+    private final PendingDeletionRepository pendingDeletionRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final long retryInitialDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final long claimLeaseMillis;
+
+    public S3DeletionService(
+            AwsS3Service awsS3Service,
+            PendingDeletionRepository pendingDeletionRepository,
+            StoredObjectRepository storedObjectRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${cloud.aws.s3.deletion.retry-initial-delay-ms:5000}") long retryInitialDelayMillis,
+            @Value("${cloud.aws.s3.deletion.retry-max-delay-ms:3600000}") long retryMaxDelayMillis,
+            @Value("${cloud.aws.s3.deletion.claim-lease-ms:300000}") long claimLeaseMillis) {
+        this.awsS3Service = awsS3Service;
+        this.pendingDeletionRepository = pendingDeletionRepository;
+        this.storedObjectRepository = storedObjectRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retryInitialDelayMillis = retryInitialDelayMillis;
+        this.retryMaxDelayMillis = retryMaxDelayMillis;
+        this.claimLeaseMillis = claimLeaseMillis;
+    }
+
+    /**
+     * 이미지 행이 더 이상 가리키지 않는 S3 객체의 참조를 반환합니다.
+     * 이미지 행 삭제와 같은 트랜잭션에서 호출해야 하며, 참조가 모두 없어진 객체만 삭제 대기열에 기록합니다.
+     * 참조 수가 기록되지 않은 객체(UUID 이름)는 바로 삭제 대기열에 기록합니다.
+     *
+     * @param fileNames 삭제된 이미지 행의 원본 파일명(S3 키) 목록 (같은 파일명이 여러 번 나오면 그만큼 참조를 반환)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Collection<String> fileNames) {
+        Map<String, Long> counts = countByFileName(fileNames);
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        counts.forEach(storedObjectRepository::releaseReferences);
+
+        Set<String> referenced = new HashSet<>(storedObjectRepository.findReferencedFileNames(counts.keySet()));
+        enqueue(counts.keySet().stream()
+                .filter(fileName -> !referenced.contains(fileName))
+                .toList());
+    }
+
+    /**
+     * 새로 저장한 이미지 행이 가리키는 S3 객체의 참조 수를 늘립니다.
+     * 이미지 행 저장과 같은 트랜잭션에서 호출해야 합니다.
+     * 참조 수 행이 없는 객체는 별도 트랜잭션에서 먼저 만든 뒤 현재 트랜잭션에서 원자적으로 늘리므로,
+     * 같은 객체를 동시에 처음 참조하는 요청이 있어도 기본 키 충돌로 실패하지 않습니다.
+     *
+     * @param fileNames 저장된 이미지 행의 원본 파일명(S3 키) 목록 (같은 파일명이 여러 번 나오면 그만큼 참조를 추가)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addReferences(Collection<String> fileNames) {
+        Map<String, Long> counts = countByFileName(fileNames);
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        createMissing(counts.keySet());
+        counts.forEach(storedObjectRepository::addReferences);
+
+        // 업로드 전에 예약해 둔 삭제는 더 이상 필요 없음
+        pendingDeletionRepository.deleteByFileNames(counts.keySet());
+    }
+
+    /**
+     * 업로드할 S3 객체의 삭제를 유예 시간 뒤로 예약합니다 (업로드 전에 호출).
+     * 그때까지 이미지 행이 이 객체를 가리키지 않으면 정리 작업이 삭제합니다.
+     * 이미 예약된 삭제가 더 이르면 주어진 시각으로 늦춥니다.
+     * 정리 작업이 같은 항목을 S3에서 삭제하는 중(점유 중)이면 점유가 끝날 때까지 기다립니다.
+     * 방금 삭제한 내용을 다시 업로드하는 드문 경우에만 기다리며, 기다리는 동안 트랜잭션을 열어 두지 않습니다.
+     * 트랜잭션이 없는 상태에서 호출해야 합니다.
+     *
+     * @param fileNames 업로드할 파일명(S3 키) 목록
+     * @param deleteAt  삭제할 시각 (epoch millis)
+     * @return 이미 삭제 대기열에 있던 파일명 (S3에 객체가 남아 있더라도 업로드를 생략하면 안 됨)
+     */
+    public Set<String> deferDeletion(Collection<String> fileNames, long deleteAt) {
+        List<String> distinctFileNames = distinct(fileNames);
+        if (distinctFileNames.isEmpty()) {
+            return Set.of();
+        }
+
+        while (true) {
+            Set<String> queued = transactionTemplate.execute(status -> tryDefer(distinctFileNames, deleteAt));
+            if (queued != null) {
+                return queued;
+            }
+            try {
+                Thread.sleep(CLAIM_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("삭제 예약 대기 중 인터럽트됨", e);
+            }
+        }
+    }
+
+    /**
+     * 삭제할 S3 키를 현재 트랜잭션의 삭제 대기열에 기록합니다.
+     * 이미지 행 삭제와 같은 트랜잭션에서 호출해야 하며, 실제 삭제는 커밋 이후 백그라운드에서 원본과 축소 이미지를 함께 수행합니다.
+     *
+     * @param fileNames 삭제할 원본 파일명(S3 키) 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> fileNames) {
+        List<String> distinctFileNames = distinct(fileNames);
+        if (distinctFileNames.isEmpty()) {
+            return;
+        }
+
+        saveNew(distinctFileNames, System.currentTimeMillis());
+    }
+
+    /**
+     * 삭제 시각이 된 대기열 항목을 S3에서 일괄 삭제합니다 (백그라운드 작업).
+     * 다시 이미지 행이 가리키게 된 객체는 삭제하지 않고 대기열에서만 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.deletion.drain-interval-ms:5000}")
+    public void drain() {
+        int deleted = 0;
+
+        while (true) {
+            DrainResult result = drainBatch(System.currentTimeMillis());
+            deleted += result.deleted();
+            if (result.done()) {
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("S3 객체 {} 개 삭제 완료", deleted);
+        }
+    }
+
+    /**
+     * 삭제 시각이 된 항목을 최대 한 묶음 처리합니다.
+     * 항목 점유와 결과 반영은 각각 짧은 트랜잭션에서 하고, S3 삭제는 트랜잭션 없이 호출합니다.
+     */
+    private DrainResult drainBatch(long now) {
+        Claim claim = transactionTemplate.execute(status -> claim(now));
+        boolean done = claim.dueCount() < DRAIN_BATCH_SIZE;
+        if (claim.items().isEmpty()) {
+            return new DrainResult(0, done);
+        }
+
+        // S3 키(원본, 축소 이미지) → 대기열 항목
+        Map<String, String> originalByKey = new HashMap<>();
+        for (PendingDeletion item : claim.items()) {
+            ImageVariant.withVariants(item.getFileName())
+                    .forEach(key -> originalByKey.put(key, item.getFileName()));
+        }
+
+        Set<String> failed;
+        try {
+            failed = awsS3Service.deleteFilesAndGetFailures(new ArrayList<>(originalByKey.keySet())).stream()
+                    .map(originalByKey::get)
+                    .collect(Collectors.toSet());
+        } catch (AmazonClientException e) {
+            log.warn("S3 일괄 삭제 실패 - 파일 수: {}, 원인: {}", originalByKey.size(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> complete(claim, List.of(), claim.items(), now));
+            return new DrainResult(0, true);
+        }
+
+        List<String> succeeded = claim.items().stream()
+                .map(PendingDeletion::getFileName)
+                .filter(fileName -> !failed.contains(fileName))
+                .toList();
+        List<PendingDeletion> retries = claim.items().stream()
+                .filter(item -> failed.contains(item.getFileName()))
+                .toList();
+
+        int deleted = transactionTemplate.execute(status -> complete(claim, succeeded, retries, now));
+        return new DrainResult(deleted, done);
+    }
+
+    /**
+     * 삭제 시각이 된 항목을 최대 한 묶음 가져와 점유합니다 (짧은 트랜잭션).
+     * 참조 수 행에 쓰기 잠금을 건 채로 참조를 다시 확인하여, 다시 참조된 객체는 대기열에서만 제거하고
+     * 참조가 없는 객체만 점유합니다.
+     */
+    private Claim claim(long now) {
+        List<PendingDeletion> due = pendingDeletionRepository.findDueForUpdate(now, PageRequest.of(0, DRAIN_BATCH_SIZE));
+        if (due.isEmpty()) {
+            return new Claim(List.of(), 0, 0);
+        }
+
+        List<String> fileNames = due.stream().map(PendingDeletion::getFileName).toList();
+        Set<String> referenced = storedObjectRepository.findAllForUpdate(fileNames).stream()
+                .filter(storedObject -> storedObject.getRefCount() > 0)
+                .map(StoredObject::getFileName)
+                .collect(Collectors.toSet());
+        List<PendingDeletion> unreferenced = due.stream()
+                .filter(item -> !referenced.contains(item.getFileName()))
+                .toList();
+
+        if (!referenced.isEmpty()) {
+            pendingDeletionRepository.deleteByFileNames(referenced);
+        }
+        long claimedUntil = now + claimLeaseMillis;
+        if (!unreferenced.isEmpty()) {
+            pendingDeletionRepository.claim(
+                    unreferenced.stream().map(PendingDeletion::getFileName).toList(), claimedUntil);
+        }
+        return new Claim(unreferenced, claimedUntil, due.size());
+    }
+
+    /**
+     * S3 삭제 결과를 대기열에 반영합니다 (짧은 트랜잭션).
+     * 점유 시간이 지나 다른 정리 작업이 다시 가져간 항목은 건드리지 않습니다.
+     * 참조 수 기록은 잠금을 건 삭제 쿼리에서 참조가 여전히 없는 경우에만 삭제합니다.
+     *
+     * @return 삭제한 객체 수
+     */
+    private int complete(Claim claim, List<String> succeeded, List<PendingDeletion> retries, long now) {
+        Set<String> owned = pendingDeletionRepository.findAllForUpdate(
+                        claim.items().stream().map(PendingDeletion::getFileName).toList()).stream()
+                .filter(item -> item.getClaimedUntil() == claim.claimedUntil())
+                .map(PendingDeletion::getFileName)
+                .collect(Collectors.toSet());
+
+        List<String> deleted = succeeded.stream().filter(owned::contains).toList();
+        if (!deleted.isEmpty()) {
+            pendingDeletionRepository.deleteByFileNames(deleted);
+            storedObjectRepository.deleteUnreferenced(deleted);
+        }
+        scheduleRetry(retries.stream().filter(item -> owned.contains(item.getFileName())).toList(), now);
+
+        return deleted.size();
+    }
+
+    /**
+     * 삭제 예약을 한 번 시도합니다 (deferDeletion의 트랜잭션 안에서 호출).
+     * 대기열 항목에 쓰기 잠금을 걸고 확인하므로, 정리 작업이 점유하기 전에 예약을 늦추거나 점유가 끝난 뒤에 예약합니다.
+     *
+     * @return 이미 대기열에 있던 파일명 (정리 작업이 점유 중인 항목이 있으면 null)
+     */
+    private Set<String> tryDefer(List<String> fileNames, long deleteAt) {
+        long now = System.currentTimeMillis();
+        List<PendingDeletion> queued = pendingDeletionRepository.findAllForUpdate(fileNames);
+        if (queued.stream().anyMatch(item -> item.isClaimed(now))) {
+            return null;
+        }
+
+        pendingDeletionRepository.postpone(fileNames, deleteAt);
+        return saveNew(fileNames, deleteAt);
+    }
+
+    /**
+     * 참조 수 행이 없는 객체의 행을 참조 0으로 만듭니다 (객체마다 별도 트랜잭션).
+     * 다른 트랜잭션이 먼저 만든 경우의 기본 키 충돌은 무시합니다.
+     * 호출한 트랜잭션이 롤백되어 참조 0인 행이 남더라도, 삭제 대기열 처리 시 함께 정리됩니다.
+     */
+    private void createMissing(Set<String> fileNames) {
+        Set<String> existing = storedObjectRepository.findAllById(fileNames).stream()
+                .map(StoredObject::getFileName)
+                .collect(Collectors.toSet());
+
+        for (String fileName : fileNames) {
+            if (existing.contains(fileName)) {
+                continue;
+            }
+            try {
+                newTransactionTemplate.executeWithoutResult(status ->
+                        storedObjectRepository.saveAndFlush(new StoredObject(fileName, 0)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("참조 수 행을 다른 트랜잭션이 먼저 생성함 - 파일명: {}", fileName);
+            }
+        }
+    }
+
+    /**
+     * 아직 대기열에 없는 파일명만 주어진 삭제 시각으로 기록합니다.
+     *
+     * @return 이미 대기열에 있던 파일명
+     */
+    private Set<String> saveNew(List<String> fileNames, long nextAttemptAt) {
+        Set<String> queued = pendingDeletionRepository.findAllById(fileNames).stream()
+                .map(PendingDeletion::getFileName)
+                .collect(Collectors.toSet());
+
+        pendingDeletionRepository.saveAll(fileNames.stream()
+                .filter(fileName -> !queued.contains(fileName))
+                .map(fileName -> new PendingDeletion(fileName, nextAttemptAt))
+                .toList());
+        return queued;
+    }
+
+    /**
+     * 실패한 항목의 다음 시도 시각을 시도 횟수에 따라 늦춥니다.
+     * 같은 시도 횟수끼리 묶어 한 번의 쿼리로 갱신합니다.
+     */
+    private void scheduleRetry(List<PendingDeletion> failed, long now) {
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<String>> fileNamesByAttempts = failed.stream()
+                .collect(Collectors.groupingBy(item -> item.getAttempts() + 1,
+                        Collectors.mapping(PendingDeletion::getFileName, Collectors.toList())));
+
+        fileNamesByAttempts.forEach((attempts, fileNames) -> {
+            pendingDeletionRepository.updateRetry(fileNames, attempts, now + retryDelay(attempts));
+            if (attempts >= WARN_ATTEMPTS) {
+                log.warn("S3 객체 삭제 재시도 - 시도 횟수: {}, 파일 수: {}, 예: {}", attempts, fileNames.size(), fileNames.get(0));
+            }
+        });
+    }
+
+    /**
+     * 재시도 간격: 처음 간격에서 시작해 실패할 때마다 두 배, 최대 간격으로 제한
+     */
+    long retryDelay(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(retryMaxDelayMillis, retryInitialDelayMillis << shift);
+    }
+
+    private static List<String> distinct(Collection<String> fileNames) {
+        return fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static Map<String, Long> countByFileName(Collection<String> fileNames) {
+        return fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.isEmpty())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    /**
+     * 정리 작업이 점유한 항목
+     *
+     * @param items        S3에서 삭제할 항목 (참조가 없는 항목)
+     * @param claimedUntil 점유 시각
+     * @param dueCount     가져온 항목 수 (다시 참조되어 대기열에서만 제거한 항목 포함)
+     */
+    private record Claim(List<PendingDeletion> items, long claimedUntil, int dueCount) {
+    }
+
+    /**
+     * 한 묶음의 처리 결과
+     *
+     * @param deleted 삭제한 객체 수
+     * @param done    더 처리할 항목이 없거나 이번 실행을 멈춰야 하는지 여부
+     */
+    private record DrainResult(int deleted, boolean done) {
+    }
+}
@@ -0,0 +1,445 @@
+package thonlivethondie.artconnect.service;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import thonlivethondie.artconnect.common.exception.BadRequestException;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.dto.UploadIntentRequestDto;
+import thonlivethondie.artconnect.dto.UploadIntentResponseDto;
+import thonlivethondie.artconnect.entity.PendingUpload;
+import thonlivethondie.artconnect.repository.PendingUploadRepository;
+import thonlivethondie.artconnect.service.upload.MultipartStreamParser;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+import thonlivethondie.artconnect.service.upload.UploadBufferPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 업로드를 DB 트랜잭션과 분리하여 처리하는 서비스 클래스
+ * <p>
+ * S3 전송 시간 동안 DB 커넥션(과 행 잠금)을 붙잡지 않도록 두 단계로 나누어 처리합니다.
+ * 1. 파일을 읽으면서 계산한 SHA-256 체크섬(과 내용으로 판별한 확장자)을 파일명으로 정하고, 유예 시간 뒤의 삭제를
+ *    예약한 뒤 트랜잭션 밖에서 S3에 업로드 (같은 내용의 객체가 이미 있으면 업로드 생략)
+ * 2. 짧은 트랜잭션을 열어 이미지 행을 저장하고, 같은 트랜잭션에서 객체의 참조 수를 늘리고 삭제 예약을 취소
+ * 2단계가 실패했거나 처리 도중 서버가 중단된 업로드는 예약된 시각에 {@link S3DeletionService}가 정리하며,
+ * 그 사이 다른 이미지 행이 같은 객체를 가리키게 되면 삭제하지 않습니다.
+ * <p>
+ * presigned URL 업로드에서는 1단계를 클라이언트가 S3에 직접 수행하므로 이미지 데이터가 API 서버를 거치지 않습니다.
+ * URL 발급 시 대기 목록에 기록하고, 완료 요청에서 업로드된 객체의 존재와 크기를 확인한 뒤 2단계를 수행합니다.
+ * 발급 시점에는 내용을 알 수 없으므로 presigned URL 업로드는 임의 파일명(UUID)을 사용하며 중복을 제거하지 않습니다.
+ */
+@Slf4j
+@Service
+public class StagedUploadService {
+
+    /**
+     * 한 번에 정리할 최대 파일 수 (S3 일괄 삭제 요청 한도)
+     */
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    /**
+     * multipart 경계 탐색용 읽기 버퍼 크기
+     */
+    private static final int PARSE_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * 일반 폼 필드 하나의 최대 크기와 최대 개수
+     */
+    private static final int MAX_FIELD_SIZE = 64 * 1024;
+    private static final int MAX_FIELD_COUNT = 16;
+
+    private final AwsS3Service awsS3Service;
+    private final S3DeletionService s3DeletionService;
+    private final PendingUploadRepository pendingUploadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UploadBufferPool uploadBufferPool;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final long pendingGraceMillis;
+    private final long maxFileSizeBytes;
+    private final int maxFilesPerRequest;
+    private final long presignExpirationMillis;
+
+    public StagedUploadService(
+            AwsS3Service awsS3Service,
+            S3DeletionService s3DeletionService,
+            PendingUploadRepository pendingUploadRepository,
+            TransactionTemplate transactionTemplate,
+            UploadBufferPool uploadBufferPool,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${cloud.aws.s3.upload.pending-grace-minutes:60}") long pendingGraceMinutes,
+            @Value("${cloud.aws.s3.upload.stream.max-file-size-mb:10}") long maxFileSizeMb,
+            @Value("${cloud.aws.s3.upload.stream.max-files:20}") int maxFilesPerRequest,
+            @Value("${cloud.aws.s3.upload.presign.expiration-minutes:10}") long presignExpirationMinutes) {
+        this.awsS3Service = awsS3Service;
+        this.s3DeletionService = s3DeletionService;
+        this.pendingUploadRepository = pendingUploadRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.uploadBufferPool = uploadBufferPool;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.pendingGraceMillis = TimeUnit.MINUTES.toMillis(pendingGraceMinutes);
+        this.maxFileSizeBytes = maxFileSizeMb * 1024 * 1024;
+        this.maxFilesPerRequest = maxFilesPerRequest;
+        this.presignExpirationMillis = TimeUnit.MINUTES.toMillis(presignExpirationMinutes);
+    }
+
+    /**
+     * 이미지를 트랜잭션 밖에서 업로드한 뒤, 짧은 트랜잭션 안에서 이미지 행을 저장합니다.
+     * 파일마다 한 번만 읽으며, 읽으면서 계산한 체크섬으로 파일명을 정합니다 ({@link AwsS3Service#uploadStream}).
+     * 이미 S3에 있는 내용의 이미지는 업로드하지 않고 기존 객체를 가리킵니다.
+     * 트랜잭션이 없는 상태에서 호출해야 합니다.
+     *
+     * @param images     업로드할 이미지 목록 (빈 파일 제외)
+     * @param access     공개 범위
+     * @param saveImages 업로드된 이미지로 엔티티를 저장하고 응답을 만드는 작업 (트랜잭션 안에서 실행)
+     * @return saveImages의 반환값
+     * @throws BadRequestException S3 업로드 실패(IMAGE_UPLOAD_FAILED)
+     */
+    public <T> T uploadAndSave(List<MultipartFile> images, ObjectAccess access,
+                               Function<List<StagedImage>, T> saveImages) {
+        List<StagedImage> stagedImages = new ArrayList<>(images.size());
+        List<String> fileNames = new ArrayList<>(images.size());
+        int uploadedCount = 0;
+
+        byte[] buffer = uploadBufferPool.acquire();
+        try {
+            // 1. 정리를 예약한 뒤 내용 기반 이름으로 업로드 (트랜잭션 밖, 같은 내용의 객체가 있으면 전송 생략)
+            //    크기는 multipart 설정에서 이미 제한됨
+            for (MultipartFile image : images) {
+                AwsS3Service.StreamedObject uploaded;
+                try (InputStream inputStream = image.getInputStream()) {
+                    uploaded = awsS3Service.uploadStream(image.getContentType(), inputStream, buffer,
+                            Long.MAX_VALUE, access, this::deferDeletion);
+                }
+                if (!uploaded.reused()) {
+                    uploadedCount++;
+                }
+                fileNames.add(uploaded.fileName());
+                stagedImages.add(new StagedImage(uploaded.fileName(), uploaded.url(), image.getOriginalFilename(),
+                        uploaded.size(), image.getContentType(), uploaded.checksum()));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("이미지 업로드 실패", e);
+            throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        } finally {
+            uploadBufferPool.release(buffer);
+        }
+        log.info("S3 업로드 완료 - 이미지 수: {}, 업로드한 파일 수: {}", images.size(), uploadedCount);
+
+        // 2. 이미지 행 저장 및 참조 수 갱신 (짧은 트랜잭션)
+        return save(fileNames, () -> saveImages.apply(stagedImages));
+    }
+
+    /**
+     * multipart 요청 본문을 읽으면서 파일 파트를 바로 S3에 업로드한 뒤, 짧은 트랜잭션 안에서 이미지 행을 저장합니다.
+     * MultipartFile처럼 요청 전체를 메모리나 임시 파일에 저장하지 않으며, 파일마다 고정 크기 버퍼 하나만 사용합니다.
+     * 트랜잭션이 없는 상태에서 호출해야 합니다.
+     *
+     * @param body        요청 본문
+     * @param contentType 요청의 Content-Type 헤더
+     * @param access      공개 범위
+     * @param saveImages  폼 필드와 업로드된 이미지로 엔티티를 저장하고 응답을 만드는 작업 (트랜잭션 안에서 실행)
+     * @return saveImages의 반환값
+     * @throws BadRequestException 요청 형식 오류(INVALID_MULTIPART_REQUEST), 크기 초과(FILE_SIZE_EXCEEDED),
+     *                             개수 초과(FILE_COUNT_EXCEEDED), S3 업로드 실패(IMAGE_UPLOAD_FAILED)
+     */
+    public <T> T streamAndSave(InputStream body, String contentType, ObjectAccess access,
+                               Function<StreamedForm, T> saveImages) {
+        String boundary = MultipartStreamParser.extractBoundary(contentType);
+        if (boundary == null) {
+            throw new BadRequestException(ErrorCode.INVALID_MULTIPART_REQUEST);
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        List<StagedImage> stagedImages = new ArrayList<>();
+        List<String> fileNames = new ArrayList<>();
+
+        byte[] buffer = uploadBufferPool.acquire();
+        try {
+            MultipartStreamParser parser = new MultipartStreamParser(body, boundary, new byte[PARSE_BUFFER_SIZE]);
+            MultipartStreamParser.Part part;
+            while ((part = parser.nextPart()) != null) {
+                if (!part.isFile()) {
+                    if (fields.size() >= MAX_FIELD_COUNT) {
+                        throw new BadRequestException(ErrorCode.INVALID_MULTIPART_REQUEST);
+                    }
+                    fields.put(part.name(), part.readString(MAX_FIELD_SIZE));
+                    continue;
+                }
+
+                // 파일을 선택하지 않은 파일 입력은 파일명이 비어 있음
+                if (part.filename().isEmpty()) {
+                    continue;
+                }
+                if (stagedImages.size() >= maxFilesPerRequest) {
+                    throw new BadRequestException(ErrorCode.FILE_COUNT_EXCEEDED);
+                }
+
+                // 1. 정리를 예약한 뒤 S3로 바로 전송 (같은 내용의 객체가 있으면 전송 생략)
+                AwsS3Service.StreamedObject uploaded = awsS3Service.uploadStream(
+                        part.contentType(), part.body(), buffer, maxFileSizeBytes, access, this::deferDeletion);
+                fileNames.add(uploaded.fileName());
+                stagedImages.add(new StagedImage(uploaded.fileName(), uploaded.url(), part.filename(),
+                        uploaded.size(), part.contentType(), uploaded.checksum()));
+            }
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (IOException e) {
+            log.warn("multipart 요청 읽기 실패: {}", e.getMessage());
+            throw new BadRequestException(ErrorCode.INVALID_MULTIPART_REQUEST, e);
+        } catch (RuntimeException e) {
+            log.error("이미지 업로드 실패", e);
+            throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        } finally {
+            uploadBufferPool.release(buffer);
+        }
+        log.info("S3 스트리밍 업로드 완료 - 업로드된 파일 수: {}", stagedImages.size());
+
+        // 2. 이미지 행 저장 및 참조 수 갱신 (짧은 트랜잭션)
+        StreamedForm form = new StreamedForm(fields, stagedImages);
+        return save(fileNames, () -> saveImages.apply(form));
+    }
+
+    /**
+     * S3에 객체를 쓰기 전에 유예 시간 뒤의 삭제를 예약합니다 ({@link AwsS3Service#uploadStream}의 콜백).
+     *
+     * @return 삭제 대기 중이던 객체라서 기존 객체를 재사용하면 안 되는 경우 true
+     */
+    private boolean deferDeletion(String fileName) {
+        return !s3DeletionService.deferDeletion(List.of(fileName), System.currentTimeMillis() + pendingGraceMillis).isEmpty();
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 수 있도록 파일별 presigned PUT URL을 발급합니다.
+     * 공개 범위의 권한을 URL에 서명하고 비공개 파일은 "private/" 경로에 두므로, 비공개 파일은 업로드 직후부터 비공개입니다.
+     * 발급한 파일명은 요청한 사용자, 파일 정보, 공개 범위와 함께 업로드 대기 목록에 기록하며,
+     * 완료 요청이 오지 않으면 정리 작업이 업로드된 객체와 함께 삭제합니다.
+     *
+     * @param userId 요청한 사용자 ID
+     * @param access 공개 범위
+     * @param files  업로드할 파일 정보
+     * @return 파일별 업로드 URL
+     * @throws BadRequestException 이미지가 아닌 파일(INVALID_IMAGE_FILE), 크기 초과(FILE_SIZE_EXCEEDED),
+     *                             개수 초과(FILE_COUNT_EXCEEDED)
+     */
+    public UploadIntentResponseDto createUploadIntents(Long userId, ObjectAccess access,
+                                                       List<UploadIntentRequestDto.FileInfo> files) {
+        if (files.size() > maxFilesPerRequest) {
+            throw new BadRequestException(ErrorCode.FILE_COUNT_EXCEEDED);
+        }
+        for (UploadIntentRequestDto.FileInfo file : files) {
+            if (!file.contentType().startsWith("image/")) {
+                throw new BadRequestException(ErrorCode.INVALID_IMAGE_FILE);
+            }
+            if (file.size() > maxFileSizeBytes) {
+                throw new BadRequestException(ErrorCode.FILE_SIZE_EXCEEDED);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + presignExpirationMillis;
+        Date expiration = new Date(expiresAt);
+
+        List<PendingUpload> pendingUploads = new ArrayList<>(files.size());
+        List<UploadIntentResponseDto.Intent> intents = new ArrayList<>(files.size());
+        for (UploadIntentRequestDto.FileInfo file : files) {
+            String fileName = access.fileNameOf(awsS3Service.createFileName(file.filename()));
+            pendingUploads.add(new PendingUpload(
+                    fileName, now, userId, file.filename(), file.contentType(), file.size(), access));
+            intents.add(new UploadIntentResponseDto.Intent(
+                    fileName,
+                    awsS3Service.generateUploadUrl(fileName, file.contentType(), file.size(), access, expiration),
+                    awsS3Service.directUploadHeaders(file.contentType(), file.size(), access),
+                    expiresAt));
+        }
+        pendingUploadRepository.saveAll(pendingUploads);
+
+        log.info("presigned 업로드 URL 발급 - userId: {}, 파일 수: {}", userId, intents.size());
+        return new UploadIntentResponseDto(intents);
+    }
+
+    /**
+     * presigned URL로 업로드된 파일을 확인한 뒤, 짧은 트랜잭션 안에서 이미지 행을 저장합니다.
+     * 본인이 같은 공개 범위로 발급받은 파일명인지, S3에 객체가 있고 요청한 크기와 같은지 HEAD 요청으로 확인합니다.
+     * (URL 서명에 크기가 포함되어 있지만, 서명을 검사하지 않는 저장소에 대비해 다시 확인)
+     * 확인에 실패해도 업로드된 객체는 바로 삭제하지 않으므로 클라이언트가 업로드를 마친 뒤 다시 요청할 수 있습니다.
+     * 트랜잭션이 없는 상태에서 호출해야 합니다.
+     *
+     * @param userId     요청한 사용자 ID
+     * @param fileNames  업로드를 마친 파일명 목록
+     * @param access     공개 범위
+     * @param saveImages 업로드된 이미지로 엔티티를 저장하고 응답을 만드는 작업 (트랜잭션 안에서 실행)
+     * @return saveImages의 반환값
+     * @throws BadRequestException 개수 초과(FILE_COUNT_EXCEEDED), 발급 내역이나 객체가 없거나 공개 범위가 다른 경우(UPLOAD_NOT_FOUND),
+     *                             크기가 다른 경우(UPLOAD_SIZE_MISMATCH)
+     */
+    public <T> T completeAndSave(Long userId, List<String> fileNames, ObjectAccess access,
+                                 Function<List<StagedImage>, T> saveImages) {
+        List<String> distinctFileNames = fileNames.stream().distinct().toList();
+        if (distinctFileNames.size() > maxFilesPerRequest) {
+            throw new BadRequestException(ErrorCode.FILE_COUNT_EXCEEDED);
+        }
+
+        // 1. 본인이 같은 공개 범위로 발급받은 업로드인지 확인
+        Map<String, PendingUpload> pendingUploads = pendingUploadRepository.findAllById(distinctFileNames).stream()
+                .collect(Collectors.toMap(PendingUpload::getFileName, Function.identity()));
+
+        // 2. S3 객체 존재와 크기 확인 (트랜잭션 밖)
+        List<StagedImage> stagedImages = new ArrayList<>(distinctFileNames.size());
+        for (String fileName : distinctFileNames) {
+            PendingUpload pendingUpload = pendingUploads.get(fileName);
+            if (pendingUpload == null || !pendingUpload.isDirectUploadOf(userId, access)) {
+                throw new BadRequestException(ErrorCode.UPLOAD_NOT_FOUND);
+            }
+
+            ObjectMetadata metadata;
+            try {
+                metadata = awsS3Service.findObjectMetadata(fileName);
+            } catch (AmazonClientException e) {
+                log.error("업로드 확인 실패 - 파일명: {}", fileName, e);
+                throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+            }
+            if (metadata == null) {
+                throw new BadRequestException(ErrorCode.UPLOAD_NOT_FOUND);
+            }
+            if (metadata.getContentLength() != pendingUpload.getExpectedSize()) {
+                log.warn("업로드 크기 불일치 - 파일명: {}, 요청: {}, 실제: {}",
+                        fileName, pendingUpload.getExpectedSize(), metadata.getContentLength());
+                throw new BadRequestException(ErrorCode.UPLOAD_SIZE_MISMATCH);
+            }
+
+            stagedImages.add(new StagedImage(fileName, awsS3Service.getFileUrl(fileName),
+                    pendingUpload.getOriginalFilename(), metadata.getContentLength(), pendingUpload.getContentType(), null));
+        }
+
+        // 3. 대기 목록 삭제 및 이미지 행 저장 (짧은 트랜잭션)
+        return transactionTemplate.execute(status -> {
+            // 같은 파일로 동시에 완료 요청이 오면 먼저 대기 목록을 삭제한 요청만 저장
+            if (pendingUploadRepository.deleteByFileNames(distinctFileNames) != distinctFileNames.size()) {
+                throw new BadRequestException(ErrorCode.UPLOAD_NOT_FOUND);
+            }
+            return saveImages.apply(stagedImages);
+        });
+    }
+
+    /**
+     * 스트리밍으로 읽은 폼 필드(JSON)를 DTO로 변환하고 검증합니다.
+     * {@code @Valid @RequestPart}와 같은 역할을 합니다.
+     *
+     * @param form 스트리밍으로 읽은 요청
+     * @param name 폼 필드 이름
+     * @param type 변환할 DTO 타입
+     * @throws BadRequestException 필드가 없거나 형식 또는 검증에 실패한 경우 (VALIDATION_ERROR)
+     */
+    public <D> D readJsonField(StreamedForm form, String name, Class<D> type) {
+        String json = form.fields().get(name);
+        if (json == null) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR, name + " 파트가 필요합니다.");
+        }
+
+        D value;
+        try {
+            value = objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR, e);
+        }
+
+        Set<ConstraintViolation<D>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        return value;
+    }
+
+    /**
+     * 이미지 행을 저장하고 같은 트랜잭션에서 객체의 참조 수를 늘립니다.
+     * 실패하면 업로드한 객체는 예약된 시각에 정리 작업이 삭제합니다 (같은 객체를 다른 요청이 사용할 수 있으므로 바로 삭제하지 않음).
+     */
+    private <T> T save(List<String> fileNames, Supplier<T> saveImages) {
+        return transactionTemplate.execute(status -> {
+            T result = saveImages.get();
+            s3DeletionService.addReferences(fileNames);
+            return result;
+        });
+    }
+
+    /**
+     * 유예 시간이 지나도록 대기 목록에 남아 있는 업로드를 정리합니다 (백그라운드 작업).
+     * 여러 인스턴스에서 동시에 실행되어도 같은 객체를 삭제할 뿐이므로 안전합니다.
+     */
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.upload.reconcile-interval-ms:600000}")
+    public void reconcilePendingUploads() {
+        long threshold = System.currentTimeMillis() - pendingGraceMillis;
+        int removed = 0;
+
+        while (true) {
+            List<String> fileNames = pendingUploadRepository.findFileNamesCreatedBefore(
+                    threshold, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+            if (fileNames.isEmpty()) {
+                break;
+            }
+
+            try {
+                awsS3Service.deleteFiles(fileNames);
+            } catch (AmazonClientException e) {
+                log.warn("미완료 업로드 정리 실패 - 파일 수: {}, 원인: {}", fileNames.size(), e.getMessage());
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> pendingUploadRepository.deleteByFileNames(fileNames));
+            removed += fileNames.size();
+        }
+
+        if (removed > 0) {
+            log.info("미완료 업로드 {} 개 정리 완료", removed);
+        }
+    }
+
+    /**
+     * S3에 업로드되어 이미지 행 저장을 기다리는 파일
+     *
+     * @param fileName         S3 키 (presigned URL 업로드가 아니면 체크섬과 같은 내용 기반 이름)
+     * @param imageUrl         S3 URL
+     * @param originalFilename 원본 파일명
+     * @param size             파일 크기
+     * @param contentType      콘텐츠 타입
+     * @param checksum         SHA-256 체크섬 (presigned URL 업로드는 null)
+     */
+    public record StagedImage(String fileName, String imageUrl, String originalFilename, long size,
+                              String contentType, String checksum) {
+    }
+
+    /**
+     * 스트리밍으로 읽은 multipart 요청
+     *
+     * @param fields 일반 폼 필드 (이름 → 값)
+     * @param images 업로드된 이미지 (요청에 포함된 순서)
+     */
+    public record StreamedForm(Map<String, String> fields, List<StagedImage> images) {
+    }
+}
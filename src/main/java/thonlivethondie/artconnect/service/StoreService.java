@@ -2,10 +2,14 @@ package thonlivethondie.artconnect.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.event.ImagesUploadedEvent;
 import thonlivethondie.artconnect.common.exception.BadRequestException;
 import thonlivethondie.artconnect.common.exception.ErrorCode;
 
@@ -20,7 +24,9 @@ import thonlivethondie.artconnect.entity.User;
 import thonlivethondie.artconnect.repository.StoreImageRepository;
 import thonlivethondie.artconnect.repository.StoreRepository;
 import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,7 +38,10 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final StoreImageRepository storeImageRepository;
-    private final AwsS3Service awsS3Service;
+    private final S3DeletionService s3DeletionService;
+    private final StagedUploadService stagedUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 통합 업데이트 메서드
     public StoreResponseDto createOrUpdateStore(Long userId, StoreUpdateRequestDto dto) {
@@ -105,13 +114,17 @@ public class StoreService {
 
     /**
      * 매장 이미지 업로드
+     * S3 업로드 중에는 트랜잭션을 열지 않고, 업로드가 끝난 뒤 짧은 트랜잭션으로 이미지 행만 저장합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StoreResponseDto uploadStoreImages(Long userId, List<MultipartFile> images) {
         // 1. 사용자 및 매장 유효성 검증
-        validateBusinessOwner(userId);
-        Store store = getStoreByUserId(userId);
+        Long storeId = transactionTemplate.execute(status -> {
+            validateBusinessOwner(userId);
+            return getStoreByUserId(userId).getId();
+        });
 
-        log.info("매장 이미지 업로드 시작 - storeId: {}, 이미지 개수: {}", store.getId(), images.size());
+        log.info("매장 이미지 업로드 시작 - storeId: {}, 이미지 개수: {}", storeId, images.size());
 
         // 2. 빈 파일 필터링
         List<MultipartFile> validImages = images.stream()
@@ -120,42 +133,82 @@ public class StoreService {
 
         if (validImages.isEmpty()) {
             log.warn("업로드할 유효한 이미지가 없습니다.");
-            return StoreResponseDto.from(store);
+            return transactionTemplate.execute(status -> StoreResponseDto.from(getStoreByUserId(userId)));
         }
 
-        // 3. S3에 이미지 업로드
-        try {
-            List<String> imageUrls = awsS3Service.uploadFile(validImages);
-            log.info("S3 업로드 완료 - 업로드된 URL 개수: {}", imageUrls.size());
+        // 3. S3에 이미지 업로드 (트랜잭션 밖)
+        return stagedUploadService.uploadAndSave(validImages, ObjectAccess.PUBLIC, stagedImages ->
+                saveStoreImages(userId, stagedImages));
+    }
 
-            // 4. StoreImage 엔티티 생성 및 저장
-            for (int i = 0; i < validImages.size() && i < imageUrls.size(); i++) {
-                MultipartFile image = validImages.get(i);
-                String imageUrl = imageUrls.get(i);
+    /**
+     * 매장 이미지 업로드 (스트리밍)
+     * 요청 본문을 읽으면서 이미지를 바로 S3에 업로드하므로 파일을 메모리나 임시 파일에 저장하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoreResponseDto uploadStoreImages(Long userId, InputStream body, String contentType) {
+        // 1. 사용자 및 매장 유효성 검증
+        Long storeId = transactionTemplate.execute(status -> {
+            validateBusinessOwner(userId);
+            return getStoreByUserId(userId).getId();
+        });
 
-                StoreImage storeImage = StoreImage.builder()
-                        .store(store)
-                        .imageName(image.getOriginalFilename())
-                        .imageUrl(imageUrl)
-                        .imageSize(image.getSize())
-                        .imageType(image.getContentType())
-                        .build();
-
-                store.getStoreImages().add(storeImage);
-                log.info("매장 이미지 엔티티 생성 - 파일명: {}, URL: {}, 크기: {}, 타입: {}",
-                        image.getOriginalFilename(), imageUrl, image.getSize(), image.getContentType());
-            }
+        log.info("매장 이미지 스트리밍 업로드 시작 - storeId: {}", storeId);
+
+        // 2. S3에 이미지 업로드 (트랜잭션 밖)
+        return stagedUploadService.streamAndSave(body, contentType, ObjectAccess.PUBLIC, form ->
+                saveStoreImages(userId, form.images()));
+    }
 
-            // 5. Store 엔티티 저장 (cascade로 StoreImage들도 함께 저장됨)
-            Store savedStore = storeRepository.save(store);
-            log.info("매장 이미지 업로드 완료 - 총 이미지 수: {}", savedStore.getStoreImages().size());
+    /**
+     * 매장 이미지 업로드 완료 (presigned URL)
+     * 클라이언트가 S3에 직접 업로드한 이미지를 확인한 뒤 짧은 트랜잭션으로 이미지 행만 저장합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoreResponseDto completeStoreImageUploads(Long userId, List<String> fileNames) {
+        // 1. 사용자 및 매장 유효성 검증
+        Long storeId = transactionTemplate.execute(status -> {
+            validateBusinessOwner(userId);
+            return getStoreByUserId(userId).getId();
+        });
 
-            return StoreResponseDto.from(savedStore);
+        log.info("매장 이미지 업로드 완료 요청 - storeId: {}, 이미지 개수: {}", storeId, fileNames.size());
 
-        } catch (Exception e) {
-            log.error("매장 이미지 업로드 실패", e);
-            throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        // 2. 업로드 확인 후 이미지 행 저장
+        return stagedUploadService.completeAndSave(userId, fileNames, ObjectAccess.PUBLIC, stagedImages ->
+                saveStoreImages(userId, stagedImages));
+    }
+
+    /**
+     * 업로드된 이미지로 StoreImage 엔티티를 저장합니다 (트랜잭션 안에서 호출).
+     */
+    private StoreResponseDto saveStoreImages(Long userId, List<StagedUploadService.StagedImage> stagedImages) {
+        Store store = getStoreByUserId(userId);
+
+        // 4. StoreImage 엔티티 생성 및 저장
+        for (StagedUploadService.StagedImage image : stagedImages) {
+            StoreImage storeImage = StoreImage.builder()
+                    .store(store)
+                    .imageName(image.originalFilename())
+                    .imageUrl(image.imageUrl())
+                    .imageSize(image.size())
+                    .imageType(image.contentType())
+                    .build();
+
+            store.getStoreImages().add(storeImage);
+            log.info("매장 이미지 엔티티 생성 - 파일명: {}, URL: {}, 크기: {}, 타입: {}",
+                    image.originalFilename(), image.imageUrl(), image.size(), image.contentType());
         }
+
+        // 5. Store 엔티티 저장 (cascade로 StoreImage들도 함께 저장됨)
+        Store savedStore = storeRepository.save(store);
+        log.info("매장 이미지 업로드 완료 - 총 이미지 수: {}", savedStore.getStoreImages().size());
+
+        // 6. 커밋 이후 축소 이미지 생성
+        eventPublisher.publishEvent(new ImagesUploadedEvent(ImagesUploadedEvent.Owner.STORE,
+                stagedImages.stream().map(StagedUploadService.StagedImage::fileName).toList()));
+
+        return StoreResponseDto.from(savedStore);
     }
 
     /**
@@ -174,13 +227,8 @@ public class StoreService {
             throw new BadRequestException(ErrorCode.STORE_IMAGE_ACCESS_DENIED);
         }
 
-        // 3. S3에서 이미지 삭제 (옵션)
-        try {
-            String fileName = extractFileNameFromUrl(storeImage.getImageUrl());
-            awsS3Service.deleteFile(fileName);
-        } catch (Exception e) {
-            log.warn("S3 이미지 삭제 실패: {}", storeImage.getImageUrl(), e);
-        }
+        // 3. S3 이미지 참조 반환 (다른 이미지 행이 가리키지 않으면 커밋 후 백그라운드에서 삭제)
+        s3DeletionService.release(List.of(extractFileNameFromUrl(storeImage.getImageUrl())));
 
         // 4. 데이터베이스에서 삭제
         store.getStoreImages().remove(storeImage);
@@ -26,12 +26,13 @@ public class UserService {
 
     @Transactional
     public void signUp(SignUpRequestDto dto) {
-        String encodePassword = passwordEncoder.encode(dto.password());
-
-        if (userRepository.findByEmail(dto.email()).isPresent()) {
+        // 중복 이메일이면 비밀번호 해시를 계산하지 않도록 먼저 확인
+        if (userRepository.existsByEmail(dto.email())) {
             throw new BadRequestException(ErrorCode.EMAIL_DUPLICATED);
         }
 
+        String encodePassword = passwordEncoder.encode(dto.password());
+
         String generatedNickname = NicknameGenerator.generateRandomNickname();
 
         User user = User.builder()
@@ -3,12 +3,15 @@ package thonlivethondie.artconnect.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.common.UserType;
 import thonlivethondie.artconnect.common.WorkRequestStatus;
 import thonlivethondie.artconnect.common.exception.BadRequestException;
 import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.security.AuthenticatedUser;
 import thonlivethondie.artconnect.dto.WorkRequestCreateRequestDto;
 import thonlivethondie.artconnect.dto.WorkRequestResponseDto;
 import thonlivethondie.artconnect.dto.WorkRequestSimpleDto;
@@ -23,7 +26,9 @@ import thonlivethondie.artconnect.entity.WorkRequestImage;
 import thonlivethondie.artconnect.repository.StoreRepository;
 import thonlivethondie.artconnect.repository.UserRepository;
 import thonlivethondie.artconnect.repository.WorkRequestRepository;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -35,18 +40,113 @@ public class WorkRequestService {
     private final WorkRequestRepository workRequestRepository;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
-    private final AwsS3Service awsS3Service;
+    private final StagedUploadService stagedUploadService;
+    private final S3DeletionService s3DeletionService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 작업의뢰서 생성
+     * 이미지가 있으면 트랜잭션 밖에서 S3에 먼저 업로드하고, 짧은 트랜잭션으로 의뢰서와 이미지 행을 저장합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WorkRequestResponseDto createWorkRequest(
             WorkRequestCreateRequestDto requestDto,
             List<MultipartFile> images,
             Long businessOwnerId,
             Long designerId) {
 
+        // 1. 업로드 전 유효성 검증
+        transactionTemplate.executeWithoutResult(status -> {
+            validateBusinessOwner(businessOwnerId);
+            validateDesigner(designerId);
+            getBusinessOwnerStore(businessOwnerId);
+        });
+
+        // 2. 이미지 업로드 및 저장 (있는 경우)
+        log.info("이미지 업로드 시작 - images: {}, isEmpty: {}",
+                images != null ? images.size() : "null",
+                images != null ? images.isEmpty() : "null");
+
+        // 빈 파일 필터링
+        List<MultipartFile> validImages = images == null ? List.of() : images.stream()
+                .filter(image -> !image.isEmpty())
+                .toList();
+
+        if (validImages.isEmpty()) {
+            log.info("업로드할 이미지가 없습니다.");
+            return transactionTemplate.execute(status ->
+                    saveWorkRequest(requestDto, businessOwnerId, designerId, List.of()));
+        }
+
+        log.info("유효한 이미지 개수: {}", validImages.size());
+        return stagedUploadService.uploadAndSave(validImages, ObjectAccess.PUBLIC, stagedImages ->
+                saveWorkRequest(requestDto, businessOwnerId, designerId, stagedImages));
+    }
+
+    /**
+     * 작업의뢰서 생성 (스트리밍)
+     * 요청 본문을 읽으면서 이미지를 바로 S3에 업로드하고, 짧은 트랜잭션으로 의뢰서와 이미지 행을 저장합니다.
+     * 의뢰서 내용은 "workRequest" 파트(JSON)로 전달받습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WorkRequestResponseDto createWorkRequest(
+            InputStream body,
+            String contentType,
+            Long businessOwnerId,
+            Long designerId) {
+
+        // 1. 업로드 전 유효성 검증
+        transactionTemplate.executeWithoutResult(status -> {
+            validateBusinessOwner(businessOwnerId);
+            validateDesigner(designerId);
+            getBusinessOwnerStore(businessOwnerId);
+        });
+
+        // 2. 이미지 업로드 및 저장
+        return stagedUploadService.streamAndSave(body, contentType, ObjectAccess.PUBLIC, form -> {
+            WorkRequestCreateRequestDto requestDto =
+                    stagedUploadService.readJsonField(form, "workRequest", WorkRequestCreateRequestDto.class);
+            return saveWorkRequest(requestDto, businessOwnerId, designerId, form.images());
+        });
+    }
+
+    /**
+     * 작업의뢰서 생성 (presigned URL)
+     * 클라이언트가 S3에 직접 업로드한 이미지를 확인한 뒤 짧은 트랜잭션으로 의뢰서와 이미지 행을 저장합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WorkRequestResponseDto createWorkRequestFromUploads(
+            WorkRequestCreateRequestDto requestDto,
+            List<String> fileNames,
+            Long businessOwnerId,
+            Long designerId) {
+
+        // 1. 유효성 검증
+        transactionTemplate.executeWithoutResult(status -> {
+            validateBusinessOwner(businessOwnerId);
+            validateDesigner(designerId);
+            getBusinessOwnerStore(businessOwnerId);
+        });
+
+        if (fileNames.isEmpty()) {
+            return transactionTemplate.execute(status ->
+                    saveWorkRequest(requestDto, businessOwnerId, designerId, List.of()));
+        }
+
+        // 2. 업로드 확인 후 의뢰서와 이미지 행 저장
+        return stagedUploadService.completeAndSave(businessOwnerId, fileNames, ObjectAccess.PUBLIC, stagedImages ->
+                saveWorkRequest(requestDto, businessOwnerId, designerId, stagedImages));
+    }
+
+    /**
+     * 작업의뢰서와 업로드된 이미지 행을 저장합니다 (트랜잭션 안에서 호출).
+     */
+    private WorkRequestResponseDto saveWorkRequest(
+            WorkRequestCreateRequestDto requestDto,
+            Long businessOwnerId,
+            Long designerId,
+            List<StagedUploadService.StagedImage> stagedImages) {
+
         // 1. 유효성 검증
         User businessOwner = validateBusinessOwner(businessOwnerId);
         User designer = validateDesigner(designerId);
@@ -60,28 +160,41 @@ public class WorkRequestService {
         // 4. 디자인 카테고리 설정
         workRequest.setDesignCategories(requestDto.designCategories());
 
-        // 5. WorkRequest 저장
-        WorkRequest savedWorkRequest = workRequestRepository.save(workRequest);
+        // 5. 업로드된 이미지로 WorkRequestImage 엔티티 생성
+        for (StagedUploadService.StagedImage image : stagedImages) {
+            log.info("이미지 엔티티 생성 - 파일명: {}, URL: {}, 크기: {}",
+                    image.originalFilename(), image.imageUrl(), image.size());
 
-        // 6. 이미지 업로드 및 저장 (있는 경우)
-        log.info("이미지 업로드 시작 - images: {}, isEmpty: {}",
-                images != null ? images.size() : "null",
-                images != null ? images.isEmpty() : "null");
+            WorkRequestImage workRequestImage = WorkRequestImage.builder()
+                    .workRequest(workRequest)
+                    .imageName(image.originalFilename())
+                    .imageUrl(image.imageUrl())
+                    .imageSize(image.size())
+                    .imageType(image.contentType())
+                    .build();
 
-        if (images != null && !images.isEmpty()) {
-            uploadAndSaveImages(images, savedWorkRequest);
-            log.info("이미지 업로드 완료 - 저장된 이미지 수: {}", savedWorkRequest.getWorkRequestImages().size());
-        } else {
-            log.info("업로드할 이미지가 없습니다.");
+            workRequest.getWorkRequestImages().add(workRequestImage);
         }
 
-        log.info("작업의뢰서가 생성되었습니다. ID: {}, 의뢰자: {}, 디자이너: {}",
-                savedWorkRequest.getId(), businessOwner.getNickname(), designer.getNickname());
+        // 6. WorkRequest 저장 (cascade로 WorkRequestImage들도 함께 저장됨)
+        WorkRequest savedWorkRequest = workRequestRepository.save(workRequest);
+
+        log.info("작업의뢰서가 생성되었습니다. ID: {}, 의뢰자: {}, 디자이너: {}, 이미지 수: {}",
+                savedWorkRequest.getId(), businessOwner.getNickname(), designer.getNickname(),
+                savedWorkRequest.getWorkRequestImages().size());
 
         return WorkRequestResponseDto.from(savedWorkRequest);
     }
 
+    /**
+     * 소상공인 유효성 검증
+     * 요청한 본인이면 토큰의 userType으로 확인하고 회원을 조회하지 않음 (연관관계 설정용 참조만 반환)
+     */
     private User validateBusinessOwner(Long businessOwnerId) {
+        if (AuthenticatedUser.isCurrent(businessOwnerId, UserType.BUSINESS_OWNER)) {
+            return userRepository.getReferenceById(businessOwnerId);
+        }
+
         User businessOwner = userRepository.findById(businessOwnerId)
                 .orElseThrow(() -> new BadRequestException(ErrorCode.USER_NOT_FOUND));
 
@@ -92,7 +205,16 @@ public class WorkRequestService {
         return businessOwner;
     }
 
+    /**
+     * 디자이너 유효성 검증
+     * 요청한 본인이면 토큰의 userType으로 확인하고 회원을 조회하지 않음 (연관관계 설정용 참조만 반환)
+     * 다른 회원(의뢰를 받을 디자이너 등)은 DB에서 조회하여 확인
+     */
     private User validateDesigner(Long designerId) {
+        if (AuthenticatedUser.isCurrent(designerId, UserType.DESIGNER)) {
+            return userRepository.getReferenceById(designerId);
+        }
+
         User designer = userRepository.findById(designerId)
                 .orElseThrow(() -> new BadRequestException(ErrorCode.USER_NOT_FOUND));
 
@@ -132,53 +254,13 @@ public class WorkRequestService {
     }
 
     /**
-     * 이미지 업로드 및 저장
+     * URL에서 파일명 추출
      */
-    private void uploadAndSaveImages(List<MultipartFile> images, WorkRequest workRequest) {
-        try {
-            log.info("이미지 업로드 처리 시작 - 이미지 개수: {}", images.size());
-
-            // 빈 파일 필터링
-            List<MultipartFile> validImages = images.stream()
-                    .filter(image -> !image.isEmpty())
-                    .toList();
-
-            log.info("유효한 이미지 개수: {}", validImages.size());
-
-            if (validImages.isEmpty()) {
-                log.warn("업로드할 유효한 이미지가 없습니다.");
-                return;
-            }
-
-            // S3에 이미지들 일괄 업로드
-            List<String> imageUrls = awsS3Service.uploadFile(validImages);
-            log.info("S3 업로드 완료 - 업로드된 URL 개수: {}", imageUrls.size());
-
-            // 업로드된 이미지 URL들과 원본 파일들을 매핑하여 WorkRequestImage 엔티티 생성
-            for (int i = 0; i < validImages.size() && i < imageUrls.size(); i++) {
-                MultipartFile image = validImages.get(i);
-                String imageUrl = imageUrls.get(i);
-
-                log.info("이미지 엔티티 생성 - 파일명: {}, URL: {}, 크기: {}",
-                        image.getOriginalFilename(), imageUrl, image.getSize());
-
-                WorkRequestImage workRequestImage = WorkRequestImage.builder()
-                        .workRequest(workRequest)
-                        .imageName(image.getOriginalFilename())
-                        .imageUrl(imageUrl)
-                        .imageSize(image.getSize())
-                        .imageType(image.getContentType())
-                        .build();
-
-                workRequest.getWorkRequestImages().add(workRequestImage);
-            }
-
-            log.info("이미지 엔티티 생성 완료 - 총 생성된 엔티티 수: {}", workRequest.getWorkRequestImages().size());
-
-        } catch (Exception e) {
-            log.error("이미지 업로드 실패", e);
-            throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+    private String extractFileNameFromUrl(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return "";
         }
+        return imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
     }
 
     /**
@@ -274,7 +356,12 @@ public class WorkRequestService {
             throw new BadRequestException(ErrorCode.WORK_REQUEST_ACCESS_DENIED);
         }
 
-        // 4. 의뢰서 삭제 (연관된 이미지와 카테고리도 cascade로 함께 삭제됨)
+        // 4. cascade로 함께 삭제될 이미지의 S3 객체 참조 해제 (참조가 0이 되면 같은 트랜잭션에서 삭제 대기열에 등록)
+        s3DeletionService.release(workRequest.getWorkRequestImages().stream()
+                .map(image -> extractFileNameFromUrl(image.getImageUrl()))
+                .toList());
+
+        // 5. 의뢰서 삭제 (연관된 이미지와 카테고리도 cascade로 함께 삭제됨)
         workRequestRepository.delete(workRequest);
 
         log.info("작업의뢰서가 삭제되었습니다. ID: {}, 디자이너: {}, 프로젝트: {}",
@@ -2,16 +2,22 @@ package thonlivethondie.artconnect.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import thonlivethondie.artconnect.common.WorkRequestStatus;
+import thonlivethondie.artconnect.common.event.ImagesUploadedEvent;
 import thonlivethondie.artconnect.common.exception.BadRequestException;
 import thonlivethondie.artconnect.common.exception.ErrorCode;
 import thonlivethondie.artconnect.dto.*;
 import thonlivethondie.artconnect.entity.*;
 import thonlivethondie.artconnect.repository.*;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,7 +32,9 @@ public class WorkSubmissionService {
     private final FeedbackRepository feedbackRepository;
     private final WorkRequestRepository workRequestRepository;
     private final UserRepository userRepository;
-    private final AwsS3Service awsS3Service;
+    private final StagedUploadService stagedUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 디자이너가 시안을 제출 (여러 번 제출 가능)
@@ -34,8 +42,10 @@ public class WorkSubmissionService {
      * - PENDING -> FEEDBACK_WAITING (첫 번째 시안)
      * - ACCEPTED -> FEEDBACK_WAITING (피드백 후 추가 시안)
      * - FEEDBACK_WAITING -> FEEDBACK_WAITING (기존 상태 유지)
+     * <p>
+     * 이미지는 트랜잭션 밖에서 S3에 먼저 업로드하고, 짧은 트랜잭션으로 시안과 이미지 행을 저장합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WorkSubmissionResponseDto submitDesign(Long workRequestId, 
                                                   WorkSubmissionCreateRequestDto requestDto, 
                                                   List<MultipartFile> images, 
@@ -43,26 +53,80 @@ public class WorkSubmissionService {
         
         log.info("시안 제출 요청 - workRequestId: {}, designerId: {}", workRequestId, designerId);
         
-        // WorkRequest 조회 및 권한 확인
-        WorkRequest workRequest = workRequestRepository.findById(workRequestId)
-                .orElseThrow(() -> new BadRequestException(ErrorCode.WORK_REQUEST_NOT_FOUND));
-        
-        // 디자이너 권한 확인
-        if (!workRequest.getDesigner().getId().equals(designerId)) {
-            throw new BadRequestException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        // 업로드 전 권한 및 상태 확인
+        transactionTemplate.executeWithoutResult(status -> getSubmittableWorkRequest(workRequestId, designerId));
         
-        // 상태 확인 (PENDING, FEEDBACK_WAITING, ACCEPTED 상태에서 시안 제출 가능)
-        if (workRequest.getStatus() != WorkRequestStatus.PENDING && 
-            workRequest.getStatus() != WorkRequestStatus.FEEDBACK_WAITING &&
-            workRequest.getStatus() != WorkRequestStatus.ACCEPTED) {
-            throw new BadRequestException(ErrorCode.INVALID_WORK_REQUEST_STATUS);
+        // 이미지 필수 확인
+        if (images == null || images.isEmpty()) {
+            throw new BadRequestException(ErrorCode.IMAGE_REQUIRED);
         }
         
+        return stagedUploadService.uploadAndSave(images, ObjectAccess.PRIVATE, stagedImages ->
+                saveSubmission(workRequestId, requestDto, designerId, stagedImages));
+    }
+
+    /**
+     * 디자이너가 시안을 제출 (스트리밍)
+     * 요청 본문을 읽으면서 이미지를 바로 S3에 업로드하고, 짧은 트랜잭션으로 시안과 이미지 행을 저장합니다.
+     * 시안 내용은 "workSubmission" 파트(JSON)로 전달받습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WorkSubmissionResponseDto submitDesign(Long workRequestId,
+                                                  InputStream body,
+                                                  String contentType,
+                                                  Long designerId) {
+
+        log.info("시안 스트리밍 제출 요청 - workRequestId: {}, designerId: {}", workRequestId, designerId);
+
+        // 업로드 전 권한 및 상태 확인
+        transactionTemplate.executeWithoutResult(status -> getSubmittableWorkRequest(workRequestId, designerId));
+
+        return stagedUploadService.streamAndSave(body, contentType, ObjectAccess.PRIVATE, form -> {
+            WorkSubmissionCreateRequestDto requestDto =
+                    stagedUploadService.readJsonField(form, "workSubmission", WorkSubmissionCreateRequestDto.class);
+
+            // 이미지 필수 확인
+            if (form.images().isEmpty()) {
+                throw new BadRequestException(ErrorCode.IMAGE_REQUIRED);
+            }
+
+            return saveSubmission(workRequestId, requestDto, designerId, form.images());
+        });
+    }
+
+    /**
+     * 디자이너가 시안을 제출 (presigned URL)
+     * 클라이언트가 S3에 직접 업로드한 이미지를 확인한 뒤 짧은 트랜잭션으로 시안과 이미지 행을 저장합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WorkSubmissionResponseDto submitDesignFromUploads(Long workRequestId,
+                                                             WorkSubmissionCreateRequestDto requestDto,
+                                                             List<String> fileNames,
+                                                             Long designerId) {
+
+        log.info("시안 업로드 완료 제출 요청 - workRequestId: {}, designerId: {}", workRequestId, designerId);
+
+        // 권한 및 상태 확인
+        transactionTemplate.executeWithoutResult(status -> getSubmittableWorkRequest(workRequestId, designerId));
+
         // 이미지 필수 확인
-        if (images == null || images.isEmpty()) {
+        if (fileNames.isEmpty()) {
             throw new BadRequestException(ErrorCode.IMAGE_REQUIRED);
         }
+
+        return stagedUploadService.completeAndSave(designerId, fileNames, ObjectAccess.PRIVATE, stagedImages ->
+                saveSubmission(workRequestId, requestDto, designerId, stagedImages));
+    }
+
+    /**
+     * 시안과 업로드된 이미지 행을 저장하고 작업의뢰서 상태를 변경합니다 (트랜잭션 안에서 호출).
+     */
+    private WorkSubmissionResponseDto saveSubmission(Long workRequestId,
+                                                     WorkSubmissionCreateRequestDto requestDto,
+                                                     Long designerId,
+                                                     List<StagedUploadService.StagedImage> stagedImages) {
+        // 업로드 중 상태가 바뀌었을 수 있으므로 다시 확인
+        WorkRequest workRequest = getSubmittableWorkRequest(workRequestId, designerId);
         
         // WorkSubmission 생성
         WorkSubmission workSubmission = WorkSubmission.builder()
@@ -72,8 +136,12 @@ public class WorkSubmissionService {
         
         WorkSubmission savedSubmission = workSubmissionRepository.save(workSubmission);
         
-        // 이미지 업로드 및 저장
-        List<WorkSubmissionImageDto> uploadedImages = uploadImages(savedSubmission, images);
+        // 이미지 저장
+        List<WorkSubmissionImageDto> uploadedImages = saveImages(savedSubmission, stagedImages);
+
+        // 커밋 이후 축소 이미지 생성
+        eventPublisher.publishEvent(new ImagesUploadedEvent(ImagesUploadedEvent.Owner.WORK_SUBMISSION,
+                stagedImages.stream().map(StagedUploadService.StagedImage::fileName).toList()));
         
         // WorkRequest 상태 변경 로직
         WorkRequestStatus currentStatus = workRequest.getStatus();
@@ -95,6 +163,29 @@ public class WorkSubmissionService {
         return convertToResponseDto(savedSubmission, uploadedImages, List.of());
     }
 
+    /**
+     * 시안을 제출할 수 있는 작업의뢰서를 조회합니다 (담당 디자이너 및 상태 확인).
+     */
+    private WorkRequest getSubmittableWorkRequest(Long workRequestId, Long designerId) {
+        // WorkRequest 조회 및 권한 확인
+        WorkRequest workRequest = workRequestRepository.findById(workRequestId)
+                .orElseThrow(() -> new BadRequestException(ErrorCode.WORK_REQUEST_NOT_FOUND));
+        
+        // 디자이너 권한 확인
+        if (!workRequest.getDesigner().getId().equals(designerId)) {
+            throw new BadRequestException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        
+        // 상태 확인 (PENDING, FEEDBACK_WAITING, ACCEPTED 상태에서 시안 제출 가능)
+        if (workRequest.getStatus() != WorkRequestStatus.PENDING && 
+            workRequest.getStatus() != WorkRequestStatus.FEEDBACK_WAITING &&
+            workRequest.getStatus() != WorkRequestStatus.ACCEPTED) {
+            throw new BadRequestException(ErrorCode.INVALID_WORK_REQUEST_STATUS);
+        }
+        
+        return workRequest;
+    }
+
     /**
      * 시안 및 피드백 내역 조회
      */
@@ -186,36 +277,24 @@ public class WorkSubmissionService {
     }
 
     /**
-     * 이미지 업로드 처리
+     * 업로드된 이미지 행 저장
      */
-    private List<WorkSubmissionImageDto> uploadImages(WorkSubmission workSubmission, List<MultipartFile> images) {
+    private List<WorkSubmissionImageDto> saveImages(WorkSubmission workSubmission,
+                                                    List<StagedUploadService.StagedImage> images) {
         return images.stream()
                 .map(image -> {
-                    try {
-                        String imageUrl = awsS3Service.uploadFile(image);
-                        
-                        WorkSubmissionImage workSubmissionImage = WorkSubmissionImage.builder()
-                                .workSubmission(workSubmission)
-                                .imageName(image.getOriginalFilename())
-                                .imageUrl(imageUrl)
-                                .imageSize(image.getSize())
-                                .imageType(image.getContentType())
-                                .build();
-                        
-                        WorkSubmissionImage savedImage = workSubmissionImageRepository.save(workSubmissionImage);
-                        workSubmission.addWorkSubmissionImage(savedImage);
-                        
-                        return new WorkSubmissionImageDto(
-                                savedImage.getId(),
-                                savedImage.getImageUrl(),
-                                savedImage.getImageName(),
-                                savedImage.getImageSize(),
-                                savedImage.getImageType()
-                        );
-                    } catch (Exception e) {
-                        log.error("이미지 업로드 실패", e);
-                        throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
-                    }
+                    WorkSubmissionImage workSubmissionImage = WorkSubmissionImage.builder()
+                            .workSubmission(workSubmission)
+                            .imageName(image.originalFilename())
+                            .imageUrl(image.imageUrl())
+                            .imageSize(image.size())
+                            .imageType(image.contentType())
+                            .build();
+                    
+                    WorkSubmissionImage savedImage = workSubmissionImageRepository.save(workSubmissionImage);
+                    workSubmission.addWorkSubmissionImage(savedImage);
+                    
+                    return WorkSubmissionImageDto.from(savedImage);
                 })
                 .collect(Collectors.toList());
     }
@@ -225,13 +304,7 @@ public class WorkSubmissionService {
      */
     private WorkSubmissionResponseDto convertToResponseDto(WorkSubmission workSubmission) {
         List<WorkSubmissionImageDto> imageDtos = workSubmission.getWorkSubmissionImages().stream()
-                .map(image -> new WorkSubmissionImageDto(
-                        image.getId(),
-                        image.getImageUrl(),
-                        image.getImageName(),
-                        image.getImageSize(),
-                        image.getImageType()
-                ))
+                .map(WorkSubmissionImageDto::from)
                 .collect(Collectors.toList());
 
         List<FeedbackDto> feedbackDtos = workSubmission.getFeedbacks().stream()
@@ -283,13 +356,7 @@ public class WorkSubmissionService {
     private WorkSubmissionResponseDto convertToResponseDtoWithFeedbacks(WorkSubmission workSubmission, 
                                                                         List<Feedback> feedbacks) {
         List<WorkSubmissionImageDto> imageDtos = workSubmission.getWorkSubmissionImages().stream()
-                .map(image -> new WorkSubmissionImageDto(
-                        image.getId(),
-                        image.getImageUrl(),
-                        image.getImageName(),
-                        image.getImageSize(),
-                        image.getImageType()
-                ))
+                .map(WorkSubmissionImageDto::from)
                 .collect(Collectors.toList());
 
         List<FeedbackDto> feedbackDtos = feedbacks.stream()
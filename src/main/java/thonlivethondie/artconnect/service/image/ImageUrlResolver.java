@@ -0,0 +1,92 @@
+package thonlivethondie.artconnect.service.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.cache.BoundedTtlCache;
+import thonlivethondie.artconnect.service.AwsS3Service;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB에 저장된 S3 이미지 URL을 응답용 URL로 바꾸는 컴포넌트
+ * <p>
+ * - 공개 이미지: CDN 주소가 설정되어 있으면 S3 주소 부분을 CDN 주소로 바꿈 (설정이 없으면 그대로)
+ * - 비공개 이미지(시안): 짧은 시간 동안만 유효한 서명된 S3 URL을 발급
+ * 서명된 URL은 유효 시간의 절반이 지날 때까지 같은 URL을 재사용하므로 반복 조회 시 브라우저 캐시를 그대로 사용합니다.
+ * 이 서비스의 S3 주소가 아닌 URL(소셜 로그인 프로필 이미지 등)은 바꾸지 않습니다.
+ */
+@Component
+public class ImageUrlResolver {
+
+    private final AwsS3Service awsS3Service;
+
+    /**
+     * S3 객체 URL의 공통 앞부분 (예: https://bucket.s3.ap-northeast-2.amazonaws.com/)
+     */
+    private final String storageBaseUrl;
+
+    /**
+     * CDN 주소 ("/"로 끝남, 설정이 없으면 null)
+     */
+    private final String cdnBaseUrl;
+
+    private final long signedUrlTtlMillis;
+
+    /**
+     * 서명 URL 캐시 (S3 키 → 서명 URL, 만료 시각: 재사용을 멈추는 시각)
+     */
+    private final BoundedTtlCache<String, String> signedUrls;
+
+    public ImageUrlResolver(
+            AwsS3Service awsS3Service,
+            @Value("${cloud.aws.cdn.base-url:}") String cdnBaseUrl,
+            @Value("${cloud.aws.s3.private-url.expiration-minutes:10}") long signedUrlTtlMinutes,
+            @Value("${cloud.aws.s3.private-url.cache-size:10000}") int maxSignedUrls) {
+        this.awsS3Service = awsS3Service;
+        this.storageBaseUrl = awsS3Service.getFileUrl("");
+        this.cdnBaseUrl = cdnBaseUrl == null || cdnBaseUrl.isBlank()
+                ? null
+                : (cdnBaseUrl.endsWith("/") ? cdnBaseUrl : cdnBaseUrl + "/");
+        this.signedUrlTtlMillis = TimeUnit.MINUTES.toMillis(signedUrlTtlMinutes);
+        this.signedUrls = new BoundedTtlCache<>(maxSignedUrls);
+    }
+
+    /**
+     * 공개 이미지 URL을 응답용 URL로 바꿉니다.
+     *
+     * @param storedUrl DB에 저장된 URL
+     * @return CDN URL (CDN 설정이 없거나 S3 URL이 아니면 그대로)
+     */
+    public String toPublicUrl(String storedUrl) {
+        if (cdnBaseUrl == null || storedUrl == null || !storedUrl.startsWith(storageBaseUrl)) {
+            return storedUrl;
+        }
+        return cdnBaseUrl + storedUrl.substring(storageBaseUrl.length());
+    }
+
+    /**
+     * 비공개 이미지 URL을 서명된 단기 URL로 바꿉니다.
+     *
+     * @param storedUrl DB에 저장된 URL
+     * @return 서명된 S3 URL (S3 URL이 아니면 그대로)
+     */
+    public String toPrivateUrl(String storedUrl) {
+        if (storedUrl == null || !storedUrl.startsWith(storageBaseUrl)) {
+            return storedUrl;
+        }
+
+        String fileName = storedUrl.substring(storageBaseUrl.length());
+        long now = System.currentTimeMillis();
+        String cached = signedUrls.get(fileName, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        long expiresAt = now + signedUrlTtlMillis;
+        String url = awsS3Service.generateDownloadUrl(fileName, new Date(expiresAt));
+        // 남은 유효 시간이 절반 아래로 내려가면 새 URL을 발급하도록 캐시에서는 절반만 유지
+        signedUrls.put(fileName, url, expiresAt - signedUrlTtlMillis / 2);
+        return url;
+    }
+}
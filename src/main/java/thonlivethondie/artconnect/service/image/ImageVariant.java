@@ -0,0 +1,64 @@
+package thonlivethondie.artconnect.service.image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 시 한 번만 생성하는 축소 이미지 종류
+ * <p>
+ * 축소 이미지는 원본과 같은 위치에 "원본 이름_접미사.jpg" 키로 저장하므로
+ * URL의 마지막 경로로 파일명을 구하는 기존 삭제 로직을 그대로 사용할 수 있습니다.
+ */
+public enum ImageVariant {
+
+    /**
+     * 목록 카드용 썸네일
+     */
+    THUMBNAIL("thumb", 320),
+
+    /**
+     * 상세 화면용 중간 크기 이미지
+     */
+    MEDIUM("medium", 1024);
+
+    private static final String EXTENSION = ".jpg";
+
+    private final String suffix;
+    private final int maxWidth;
+
+    ImageVariant(String suffix, int maxWidth) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * 원본 파일명으로 축소 이미지 파일명(S3 키)을 만듭니다.
+     *
+     * @param fileName 원본 파일명 (예: 1b2c....png)
+     * @return 축소 이미지 파일명 (예: 1b2c..._thumb.jpg)
+     */
+    public String fileNameOf(String fileName) {
+        int lastDot = fileName.lastIndexOf('.');
+        String baseName = lastDot > 0 ? fileName.substring(0, lastDot) : fileName;
+        return baseName + "_" + suffix + EXTENSION;
+    }
+
+    /**
+     * 원본과 모든 축소 이미지의 파일명을 반환합니다 (삭제용).
+     *
+     * @param fileName 원본 파일명
+     * @return 원본 파일명과 축소 이미지 파일명 목록
+     */
+    public static List<String> withVariants(String fileName) {
+        List<String> fileNames = new ArrayList<>(values().length + 1);
+        fileNames.add(fileName);
+        for (ImageVariant variant : values()) {
+            fileNames.add(variant.fileNameOf(fileName));
+        }
+        return fileNames;
+    }
+}
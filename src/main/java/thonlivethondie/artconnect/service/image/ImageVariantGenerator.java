@@ -0,0 +1,153 @@
+package thonlivethondie.artconnect.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 원본 이미지로 축소 이미지(JPEG)를 생성합니다.
+ * <p>
+ * - 원본보다 작은 축소 이미지만 생성 (원본이 충분히 작으면 아무것도 생성하지 않음)
+ * - 디코딩 시 서브샘플링으로 목표 크기의 2배 정도까지만 읽어 큰 원본도 메모리 사용량이 제한됨
+ * - 큰 축소 이미지부터 만들고, 작은 축소 이미지는 바로 앞 결과를 다시 줄여서 생성
+ * - 투명 배경은 흰색으로 채움
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    /**
+     * 디코딩할 수 있는 최대 픽셀 수 (서브샘플링 적용 후 기준)
+     */
+    private static final long MAX_DECODED_PIXELS = 16_000_000L;
+
+    private final float jpegQuality;
+
+    public ImageVariantGenerator(@Value("${cloud.aws.s3.upload.variants.jpeg-quality:0.8}") float jpegQuality) {
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 원본 이미지로 필요한 축소 이미지를 생성합니다.
+     *
+     * @param inputStream 원본 이미지
+     * @return 종류별 JPEG 데이터 (이미지가 아니거나 원본이 충분히 작으면 비어 있음)
+     * @throws IOException 이미지를 읽거나 인코딩하지 못한 경우
+     */
+    public Map<ImageVariant, byte[]> generate(InputStream inputStream) throws IOException {
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return variants;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 원본보다 작은 축소 이미지만 큰 것부터 생성
+                List<ImageVariant> targets = Stream.of(ImageVariant.values())
+                        .filter(variant -> variant.getMaxWidth() < width)
+                        .sorted(Comparator.comparingInt(ImageVariant::getMaxWidth).reversed())
+                        .toList();
+                if (targets.isEmpty()) {
+                    return variants;
+                }
+
+                int subsampling = Math.max(1, width / (targets.get(0).getMaxWidth() * 2));
+                long decodedPixels = (long) (width / subsampling) * (height / subsampling);
+                if (decodedPixels > MAX_DECODED_PIXELS) {
+                    log.warn("축소 이미지 생성 생략 - 이미지가 너무 큽니다: {}x{}", width, height);
+                    return variants;
+                }
+
+                ImageReadParam readParam = reader.getDefaultReadParam();
+                readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, readParam);
+
+                for (ImageVariant target : targets) {
+                    image = scaleToWidth(image, target.getMaxWidth());
+                    variants.put(target, encodeJpeg(image));
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * 가로 크기가 targetWidth가 되도록 비율을 유지하여 줄입니다.
+     * 한 번에 크게 줄이면 화질이 떨어지므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춥니다.
+     */
+    private BufferedImage scaleToWidth(BufferedImage source, int targetWidth) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = resize(current, current.getWidth() / 2);
+        }
+        return current.getWidth() == targetWidth && current.getType() == BufferedImage.TYPE_INT_RGB
+                ? current
+                : resize(current, targetWidth);
+    }
+
+    private BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (MemoryCacheImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            ImageWriteParam writeParam = writer.getDefaultWriteParam();
+            writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            writeParam.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), writeParam);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,191 @@
+package thonlivethondie.artconnect.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import thonlivethondie.artconnect.common.event.ImagesUploadedEvent;
+import thonlivethondie.artconnect.repository.PortfolioImageRepository;
+import thonlivethondie.artconnect.repository.StoreImageRepository;
+import thonlivethondie.artconnect.repository.WorkSubmissionImageRepository;
+import thonlivethondie.artconnect.service.AwsS3Service;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드된 이미지의 축소 이미지를 백그라운드에서 생성하는 서비스
+ * <p>
+ * 이미지 행이 커밋된 뒤 원본을 S3에서 읽어 {@link ImageVariant} 별 JPEG를 생성하고,
+ * 원본 옆에 업로드한 다음 이미지 행에 축소 이미지 URL을 기록합니다.
+ * - 요청 스레드는 작업을 대기열에 넣기만 하므로 업로드 응답 시간에 영향을 주지 않음
+ * - 작업 스레드 수와 대기열 크기를 제한하며, 대기열이 가득 차면 작업을 버림
+ * - 축소 이미지가 없는 동안(생성 전, 실패, 버려진 작업)에는 DTO가 원본 URL을 사용
+ * - 시안 이미지의 축소 이미지는 원본과 같이 비공개로 업로드
+ */
+@Slf4j
+@Service
+public class ImageVariantService implements DisposableBean {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final AwsS3Service awsS3Service;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PortfolioImageRepository portfolioImageRepository;
+    private final StoreImageRepository storeImageRepository;
+    private final WorkSubmissionImageRepository workSubmissionImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong generatedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ImageVariantService(
+            AwsS3Service awsS3Service,
+            ImageVariantGenerator imageVariantGenerator,
+            PortfolioImageRepository portfolioImageRepository,
+            StoreImageRepository storeImageRepository,
+            WorkSubmissionImageRepository workSubmissionImageRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${cloud.aws.s3.upload.variants.workers:2}") int workers,
+            @Value("${cloud.aws.s3.upload.variants.queue-capacity:200}") int queueCapacity) {
+        this.awsS3Service = awsS3Service;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.portfolioImageRepository = portfolioImageRepository;
+        this.storeImageRepository = storeImageRepository;
+        this.workSubmissionImageRepository = workSubmissionImageRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지 행이 커밋되면 이미지별 축소 이미지 생성 작업을 대기열에 넣습니다.
+     * 트랜잭션 밖에서 발행된 경우에는 바로 대기열에 넣습니다.
+     *
+     * @param event 이미지 업로드 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImagesUploaded(ImagesUploadedEvent event) {
+        for (String fileName : event.fileNames()) {
+            try {
+                executor.execute(() -> generateVariants(event.owner(), fileName));
+            } catch (RejectedExecutionException e) {
+                rejectedCount.incrementAndGet();
+                log.warn("축소 이미지 생성 대기열이 가득 차 작업을 건너뜁니다 - 파일명: {}", fileName);
+            }
+        }
+    }
+
+    /**
+     * 한 이미지의 축소 이미지를 생성, 업로드하고 이미지 행에 기록합니다.
+     * 같은 내용의 이미지가 이미 업로드되어 축소 이미지가 있으면 생성하지 않고 기존 URL을 기록합니다.
+     * 실패해도 원본 이미지는 그대로 사용되므로 로그만 남깁니다.
+     *
+     * @param owner    이미지를 소유한 엔티티 종류
+     * @param fileName 원본 파일명(S3 키)
+     */
+    void generateVariants(ImagesUploadedEvent.Owner owner, String fileName) {
+        try {
+            Map<ImageVariant, String> variantUrls = findExistingVariantUrls(fileName);
+            if (variantUrls.isEmpty()) {
+                Map<ImageVariant, byte[]> variants;
+                try (InputStream inputStream = awsS3Service.openFile(fileName)) {
+                    variants = imageVariantGenerator.generate(inputStream);
+                }
+                if (variants.isEmpty()) {
+                    return;
+                }
+
+                ObjectAccess access = owner == ImagesUploadedEvent.Owner.WORK_SUBMISSION
+                        ? ObjectAccess.PRIVATE
+                        : ObjectAccess.PUBLIC;
+                variants.forEach((variant, data) -> variantUrls.put(variant,
+                        awsS3Service.uploadBytes(variant.fileNameOf(fileName), VARIANT_CONTENT_TYPE, data, access)));
+            }
+
+            String imageUrl = awsS3Service.getFileUrl(fileName);
+            Integer updated = transactionTemplate.execute(status -> updateVariantUrls(owner, imageUrl,
+                    variantUrls.get(ImageVariant.THUMBNAIL), variantUrls.get(ImageVariant.MEDIUM)));
+
+            generatedCount.incrementAndGet();
+            log.debug("축소 이미지 생성 완료 - 파일명: {}, 종류: {}, 갱신된 행: {}", fileName, variantUrls.keySet(), updated);
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.warn("축소 이미지 생성 실패 - 파일명: {}, 원인: {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 업로드된 축소 이미지의 URL을 찾습니다.
+     * 가장 작은 썸네일은 축소 이미지를 만들 때 항상 생성되므로, 썸네일이 없으면 나머지는 확인하지 않습니다.
+     *
+     * @return 종류별 URL (생성된 적이 없으면 비어 있음)
+     */
+    private Map<ImageVariant, String> findExistingVariantUrls(String fileName) {
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        if (!awsS3Service.exists(ImageVariant.THUMBNAIL.fileNameOf(fileName))) {
+            return variantUrls;
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            String variantFileName = variant.fileNameOf(fileName);
+            if (variant == ImageVariant.THUMBNAIL || awsS3Service.exists(variantFileName)) {
+                variantUrls.put(variant, awsS3Service.getFileUrl(variantFileName));
+            }
+        }
+        return variantUrls;
+    }
+
+    private int updateVariantUrls(ImagesUploadedEvent.Owner owner, String imageUrl, String thumbnailUrl, String mediumUrl) {
+        return switch (owner) {
+            case PORTFOLIO -> portfolioImageRepository.updateVariantUrls(imageUrl, thumbnailUrl, mediumUrl);
+            case STORE -> storeImageRepository.updateVariantUrls(imageUrl, thumbnailUrl, mediumUrl);
+            case WORK_SUBMISSION -> workSubmissionImageRepository.updateVariantUrls(imageUrl, thumbnailUrl, mediumUrl);
+        };
+    }
+
+    /**
+     * 축소 이미지 생성 통계를 반환합니다 (모니터링용).
+     */
+    public Stats getStats() {
+        return new Stats(executor.getQueue().size(), executor.getActiveCount(),
+                generatedCount.get(), failedCount.get(), rejectedCount.get());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 축소 이미지 생성 통계 (모니터링용)
+     *
+     * @param queuedCount    대기 중인 작업 수
+     * @param activeCount    실행 중인 작업 수
+     * @param generatedCount 축소 이미지를 생성한 원본 수
+     * @param failedCount    생성에 실패한 원본 수
+     * @param rejectedCount  대기열이 가득 차 건너뛴 원본 수
+     */
+    public record Stats(int queuedCount, int activeCount, long generatedCount, long failedCount, long rejectedCount) {
+    }
+}
@@ -0,0 +1,110 @@
+package thonlivethondie.artconnect.service.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import thonlivethondie.artconnect.entity.MatchingSessionRecord;
+import thonlivethondie.artconnect.repository.MatchingSessionRecordRepository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터베이스 테이블 기반 매칭 세션 저장소
+ * <p>
+ * 여러 인스턴스가 같은 테이블을 공유하므로 추천, 새로고침, 작업의뢰서 생성 요청이
+ * 서로 다른 인스턴스에서 처리되어도 같은 세션을 사용합니다.
+ * 세션 본문은 {@link MatchingSessionCodec}으로 직렬화하며, 새로고침 시에는 반환 수 컬럼만 갱신합니다.
+ * 새로고침은 조회한 시점의 커서를 믿지 않고 반환 수 컬럼을 원자적으로 1 증가시킨 결과로 반환할 위치를 정하므로,
+ * 같은 인스턴스든 다른 인스턴스든 같은 세션을 동시에 새로고침해도 같은 디자이너를 두 번 반환하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matching.session.store", havingValue = "database")
+public class DatabaseMatchingSessionStore implements MatchingSessionStore {
+
+    private final MatchingSessionRecordRepository matchingSessionRecordRepository;
+    private final long ttlMillis;
+
+    public DatabaseMatchingSessionStore(
+            MatchingSessionRecordRepository matchingSessionRecordRepository,
+            @Value("${matching.session.ttl-minutes:30}") long ttlMinutes) {
+        this.matchingSessionRecordRepository = matchingSessionRecordRepository;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+    }
+
+    @Override
+    @Transactional
+    public void save(MatchingSession session) {
+        matchingSessionRecordRepository.save(MatchingSessionRecord.builder()
+                .sessionId(session.getSessionId())
+                .payload(MatchingSessionCodec.encode(session))
+                .returnedCount(session.getCursor())
+                .expiresAt(session.getCreatedAt() + ttlMillis)
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MatchingSession find(String sessionId) {
+        return matchingSessionRecordRepository.findActiveById(sessionId, System.currentTimeMillis())
+                .map(record -> {
+                    MatchingSession session = MatchingSessionCodec.decode(record.getSessionId(), record.getPayload());
+                    session.restoreCursor(record.getReturnedCount());
+                    return session;
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 반환 수 컬럼을 증가시킨 뒤 같은 트랜잭션에서 증가된 값을 읽어 반환할 위치를 정합니다.
+     * 증가시킨 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 다른 요청이 같은 값을 읽지 않습니다.
+     */
+    @Override
+    @Transactional
+    public long takeNext(MatchingSession session) {
+        if (session.size() == 0) {
+            return -1L;
+        }
+
+        String sessionId = session.getSessionId();
+        if (matchingSessionRecordRepository.incrementReturnedCount(sessionId, session.size()) == 0) {
+            // 모두 반환된 경우 (또는 그 사이 만료되어 삭제된 경우) 전체 목록에서 선택
+            session.restoreCursor(session.size());
+            return session.takeNext();
+        }
+
+        int returnedCount = matchingSessionRecordRepository.findReturnedCount(sessionId)
+                .orElse(session.size());
+        // 증가시키기 전 위치의 디자이너를 선택 (커서는 증가된 값이 됨)
+        session.restoreCursor(returnedCount - 1);
+        return session.takeNext();
+    }
+
+    @Override
+    @Transactional
+    public void updateReturnedDesigners(MatchingSession session) {
+        matchingSessionRecordRepository.updateReturnedCount(session.getSessionId(), session.getCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int size() {
+        return (int) matchingSessionRecordRepository.countActive(System.currentTimeMillis());
+    }
+
+    /**
+     * 만료된 세션들을 정리합니다 (백그라운드 작업).
+     * 여러 인스턴스에서 동시에 실행되어도 같은 조건으로 삭제하므로 안전합니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.session.sweep-interval-ms:60000}")
+    @Transactional
+    public void sweepExpiredSessions() {
+        int removed = matchingSessionRecordRepository.deleteExpired(System.currentTimeMillis());
+        if (removed > 0) {
+            log.info("만료된 세션 {} 개 정리 완료", removed);
+        }
+    }
+}
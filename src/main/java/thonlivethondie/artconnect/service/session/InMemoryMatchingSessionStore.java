@@ -0,0 +1,108 @@
+package thonlivethondie.artconnect.service.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.cache.BoundedTtlCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크기 제한과 만료 시간을 갖는 메모리 기반 매칭 세션 저장소
+ * <p>
+ * - 최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션부터 제거합니다 (LRU).
+ * - 만료된 세션은 조회 시 제거되며, 백그라운드 스케줄러가 주기적으로 한 번에 정리합니다.
+ * - 제거 건수와 조회 적중률을 모니터링용으로 집계합니다.
+ * <p>
+ * 세션이 JVM 내부에만 있으므로 여러 인스턴스로 운영할 때는 {@link DatabaseMatchingSessionStore}를 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matching.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMatchingSessionStore implements MatchingSessionStore {
+
+    private final long ttlMillis;
+
+    /**
+     * 세션 ID → 세션 (만료 시각: 세션 생성 시각 + 유지 시간)
+     */
+    private final BoundedTtlCache<String, MatchingSession> sessions;
+
+    public InMemoryMatchingSessionStore(
+            @Value("${matching.session.max-entries:10000}") int maxEntries,
+            @Value("${matching.session.ttl-minutes:30}") long ttlMinutes) {
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.sessions = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * 세션을 저장합니다. 최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션이 제거됩니다.
+     *
+     * @param session 저장할 세션
+     */
+    @Override
+    public void save(MatchingSession session) {
+        sessions.put(session.getSessionId(), session, session.getCreatedAt() + ttlMillis);
+    }
+
+    /**
+     * 세션을 조회합니다. 만료된 세션은 제거하고 null을 반환합니다.
+     *
+     * @param sessionId 세션 ID
+     * @return 세션 (없거나 만료된 경우 null)
+     */
+    @Override
+    public MatchingSession find(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * 조회한 세션 객체를 그대로 보관하므로 세션의 커서를 원자적으로 증가시키는 것으로 충분합니다.
+     */
+    @Override
+    public long takeNext(MatchingSession session) {
+        return session.takeNext();
+    }
+
+    /**
+     * 조회한 세션 객체를 그대로 보관하므로 별도로 반영할 필요가 없습니다.
+     */
+    @Override
+    public void updateReturnedDesigners(MatchingSession session) {
+    }
+
+    /**
+     * 만료된 세션들을 정리합니다 (백그라운드 작업).
+     */
+    @Scheduled(fixedDelayString = "${matching.session.sweep-interval-ms:60000}")
+    public void sweepExpiredSessions() {
+        int removed = sessions.purgeExpired(System.currentTimeMillis());
+        if (removed > 0) {
+            log.info("만료된 세션 {} 개 정리 완료", removed);
+        }
+    }
+
+    /**
+     * 현재 저장된 세션 수를 반환합니다.
+     */
+    @Override
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * 저장소 통계를 반환합니다 (모니터링용).
+     */
+    public MatchingSessionStoreStats getStats() {
+        BoundedTtlCache.Stats stats = sessions.getStats();
+        return new MatchingSessionStoreStats(
+                stats.size(),
+                stats.maxEntries(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.expiredEvictionCount(),
+                stats.capacityEvictionCount());
+    }
+}
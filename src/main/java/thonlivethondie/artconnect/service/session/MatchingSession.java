@@ -0,0 +1,182 @@
+package thonlivethondie.artconnect.service.session;
+
+import lombok.Getter;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.dto.ScoredDesignerDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 디자이너 매칭 세션 (메모리 저장용 압축 표현)
+ * 디자이너 DTO 전체 대신 점수순으로 정렬된 디자이너 ID와 점수 배열만 보관합니다.
+ * <p>
+ * 추천 순서는 세션 생성 시 한 번만 정해 둡니다.
+ * 상위 디자이너(초기 추천)는 점수순 그대로, 나머지는 무작위로 섞은 배열 인덱스 순서({@link #order})로 보관하며,
+ * 반환 상태는 이 순서에서 몇 명을 반환했는지를 나타내는 커서 하나로 표현합니다.
+ * 새로고침은 커서를 원자적으로 증가시키는 것으로 끝나므로 잠금 없이 O(1)에 처리됩니다.
+ */
+public class MatchingSession {
+
+    @Getter
+    private final String sessionId;
+
+    @Getter
+    private final AiProposalDto proposal;
+
+    /**
+     * 점수순으로 정렬된 디자이너 ID
+     */
+    @Getter
+    private final long[] designerIds;
+
+    /**
+     * designerIds와 같은 순서의 매칭 점수
+     */
+    @Getter
+    private final int[] scores;
+
+    /**
+     * 추천 순서 (designerIds 배열 인덱스의 순열)
+     */
+    @Getter
+    private final int[] order;
+
+    /**
+     * 세션 생성 시각 (epoch millis)
+     */
+    @Getter
+    private final long createdAt;
+
+    /**
+     * order에서 다음에 반환할 위치 (이미 반환된 디자이너 수)
+     */
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public MatchingSession(String sessionId, AiProposalDto proposal, long[] designerIds, int[] scores,
+                           int[] order, long createdAt) {
+        this.sessionId = sessionId;
+        this.proposal = proposal;
+        this.designerIds = designerIds;
+        this.scores = scores;
+        this.order = order;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 점수순으로 정렬된 디자이너 목록으로 세션을 생성합니다.
+     *
+     * @param sessionId       세션 ID
+     * @param proposal        AI 제안 정보
+     * @param scoredDesigners 점수순으로 정렬된 디자이너 목록
+     * @param pinnedCount     점수순 그대로 먼저 반환할 상위 디자이너 수 (나머지는 무작위 순서)
+     */
+    public static MatchingSession of(String sessionId, AiProposalDto proposal,
+                                     List<ScoredDesignerDto> scoredDesigners, int pinnedCount) {
+        int size = scoredDesigners.size();
+        long[] designerIds = new long[size];
+        int[] scores = new int[size];
+        for (int i = 0; i < size; i++) {
+            designerIds[i] = scoredDesigners.get(i).getDesigner().getUserId();
+            scores[i] = scoredDesigners.get(i).getMatchingScore();
+        }
+        return new MatchingSession(sessionId, proposal, designerIds, scores,
+                shuffledOrder(size, pinnedCount), System.currentTimeMillis());
+    }
+
+    /**
+     * 앞의 pinnedCount개는 그대로 두고 나머지를 Fisher–Yates 방식으로 섞은 인덱스 순열을 만듭니다.
+     */
+    private static int[] shuffledOrder(int size, int pinnedCount) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = size - 1; i > pinnedCount; i--) {
+            int j = pinnedCount + random.nextInt(i - pinnedCount + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+        return order;
+    }
+
+    public int size() {
+        return designerIds.length;
+    }
+
+    public boolean isExpired(long now, long ttlMillis) {
+        return now - createdAt >= ttlMillis;
+    }
+
+    /**
+     * 추천 순서의 앞부분(점수 상위)을 반환 처리하고 ID를 돌려줍니다.
+     *
+     * @param count 반환할 디자이너 수
+     * @return 상위 디자이너 ID 목록
+     */
+    public List<Long> takeTop(int count) {
+        int limit = Math.min(count, designerIds.length);
+        cursor.accumulateAndGet(limit, Math::max);
+
+        List<Long> ids = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            ids.add(designerIds[order[i]]);
+        }
+        return ids;
+    }
+
+    /**
+     * 아직 반환되지 않은 디자이너 중 다음 디자이너를 선택합니다.
+     * 순서가 미리 섞여 있으므로 무작위 선택과 같으며, 동시에 호출되어도 같은 디자이너를 두 번 반환하지 않습니다.
+     * 모두 반환된 경우 전체 목록에서 무작위로 선택합니다.
+     *
+     * @return 선택된 디자이너 ID (디자이너가 없으면 -1)
+     */
+    public long takeNext() {
+        int size = designerIds.length;
+        if (size == 0) {
+            return -1L;
+        }
+
+        int position = cursor.getAndIncrement();
+        if (position >= size) {
+            // 오버플로 방지를 위해 커서를 끝 위치에 고정
+            cursor.set(size);
+            return designerIds[ThreadLocalRandom.current().nextInt(size)];
+        }
+        return designerIds[order[position]];
+    }
+
+    /**
+     * 이미 반환된 디자이너 수를 반환합니다 (외부 저장소 저장용).
+     */
+    public int getCursor() {
+        return Math.min(cursor.get(), designerIds.length);
+    }
+
+    /**
+     * 외부 저장소에 저장된 반환 상태를 복원합니다.
+     *
+     * @param returnedCount {@link #getCursor()}로 저장한 값
+     */
+    public void restoreCursor(int returnedCount) {
+        cursor.set(Math.max(0, Math.min(returnedCount, designerIds.length)));
+    }
+
+    /**
+     * 이미 반환된 디자이너 ID 목록을 반환합니다 (모니터링용).
+     */
+    public List<Long> getReturnedDesignerIds() {
+        int returned = getCursor();
+        List<Long> ids = new ArrayList<>(returned);
+        for (int i = 0; i < returned; i++) {
+            ids.add(designerIds[order[i]]);
+        }
+        return ids;
+    }
+}
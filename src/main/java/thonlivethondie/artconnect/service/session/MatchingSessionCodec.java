@@ -0,0 +1,146 @@
+package thonlivethondie.artconnect.service.session;
+
+import thonlivethondie.artconnect.dto.AiProposalDto;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 매칭 세션의 바이너리 직렬화
+ * <p>
+ * 형식 (버전 2):
+ * <pre>
+ * [version:1 byte][createdAt:8 bytes]
+ * [designDirection][targetCustomer][requiredDesigns]  문자열: varint(UTF-8 길이 + 1, null은 0) + UTF-8 바이트
+ * [count:varint][designerId:varint × count][score:varint × count][order:varint × count]
+ * </pre>
+ * 모든 정수는 zigzag 인코딩한 가변 길이 정수입니다.
+ * 반환 상태는 자주 갱신되므로 본문과 분리하여 저장합니다 ({@link MatchingSession#getCursor()}).
+ */
+public final class MatchingSessionCodec {
+
+    private static final byte VERSION = 2;
+
+    private MatchingSessionCodec() {
+    }
+
+    /**
+     * 세션을 바이트 배열로 직렬화합니다.
+     *
+     * @param session 직렬화할 세션
+     * @return 직렬화된 바이트 배열
+     */
+    public static byte[] encode(MatchingSession session) {
+        long[] designerIds = session.getDesignerIds();
+        int[] scores = session.getScores();
+        int[] order = session.getOrder();
+        AiProposalDto proposal = session.getProposal();
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + designerIds.length * 5);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            out.writeLong(session.getCreatedAt());
+
+            writeString(out, proposal != null ? proposal.getDesignDirection() : null);
+            writeString(out, proposal != null ? proposal.getTargetCustomer() : null);
+            writeString(out, proposal != null ? proposal.getRequiredDesigns() : null);
+
+            writeVarLong(out, designerIds.length);
+            for (long designerId : designerIds) {
+                writeVarLong(out, designerId);
+            }
+            for (int score : scores) {
+                writeVarLong(out, score);
+            }
+            for (int index : order) {
+                writeVarLong(out, index);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("매칭 세션 직렬화 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 바이트 배열에서 세션을 복원합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param payload   {@link #encode(MatchingSession)}로 직렬화한 값
+     * @return 복원된 세션 (반환 상태는 비어 있음)
+     */
+    public static MatchingSession decode(String sessionId, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("지원하지 않는 매칭 세션 형식입니다. version: " + version);
+            }
+
+            long createdAt = in.readLong();
+            AiProposalDto proposal = new AiProposalDto(readString(in), readString(in), readString(in));
+
+            int count = (int) readVarLong(in);
+            long[] designerIds = new long[count];
+            int[] scores = new int[count];
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                designerIds[i] = readVarLong(in);
+            }
+            for (int i = 0; i < count; i++) {
+                scores[i] = (int) readVarLong(in);
+            }
+            for (int i = 0; i < count; i++) {
+                order[i] = (int) readVarLong(in);
+            }
+
+            return new MatchingSession(sessionId, proposal, designerIds, scores, order, createdAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException("매칭 세션 역직렬화 실패", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 정수를 zigzag 인코딩한 뒤 7비트 단위 가변 길이로 기록합니다 (작은 ID/점수는 1~3바이트).
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수입니다.");
+    }
+}
@@ -0,0 +1,48 @@
+package thonlivethondie.artconnect.service.session;
+
+/**
+ * 디자이너 매칭 세션 저장소
+ * <p>
+ * matching.session.store 설정으로 구현체를 선택합니다.
+ * - memory (기본값): {@link InMemoryMatchingSessionStore}, 단일 인스턴스용
+ * - database: {@link DatabaseMatchingSessionStore}, 여러 인스턴스가 세션을 공유
+ */
+public interface MatchingSessionStore {
+
+    /**
+     * 새로운 세션을 저장합니다.
+     *
+     * @param session 저장할 세션
+     */
+    void save(MatchingSession session);
+
+    /**
+     * 세션을 조회합니다.
+     *
+     * @param sessionId 세션 ID
+     * @return 세션 (없거나 만료된 경우 null)
+     */
+    MatchingSession find(String sessionId);
+
+    /**
+     * 아직 반환되지 않은 디자이너 중 다음 디자이너를 반환 처리하고 ID를 돌려줍니다 (새로고침).
+     * 같은 세션을 동시에 새로고침해도 같은 디자이너를 두 번 반환하지 않으며, 모두 반환된 경우 전체 목록에서 무작위로 선택합니다.
+     *
+     * @param session 조회한 세션
+     * @return 선택된 디자이너 ID (디자이너가 없으면 -1)
+     */
+    long takeNext(MatchingSession session);
+
+    /**
+     * 세션의 반환 상태 변경을 저장소에 반영합니다.
+     * 조회한 객체를 그대로 보관하는 저장소에서는 아무 작업도 하지 않습니다.
+     *
+     * @param session 변경된 세션
+     */
+    void updateReturnedDesigners(MatchingSession session);
+
+    /**
+     * 현재 저장된 세션 수를 반환합니다 (모니터링용).
+     */
+    int size();
+}
@@ -0,0 +1,19 @@
+package thonlivethondie.artconnect.service.session;
+
+/**
+ * 매칭 세션 저장소 통계 (모니터링용)
+ *
+ * @param size                  현재 저장된 세션 수
+ * @param maxEntries            최대 세션 수
+ * @param hitCount              조회 성공 횟수
+ * @param missCount             조회 실패 횟수 (없거나 만료된 세션)
+ * @param expiredEvictionCount  만료로 제거된 세션 수
+ * @param capacityEvictionCount 최대 세션 수 초과로 제거된 세션 수
+ */
+public record MatchingSessionStoreStats(int size,
+                                        int maxEntries,
+                                        long hitCount,
+                                        long missCount,
+                                        long expiredEvictionCount,
+                                        long capacityEvictionCount) {
+}
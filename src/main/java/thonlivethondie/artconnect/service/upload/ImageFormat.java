@@ -0,0 +1,60 @@
+package thonlivethondie.artconnect.service.upload;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일 앞부분의 시그니처로 판별한 이미지 형식
+ * <p>
+ * 내용 기반 파일명의 확장자를 정하는 데 사용합니다.
+ * 원본 파일명이나 요청의 콘텐츠 타입이 아닌 내용으로 정하므로, 같은 내용은 항상 같은 파일명(과 같은 축소 이미지 파일명)이 됩니다.
+ */
+public enum ImageFormat {
+
+    PNG(".png", new byte[]{(byte) 0x89, 'P', 'N', 'G'}, 0),
+    JPEG(".jpg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}, 0),
+    GIF(".gif", "GIF8".getBytes(StandardCharsets.US_ASCII), 0),
+    // RIFF....WEBP
+    WEBP(".webp", "WEBP".getBytes(StandardCharsets.US_ASCII), 8);
+
+    private final String extension;
+    private final byte[] signature;
+    private final int offset;
+
+    ImageFormat(String extension, byte[] signature, int offset) {
+        this.extension = extension;
+        this.signature = signature;
+        this.offset = offset;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 데이터 앞부분으로 확장자를 판별합니다.
+     *
+     * @param data   파일 앞부분
+     * @param length data에서 유효한 바이트 수
+     * @return 확장자 (예: .png, 판별할 수 없으면 빈 문자열)
+     */
+    public static String extensionOf(byte[] data, int length) {
+        for (ImageFormat format : values()) {
+            if (format.matches(data, length)) {
+                return format.extension;
+            }
+        }
+        return "";
+    }
+
+    private boolean matches(byte[] data, int length) {
+        if (length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (data[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,335 @@
+package thonlivethondie.artconnect.service.upload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * multipart/form-data 요청 본문을 앞에서부터 순서대로 읽는 파서
+ * <p>
+ * 요청 전체를 메모리나 임시 파일에 저장하지 않고 고정 크기 버퍼 하나로 파트 경계를 찾으며,
+ * 각 파트 본문은 {@link InputStream}으로 바로 넘겨줍니다.
+ * 파트는 순서대로만 읽을 수 있으며, 다음 파트로 넘어가면 이전 파트에서 읽지 않은 본문은 버립니다.
+ */
+public class MultipartStreamParser {
+
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+
+    private static final Pattern BOUNDARY = Pattern.compile(
+            "boundary=(?:\"([^\"]+)\"|([^;\\s]+))", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern DISPOSITION_PARAM = Pattern.compile(
+            "(?:^|;)\\s*(name|filename)\\s*=\\s*(?:\"((?:[^\"\\\\]|\\\\.)*)\"|([^;\\s]*))", Pattern.CASE_INSENSITIVE);
+
+    private final InputStream in;
+    private final byte[] buffer;
+
+    /**
+     * 파트 사이의 경계 (CRLF--boundary)
+     */
+    private final byte[] delimiter;
+
+    /**
+     * buffer에서 아직 읽지 않은 데이터의 범위 [head, tail)
+     */
+    private int head;
+    private int tail;
+
+    private boolean started;
+    private boolean finished;
+    private PartInputStream currentBody;
+
+    /**
+     * @param in       요청 본문
+     * @param boundary Content-Type 헤더의 boundary 값
+     * @param buffer   읽기 버퍼 (경계 길이의 두 배 이상)
+     */
+    public MultipartStreamParser(InputStream in, String boundary, byte[] buffer) {
+        this.in = in;
+        this.buffer = buffer;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        if (buffer.length < delimiter.length * 2) {
+            throw new IllegalArgumentException("버퍼가 경계 길이에 비해 너무 작습니다.");
+        }
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 값을 추출합니다.
+     *
+     * @param contentType 요청의 Content-Type 헤더
+     * @return boundary 값 (multipart/form-data 요청이 아니면 null)
+     */
+    public static String extractBoundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        Matcher matcher = BOUNDARY.matcher(contentType);
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+
+    /**
+     * 다음 파트로 이동합니다.
+     *
+     * @return 다음 파트 (더 이상 없으면 null)
+     * @throws IOException 본문 형식이 올바르지 않거나 읽기에 실패한 경우
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        if (!started) {
+            started = true;
+            skipPreamble();
+        } else {
+            currentBody.drain();
+        }
+
+        // 경계 다음의 두 바이트가 "--"이면 본문의 끝, CRLF이면 다음 파트의 헤더
+        int first = readByte();
+        int second = readByte();
+        if (first == '-' && second == '-') {
+            finished = true;
+            return null;
+        }
+        if (first != '\r' || second != '\n') {
+            throw new IOException("multipart 경계 형식이 올바르지 않습니다.");
+        }
+
+        Map<String, String> headers = readHeaders();
+        String disposition = headers.get("content-disposition");
+        if (disposition == null) {
+            throw new IOException("multipart 파트에 Content-Disposition 헤더가 없습니다.");
+        }
+
+        String name = null;
+        String filename = null;
+        Matcher matcher = DISPOSITION_PARAM.matcher(disposition);
+        while (matcher.find()) {
+            String value = matcher.group(2) != null ? matcher.group(2).replace("\\\"", "\"") : matcher.group(3);
+            if ("filename".equalsIgnoreCase(matcher.group(1))) {
+                filename = value;
+            } else {
+                name = value;
+            }
+        }
+
+        currentBody = new PartInputStream();
+        return new Part(name, filename, headers.get("content-type"), currentBody);
+    }
+
+    /**
+     * 첫 경계 앞의 내용(preamble)을 건너뜁니다.
+     * 본문이 경계로 바로 시작하면 앞에 CRLF가 없으므로 별도로 확인합니다.
+     */
+    private void skipPreamble() throws IOException {
+        int firstBoundaryLength = delimiter.length - 2;
+        while (tail - head < firstBoundaryLength) {
+            if (!fill()) {
+                throw new IOException("multipart 본문이 비어 있습니다.");
+            }
+        }
+
+        if (matchesAt(head, 2)) {
+            head += firstBoundaryLength;
+            return;
+        }
+        new PartInputStream().drain();
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int total = 0;
+
+        while (true) {
+            int b = readByte();
+            if (b == -1) {
+                throw new IOException("multipart 파트 헤더가 끝나지 않았습니다.");
+            }
+            if (++total > MAX_HEADER_SIZE) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다.");
+            }
+
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+
+            String text = line.toString(StandardCharsets.UTF_8);
+            line.reset();
+            if (text.endsWith("\r")) {
+                text = text.substring(0, text.length() - 1);
+            }
+            if (text.isEmpty()) {
+                return headers;
+            }
+
+            int colon = text.indexOf(':');
+            if (colon > 0) {
+                headers.put(text.substring(0, colon).trim().toLowerCase(Locale.ROOT), text.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    private int readByte() throws IOException {
+        if (head == tail && !fill()) {
+            return -1;
+        }
+        return buffer[head++] & 0xFF;
+    }
+
+    /**
+     * 남은 데이터를 버퍼 앞으로 옮기고 요청 본문에서 더 읽어옵니다.
+     *
+     * @return 본문이 끝났으면 false
+     */
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read == -1) {
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    /**
+     * 버퍼의 읽지 않은 범위에서 경계 위치를 찾습니다.
+     *
+     * @return 경계 시작 위치 (없으면 -1)
+     */
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        for (int i = head; i <= last; i++) {
+            if (buffer[i] == delimiter[0] && matchesAt(i, 0)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesAt(int position, int delimiterOffset) {
+        for (int i = delimiterOffset; i < delimiter.length; i++) {
+            if (buffer[position + i - delimiterOffset] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 파트의 본문 (다음 경계 직전까지)
+     */
+    private final class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+
+            while (true) {
+                int available = readableLength();
+                if (available < 0) {
+                    return -1;
+                }
+                if (available > 0) {
+                    int count = Math.min(len, available);
+                    System.arraycopy(buffer, head, b, off, count);
+                    head += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new IOException("multipart 본문이 경계 없이 끝났습니다.");
+                }
+            }
+        }
+
+        /**
+         * 다음 경계까지 남은 본문을 읽지 않고 건너뜁니다.
+         */
+        void drain() throws IOException {
+            while (!done) {
+                int available = readableLength();
+                if (available > 0) {
+                    head += available;
+                } else if (available == 0 && !fill()) {
+                    throw new IOException("multipart 본문이 경계 없이 끝났습니다.");
+                }
+            }
+        }
+
+        /**
+         * 경계를 넘지 않고 바로 넘겨줄 수 있는 본문 길이를 계산합니다.
+         * 경계에 도달했으면 경계를 소비하고 -1을 반환합니다.
+         * 버퍼 끝에 경계의 앞부분이 걸쳐 있을 수 있으므로 경계 길이보다 1 짧은 만큼은 남겨 둡니다.
+         */
+        private int readableLength() {
+            int index = indexOfDelimiter();
+            if (index == head) {
+                head += delimiter.length;
+                done = true;
+                return -1;
+            }
+            if (index > head) {
+                return index - head;
+            }
+            return Math.max(0, tail - head - (delimiter.length - 1));
+        }
+    }
+
+    /**
+     * multipart 파트
+     *
+     * @param name        폼 필드 이름
+     * @param filename    파일명 (파일 파트가 아니면 null)
+     * @param contentType 파트의 Content-Type (없으면 null)
+     * @param body        파트 본문 (다음 파트로 이동하기 전까지만 읽을 수 있음)
+     */
+    public record Part(String name, String filename, String contentType, InputStream body) {
+
+        public boolean isFile() {
+            return filename != null;
+        }
+
+        /**
+         * 파트 본문을 UTF-8 문자열로 읽습니다 (일반 폼 필드용).
+         *
+         * @param maxBytes 허용할 최대 크기
+         * @throws IOException 최대 크기를 넘거나 읽기에 실패한 경우
+         */
+        public String readString(int maxBytes) throws IOException {
+            byte[] bytes = body.readNBytes(maxBytes + 1);
+            if (bytes.length > maxBytes) {
+                throw new IOException("폼 필드 '" + name + "'가 너무 큽니다.");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package thonlivethondie.artconnect.service.upload;
+
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+
+/**
+ * 업로드한 S3 객체의 공개 범위
+ * <p>
+ * 비공개 객체는 내용 기반 이름(체크섬 + 확장자) 앞에 "private/" 경로를 붙여 공개 객체와 따로 중복을 제거합니다.
+ * 같은 내용이라도 공개 객체를 비공개 이미지가, 비공개 객체를 공개 이미지가 가리키지 않도록 하기 위함입니다.
+ */
+public enum ObjectAccess {
+
+    /**
+     * 누구나 URL로 읽을 수 있는 객체 (CDN 캐시 대상)
+     */
+    PUBLIC(CannedAccessControlList.PublicRead, ""),
+
+    /**
+     * 서명된 단기 URL로만 읽을 수 있는 객체
+     */
+    PRIVATE(CannedAccessControlList.Private, "private/");
+
+    private final CannedAccessControlList acl;
+    private final String prefix;
+
+    ObjectAccess(CannedAccessControlList acl, String prefix) {
+        this.acl = acl;
+        this.prefix = prefix;
+    }
+
+    public CannedAccessControlList getAcl() {
+        return acl;
+    }
+
+    /**
+     * 내용 기반 이름(체크섬 + 확장자)이나 임시 이름으로 S3 키를 만듭니다.
+     *
+     * @param name 내용 기반 이름 또는 임시 이름
+     * @return S3 키 (예: 1b2c....png, private/1b2c....png)
+     */
+    public String fileNameOf(String name) {
+        return prefix + name;
+    }
+}
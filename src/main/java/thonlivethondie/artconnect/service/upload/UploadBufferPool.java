@@ -0,0 +1,72 @@
+package thonlivethondie.artconnect.service.upload;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트리밍 업로드용 고정 크기 버퍼 풀
+ * <p>
+ * 업로드 하나가 버퍼 하나를 빌려 S3 파트 크기만큼씩 채워 전송하므로,
+ * 파일 크기와 관계없이 업로드당 메모리 사용량이 버퍼 하나로 고정됩니다.
+ * 버퍼는 필요할 때 만들어 최대 개수까지만 보관하며, 모두 사용 중이면 잠시 기다린 뒤 "업로드 사용량 초과" 에러로 실패합니다.
+ */
+@Component
+public class UploadBufferPool {
+
+    /**
+     * S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+     */
+    private static final int MIN_BUFFER_SIZE_MB = 5;
+
+    private final int bufferSize;
+    private final long acquireTimeoutMillis;
+    private final Semaphore permits;
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    public UploadBufferPool(
+            @Value("${cloud.aws.s3.upload.stream.buffer-size-mb:5}") int bufferSizeMb,
+            @Value("${cloud.aws.s3.upload.stream.buffer-count:8}") int bufferCount,
+            @Value("${cloud.aws.s3.upload.stream.acquire-timeout-ms:3000}") long acquireTimeoutMillis) {
+        this.bufferSize = Math.max(bufferSizeMb, MIN_BUFFER_SIZE_MB) * 1024 * 1024;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.permits = new Semaphore(bufferCount);
+    }
+
+    /**
+     * 버퍼를 빌립니다. 사용이 끝나면 반드시 {@link #release(byte[])}로 반환해야 합니다.
+     *
+     * @throws ServiceUnavailableException 모든 버퍼가 사용 중인 경우 (UPLOAD_BUSY)
+     */
+    public byte[] acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException(ErrorCode.UPLOAD_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorCode.UPLOAD_BUSY, e);
+        }
+
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        buffers.offer(buffer);
+        permits.release();
+    }
+
+    /**
+     * 현재 빌릴 수 있는 버퍼 수를 반환합니다 (모니터링용).
+     */
+    public int getAvailableBuffers() {
+        return permits.availablePermits();
+    }
+}
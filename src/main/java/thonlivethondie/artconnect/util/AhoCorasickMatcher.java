@@ -0,0 +1,132 @@
+package thonlivethondie.artconnect.util;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 여러 개의 패턴 문자열을 한 번의 텍스트 순회로 모두 찾아내는 Aho–Corasick 매처
+ * 생성 시 트라이와 실패 링크를 한 번만 구성하며, 이후 조회는 스레드 안전합니다.
+ *
+ * @param <T> 패턴에 연결된 값의 타입
+ */
+public class AhoCorasickMatcher<T> {
+
+    private final Node<T> root;
+
+    private AhoCorasickMatcher(Map<String, ? extends Collection<T>> patterns) {
+        this.root = new Node<>();
+
+        // 1. 패턴으로 트라이 구성
+        patterns.forEach((pattern, values) -> {
+            if (pattern == null || pattern.isEmpty()) {
+                return;
+            }
+
+            Node<T> node = root;
+            for (int i = 0; i < pattern.length(); i++) {
+                node = node.children.computeIfAbsent(pattern.charAt(i), key -> new Node<>());
+            }
+            for (T value : values) {
+                node.outputs.add(new Output<>(value, pattern.length()));
+            }
+        });
+
+        // 2. BFS로 실패 링크 구성 및 실패 노드의 출력 병합
+        Deque<Node<T>> queue = new ArrayDeque<>();
+        for (Node<T> child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node<T> node = queue.poll();
+            for (Map.Entry<Character, Node<T>> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node<T> child = entry.getValue();
+
+                Node<T> fail = node.fail;
+                while (fail != root && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node<T> target = fail.children.get(c);
+                child.fail = (target != null && target != child) ? target : root;
+                child.outputs.addAll(child.fail.outputs);
+
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 패턴 → 값 목록으로 매처를 생성합니다.
+     *
+     * @param patterns 패턴 문자열과 연결된 값 목록
+     * @return 생성된 매처
+     */
+    public static <T> AhoCorasickMatcher<T> of(Map<String, ? extends Collection<T>> patterns) {
+        return new AhoCorasickMatcher<>(patterns);
+    }
+
+    /**
+     * 텍스트에 등장하는 모든 패턴의 값을 등장 순서대로 전달합니다.
+     * 같은 패턴이 여러 번 등장하면 그만큼 전달됩니다.
+     *
+     * @param text     검색할 텍스트
+     * @param consumer 매칭된 값을 받을 함수
+     */
+    public void forEachMatch(CharSequence text, Consumer<T> consumer) {
+        forEachMatch(text, (value, start, end) -> consumer.accept(value));
+    }
+
+    /**
+     * 텍스트에 등장하는 모든 패턴의 값과 등장 위치를 등장 순서대로 전달합니다.
+     * 호출하는 쪽에서 위치를 이용해 단어 경계 등 추가 조건을 검사할 수 있습니다.
+     *
+     * @param text     검색할 텍스트
+     * @param consumer 매칭된 값과 위치를 받을 함수
+     */
+    public void forEachMatch(CharSequence text, MatchConsumer<T> consumer) {
+        if (text == null) {
+            return;
+        }
+
+        Node<T> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            for (Output<T> output : node.outputs) {
+                consumer.accept(output.value(), i + 1 - output.length(), i + 1);
+            }
+        }
+    }
+
+    /**
+     * 매칭된 값과 텍스트 내 위치를 받는 함수
+     *
+     * @param <T> 패턴에 연결된 값의 타입
+     */
+    @FunctionalInterface
+    public interface MatchConsumer<T> {
+
+        /**
+         * @param value 매칭된 패턴의 값
+         * @param start 매칭 시작 위치 (포함)
+         * @param end   매칭 끝 위치 (제외)
+         */
+        void accept(T value, int start, int end);
+    }
+
+    private record Output<T>(T value, int length) {
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<Output<T>> outputs = new ArrayList<>();
+        private Node<T> fail;
+    }
+}
@@ -0,0 +1,65 @@
+package thonlivethondie.artconnect.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoundedTtlCache의 조회, 항목별 만료, LRU 제거, 통계 집계에 대한 단위 테스트
+ */
+class BoundedTtlCacheTest {
+
+    @Test
+    @DisplayName("만료 시각 전에는 저장한 값을 조회하고, 만료 시각이 되면 제거한 뒤 null을 반환한다")
+    void getUntilExpiresAt() {
+        // given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("a", "A", 1_000);
+
+        // when & then
+        assertThat(cache.get("a", 999)).isEqualTo("A");
+        assertThat(cache.get("a", 1_000)).isNull();
+        assertThat(cache.get("b", 0)).isNull();
+        assertThat(cache.getStats())
+                .isEqualTo(new BoundedTtlCache.Stats(0, 10, 1, 2, 1, 0));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void evictLeastRecentlyUsed() {
+        // given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2);
+        cache.put("1", "one", Long.MAX_VALUE);
+        cache.put("2", "two", Long.MAX_VALUE);
+        cache.get("1", 0);
+
+        // when
+        cache.put("3", "three", Long.MAX_VALUE);
+
+        // then
+        assertThat(cache.get("1", 0)).isEqualTo("one");
+        assertThat(cache.get("2", 0)).isNull();
+        assertThat(cache.get("3", 0)).isEqualTo("three");
+        assertThat(cache.getStats().capacityEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 항목을 한 번에 정리하고, 만료되지 않은 항목은 남긴다")
+    void purgeExpired() {
+        // given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10);
+        cache.put("old", "O", 100);
+        cache.put("older", "OO", 50);
+        cache.put("fresh", "F", 500);
+
+        // when
+        int removed = cache.purgeExpired(100);
+
+        // then
+        assertThat(removed).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getStats().expiredEvictionCount()).isEqualTo(2);
+        assertThat(cache.get("fresh", 100)).isEqualTo("F");
+    }
+}
@@ -0,0 +1,50 @@
+package thonlivethondie.artconnect.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 이벤트 카운터 집계에 대한 단위 테스트
+ */
+class AuthEventRecorderTest {
+
+    @Test
+    @DisplayName("표본 로그 여부와 관계없이 모든 이벤트를 이벤트별로 집계한다")
+    void countsEveryEvent() {
+        // given
+        AuthEventRecorder recorder = new AuthEventRecorder(1000);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            recorder.record(AuthEvent.ACCESS_TOKEN_ACCEPTED, "userId", i);
+        }
+        recorder.record(AuthEvent.TOKEN_EXPIRED);
+        recorder.record(AuthEvent.REFRESH_REUSE_DETECTED, "userId", 1L, "familyId", "family", "revoked", 2);
+
+        // then
+        Map<AuthEvent, Long> counts = recorder.getCounts();
+        assertThat(counts).containsEntry(AuthEvent.ACCESS_TOKEN_ACCEPTED, 5L)
+                .containsEntry(AuthEvent.TOKEN_EXPIRED, 1L)
+                .containsEntry(AuthEvent.REFRESH_REUSE_DETECTED, 1L)
+                .containsEntry(AuthEvent.LOGIN_FAILED, 0L);
+    }
+
+    @Test
+    @DisplayName("표본 비율이 0이면 로그 없이 카운터만 집계한다")
+    void countsWithoutSampling() {
+        // given
+        AuthEventRecorder recorder = new AuthEventRecorder(0);
+
+        // when
+        recorder.record(AuthEvent.LOGIN_SUCCEEDED, "userId", 1L);
+        recorder.record(AuthEvent.LOGIN_SUCCEEDED, "userId", 2L);
+
+        // then
+        assertThat(recorder.getCounts()).containsEntry(AuthEvent.LOGIN_SUCCEEDED, 2L)
+                .hasSize(AuthEvent.values().length);
+    }
+}
@@ -0,0 +1,55 @@
+package thonlivethondie.artconnect.common.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.UserType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 Claim으로 만든 인증 사용자 정보와 현재 요청 사용자 확인에 대한 단위 테스트
+ */
+class AuthenticatedUserTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("username은 userId 문자열이고 role의 권한을 갖는다")
+    void userDetails() {
+        // when
+        AuthenticatedUser user = new AuthenticatedUser(7L, Role.USER, UserType.DESIGNER);
+
+        // then
+        assertThat(user.getUsername()).isEqualTo("7");
+        assertThat(user.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("현재 요청의 사용자와 회원 유형이 모두 같을 때만 본인으로 확인된다")
+    void isCurrent() {
+        // given
+        AuthenticatedUser user = new AuthenticatedUser(7L, Role.USER, UserType.DESIGNER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // when & then
+        assertThat(AuthenticatedUser.current()).contains(user);
+        assertThat(AuthenticatedUser.isCurrent(7L, UserType.DESIGNER)).isTrue();
+        assertThat(AuthenticatedUser.isCurrent(7L, UserType.BUSINESS_OWNER)).isFalse();
+        assertThat(AuthenticatedUser.isCurrent(8L, UserType.DESIGNER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청에서는 본인 확인을 하지 않는다")
+    void notAuthenticated() {
+        assertThat(AuthenticatedUser.current()).isEmpty();
+        assertThat(AuthenticatedUser.isCurrent(7L, UserType.DESIGNER)).isFalse();
+    }
+}
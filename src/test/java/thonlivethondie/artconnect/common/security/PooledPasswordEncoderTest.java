@@ -0,0 +1,151 @@
+package thonlivethondie.artconnect.common.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PooledPasswordEncoder의 전용 스레드 실행, 대기열 초과 및 대기 시간 초과 시 거절, 재해시 판단에 대한 단위 테스트
+ */
+class PooledPasswordEncoderTest {
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 인코딩하고 같은 비밀번호만 일치한다")
+    void encodeAndMatch() {
+        // given
+        executor = new PasswordHashingExecutor(1, 4, 5_000);
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), executor);
+
+        // when
+        String encoded = encoder.encode("password123");
+
+        // then
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 AUTH_BUSY로 실패한다")
+    void failFastWhenQueueFull() throws Exception {
+        // given
+        executor = new PasswordHashingExecutor(1, 1, 5_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread.ofVirtual().start(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.ofVirtual().start(() -> executor.execute(() -> "queued"));
+        waitUntilQueued(executor);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> "rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_BUSY);
+        assertThat(executor.getStats().rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기열에서 제한 시간을 넘긴 요청은 AUTH_BUSY로 실패하고 계산하지 않는다")
+    void skipRequestTimedOutInQueue() throws Exception {
+        // given
+        executor = new PasswordHashingExecutor(1, 4, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+
+        Thread.ofVirtual().start(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> queuedRan.getAndSet(true)))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_BUSY);
+        assertThat(executor.getStats().queuedCount()).isZero();
+
+        release.countDown();
+        assertThat(executor.execute(() -> "next")).isEqualTo("next");
+        assertThat(queuedRan).isFalse();
+        assertThat(executor.getStats().rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 시작된 계산은 제한 시간을 넘어도 중단하지 않고 결과를 반환한다")
+    void doNotInterruptRunningHash() {
+        // given
+        executor = new PasswordHashingExecutor(1, 4, 50);
+
+        // when
+        String result = executor.execute(() -> {
+            sleep(200);
+            return Thread.currentThread().isInterrupted() ? "interrupted" : "hashed";
+        });
+
+        // then
+        assertThat(result).isEqualTo("hashed");
+        assertThat(executor.getStats().rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 비용이 설정보다 낮고 대기열에 여유가 있으면 재해시 대상이다")
+    void upgradeEncoding() {
+        // given
+        executor = new PasswordHashingExecutor(1, 4, 5_000);
+        String lowCost = new BCryptPasswordEncoder(4).encode("password123");
+        String sameCost = new BCryptPasswordEncoder(5).encode("password123");
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(5), executor);
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(lowCost)).isTrue();
+        assertThat(encoder.upgradeEncoding(sameCost)).isFalse();
+    }
+
+    private static void waitUntilQueued(PasswordHashingExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.getStats().queuedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
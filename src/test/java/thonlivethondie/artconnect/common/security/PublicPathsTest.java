@@ -0,0 +1,40 @@
+package thonlivethondie.artconnect.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 경로 트라이의 정확한 경로, 접두 경로 판단에 대한 단위 테스트
+ */
+class PublicPathsTest {
+
+    @Test
+    @DisplayName("permitAll로 설정한 경로와 그 하위 경로는 공개 경로로 판단한다")
+    void publicPaths() {
+        assertThat(PublicPaths.matches("/")).isTrue();
+        assertThat(PublicPaths.matches("/index.html")).isTrue();
+        assertThat(PublicPaths.matches("/login")).isTrue();
+        assertThat(PublicPaths.matches("/oauth2")).isTrue();
+        assertThat(PublicPaths.matches("/oauth2/authorization/kakao")).isTrue();
+        assertThat(PublicPaths.matches("/login/oauth2/code/google")).isTrue();
+        assertThat(PublicPaths.matches("/images/icons/logo.png")).isTrue();
+        assertThat(PublicPaths.matches("/api/auth/sign-up")).isTrue();
+        assertThat(PublicPaths.matches("/h2-console/")).isTrue();
+    }
+
+    @Test
+    @DisplayName("패턴과 정확히 같지 않은 경로와 인증이 필요한 경로는 공개 경로가 아니다")
+    void protectedPaths() {
+        assertThat(PublicPaths.matches("")).isFalse();
+        assertThat(PublicPaths.matches("login")).isFalse();
+        assertThat(PublicPaths.matches("/login/")).isFalse();
+        assertThat(PublicPaths.matches("/loginx")).isFalse();
+        assertThat(PublicPaths.matches("//login")).isFalse();
+        assertThat(PublicPaths.matches("/login/oauth")).isFalse();
+        assertThat(PublicPaths.matches("/api")).isFalse();
+        assertThat(PublicPaths.matches("/api/authx/sign-up")).isFalse();
+        assertThat(PublicPaths.matches("/api/portfolio")).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package thonlivethondie.artconnect.oauth2.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.oauth2.service.SocialIdentityCache.SocialIdentity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SocialIdentityCache의 조회, 만료, LRU 제거 동작에 대한 단위 테스트
+ */
+class SocialIdentityCacheTest {
+
+    @Test
+    @DisplayName("저장한 소셜 계정은 캐시에서 조회되고, 소셜 종류가 다르면 조회되지 않는다")
+    void getAndPut() {
+        // given
+        SocialIdentityCache cache = new SocialIdentityCache(10, 60);
+        cache.put(SocialType.KAKAO, "12345", identity(1L));
+
+        // when
+        SocialIdentity hit = cache.get(SocialType.KAKAO, "12345");
+        SocialIdentity miss = cache.get(SocialType.GOOGLE, "12345");
+
+        // then
+        assertThat(hit).isEqualTo(identity(1L));
+        assertThat(miss).isNull();
+        assertThat(cache.getStats().hitCount()).isEqualTo(1);
+        assertThat(cache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 캐시에서 제거된다")
+    void expire() {
+        // given
+        SocialIdentityCache cache = new SocialIdentityCache(10, 0);
+
+        // when
+        cache.put(SocialType.NAVER, "abc", identity(1L));
+
+        // then
+        assertThat(cache.get(SocialType.NAVER, "abc")).isNull();
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 계정부터 제거된다")
+    void evictLeastRecentlyUsed() {
+        // given
+        SocialIdentityCache cache = new SocialIdentityCache(2, 60);
+        cache.put(SocialType.KAKAO, "1", identity(1L));
+        cache.put(SocialType.KAKAO, "2", identity(2L));
+        cache.get(SocialType.KAKAO, "1");
+
+        // when
+        cache.put(SocialType.KAKAO, "3", identity(3L));
+
+        // then
+        assertThat(cache.get(SocialType.KAKAO, "1")).isNotNull();
+        assertThat(cache.get(SocialType.KAKAO, "2")).isNull();
+        assertThat(cache.get(SocialType.KAKAO, "3")).isNotNull();
+    }
+
+    private static SocialIdentity identity(Long userId) {
+        return new SocialIdentity(userId, "user" + userId + "@kakao.social", Role.USER);
+    }
+}
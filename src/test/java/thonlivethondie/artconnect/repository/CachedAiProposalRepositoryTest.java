@@ -0,0 +1,50 @@
+package thonlivethondie.artconnect.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.CachedAiProposal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CachedAiProposalRepository의 만료 행 삭제 쿼리에 대한 통합 테스트
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+class CachedAiProposalRepositoryTest {
+
+    @Autowired
+    private CachedAiProposalRepository cachedAiProposalRepository;
+
+    @Test
+    @DisplayName("만료 시각이 지난 제안만 삭제한다")
+    void deleteExpired() {
+        // given
+        long now = System.currentTimeMillis();
+        cachedAiProposalRepository.save(proposal("expired", now - 1));
+        cachedAiProposalRepository.save(proposal("active", now + 60_000));
+        cachedAiProposalRepository.flush();
+
+        // when
+        int deleted = cachedAiProposalRepository.deleteExpired(now);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(cachedAiProposalRepository.existsById("expired")).isFalse();
+        assertThat(cachedAiProposalRepository.existsById("active")).isTrue();
+    }
+
+    private static CachedAiProposal proposal(String promptHash, long expiresAt) {
+        return CachedAiProposal.builder()
+                .promptHash(promptHash)
+                .designDirection("모던하고 심플한 스타일")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package thonlivethondie.artconnect.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.StoredObject;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StoredObjectRepository의 참조 수 갱신 쿼리에 대한 통합 테스트
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+class StoredObjectRepositoryTest {
+
+    @Autowired
+    private StoredObjectRepository storedObjectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("참조 수는 기록된 객체만 늘리고, 기록되지 않은 객체는 갱신된 행 수 0을 반환한다")
+    void addReferences() {
+        // given
+        storedObjectRepository.saveAndFlush(new StoredObject("a", 1));
+
+        // when
+        int updated = storedObjectRepository.addReferences("a", 2);
+        int missing = storedObjectRepository.addReferences("b", 1);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(storedObjectRepository.findById("a").orElseThrow().getRefCount()).isEqualTo(3);
+        assertThat(storedObjectRepository.findById("b")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참조 수는 0 아래로 줄어들지 않는다")
+    void releaseReferences() {
+        // given
+        storedObjectRepository.saveAndFlush(new StoredObject("a", 3));
+        storedObjectRepository.saveAndFlush(new StoredObject("b", 1));
+
+        // when
+        storedObjectRepository.releaseReferences("a", 1);
+        storedObjectRepository.releaseReferences("b", 5);
+        entityManager.clear();
+
+        // then
+        assertThat(storedObjectRepository.findById("a").orElseThrow().getRefCount()).isEqualTo(2);
+        assertThat(storedObjectRepository.findById("b").orElseThrow().getRefCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("참조가 남은 객체만 참조 중으로 조회하고, 참조가 없는 기록만 삭제한다")
+    void findReferencedAndDeleteUnreferenced() {
+        // given
+        storedObjectRepository.saveAndFlush(new StoredObject("referenced", 1));
+        storedObjectRepository.saveAndFlush(new StoredObject("unreferenced", 0));
+        List<String> fileNames = List.of("referenced", "unreferenced", "unknown");
+
+        // when
+        List<String> referenced = storedObjectRepository.findReferencedFileNames(fileNames);
+        int deleted = storedObjectRepository.deleteUnreferenced(fileNames);
+        entityManager.clear();
+
+        // then
+        assertThat(referenced).containsExactly("referenced");
+        assertThat(deleted).isEqualTo(1);
+        assertThat(storedObjectRepository.findAllById(fileNames))
+                .extracting(StoredObject::getFileName)
+                .containsExactly("referenced");
+    }
+
+    @Test
+    @DisplayName("잠금 조회는 기록된 객체의 참조 수 행을 반환한다")
+    void findAllForUpdate() {
+        // given
+        storedObjectRepository.saveAndFlush(new StoredObject("a", 2));
+
+        // when
+        List<StoredObject> locked = storedObjectRepository.findAllForUpdate(List.of("a", "unknown"));
+
+        // then
+        assertThat(locked).extracting(StoredObject::getFileName).containsExactly("a");
+        assertThat(locked.get(0).getRefCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,75 @@
+package thonlivethondie.artconnect.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserRepository의 소셜 계정 유니크 인덱스와 조회 쿼리에 대한 통합 테스트
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("같은 소셜 계정(socialType, socialId)으로는 회원을 한 명만 저장할 수 있다")
+    void uniqueSocialIdentity() {
+        // given
+        userRepository.saveAndFlush(socialUser(SocialType.KAKAO, "12345"));
+
+        // when & then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(socialUser(SocialType.KAKAO, "12345")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("소셜 종류가 다르면 식별값이 같아도 다른 회원으로 저장되고 각각 조회된다")
+    void findBySocialTypeAndSocialId() {
+        // given
+        User kakao = userRepository.saveAndFlush(socialUser(SocialType.KAKAO, "12345"));
+        User google = userRepository.saveAndFlush(socialUser(SocialType.GOOGLE, "12345"));
+
+        // when & then
+        assertThat(userRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, "12345"))
+                .map(User::getId).contains(kakao.getId());
+        assertThat(userRepository.findBySocialTypeAndSocialId(SocialType.GOOGLE, "12345"))
+                .map(User::getId).contains(google.getId());
+        assertThat(userRepository.findBySocialTypeAndSocialId(SocialType.NAVER, "12345")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이메일 중복 여부를 회원 조회 없이 확인한다")
+    void existsByEmail() {
+        // given
+        userRepository.saveAndFlush(socialUser(SocialType.KAKAO, "12345"));
+
+        // when & then
+        assertThat(userRepository.existsByEmail("12345@kakao.social")).isTrue();
+        assertThat(userRepository.existsByEmail("none@kakao.social")).isFalse();
+    }
+
+    private static User socialUser(SocialType socialType, String socialId) {
+        return User.builder()
+                .email(socialId + "@" + socialType.name().toLowerCase() + ".social")
+                .nickname("소셜회원")
+                .role(Role.USER)
+                .socialType(socialType)
+                .socialId(socialId)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AiCallExecutor의 허용량 제한, 비동기 응답, 제한 시간, 지연 시 재요청 동작에 대한 단위 테스트
+ */
+class AiCallExecutorTest {
+
+    private AiCallExecutor aiCallExecutor;
+
+    @AfterEach
+    void tearDown() {
+        aiCallExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("허용량이 가득 차면 기다리지 않고 AI_BUSY로 실패한다")
+    void failFastWhenBusy() throws Exception {
+        // given
+        aiCallExecutor = new AiCallExecutor(1, 50, 5_000, 0, 1_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        aiCallExecutor.call("점유", () -> {
+            started.countDown();
+            await(release);
+            return "done";
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> aiCallExecutor.call("대기", () -> "never"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AI_BUSY);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("호출한 스레드는 AI 응답을 기다리지 않고, 응답이 오면 결과가 완료된다")
+    void callDoesNotBlockCaller() throws Exception {
+        // given
+        aiCallExecutor = new AiCallExecutor(1, 50, 5_000, 0, 1_000);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<String> result = aiCallExecutor.call("비동기", () -> {
+            await(release);
+            return "done";
+        });
+
+        // then
+        assertThat(result).isNotDone();
+        assertThat(aiCallExecutor.getAvailablePermits()).isZero();
+
+        release.countDown();
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(aiCallExecutor.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 AI_TIMEOUT으로 실패하고 허용량을 반환한다")
+    void timeout() {
+        // given
+        aiCallExecutor = new AiCallExecutor(2, 50, 100, 0, 1_000);
+
+        // when & then
+        assertThatThrownBy(() -> aiCallExecutor.call("지연", () -> {
+            await(new CountDownLatch(1));
+            return "never";
+        }).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AI_TIMEOUT);
+        assertThat(aiCallExecutor.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("첫 호출이 지연되면 한 번 더 요청하고 먼저 도착한 응답을 사용한다")
+    void hedgeSlowCall() {
+        // given
+        aiCallExecutor = new AiCallExecutor(2, 50, 2_000, 50, 1_000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = aiCallExecutor.call("재요청", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(new CountDownLatch(1));
+                return "slow";
+            }
+            return "fast";
+        }).join();
+
+        // then
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(aiCallExecutor.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("호출 중 발생한 예외는 그대로 전달된다")
+    void propagateFailure() {
+        aiCallExecutor = new AiCallExecutor(1, 50, 1_000, 0, 1_000);
+
+        assertThatThrownBy(() -> aiCallExecutor.call("실패", () -> {
+            throw new IllegalStateException("model error");
+        }).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("model error");
+        assertThat(aiCallExecutor.getAvailablePermits()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.repository.CachedAiProposalRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiProposalCache의 프롬프트 정규화와 메모리 캐시 동작에 대한 단위 테스트
+ */
+class AiProposalCacheTest {
+
+    @Test
+    @DisplayName("공백, 문장부호, 조사만 다른 프롬프트는 같은 키로 정규화된다")
+    void normalize() {
+        String expected = AiProposalCache.normalize("카페 로고 만들어주세요");
+
+        assertThat(AiProposalCache.normalize("카페 로고를 만들어 주세요!")).isEqualTo(expected);
+        assertThat(AiProposalCache.normalize("  카페로고,   만들어주세요.")).isEqualTo(expected);
+        assertThat(AiProposalCache.normalize("빵집 로고 만들어주세요")).isNotEqualTo(expected);
+        assertThat(AiProposalCache.normalize("  !! ")).isNull();
+    }
+
+    @Test
+    @DisplayName("명사의 마지막 글자와 겹치는 한 글자 조사는 제거하지 않아 다른 요청이 같은 키로 합쳐지지 않는다")
+    void normalizeKeepsNounEndings() {
+        assertThat(AiProposalCache.normalize("고양이 로고")).isNotEqualTo(AiProposalCache.normalize("고양 로고"));
+        assertThat(AiProposalCache.normalize("레트로 포스터")).isNotEqualTo(AiProposalCache.normalize("레트 포스터"));
+        assertThat(AiProposalCache.normalize("고양이를 그린 로고")).isEqualTo(AiProposalCache.normalize("고양이 그린 로고"));
+    }
+
+    @Test
+    @DisplayName("비슷한 프롬프트는 캐시에서 조회되고 통계에 반영된다")
+    void getAndPut() {
+        // given
+        AiProposalCache cache = createCache(10);
+        cache.put("카페 로고 만들어주세요", new AiProposalDto("모던하고 심플한 스타일", "20-30대 직장인", "로고, 명함"));
+
+        // when
+        AiProposalDto hit = cache.get("카페 로고를 만들어 주세요!");
+        AiProposalDto miss = cache.get("빵집 포스터 만들어주세요");
+
+        // then
+        assertThat(hit).isNotNull();
+        assertThat(hit.getDesignDirection()).isEqualTo("모던하고 심플한 스타일");
+        assertThat(miss).isNull();
+        assertThat(cache.getStats().hitCount()).isEqualTo(1);
+        assertThat(cache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 제안부터 제거된다")
+    void evictLeastRecentlyUsed() {
+        // given
+        AiProposalCache cache = createCache(2);
+        cache.put("카페 로고", new AiProposalDto("a", null, null));
+        cache.put("빵집 로고", new AiProposalDto("b", null, null));
+        cache.get("카페 로고");
+
+        // when
+        cache.put("꽃집 로고", new AiProposalDto("c", null, null));
+
+        // then
+        assertThat(cache.get("카페 로고")).isNotNull();
+        assertThat(cache.get("빵집 로고")).isNull();
+        assertThat(cache.getStats().size()).isEqualTo(2);
+    }
+
+    private AiProposalCache createCache(int maxEntries) {
+        return new AiProposalCache(maxEntries, 60, false,
+                new StaticListableBeanFactory().getBeanProvider(CachedAiProposalRepository.class));
+    }
+}
@@ -0,0 +1,178 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.common.exception.ServiceUnavailableException;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.dto.AiRecommendationResponseDto;
+import thonlivethondie.artconnect.dto.ErrorResponseDto;
+import thonlivethondie.artconnect.dto.RecommendedDesignerDto;
+import thonlivethondie.artconnect.dto.ScoredDesignerDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiRecommendationStreamService의 SSE 이벤트 순서와 실행 스레드에 대한 테스트
+ * AI 응답 대신 다른 스레드에서 조각을 보내는 Flux를 사용하고, 전송한 이벤트를 기록하는 SseEmitter로 결과를 확인합니다.
+ */
+class AiRecommendationStreamServiceTest {
+
+    @Test
+    @DisplayName("토큰을 도착 순서대로 전송하고, designDirection이 완성되면 미리보기를, 스트림이 끝나면 최종 결과를 전송한다")
+    void streamRecommendation() throws InterruptedException {
+        // given
+        Flux<String> tokens = Flux.just(
+                        "{\"targetCustomer\": \"20대\", \"design",
+                        "Direction\": \"따뜻한 \\\"우드",
+                        "\\\" 톤\"",
+                        ", \"requiredDesigns\": null}")
+                .delayElements(Duration.ofMillis(5));
+        FakeDesignerMatchingService matchingService = new FakeDesignerMatchingService();
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        streamService(tokens, matchingService, emitter).streamRecommendation("카페 로고");
+
+        // then
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.names).containsExactly("token", "token", "token", "designers", "token", "result");
+        assertThat(emitter.data.get(0)).isEqualTo("{\"targetCustomer\": \"20대\", \"design");
+
+        AiRecommendationResponseDto result = (AiRecommendationResponseDto) emitter.data.get(5);
+        assertThat(result.getSessionId()).isEqualTo("session_1");
+
+        // 미리보기는 완성된 designDirection만으로, 최종 결과는 전체 제안으로 매칭
+        assertThat(matchingService.designDirections).containsExactly("따뜻한 \"우드\" 톤", "완성된 제안");
+        // 디자이너 매칭(DB 조회)은 Flux를 보낸 스레드가 아닌 boundedElastic 스레드에서 실행
+        assertThat(matchingService.threadNames).allMatch(name -> name.startsWith("boundedElastic"));
+    }
+
+    @Test
+    @DisplayName("AI 스트림이 실패하면 error 이벤트를 전송하고 연결을 종료한다")
+    void streamRecommendationError() throws InterruptedException {
+        // given
+        Flux<String> tokens = Flux.<String>error(new ServiceUnavailableException(ErrorCode.AI_TIMEOUT))
+                .delaySubscription(Duration.ofMillis(5));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        streamService(tokens, new FakeDesignerMatchingService(), emitter).streamRecommendation("카페 로고");
+
+        // then
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.names).containsExactly("error");
+        assertThat(((ErrorResponseDto) emitter.data.get(0)).code()).isEqualTo(ErrorCode.AI_TIMEOUT.getCode());
+    }
+
+    private static AiRecommendationStreamService streamService(Flux<String> tokens,
+                                                               DesignerMatchingService matchingService,
+                                                               SseEmitter emitter) {
+        return new AiRecommendationStreamService(
+                new FakeAiRecommendationService(tokens), matchingService, new FakeSessionService()) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    /**
+     * 캐시 없이 주어진 Flux를 AI 응답으로 돌려주는 AiRecommendationService
+     */
+    private static class FakeAiRecommendationService extends AiRecommendationService {
+
+        private final Flux<String> tokens;
+
+        FakeAiRecommendationService(Flux<String> tokens) {
+            super(null, null, null, null);
+            this.tokens = tokens;
+        }
+
+        @Override
+        public AiProposalDto getCachedProposal(String userPrompt) {
+            return null;
+        }
+
+        @Override
+        public Flux<String> streamProposal(String userPrompt) {
+            return tokens;
+        }
+
+        @Override
+        public AiProposalDto completeStreamedProposal(String userPrompt, String aiResponse) {
+            return new AiProposalDto("완성된 제안", "20대", null);
+        }
+    }
+
+    /**
+     * 매칭에 사용한 designDirection과 실행 스레드를 기록하는 DesignerMatchingService
+     */
+    private static class FakeDesignerMatchingService extends DesignerMatchingService {
+
+        final List<String> designDirections = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+        FakeDesignerMatchingService() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public List<ScoredDesignerDto> findScoredMatchingDesigners(AiProposalDto proposal) {
+            designDirections.add(proposal.getDesignDirection());
+            threadNames.add(Thread.currentThread().getName());
+            return List.of();
+        }
+    }
+
+    private static class FakeSessionService extends DesignerMatchingSessionService {
+
+        FakeSessionService() {
+            super(null, null);
+        }
+
+        @Override
+        public String createSession(AiProposalDto proposal, List<ScoredDesignerDto> scoredDesigners) {
+            return "session_1";
+        }
+
+        @Override
+        public List<RecommendedDesignerDto> getInitialRecommendations(String sessionId) {
+            return List.of();
+        }
+    }
+
+    /**
+     * 전송한 이벤트의 이름과 데이터를 기록하는 SseEmitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> names = Collections.synchronizedList(new ArrayList<>());
+        final List<Object> data = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            // [event:이름\ndata:, 데이터, \n\n]
+            List<ResponseBodyEmitter.DataWithMediaType> parts = new ArrayList<>(builder.build());
+            String header = (String) parts.get(0).getData();
+            names.add(header.substring("event:".length(), header.indexOf('\n')));
+            data.add(parts.get(1).getData());
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuthenticatedPrincipalCache의 만료와 LRU 제거 동작에 대한 단위 테스트
+ */
+class AuthenticatedPrincipalCacheTest {
+
+    private static final long ONE_HOUR = 3_600_000L;
+
+    @Test
+    @DisplayName("저장한 토큰은 캐시에서 조회되고, 다른 토큰은 조회되지 않는다")
+    void getAndPut() {
+        // given
+        AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache(10, 60);
+        cache.put("token-a", principal("1"), System.currentTimeMillis() + ONE_HOUR);
+
+        // when
+        UserDetails hit = cache.get("token-a");
+        UserDetails miss = cache.get("token-b");
+
+        // then
+        assertThat(hit).isNotNull();
+        assertThat(hit.getUsername()).isEqualTo("1");
+        assertThat(miss).isNull();
+        assertThat(cache.getStats().hitCount()).isEqualTo(1);
+        assertThat(cache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 유지 시간보다 이르면 토큰 만료 시각에 캐시에서 제거된다")
+    void expireWithToken() {
+        // given
+        AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache(10, 60);
+
+        // when
+        cache.put("expired-token", principal("1"), System.currentTimeMillis() - 1);
+
+        // then
+        assertThat(cache.get("expired-token")).isNull();
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 토큰부터 제거된다")
+    void evictLeastRecentlyUsed() {
+        // given
+        AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache(2, 60);
+        long expiresAt = System.currentTimeMillis() + ONE_HOUR;
+        cache.put("token-a", principal("1"), expiresAt);
+        cache.put("token-b", principal("2"), expiresAt);
+        cache.get("token-a");
+
+        // when
+        cache.put("token-c", principal("3"), expiresAt);
+
+        // then
+        assertThat(cache.get("token-a")).isNotNull();
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.get("token-c")).isNotNull();
+    }
+
+    private static UserDetails principal(String userId) {
+        return User.builder()
+                .username(userId)
+                .password("")
+                .roles("USER")
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package thonlivethondie.artconnect.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬 S3 호환 저장소(MinIO)에 presigned PUT URL로 실제 업로드하여 크기 제한을 검증하는 테스트
+ * docker-compose의 minio 서비스가 실행 중일 때만 실행하고, 없으면 건너뜁니다.
+ */
+class AwsS3ServiceMinioTest {
+
+    private static final String HOST = "localhost";
+    private static final int PORT = 9000;
+    private static final String ENDPOINT = "http://" + HOST + ":" + PORT;
+    private static final String BUCKET = "art-connect-test";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRunning(), "MinIO가 실행 중이 아님 (docker compose up minio)");
+
+        AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(
+                        env("AWS_ACCESS_KEY", "minioadmin"), env("AWS_SECRET_KEY", "minioadmin"))))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(ENDPOINT, "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        if (!amazonS3.doesBucketExistV2(BUCKET)) {
+            amazonS3.createBucket(BUCKET);
+        }
+
+        awsS3Service = new AwsS3Service(amazonS3, null);
+        ReflectionTestUtils.setField(awsS3Service, "bucket", BUCKET);
+        ReflectionTestUtils.setField(awsS3Service, "cacheControl", "public, max-age=31536000, immutable");
+    }
+
+    @Test
+    @DisplayName("발급받을 때 알린 크기의 파일은 presigned PUT URL로 업로드되고 HEAD 요청으로 크기를 확인할 수 있다")
+    void uploadWithDeclaredSize() throws Exception {
+        // given
+        String fileName = UUID.randomUUID() + ".png";
+        byte[] body = new byte[1024];
+
+        // when
+        int status = put(fileName, 1024, body);
+
+        // then
+        try {
+            assertThat(status).isEqualTo(200);
+            assertThat(awsS3Service.findObjectMetadata(fileName).getContentLength()).isEqualTo(1024);
+        } finally {
+            awsS3Service.deleteFile(fileName);
+        }
+    }
+
+    @Test
+    @DisplayName("발급받을 때 알린 크기보다 큰 파일은 서명 불일치로 거부되어 저장되지 않는다")
+    void rejectLargerThanDeclaredSize() throws Exception {
+        // given
+        String fileName = UUID.randomUUID() + ".png";
+        byte[] body = new byte[4096];
+
+        // when
+        int status = put(fileName, 1024, body);
+
+        // then
+        assertThat(status).isEqualTo(403);
+        assertThat(awsS3Service.findObjectMetadata(fileName)).isNull();
+    }
+
+    /**
+     * 클라이언트처럼 발급받은 URL과 헤더로 업로드합니다 (Content-Length는 HTTP 클라이언트가 본문 크기로 설정).
+     */
+    private int put(String fileName, long declaredSize, byte[] body) throws IOException, InterruptedException {
+        Date expiration = new Date(System.currentTimeMillis() + 600_000L);
+        String uploadUrl = awsS3Service.generateUploadUrl(fileName, "image/png", declaredSize, ObjectAccess.PUBLIC, expiration);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(uploadUrl))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(body));
+        for (Map.Entry<String, String> header : awsS3Service.directUploadHeaders("image/png", declaredSize, ObjectAccess.PUBLIC).entrySet()) {
+            if (!header.getKey().equalsIgnoreCase("Content-Length")) {
+                request.header(header.getKey(), header.getValue());
+            }
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static boolean isRunning() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(HOST, PORT), 500);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
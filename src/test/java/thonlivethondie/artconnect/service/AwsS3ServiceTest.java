@@ -0,0 +1,103 @@
+package thonlivethondie.artconnect.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 S3 호환 저장소 설정으로 presigned 업로드 URL 생성을 검증하는 단위 테스트
+ * URL 서명은 네트워크 호출 없이 계산되므로 저장소가 실행 중이지 않아도 됩니다.
+ */
+class AwsS3ServiceTest {
+
+    private static final String ENDPOINT = "http://localhost:9000";
+    private static final String BUCKET = "art-connect";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(ENDPOINT, "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+
+        awsS3Service = new AwsS3Service(amazonS3, null);
+        ReflectionTestUtils.setField(awsS3Service, "bucket", BUCKET);
+        ReflectionTestUtils.setField(awsS3Service, "cacheControl", CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("presigned PUT URL은 로컬 저장소의 버킷 경로를 가리키고 콘텐츠 타입, 크기, 공개 권한, 캐시 헤더를 서명한다")
+    void generateUploadUrl() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 600_000L);
+
+        // when
+        String uploadUrl = awsS3Service.generateUploadUrl("a1b2.png", "image/png", 1024, ObjectAccess.PUBLIC, expiration);
+
+        // then
+        assertThat(uploadUrl).startsWith(ENDPOINT + "/" + BUCKET + "/a1b2.png?");
+        assertThat(uploadUrl).contains("X-Amz-Signature=");
+        assertThat(uploadUrl).contains("X-Amz-SignedHeaders=cache-control%3Bcontent-length%3Bcontent-type%3Bhost%3Bx-amz-acl");
+    }
+
+    @Test
+    @DisplayName("presigned PUT 요청에 포함해야 하는 헤더를 반환한다")
+    void directUploadHeaders() {
+        // when
+        Map<String, String> headers = awsS3Service.directUploadHeaders("image/png", 1024, ObjectAccess.PUBLIC);
+
+        // then
+        assertThat(headers)
+                .containsEntry("Content-Type", "image/png")
+                .containsEntry("Content-Length", "1024")
+                .containsEntry("x-amz-acl", "public-read")
+                .containsEntry("Cache-Control", CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("비공개 업로드는 비공개 권한 헤더를 서명하여 업로드 직후부터 공개되지 않는다")
+    void directUploadHeadersForPrivateUpload() {
+        // when
+        Map<String, String> headers = awsS3Service.directUploadHeaders("image/png", 1024, ObjectAccess.PRIVATE);
+
+        // then
+        assertThat(headers).containsEntry("x-amz-acl", "private");
+    }
+
+    @Test
+    @DisplayName("업로드 완료 후 저장할 파일 URL은 로컬 저장소 주소를 사용한다")
+    void getFileUrl() {
+        assertThat(awsS3Service.getFileUrl("a1b2.png")).isEqualTo(ENDPOINT + "/" + BUCKET + "/a1b2.png");
+    }
+
+    @Test
+    @DisplayName("비공개 객체의 presigned GET URL은 만료 시각과 서명을 포함한다")
+    void generateDownloadUrl() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 600_000L);
+
+        // when
+        String downloadUrl = awsS3Service.generateDownloadUrl("private/a1b2", expiration);
+
+        // then
+        assertThat(downloadUrl).startsWith(ENDPOINT + "/" + BUCKET + "/private/a1b2?");
+        assertThat(downloadUrl).contains("X-Amz-Expires=");
+        assertThat(downloadUrl).contains("X-Amz-Signature=");
+    }
+}
@@ -0,0 +1,258 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.common.DesignStyle;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.dto.ScoredDesignerDto;
+import thonlivethondie.artconnect.entity.Portfolio;
+import thonlivethondie.artconnect.entity.PortfolioDesignCategory;
+import thonlivethondie.artconnect.entity.User;
+import thonlivethondie.artconnect.entity.UserDesignCategory;
+import thonlivethondie.artconnect.entity.UserDesignStyleCategory;
+import thonlivethondie.artconnect.repository.PortfolioRepository;
+import thonlivethondie.artconnect.repository.UserRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DesignerMatchingService의 비트마스크 기반 점수 계산을 이전 방식(엔티티 문자열 포함 검사)과 비교하는 통합 테스트
+ * 이전 방식은 {@link #legacyScores(List)}에 그대로 옮겨 두고, 같은 키워드에 대해 두 방식의 점수를 비교합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, DesignerSearchIndex.class, KeywordAnalyzer.class, DesignerMatchingService.class})
+@ActiveProfiles("test")
+class DesignerMatchingServiceTest {
+
+    @Autowired
+    private DesignerMatchingService designerMatchingService;
+
+    @Autowired
+    private DesignerSearchIndex designerSearchIndex;
+
+    @Autowired
+    private KeywordAnalyzer keywordAnalyzer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long cafeDesignerId;
+    private Long posterDesignerId;
+
+    @BeforeEach
+    void setUp() {
+        // 로고/브랜드 전문, 귀여운/따뜻한 스타일
+        User cafeDesigner = designer("cafe@test.com",
+                List.of(DesignCategory.LOGO, DesignCategory.BRAND), List.of(DesignStyle.CUTE, DesignStyle.WARM));
+        portfolio(cafeDesigner, "카페 로고 리뉴얼", "따뜻한 분위기의 베이커리", List.of(DesignCategory.LOGO));
+
+        // 포스터 전문, 모던 스타일
+        User posterDesigner = designer("poster@test.com",
+                List.of(DesignCategory.POSTER_FLYER), List.of(DesignStyle.MODERN));
+        portfolio(posterDesigner, "북카페 포스터", "전시 포스터 작업",
+                List.of(DesignCategory.POSTER_FLYER, DesignCategory.BANNER_AD));
+        portfolio(posterDesigner, "패키지 리뉴얼", null, List.of(DesignCategory.PACKAGE));
+
+        // 전문분야 없음, 빈티지/클래식 스타일
+        User vintageDesigner = designer("vintage@test.com",
+                List.of(), List.of(DesignStyle.VINTAGE, DesignStyle.CLASSIC));
+        portfolio(vintageDesigner, "빈티지 카드", "클래식한 명함", List.of(DesignCategory.CARD));
+
+        entityManager.flush();
+        entityManager.clear();
+        designerSearchIndex.rebuild();
+
+        cafeDesignerId = cafeDesigner.getId();
+        posterDesignerId = posterDesigner.getId();
+    }
+
+    @Test
+    @DisplayName("카테고리/스타일 이름, 설명 단어, 단어 앞부분이 일치하는 키워드는 이전 방식과 같은 디자이너를 같은 점수로 찾는다")
+    void sameScoresAsLegacy() {
+        for (String keyword : List.of("로고", "logo", "포스터", "따뜻한", "빈티지", "명함", "리뉴얼", "cute", "브랜드")) {
+            // given
+            AiProposalDto proposal = new AiProposalDto(keyword, null, null);
+
+            // when
+            Map<Long, Integer> scores = scores(designerMatchingService.findScoredMatchingDesigners(proposal));
+
+            // then
+            assertThat(scores).as(keyword).isNotEmpty().isEqualTo(legacyScores(keywords(proposal)));
+        }
+    }
+
+    @Test
+    @DisplayName("점수 예시: 전문분야 +2, 스타일 +3, 포트폴리오 +1 (포트폴리오당 1회)")
+    void scoreWeights() {
+        // when
+        Map<Long, Integer> scores = scores(designerMatchingService.findScoredMatchingDesigners(
+                new AiProposalDto("따뜻한", null, null)));
+
+        // then
+        // "따뜻한": 스타일 +3, 포트폴리오 설명 +1 / 매핑된 "warm": 스타일 +3
+        assertThat(scores).containsExactly(Map.entry(cafeDesignerId, 7));
+    }
+
+    @Test
+    @DisplayName("이전과 달리 단어 중간에 포함된 키워드는 포트폴리오 제목/설명과 매칭하지 않는다")
+    void differsForSubstringInsideToken() {
+        // given
+        AiProposalDto proposal = new AiProposalDto("카페", null, null);
+
+        // when
+        Map<Long, Integer> scores = scores(designerMatchingService.findScoredMatchingDesigners(proposal));
+
+        // then
+        // 이전: "북카페"도 포함 검사로 매칭
+        assertThat(legacyScores(keywords(proposal))).isEqualTo(Map.of(cafeDesignerId, 1, posterDesignerId, 1));
+        assertThat(scores).isEqualTo(Map.of(cafeDesignerId, 1));
+    }
+
+    @Test
+    @DisplayName("이전과 달리 카테고리/스타일 설명의 일부분만 포함한 키워드는 해당 카테고리/스타일로 보지 않는다")
+    void differsForPartialDescription() {
+        // given
+        AiProposalDto proposal = new AiProposalDto("포스", null, null);
+
+        // when
+        Map<Long, Integer> scores = scores(designerMatchingService.findScoredMatchingDesigners(proposal));
+
+        // then
+        // 이전: "포스터/전단지 디자인"에 포함되어 전문분야 +2, 포트폴리오 제목 +1
+        assertThat(legacyScores(keywords(proposal))).isEqualTo(Map.of(posterDesignerId, 3));
+        // 현재: "포스터" 토큰의 앞부분으로 포트폴리오 +1만
+        assertThat(scores).isEqualTo(Map.of(posterDesignerId, 1));
+    }
+
+    @Test
+    @DisplayName("이전과 달리 동의어 키워드도 해당 스타일로 점수를 받는다")
+    void differsForSynonym() {
+        // given
+        AiProposalDto proposal = new AiProposalDto("모던", null, null);
+
+        // when
+        Map<Long, Integer> scores = scores(designerMatchingService.findScoredMatchingDesigners(proposal));
+
+        // then
+        // 이전: 매핑된 "modern"만 스타일 +3 / 현재: "모던"도 MODERN 스타일 +3
+        assertThat(legacyScores(keywords(proposal))).isEqualTo(Map.of(posterDesignerId, 3));
+        assertThat(scores).isEqualTo(Map.of(posterDesignerId, 6));
+    }
+
+    /**
+     * 서비스와 같은 방식으로 제안에서 검색 키워드를 만듭니다 (추출한 키워드 + 매핑된 영어 키워드).
+     */
+    private List<String> keywords(AiProposalDto proposal) {
+        return Stream.concat(
+                        keywordAnalyzer.extractKeywords(proposal.getDesignDirection()).stream(),
+                        keywordAnalyzer.findDesignTerms(proposal.getDesignDirection()).toKeywords().stream())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static Map<Long, Integer> scores(List<ScoredDesignerDto> scoredDesigners) {
+        return scoredDesigners.stream()
+                .collect(Collectors.toMap(dto -> dto.getDesigner().getUserId(), ScoredDesignerDto::getMatchingScore));
+    }
+
+    /**
+     * 비트마스크 도입 전의 점수 계산 (엔티티의 name/description/제목/설명에 키워드가 포함되는지 검사)
+     * 점수가 0보다 큰 디자이너만 반환합니다.
+     */
+    private Map<Long, Integer> legacyScores(List<String> keywords) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (User designer : userRepository.findAllByUserType(UserType.DESIGNER)) {
+            int totalScore = 0;
+            for (String keyword : keywords) {
+                String lowerKeyword = keyword.toLowerCase();
+                int keywordScore = 0;
+
+                for (DesignCategory category : designer.getSelectedSpecialities()) {
+                    if (category.name().toLowerCase().contains(lowerKeyword)
+                            || category.getDescription().toLowerCase().contains(lowerKeyword)) {
+                        keywordScore += 2;
+                        break;
+                    }
+                }
+
+                for (DesignStyle style : designer.getSelectedDesignStyles()) {
+                    if (style.name().toLowerCase().contains(lowerKeyword)
+                            || style.getDescription().toLowerCase().contains(lowerKeyword)) {
+                        keywordScore += 3;
+                        break;
+                    }
+                }
+
+                for (Portfolio portfolio : designer.getPortfolios()) {
+                    if (portfolio.getTitle() != null && portfolio.getTitle().toLowerCase().contains(lowerKeyword)) {
+                        keywordScore += 1;
+                    } else if (portfolio.getDescription() != null
+                            && portfolio.getDescription().toLowerCase().contains(lowerKeyword)) {
+                        keywordScore += 1;
+                    } else {
+                        for (PortfolioDesignCategory portfolioDesignCategory : portfolio.getDesignCategories()) {
+                            DesignCategory category = portfolioDesignCategory.getDesignCategory();
+                            if (category.name().toLowerCase().contains(lowerKeyword)
+                                    || category.getDescription().toLowerCase().contains(lowerKeyword)) {
+                                keywordScore += 1;
+                                break;
+                            }
+                        }
+                    }
+                }
+
+                totalScore += keywordScore;
+            }
+            if (totalScore > 0) {
+                scores.put(designer.getId(), totalScore);
+            }
+        }
+        return scores;
+    }
+
+    private User designer(String email, List<DesignCategory> specialities, List<DesignStyle> styles) {
+        User designer = userRepository.save(User.builder()
+                .email(email)
+                .nickname(email)
+                .userType(UserType.DESIGNER)
+                .role(Role.USER)
+                .socialType(SocialType.KAKAO)
+                .build());
+        specialities.forEach(category -> designer.getSpeciality().add(UserDesignCategory.of(designer, category)));
+        styles.forEach(style -> designer.getDesignStyleCategories().add(UserDesignStyleCategory.of(designer, style)));
+        return designer;
+    }
+
+    private void portfolio(User designer, String title, String description, List<DesignCategory> categories) {
+        Portfolio portfolio = Portfolio.builder()
+                .designer(designer)
+                .title(title)
+                .description(description)
+                .build();
+        portfolio.setDesignCategories(categories);
+        portfolioRepository.save(portfolio);
+    }
+}
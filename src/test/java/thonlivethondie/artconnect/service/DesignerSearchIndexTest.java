@@ -0,0 +1,184 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import thonlivethondie.artconnect.common.DesignCategory;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.Portfolio;
+import thonlivethondie.artconnect.entity.User;
+import thonlivethondie.artconnect.entity.UserDesignCategory;
+import thonlivethondie.artconnect.repository.PortfolioRepository;
+import thonlivethondie.artconnect.repository.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DesignerSearchIndex의 색인 구성, 디자이너별 갱신, 토큰 접두어 검색에 대한 통합 테스트
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, DesignerSearchIndex.class})
+@ActiveProfiles("test")
+class DesignerSearchIndexTest {
+
+    @Autowired
+    private DesignerSearchIndex designerSearchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User cafeDesigner;
+    private User posterDesigner;
+    private Portfolio cafePortfolio;
+    private Portfolio posterPortfolio;
+
+    @BeforeEach
+    void setUp() {
+        // 카페 디자이너: 로고 전문, "카페 로고" 포트폴리오
+        cafeDesigner = userRepository.save(user("cafe@test.com", UserType.DESIGNER));
+        cafeDesigner.getSpeciality().add(UserDesignCategory.of(cafeDesigner, DesignCategory.LOGO));
+        cafePortfolio = portfolioRepository.save(portfolio(cafeDesigner, "카페 로고 리뉴얼", "따뜻한 분위기의 베이커리"));
+
+        // 포스터 디자이너: 전문분야 없음, "북카페 포스터" 포트폴리오
+        posterDesigner = userRepository.save(user("poster@test.com", UserType.DESIGNER));
+        posterPortfolio = portfolioRepository.save(portfolio(posterDesigner, "북카페 포스터", "로고가 들어간 포스터"));
+
+        // 디자이너가 아닌 사용자는 색인하지 않음
+        userRepository.save(user("owner@test.com", UserType.BUSINESS_OWNER));
+
+        entityManager.flush();
+        entityManager.clear();
+        designerSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("전체 색인은 디자이너의 전문분야와 포트폴리오 제목/설명을 토큰으로 색인한다")
+    void rebuild() {
+        // then
+        assertThat(designerSearchIndex.getIndexedDesignerCount()).isEqualTo(2);
+        assertThat(designerSearchIndex.search(List.of("logo"), 10)).containsExactly(cafeDesigner.getId());
+        assertThat(designerSearchIndex.search(List.of("베이커리"), 10)).containsExactly(cafeDesigner.getId());
+        assertThat(designerSearchIndex.getProfile(cafeDesigner.getId()).specialityMask())
+                .isEqualTo(1 << DesignCategory.LOGO.ordinal());
+    }
+
+    @Test
+    @DisplayName("키워드로 시작하는 토큰만 매칭하며, 토큰 중간에 포함된 키워드는 매칭하지 않는다")
+    void searchByTokenPrefix() {
+        // when & then
+        // "카페" → "카페" 토큰만 매칭 ("북카페"는 매칭되지 않음)
+        assertThat(designerSearchIndex.search(List.of("카페"), 10)).containsExactly(cafeDesigner.getId());
+        // "로고" → "로고", "로고가" 토큰과 매칭
+        assertThat(designerSearchIndex.search(List.of("로고"), 10))
+                .containsExactly(cafeDesigner.getId(), posterDesigner.getId());
+        assertThat(designerSearchIndex.search(List.of("Bakery", " "), 10)).isEmpty();
+        assertThat(designerSearchIndex.search(List.of(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매칭된 키워드 수가 많은 순, 같으면 ID 순으로 정렬하고 최대 개수만큼 반환한다")
+    void searchOrderAndLimit() {
+        // when & then
+        assertThat(designerSearchIndex.search(List.of("로고", "포스터", "북카페"), 10))
+                .containsExactly(posterDesigner.getId(), cafeDesigner.getId());
+        assertThat(designerSearchIndex.search(List.of("로고", "포스터", "북카페"), 1))
+                .containsExactly(posterDesigner.getId());
+    }
+
+    @Test
+    @DisplayName("디자이너 정보가 바뀌면 해당 디자이너만 다시 색인하여 이전 토큰을 제거하고 새 토큰을 추가한다")
+    void reindex() {
+        // given
+        Portfolio portfolio = portfolioRepository.findById(cafePortfolio.getId()).orElseThrow();
+        portfolio.updatePortfolioInfo("패키지 작업", "친환경 포장");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        designerSearchIndex.reindex(cafeDesigner.getId());
+
+        // then
+        assertThat(designerSearchIndex.search(List.of("베이커리"), 10)).isEmpty();
+        assertThat(designerSearchIndex.search(List.of("패키지"), 10)).containsExactly(cafeDesigner.getId());
+        assertThat(designerSearchIndex.search(List.of("logo"), 10)).containsExactly(cafeDesigner.getId());
+        // 다른 디자이너의 색인은 그대로 유지
+        assertThat(designerSearchIndex.search(List.of("포스터"), 10)).containsExactly(posterDesigner.getId());
+        assertThat(designerSearchIndex.getProfile(cafeDesigner.getId()).portfolios().get(0).tokens())
+                .containsExactly("작업", "친환경", "패키지", "포장");
+    }
+
+    @Test
+    @DisplayName("색인할 토큰이 없어진 디자이너는 색인에서 제거하고, 새 디자이너는 추가한다")
+    void reindexRemovesAndAdds() {
+        // given
+        portfolioRepository.deleteById(posterPortfolio.getId());
+        User newDesigner = userRepository.save(user("new@test.com", UserType.DESIGNER));
+        portfolioRepository.save(portfolio(newDesigner, "굿즈 스티커", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        designerSearchIndex.reindex(posterDesigner.getId());
+        designerSearchIndex.reindex(newDesigner.getId());
+        designerSearchIndex.reindex(-1L);
+
+        // then
+        assertThat(designerSearchIndex.search(List.of("포스터"), 10)).isEmpty();
+        assertThat(designerSearchIndex.getProfile(posterDesigner.getId())).isNull();
+        assertThat(designerSearchIndex.search(List.of("굿즈"), 10)).containsExactly(newDesigner.getId());
+        assertThat(designerSearchIndex.getIndexedDesignerCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주기적인 전체 재구성은 변경 이벤트 없이 바뀐 디자이너 정보(다른 인스턴스의 변경)도 반영한다")
+    void rebuildReflectsChangesWithoutEvents() {
+        // given
+        Portfolio portfolio = portfolioRepository.findById(posterPortfolio.getId()).orElseThrow();
+        portfolio.updatePortfolioInfo("굿즈 스티커", "캐릭터 스티커 세트");
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(designerSearchIndex.search(List.of("굿즈"), 10)).isEmpty();
+
+        // when
+        designerSearchIndex.rebuild();
+
+        // then
+        assertThat(designerSearchIndex.search(List.of("굿즈"), 10)).containsExactly(posterDesigner.getId());
+        assertThat(designerSearchIndex.search(List.of("포스터"), 10)).isEmpty();
+        assertThat(designerSearchIndex.getIndexedDesignerCount()).isEqualTo(2);
+    }
+
+    private static User user(String email, UserType userType) {
+        return User.builder()
+                .email(email)
+                .nickname(email)
+                .userType(userType)
+                .role(Role.USER)
+                .socialType(SocialType.KAKAO)
+                .build();
+    }
+
+    private static Portfolio portfolio(User designer, String title, String description) {
+        return Portfolio.builder()
+                .designer(designer)
+                .title(title)
+                .description(description)
+                .build();
+    }
+}
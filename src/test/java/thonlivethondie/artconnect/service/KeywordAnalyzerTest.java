@@ -0,0 +1,74 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeywordAnalyzer의 키워드 추출과 디자인 용어 탐색에 대한 단위 테스트
+ */
+class KeywordAnalyzerTest {
+
+    private final KeywordAnalyzer keywordAnalyzer = new KeywordAnalyzer();
+
+    @Test
+    @DisplayName("쉼표와 구분 기호로 단어를 나누고, 짧은 단어, 불용어, 숫자를 제외한 뒤 중복 없이 등장 순서대로 반환한다")
+    void extractKeywords() {
+        // when & then
+        assertThat(keywordAnalyzer.extractKeywords("따뜻한 느낌, 카페/베이커리 로고 (2024) 로고 a"))
+                .containsExactly("따뜻한", "카페", "베이커리", "로고");
+        assertThat(keywordAnalyzer.extractKeywords(" ")).isEmpty();
+        assertThat(keywordAnalyzer.extractKeywords(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 용어는 조사와 어미가 붙어도 찾는다")
+    void findKoreanDesignTerms() {
+        // when
+        KeywordAnalyzer.DesignTerms terms = keywordAnalyzer.findDesignTerms("귀여운 캐릭터가 들어간 로고를 원해요");
+
+        // then
+        assertThat(terms.toKeywords()).containsExactly("cute", "logo");
+    }
+
+    @Test
+    @DisplayName("영문 용어는 다른 단어 내부에서는 찾지 않는다")
+    void findAsciiDesignTermsOnWordBoundary() {
+        // when & then
+        assertThat(keywordAnalyzer.findDesignTerms("execute the plan").toKeywords()).isEmpty();
+        assertThat(keywordAnalyzer.findDesignTerms("cardboard and postcards").toKeywords()).isEmpty();
+        assertThat(keywordAnalyzer.findDesignTerms("neatly modernized").toKeywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문 용어는 대소문자와 관계없이 공백, 문장 부호, 한글과 맞닿은 경계에서 찾는다")
+    void findAsciiDesignTerms() {
+        // when & then
+        assertThat(keywordAnalyzer.findDesignTerms("Cute, MODERN logo").toKeywords())
+                .containsExactly("cute", "modern", "logo");
+        assertThat(keywordAnalyzer.findDesignTerms("cute한 logo로").toKeywords())
+                .containsExactly("cute", "logo");
+        assertThat(keywordAnalyzer.findDesignTerms("poster_flyer").toKeywords())
+                .containsExactly("poster_flyer");
+    }
+
+    @Test
+    @DisplayName("겹치는 용어(전단지 안의 전단)를 모두 찾고, 같은 카테고리/스타일은 한 번만 반환한다")
+    void findOverlappingDesignTerms() {
+        // when
+        KeywordAnalyzer.DesignTerms terms = keywordAnalyzer.findDesignTerms("전단지와 패키징, 빈티지 레트로");
+
+        // then
+        assertThat(terms.toKeywords()).containsExactly("vintage", "retro", "poster_flyer", "package");
+    }
+
+    @Test
+    @DisplayName("찾은 용어가 없으면 빈 결과를 반환한다")
+    void findNoDesignTerms() {
+        // when & then
+        assertThat(keywordAnalyzer.findDesignTerms("")).isEqualTo(KeywordAnalyzer.DesignTerms.EMPTY);
+        assertThat(keywordAnalyzer.findDesignTerms(null)).isEqualTo(KeywordAnalyzer.DesignTerms.EMPTY);
+        assertThat(keywordAnalyzer.findDesignTerms("안녕하세요").toKeywords()).isEmpty();
+    }
+}
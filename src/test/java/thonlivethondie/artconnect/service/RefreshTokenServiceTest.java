@@ -0,0 +1,101 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import thonlivethondie.artconnect.common.security.AuthEvent;
+import thonlivethondie.artconnect.common.security.AuthEventRecorder;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.RefreshToken;
+import thonlivethondie.artconnect.repository.RefreshTokenRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshTokenService의 발급, 재발급(rotation), 재사용 감지에 대한 통합 테스트
+ * H2 인메모리 데이터베이스로 토큰 해시 기본 키 조회와 행 단위 갱신을 검증합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, AuthEventRecorder.class, JwtService.class, RefreshTokenService.class})
+@TestPropertySource(properties = {
+        "jwt.secret-key=test-secret-key-for-refresh-token-service",
+        "jwt.access.expiration=3600000",
+        "jwt.refresh.expiration=1209600000",
+        "jwt.access.header=Authorization",
+        "jwt.refresh.header=Authorization-refresh"
+})
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AuthEventRecorder authEventRecorder;
+
+    @Test
+    @DisplayName("발급한 토큰은 원문이 아닌 해시로 저장되고 기기 ID를 함께 기록한다")
+    void issue() {
+        // when
+        String refreshToken = refreshTokenService.issue(1L, "iphone-15");
+
+        // then
+        RefreshToken saved = refreshTokenRepository.findById(RefreshTokenService.hash(refreshToken)).orElseThrow();
+        assertThat(saved.getTokenHash()).hasSize(64).isNotEqualTo(refreshToken);
+        assertThat(saved.getUserId()).isEqualTo(1L);
+        assertThat(saved.getDeviceId()).isEqualTo("iphone-15");
+        assertThat(saved.getUsedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("재발급하면 같은 family의 새 토큰을 발급하고 이전 토큰은 사용 처리한다")
+    void rotate() {
+        // given
+        String refreshToken = refreshTokenService.issue(1L, null);
+
+        // when
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(refreshToken);
+
+        // then
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().userId()).isEqualTo(1L);
+        assertThat(rotation.get().refreshToken()).isNotEqualTo(refreshToken);
+
+        RefreshToken previous = refreshTokenRepository.findById(RefreshTokenService.hash(refreshToken)).orElseThrow();
+        RefreshToken reissued = refreshTokenRepository.findById(
+                RefreshTokenService.hash(rotation.get().refreshToken())).orElseThrow();
+        assertThat(reissued.getFamilyId()).isEqualTo(previous.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("이미 사용한 토큰이 다시 들어오면 거절하고 같은 family의 토큰을 모두 무효화한다")
+    void detectReuse() {
+        // given
+        String stolen = refreshTokenService.issue(1L, null);
+        String reissued = refreshTokenService.rotate(stolen).orElseThrow().refreshToken();
+        long reuseCount = authEventRecorder.getCounts().get(AuthEvent.REFRESH_REUSE_DETECTED);
+
+        // when
+        Optional<RefreshTokenService.Rotation> reused = refreshTokenService.rotate(stolen);
+
+        // then
+        assertThat(reused).isEmpty();
+        assertThat(refreshTokenService.rotate(reissued)).isEmpty();
+        assertThat(authEventRecorder.getCounts().get(AuthEvent.REFRESH_REUSE_DETECTED)).isEqualTo(reuseCount + 1);
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 토큰은 재발급하지 않는다")
+    void rotateUnknownToken() {
+        assertThat(refreshTokenService.rotate("unknown-token")).isEmpty();
+    }
+}
@@ -0,0 +1,453 @@
+package thonlivethondie.artconnect.service;
+
+import com.amazonaws.AmazonClientException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.PendingDeletion;
+import thonlivethondie.artconnect.entity.StoredObject;
+import thonlivethondie.artconnect.repository.PendingDeletionRepository;
+import thonlivethondie.artconnect.repository.StoredObjectRepository;
+import thonlivethondie.artconnect.service.image.ImageVariant;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3DeletionService의 참조 수 관리와 삭제 대기열 처리에 대한 통합 테스트
+ * S3 대신 삭제 요청을 기록하는 가짜 AwsS3Service를 사용합니다.
+ * 참조 수 행은 별도 트랜잭션에서 만들어져 테스트 롤백으로 지워지지 않으므로 테스트마다 다른 파일명을 사용합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, S3DeletionService.class, S3DeletionServiceTest.FakeS3Config.class})
+@TestPropertySource(properties = {
+        "cloud.aws.s3.bucket=test-bucket",
+        "cloud.aws.s3.deletion.retry-initial-delay-ms=1000",
+        "cloud.aws.s3.deletion.retry-max-delay-ms=8000"
+})
+@ActiveProfiles("test")
+class S3DeletionServiceTest {
+
+    @Autowired
+    private S3DeletionService s3DeletionService;
+
+    @Autowired
+    private StoredObjectRepository storedObjectRepository;
+
+    @Autowired
+    private PendingDeletionRepository pendingDeletionRepository;
+
+    @Autowired
+    private FakeAwsS3Service awsS3Service;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        awsS3Service.reset();
+    }
+
+    @Test
+    @DisplayName("처음 참조하는 객체는 참조 수 행을 만들고, 같은 파일명이 여러 번 나오면 그만큼 참조를 늘린다")
+    void addReferences() {
+        // given
+        String fileName = uniqueFileName();
+
+        // when
+        s3DeletionService.addReferences(List.of(fileName, fileName));
+        s3DeletionService.addReferences(List.of(fileName));
+        entityManager.clear();
+
+        // then
+        assertThat(storedObjectRepository.findById(fileName).orElseThrow().getRefCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("참조를 추가하면 업로드 전에 예약해 둔 삭제를 취소한다")
+    void addReferencesCancelsDeferredDeletion() {
+        // given
+        String fileName = uniqueFileName();
+        s3DeletionService.deferDeletion(List.of(fileName), System.currentTimeMillis() + 60_000);
+
+        // when
+        s3DeletionService.addReferences(List.of(fileName));
+
+        // then
+        assertThat(pendingDeletionRepository.findById(fileName)).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("여러 트랜잭션이 같은 객체를 동시에 처음 참조해도 기본 키 충돌 없이 참조 수를 모두 반영한다")
+    void addReferencesConcurrently() throws Exception {
+        // given
+        String fileName = uniqueFileName();
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status ->
+                            s3DeletionService.addReferences(List.of(fileName)));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // then
+            assertThat(storedObjectRepository.findById(fileName).orElseThrow().getRefCount()).isEqualTo(threads);
+        } finally {
+            executor.shutdownNow();
+            storedObjectRepository.deleteById(fileName);
+        }
+    }
+
+    @Test
+    @DisplayName("참조가 남아 있으면 삭제 대기열에 기록하지 않고, 마지막 참조를 반환하면 기록한다")
+    void releaseToZeroEnqueues() {
+        // given
+        String fileName = uniqueFileName();
+        s3DeletionService.addReferences(List.of(fileName, fileName));
+
+        // when
+        s3DeletionService.release(List.of(fileName));
+        entityManager.clear();
+
+        // then
+        assertThat(storedObjectRepository.findById(fileName).orElseThrow().getRefCount()).isEqualTo(1);
+        assertThat(pendingDeletionRepository.findById(fileName)).isEmpty();
+
+        // when
+        s3DeletionService.release(List.of(fileName));
+        entityManager.clear();
+
+        // then
+        assertThat(storedObjectRepository.findById(fileName).orElseThrow().getRefCount()).isZero();
+        PendingDeletion pending = pendingDeletionRepository.findById(fileName).orElseThrow();
+        assertThat(pending.getAttempts()).isZero();
+        assertThat(pending.getNextAttemptAt()).isLessThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("참조 수가 기록되지 않은 객체(UUID 이름)는 반환하면 바로 삭제 대기열에 기록한다")
+    void releaseUntrackedEnqueues() {
+        // given
+        String fileName = uniqueFileName();
+
+        // when
+        s3DeletionService.release(List.of(fileName));
+
+        // then
+        assertThat(pendingDeletionRepository.findById(fileName)).isPresent();
+    }
+
+    @Test
+    @DisplayName("삭제 예약 시 이미 삭제 대기열에 있던 파일명을 반환한다")
+    void deferDeletionReportsPendingDeletions() {
+        // given
+        String queued = uniqueFileName();
+        String fresh = uniqueFileName();
+        s3DeletionService.release(List.of(queued));
+
+        // when
+        Set<String> pending = s3DeletionService.deferDeletion(
+                List.of(queued, fresh), System.currentTimeMillis() + 60_000);
+        entityManager.clear();
+
+        // then
+        assertThat(pending).containsExactly(queued);
+        assertThat(pendingDeletionRepository.findById(queued).orElseThrow().getNextAttemptAt())
+                .isGreaterThan(System.currentTimeMillis());
+        assertThat(pendingDeletionRepository.findById(fresh)).isPresent();
+    }
+
+    @Test
+    @DisplayName("삭제 시각에 다시 참조된 객체는 S3에서 삭제하지 않고 대기열에서만 제거한다")
+    void drainSkipsReferencedObjects() {
+        // given
+        String fileName = uniqueFileName();
+        s3DeletionService.release(List.of(fileName));
+        storedObjectRepository.saveAndFlush(new StoredObject(fileName, 1));
+
+        // when
+        s3DeletionService.drain();
+        entityManager.clear();
+
+        // then
+        assertThat(awsS3Service.deletedKeys).isEmpty();
+        assertThat(pendingDeletionRepository.findById(fileName)).isEmpty();
+        assertThat(storedObjectRepository.findById(fileName)).isPresent();
+    }
+
+    @Test
+    @DisplayName("S3 삭제에 성공한 항목은 원본과 축소 이미지를 함께 삭제하고 대기열과 참조 수 기록에서 제거한다")
+    void drainRemovesDeletedItems() {
+        // given
+        String fileName = uniqueFileName();
+        s3DeletionService.addReferences(List.of(fileName));
+        s3DeletionService.release(List.of(fileName));
+
+        // when
+        s3DeletionService.drain();
+        entityManager.clear();
+
+        // then
+        assertThat(awsS3Service.deletedKeys).containsExactlyInAnyOrderElementsOf(ImageVariant.withVariants(fileName));
+        assertThat(pendingDeletionRepository.findById(fileName)).isEmpty();
+        assertThat(storedObjectRepository.findById(fileName)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 항목은 대기열에 남기고 시도 횟수를 늘려 처음 간격 뒤에 다시 시도한다")
+    void drainSchedulesRetryOnFailure() {
+        // given
+        String failing = uniqueFileName();
+        String deleted = uniqueFileName();
+        s3DeletionService.release(List.of(failing, deleted));
+        awsS3Service.failingKeys.add(failing);
+
+        // when
+        long before = System.currentTimeMillis();
+        s3DeletionService.drain();
+        long after = System.currentTimeMillis();
+        entityManager.clear();
+
+        // then
+        PendingDeletion retry = pendingDeletionRepository.findById(failing).orElseThrow();
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getNextAttemptAt()).isBetween(before + 1000, after + 1000);
+        assertThat(pendingDeletionRepository.findById(deleted)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("S3 호출 자체가 실패하면 처리 중이던 항목을 모두 재시도로 예약하고 이번 실행을 멈춘다")
+    void drainSchedulesRetryWhenS3Unavailable() {
+        // given
+        String fileName = uniqueFileName();
+        s3DeletionService.release(List.of(fileName));
+        awsS3Service.unavailable = true;
+
+        // when
+        s3DeletionService.drain();
+        entityManager.clear();
+
+        // then
+        PendingDeletion retry = pendingDeletionRepository.findById(fileName).orElseThrow();
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getNextAttemptAt()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("실패가 반복되면 재시도 간격을 두 배씩 늘리되 최대 간격을 넘기지 않는다")
+    void drainBacksOffExponentiallyUpToMaxDelay() {
+        // given
+        String fileName = uniqueFileName();
+        s3DeletionService.release(List.of(fileName));
+        awsS3Service.failingKeys.add(fileName);
+
+        // when & then (처음 1초, 최대 8초)
+        long[] expectedDelays = {1000, 2000, 4000, 8000, 8000, 8000};
+        for (int i = 0; i < expectedDelays.length; i++) {
+            long before = System.currentTimeMillis();
+            s3DeletionService.drain();
+            long after = System.currentTimeMillis();
+            entityManager.clear();
+
+            PendingDeletion retry = pendingDeletionRepository.findById(fileName).orElseThrow();
+            assertThat(retry.getAttempts()).isEqualTo(i + 1);
+            assertThat(retry.getNextAttemptAt()).isBetween(before + expectedDelays[i], after + expectedDelays[i]);
+
+            // 다음 시도 시각을 앞당겨 바로 다시 처리되도록 함
+            pendingDeletionRepository.updateRetry(List.of(fileName), retry.getAttempts(), 0);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("S3 삭제 요청 중에는 트랜잭션 없이 항목을 점유해 두고, 같은 객체의 삭제 예약은 삭제가 끝날 때까지 기다린다")
+    void drainDeletesOutsideTransactionWhileClaimed() throws Exception {
+        // given
+        String fileName = uniqueFileName();
+        transactionTemplate.executeWithoutResult(status -> s3DeletionService.release(List.of(fileName)));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Boolean> transactionActive = new ArrayList<>();
+        List<Boolean> claimed = new ArrayList<>();
+        List<Future<Set<String>>> deferrals = new ArrayList<>();
+        awsS3Service.onDelete = () -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            claimed.add(pendingDeletionRepository.findById(fileName).orElseThrow()
+                    .isClaimed(System.currentTimeMillis()));
+            deferrals.add(executor.submit(() -> s3DeletionService.deferDeletion(
+                    List.of(fileName), System.currentTimeMillis() + 60_000)));
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(deferrals.get(0)).isNotDone();
+        };
+
+        try {
+            // when
+            s3DeletionService.drain();
+
+            // then
+            assertThat(transactionActive).containsExactly(false);
+            assertThat(claimed).containsExactly(true);
+            // 삭제가 끝난 뒤에 예약되므로 대기열에 있던 항목이 없음 (S3에 객체가 없어 다시 업로드)
+            assertThat(deferrals.get(0).get(5, TimeUnit.SECONDS)).isEmpty();
+            PendingDeletion deferred = pendingDeletionRepository.findById(fileName).orElseThrow();
+            assertThat(deferred.getAttempts()).isZero();
+            assertThat(deferred.isClaimed(System.currentTimeMillis())).isFalse();
+        } finally {
+            executor.shutdownNow();
+            pendingDeletionRepository.deleteById(fileName);
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도 횟수에 따라 두 배씩 늘어나고 최대 간격으로 제한된다")
+    void retryDelay() {
+        assertThat(s3DeletionService.retryDelay(1)).isEqualTo(1000);
+        assertThat(s3DeletionService.retryDelay(2)).isEqualTo(2000);
+        assertThat(s3DeletionService.retryDelay(3)).isEqualTo(4000);
+        assertThat(s3DeletionService.retryDelay(4)).isEqualTo(8000);
+        assertThat(s3DeletionService.retryDelay(5)).isEqualTo(8000);
+        assertThat(s3DeletionService.retryDelay(100)).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("삭제 시각이 된 항목을 오래된 순으로 한 묶음씩 처리하고, 삭제 시각이 되지 않은 항목은 남긴다")
+    void drainProcessesDueItemsInOrder() {
+        // given
+        long now = System.currentTimeMillis();
+        int dueCount = S3DeletionService.DRAIN_BATCH_SIZE + 1;
+        List<PendingDeletion> items = new ArrayList<>();
+        List<String> dueFileNames = new ArrayList<>();
+        for (int i = 0; i < dueCount; i++) {
+            String fileName = uniqueFileName();
+            dueFileNames.add(fileName);
+            items.add(new PendingDeletion(fileName, now - 100_000 + i));
+        }
+        String notDue = uniqueFileName();
+        items.add(new PendingDeletion(notDue, now + 60_000));
+        // 저장 순서와 삭제 시각 순서가 다르도록 역순으로 저장
+        pendingDeletionRepository.saveAll(items.reversed());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        s3DeletionService.drain();
+        entityManager.clear();
+
+        // then
+        assertThat(awsS3Service.batches).hasSize(2);
+        assertThat(originals(awsS3Service.batches.get(0)))
+                .containsExactlyInAnyOrderElementsOf(dueFileNames.subList(0, S3DeletionService.DRAIN_BATCH_SIZE));
+        assertThat(originals(awsS3Service.batches.get(1)))
+                .containsExactly(dueFileNames.get(dueCount - 1));
+        assertThat(pendingDeletionRepository.findAllById(dueFileNames)).isEmpty();
+        assertThat(pendingDeletionRepository.findById(notDue)).isPresent();
+    }
+
+    /**
+     * 삭제 요청한 키 중 원본 파일명만 (축소 이미지는 .jpg로 끝남)
+     */
+    private static List<String> originals(List<String> keys) {
+        return keys.stream()
+                .filter(key -> !key.endsWith(".jpg"))
+                .toList();
+    }
+
+    private static String uniqueFileName() {
+        return UUID.randomUUID().toString();
+    }
+
+    @TestConfiguration
+    static class FakeS3Config {
+
+        @Bean
+        FakeAwsS3Service awsS3Service() {
+            return new FakeAwsS3Service();
+        }
+    }
+
+    /**
+     * 삭제 요청을 기록하고, 지정한 키의 삭제 실패나 S3 장애를 흉내 내는 AwsS3Service
+     */
+    static class FakeAwsS3Service extends AwsS3Service {
+
+        final List<List<String>> batches = new ArrayList<>();
+        final List<String> deletedKeys = new ArrayList<>();
+        final Set<String> failingKeys = new HashSet<>();
+        boolean unavailable;
+        Runnable onDelete;
+
+        FakeAwsS3Service() {
+            super(null, null);
+        }
+
+        void reset() {
+            batches.clear();
+            deletedKeys.clear();
+            failingKeys.clear();
+            unavailable = false;
+            onDelete = null;
+        }
+
+        @Override
+        public Set<String> deleteFilesAndGetFailures(List<String> fileNames) {
+            if (onDelete != null) {
+                onDelete.run();
+            }
+            if (unavailable) {
+                throw new AmazonClientException("S3 unavailable");
+            }
+            batches.add(List.copyOf(fileNames));
+            Set<String> failures = new HashSet<>();
+            for (String fileName : fileNames) {
+                if (failingKeys.contains(fileName)) {
+                    failures.add(fileName);
+                } else {
+                    deletedKeys.add(fileName);
+                }
+            }
+            return failures;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package thonlivethondie.artconnect.service;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.exception.BadRequestException;
+import thonlivethondie.artconnect.common.exception.ErrorCode;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.dto.UploadIntentRequestDto;
+import thonlivethondie.artconnect.entity.Store;
+import thonlivethondie.artconnect.entity.StoreImage;
+import thonlivethondie.artconnect.entity.User;
+import thonlivethondie.artconnect.repository.PendingUploadRepository;
+import thonlivethondie.artconnect.repository.StoreImageRepository;
+import thonlivethondie.artconnect.repository.StoreRepository;
+import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.service.upload.ObjectAccess;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StagedUploadService의 presigned URL 업로드 대기 목록 정리 작업에 대한 통합 테스트
+ * 정리 작업과 완료 요청만 사용하므로 S3 삭제 서비스, 버퍼 풀, JSON 변환기 없이 생성합니다.
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+class StagedUploadServiceTest {
+
+    private static final long GRACE_MINUTES = 60;
+
+    @Autowired
+    private PendingUploadRepository pendingUploadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreImageRepository storeImageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private FakeAwsS3Service awsS3Service;
+    private StagedUploadService stagedUploadService;
+    private User owner;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        awsS3Service = new FakeAwsS3Service();
+        stagedUploadService = new StagedUploadService(awsS3Service, null, pendingUploadRepository,
+                transactionTemplate, null, null, null, GRACE_MINUTES, 10, 20, 10);
+
+        owner = userRepository.save(User.builder()
+                .email("owner@test.com")
+                .nickname("사장님")
+                .userType(UserType.BUSINESS_OWNER)
+                .role(Role.USER)
+                .socialType(SocialType.KAKAO)
+                .build());
+        store = storeRepository.save(Store.builder().user(owner).storeName("카페").build());
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나도록 이미지 행 없이 대기 목록에 남은 업로드는 S3 객체와 대기 목록 행을 함께 삭제한다")
+    void reconcileDeletesStaleUpload() {
+        // given
+        String stale = intent("stale.png");
+        ageBeyondGracePeriod(stale);
+
+        // when
+        stagedUploadService.reconcilePendingUploads();
+        entityManager.clear();
+
+        // then
+        assertThat(awsS3Service.deletedKeys).containsExactly(stale);
+        assertThat(pendingUploadRepository.findById(stale)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나지 않은 업로드는 아직 완료 요청이 올 수 있으므로 삭제하지 않는다")
+    void reconcileKeepsUploadWithinGracePeriod() {
+        // given
+        String recent = intent("recent.png");
+
+        // when
+        stagedUploadService.reconcilePendingUploads();
+        entityManager.clear();
+
+        // then
+        assertThat(awsS3Service.deletedKeys).isEmpty();
+        assertThat(pendingUploadRepository.findById(recent)).isPresent();
+    }
+
+    @Test
+    @DisplayName("완료 요청으로 이미지 행을 저장한 업로드는 대기 목록에서 빠지므로 유예 시간이 지나도 삭제하지 않는다")
+    void reconcileKeepsCommittedUpload() {
+        // given
+        String committed = intent("committed.png");
+        String stale = intent("stale.png");
+        ageBeyondGracePeriod(committed);
+        ageBeyondGracePeriod(stale);
+
+        awsS3Service.uploadedSizes.put(committed, 1024L);
+        stagedUploadService.completeAndSave(owner.getId(), List.of(committed), ObjectAccess.PUBLIC,
+                stagedImages -> storeImageRepository.saveAll(stagedImages.stream()
+                        .map(image -> StoreImage.builder()
+                                .store(store)
+                                .imageName(image.originalFilename())
+                                .imageUrl(image.imageUrl())
+                                .imageSize(image.size())
+                                .imageType(image.contentType())
+                                .build())
+                        .toList()));
+        entityManager.flush();
+
+        // when
+        stagedUploadService.reconcilePendingUploads();
+        entityManager.clear();
+
+        // then
+        assertThat(awsS3Service.deletedKeys).containsExactly(stale);
+        assertThat(pendingUploadRepository.findById(committed)).isEmpty();
+        assertThat(storeImageRepository.findAll())
+                .extracting(StoreImage::getImageUrl)
+                .containsExactly(awsS3Service.getFileUrl(committed));
+    }
+
+    @Test
+    @DisplayName("비공개 업로드는 private/ 경로와 비공개 권한으로 발급하고, 공개 대상의 완료 요청에는 사용할 수 없다")
+    void privateIntent() {
+        // given
+        String fileName = intent("draft.png", ObjectAccess.PRIVATE);
+        awsS3Service.uploadedSizes.put(fileName, 1024L);
+
+        // when & then
+        assertThat(fileName).startsWith("private/");
+        assertThat(awsS3Service.signedAccess).containsExactly(ObjectAccess.PRIVATE);
+        assertThatThrownBy(() -> stagedUploadService.completeAndSave(owner.getId(), List.of(fileName),
+                ObjectAccess.PUBLIC, stagedImages -> stagedImages))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPLOAD_NOT_FOUND);
+        assertThat(stagedUploadService.completeAndSave(owner.getId(), List.of(fileName),
+                ObjectAccess.PRIVATE, stagedImages -> stagedImages))
+                .extracting(StagedUploadService.StagedImage::fileName)
+                .containsExactly(fileName);
+    }
+
+    /**
+     * 공개 presigned URL을 발급받아 대기 목록에 기록하고, 발급된 파일명을 반환합니다.
+     */
+    private String intent(String filename) {
+        return intent(filename, ObjectAccess.PUBLIC);
+    }
+
+    /**
+     * presigned URL을 발급받아 대기 목록에 기록하고, 발급된 파일명을 반환합니다.
+     */
+    private String intent(String filename, ObjectAccess access) {
+        return stagedUploadService.createUploadIntents(owner.getId(), access,
+                        List.of(new UploadIntentRequestDto.FileInfo(filename, "image/png", 1024L)))
+                .uploads().get(0).fileName();
+    }
+
+    /**
+     * 대기 목록 행의 기록 시각을 유예 시간보다 이전으로 옮깁니다.
+     */
+    private void ageBeyondGracePeriod(String fileName) {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE PendingUpload p SET p.createdAt = :createdAt WHERE p.fileName = :fileName")
+                .setParameter("createdAt", System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(GRACE_MINUTES + 1))
+                .setParameter("fileName", fileName)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    /**
+     * URL 발급과 객체 확인을 흉내 내고, 삭제 요청을 기록하는 AwsS3Service
+     */
+    private static class FakeAwsS3Service extends AwsS3Service {
+
+        final Map<String, Long> uploadedSizes = new HashMap<>();
+        final List<String> deletedKeys = new ArrayList<>();
+        final List<ObjectAccess> signedAccess = new ArrayList<>();
+
+        FakeAwsS3Service() {
+            super(null, null);
+        }
+
+        @Override
+        public String generateUploadUrl(String fileName, String contentType, long contentLength, ObjectAccess access,
+                                        Date expiration) {
+            signedAccess.add(access);
+            return "https://upload.test/" + fileName;
+        }
+
+        @Override
+        public Map<String, String> directUploadHeaders(String contentType, long contentLength, ObjectAccess access) {
+            return Map.of();
+        }
+
+        @Override
+        public ObjectMetadata findObjectMetadata(String fileName) {
+            Long size = uploadedSizes.get(fileName);
+            if (size == null) {
+                return null;
+            }
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(size);
+            return metadata;
+        }
+
+        @Override
+        public String getFileUrl(String fileName) {
+            return "https://bucket.test/" + fileName;
+        }
+
+        @Override
+        public void deleteFiles(List<String> fileNames) {
+            deletedKeys.addAll(fileNames);
+        }
+    }
+}
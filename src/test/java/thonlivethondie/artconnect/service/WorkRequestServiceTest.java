@@ -0,0 +1,127 @@
+package thonlivethondie.artconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import thonlivethondie.artconnect.common.Role;
+import thonlivethondie.artconnect.common.SocialType;
+import thonlivethondie.artconnect.common.UserType;
+import thonlivethondie.artconnect.common.WorkRequestStatus;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.entity.Store;
+import thonlivethondie.artconnect.entity.User;
+import thonlivethondie.artconnect.entity.WorkRequest;
+import thonlivethondie.artconnect.entity.WorkRequestImage;
+import thonlivethondie.artconnect.repository.PendingDeletionRepository;
+import thonlivethondie.artconnect.repository.StoreRepository;
+import thonlivethondie.artconnect.repository.StoredObjectRepository;
+import thonlivethondie.artconnect.repository.UserRepository;
+import thonlivethondie.artconnect.repository.WorkRequestRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WorkRequestService의 의뢰서 삭제 시 S3 객체 참조 반환에 대한 통합 테스트
+ * 업로드를 사용하지 않으므로 StagedUploadService 없이 생성합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, S3DeletionService.class, S3DeletionServiceTest.FakeS3Config.class})
+@TestPropertySource(properties = "cloud.aws.s3.bucket=test-bucket")
+@ActiveProfiles("test")
+class WorkRequestServiceTest {
+
+    @Autowired
+    private WorkRequestRepository workRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoredObjectRepository storedObjectRepository;
+
+    @Autowired
+    private PendingDeletionRepository pendingDeletionRepository;
+
+    @Autowired
+    private S3DeletionService s3DeletionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("디자이너가 의뢰서를 삭제하면 cascade로 삭제되는 이미지의 참조를 반환하고, 참조가 없어진 객체만 삭제 대기열에 기록한다")
+    void deleteWorkRequestByDesignerReleasesImages() {
+        // given
+        User businessOwner = userRepository.save(user("owner@test.com", UserType.BUSINESS_OWNER));
+        User designer = userRepository.save(user("designer@test.com", UserType.DESIGNER));
+        Store store = storeRepository.save(Store.builder().user(businessOwner).storeName("카페").build());
+
+        String shared = UUID.randomUUID().toString();
+        String exclusive = UUID.randomUUID().toString();
+        WorkRequest workRequest = WorkRequest.builder()
+                .businessOwner(businessOwner)
+                .designer(designer)
+                .store(store)
+                .projectTitle("카페 로고")
+                .status(WorkRequestStatus.PROPOSAL)
+                .build();
+        workRequest.getWorkRequestImages().add(image(workRequest, shared));
+        workRequest.getWorkRequestImages().add(image(workRequest, exclusive));
+        workRequestRepository.save(workRequest);
+
+        // shared는 다른 이미지 행도 가리키는 객체
+        s3DeletionService.addReferences(List.of(shared, shared, exclusive));
+        entityManager.flush();
+        entityManager.clear();
+
+        WorkRequestService workRequestService = new WorkRequestService(
+                workRequestRepository, userRepository, storeRepository, null, s3DeletionService, transactionTemplate);
+
+        // when
+        workRequestService.deleteWorkRequestByDesigner(workRequest.getId(), designer.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(workRequestRepository.findById(workRequest.getId())).isEmpty();
+        assertThat(storedObjectRepository.findById(shared).orElseThrow().getRefCount()).isEqualTo(1);
+        assertThat(storedObjectRepository.findById(exclusive).orElseThrow().getRefCount()).isZero();
+        assertThat(pendingDeletionRepository.findById(shared)).isEmpty();
+        assertThat(pendingDeletionRepository.findById(exclusive)).isPresent();
+    }
+
+    private static User user(String email, UserType userType) {
+        return User.builder()
+                .email(email)
+                .nickname(email)
+                .userType(userType)
+                .role(Role.USER)
+                .socialType(SocialType.KAKAO)
+                .build();
+    }
+
+    private static WorkRequestImage image(WorkRequest workRequest, String fileName) {
+        return WorkRequestImage.builder()
+                .workRequest(workRequest)
+                .imageName("logo.png")
+                .imageUrl("https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + fileName)
+                .imageSize(1024L)
+                .imageType("image/png")
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package thonlivethondie.artconnect.service.image;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import thonlivethondie.artconnect.service.AwsS3Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장된 이미지 URL을 CDN URL, 서명된 단기 URL로 바꾸는 로직을 검증하는 단위 테스트
+ * URL 서명은 네트워크 호출 없이 계산되므로 저장소가 실행 중이지 않아도 됩니다.
+ */
+class ImageUrlResolverTest {
+
+    private static final String STORAGE_BASE_URL = "http://localhost:9000/art-connect/";
+    private static final String CDN_BASE_URL = "https://cdn.example.com";
+
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration("http://localhost:9000", "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+
+        awsS3Service = new AwsS3Service(amazonS3, null);
+        ReflectionTestUtils.setField(awsS3Service, "bucket", "art-connect");
+    }
+
+    @Test
+    @DisplayName("CDN 주소가 설정되면 S3 URL의 저장소 주소 부분을 CDN 주소로 바꾼다")
+    void toPublicUrlWithCdn() {
+        // given
+        ImageUrlResolver resolver = new ImageUrlResolver(awsS3Service, CDN_BASE_URL, 10, 100);
+
+        // when
+        String url = resolver.toPublicUrl(STORAGE_BASE_URL + "a1b2_thumb.jpg");
+
+        // then
+        assertThat(url).isEqualTo(CDN_BASE_URL + "/a1b2_thumb.jpg");
+    }
+
+    @Test
+    @DisplayName("CDN 주소가 없거나 이 저장소의 URL이 아니면 그대로 반환한다")
+    void toPublicUrlWithoutCdn() {
+        // given
+        ImageUrlResolver withoutCdn = new ImageUrlResolver(awsS3Service, "", 10, 100);
+        ImageUrlResolver withCdn = new ImageUrlResolver(awsS3Service, CDN_BASE_URL, 10, 100);
+        String socialProfileUrl = "https://k.kakaocdn.net/profile.jpg";
+
+        // when & then
+        assertThat(withoutCdn.toPublicUrl(STORAGE_BASE_URL + "a1b2")).isEqualTo(STORAGE_BASE_URL + "a1b2");
+        assertThat(withCdn.toPublicUrl(socialProfileUrl)).isEqualTo(socialProfileUrl);
+        assertThat(withCdn.toPublicUrl(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("비공개 이미지는 서명된 URL로 바꾸고, 유효 시간의 절반이 지나기 전에는 같은 URL을 재사용한다")
+    void toPrivateUrl() {
+        // given
+        ImageUrlResolver resolver = new ImageUrlResolver(awsS3Service, CDN_BASE_URL, 10, 100);
+        String storedUrl = STORAGE_BASE_URL + "private/a1b2";
+
+        // when
+        String first = resolver.toPrivateUrl(storedUrl);
+        String second = resolver.toPrivateUrl(storedUrl);
+
+        // then
+        assertThat(first).startsWith(storedUrl + "?");
+        assertThat(first).contains("X-Amz-Signature=");
+        assertThat(second).isEqualTo(first);
+    }
+}
@@ -0,0 +1,109 @@
+package thonlivethondie.artconnect.service.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageVariantGenerator의 축소 이미지 생성에 대한 단위 테스트
+ */
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(0.8f);
+
+    @Test
+    @DisplayName("큰 이미지는 비율을 유지한 썸네일과 중간 크기 JPEG를 생성한다")
+    void generateAllVariants() throws IOException {
+        // given
+        byte[] original = png(4000, 3000, true);
+
+        // when
+        Map<ImageVariant, byte[]> variants = generator.generate(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(variants).containsOnlyKeys(ImageVariant.THUMBNAIL, ImageVariant.MEDIUM);
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.THUMBNAIL)));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.MEDIUM)));
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(768);
+        assertThat(variants.get(ImageVariant.MEDIUM).length).isLessThan(original.length);
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 축소 이미지만 생성한다")
+    void generateOnlySmallerVariants() throws IOException {
+        // given
+        byte[] original = png(800, 600, false);
+
+        // when
+        Map<ImageVariant, byte[]> variants = generator.generate(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(variants).containsOnlyKeys(ImageVariant.THUMBNAIL);
+    }
+
+    @Test
+    @DisplayName("원본이 충분히 작으면 축소 이미지를 생성하지 않는다")
+    void skipSmallImage() throws IOException {
+        // given
+        byte[] original = png(300, 300, false);
+
+        // when
+        Map<ImageVariant, byte[]> variants = generator.generate(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(variants).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 축소 이미지를 생성하지 않는다")
+    void skipNonImage() throws IOException {
+        // given
+        byte[] pdf = "%PDF-1.4 not an image".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Map<ImageVariant, byte[]> variants = generator.generate(new ByteArrayInputStream(pdf));
+
+        // then
+        assertThat(variants).isEmpty();
+    }
+
+    @Test
+    @DisplayName("축소 이미지 파일명은 원본 파일명에 접미사를 붙인 JPEG 이름이다")
+    void variantFileNames() {
+        assertThat(ImageVariant.THUMBNAIL.fileNameOf("a1b2.png")).isEqualTo("a1b2_thumb.jpg");
+        assertThat(ImageVariant.MEDIUM.fileNameOf("a1b2")).isEqualTo("a1b2_medium.jpg");
+        assertThat(ImageVariant.withVariants("a1b2.png"))
+                .containsExactly("a1b2.png", "a1b2_thumb.jpg", "a1b2_medium.jpg");
+    }
+
+    private static byte[] png(int width, int height, boolean transparent) throws IOException {
+        BufferedImage image = new BufferedImage(width, height,
+                transparent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width / 2, height / 2);
+        graphics.setColor(Color.BLUE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
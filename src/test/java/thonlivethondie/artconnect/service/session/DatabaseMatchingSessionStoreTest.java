@@ -0,0 +1,134 @@
+package thonlivethondie.artconnect.service.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import thonlivethondie.artconnect.config.QueryDslConfig;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.repository.MatchingSessionRecordRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DatabaseMatchingSessionStore에 대한 통합 테스트
+ * H2 인메모리 데이터베이스를 공유 저장소 대신 사용하여 직렬화와 반환 상태 갱신을 검증합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, DatabaseMatchingSessionStore.class})
+@TestPropertySource(properties = {"matching.session.store=database", "matching.session.ttl-minutes=30"})
+@ActiveProfiles("test")
+class DatabaseMatchingSessionStoreTest {
+
+    @Autowired
+    private DatabaseMatchingSessionStore sessionStore;
+
+    @Autowired
+    private MatchingSessionRecordRepository matchingSessionRecordRepository;
+
+    @Test
+    @DisplayName("저장한 세션을 다른 인스턴스에서 조회하듯 그대로 복원한다")
+    void saveAndFind() {
+        // given
+        AiProposalDto proposal = new AiProposalDto("따뜻하고 아늑한 카페 브랜딩", "20-30대 직장인", null);
+        MatchingSession session = new MatchingSession("session_1", proposal,
+                new long[]{42L, 7L, 300_000L}, new int[]{15, 9, 3}, new int[]{0, 2, 1}, System.currentTimeMillis());
+        sessionStore.save(session);
+
+        // when
+        MatchingSession found = sessionStore.find("session_1");
+
+        // then
+        assertThat(found).isNotNull();
+        assertThat(found.getDesignerIds()).containsExactly(42L, 7L, 300_000L);
+        assertThat(found.getScores()).containsExactly(15, 9, 3);
+        assertThat(found.getOrder()).containsExactly(0, 2, 1);
+        assertThat(found.getCreatedAt()).isEqualTo(session.getCreatedAt());
+        assertThat(found.getProposal().getDesignDirection()).isEqualTo("따뜻하고 아늑한 카페 브랜딩");
+        assertThat(found.getProposal().getTargetCustomer()).isEqualTo("20-30대 직장인");
+        assertThat(found.getProposal().getRequiredDesigns()).isNull();
+    }
+
+    @Test
+    @DisplayName("반환 상태를 갱신하면 다음 조회에서 이미 반환된 디자이너가 유지된다")
+    void updateReturnedDesigners() {
+        // given
+        MatchingSession session = new MatchingSession("session_2", new AiProposalDto(),
+                new long[]{1L, 2L, 3L}, new int[]{3, 2, 1}, new int[]{0, 1, 2}, System.currentTimeMillis());
+        sessionStore.save(session);
+
+        MatchingSession first = sessionStore.find("session_2");
+        List<Long> top = first.takeTop(2);
+        sessionStore.updateReturnedDesigners(first);
+
+        // when
+        MatchingSession second = sessionStore.find("session_2");
+
+        // then
+        assertThat(top).containsExactly(1L, 2L);
+        assertThat(second.getReturnedDesignerIds()).containsExactly(1L, 2L);
+        assertThat(second.takeNext()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("같은 커서를 읽은 두 요청이 새로고침해도 저장소의 반환 수를 기준으로 서로 다른 디자이너를 반환한다")
+    void takeNextWithStaleCursor() {
+        // given
+        sessionStore.save(new MatchingSession("session_4", new AiProposalDto(),
+                new long[]{1L, 2L, 3L}, new int[]{3, 2, 1}, new int[]{0, 1, 2}, System.currentTimeMillis()));
+        MatchingSession first = sessionStore.find("session_4");
+        MatchingSession second = sessionStore.find("session_4");
+
+        // when
+        long firstDesigner = sessionStore.takeNext(first);
+        long secondDesigner = sessionStore.takeNext(second);
+
+        // then
+        assertThat(firstDesigner).isEqualTo(1L);
+        assertThat(secondDesigner).isEqualTo(2L);
+        assertThat(second.getCursor()).isEqualTo(2);
+        assertThat(matchingSessionRecordRepository.findReturnedCount("session_4")).contains(2);
+    }
+
+    @Test
+    @DisplayName("모두 반환된 세션을 새로고침하면 반환 수를 늘리지 않고 전체 목록에서 선택한다")
+    void takeNextAfterExhausted() {
+        // given
+        sessionStore.save(new MatchingSession("session_5", new AiProposalDto(),
+                new long[]{1L, 2L}, new int[]{2, 1}, new int[]{0, 1}, System.currentTimeMillis()));
+        MatchingSession session = sessionStore.find("session_5");
+        sessionStore.takeNext(session);
+        sessionStore.takeNext(session);
+
+        // when
+        long designerId = sessionStore.takeNext(sessionStore.find("session_5"));
+
+        // then
+        assertThat(designerId).isIn(1L, 2L);
+        assertThat(matchingSessionRecordRepository.findReturnedCount("session_5")).contains(2);
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 조회되지 않고 정리 작업에서 삭제된다")
+    void expiredSession() {
+        // given
+        long createdAt = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(31);
+        sessionStore.save(new MatchingSession("session_3", new AiProposalDto(),
+                new long[]{1L}, new int[]{1}, new int[]{0}, createdAt));
+
+        // when
+        MatchingSession found = sessionStore.find("session_3");
+        sessionStore.sweepExpiredSessions();
+
+        // then
+        assertThat(found).isNull();
+        assertThat(matchingSessionRecordRepository.existsById("session_3")).isFalse();
+        assertThat(sessionStore.size()).isZero();
+    }
+}
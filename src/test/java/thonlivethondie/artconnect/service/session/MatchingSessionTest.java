@@ -0,0 +1,126 @@
+package thonlivethondie.artconnect.service.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import thonlivethondie.artconnect.dto.AiProposalDto;
+import thonlivethondie.artconnect.dto.RecommendedDesignerDto;
+import thonlivethondie.artconnect.dto.ScoredDesignerDto;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MatchingSession의 추천 순서와 동시 새로고침에 대한 단위 테스트
+ */
+class MatchingSessionTest {
+
+    private static final int DESIGNER_COUNT = 50;
+    private static final int PINNED_COUNT = 2;
+
+    @Test
+    @DisplayName("상위 디자이너는 점수순으로 먼저 반환되고, 나머지는 중복 없이 한 번씩 반환된다")
+    void takeTopThenNext() {
+        // given
+        MatchingSession session = createSession(DESIGNER_COUNT);
+
+        // when
+        List<Long> top = session.takeTop(PINNED_COUNT);
+        List<Long> refreshed = new ArrayList<>();
+        for (int i = 0; i < DESIGNER_COUNT - PINNED_COUNT; i++) {
+            refreshed.add(session.takeNext());
+        }
+
+        // then
+        assertThat(top).containsExactly(1L, 2L);
+        assertThat(refreshed).doesNotHaveDuplicates().doesNotContain(1L, 2L);
+        assertThat(session.getReturnedDesignerIds()).hasSize(DESIGNER_COUNT);
+        assertThat(session.getCursor()).isEqualTo(DESIGNER_COUNT);
+    }
+
+    @Test
+    @DisplayName("모든 디자이너가 반환된 후에는 전체 목록에서 선택한다")
+    void takeNextAfterExhausted() {
+        // given
+        MatchingSession session = createSession(3);
+        session.takeTop(3);
+
+        // when
+        Set<Long> selected = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            selected.add(session.takeNext());
+        }
+
+        // then
+        assertThat(selected).isSubsetOf(1L, 2L, 3L);
+        assertThat(session.getCursor()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("디자이너가 없는 세션은 -1을 반환한다")
+    void takeNextWithoutDesigners() {
+        MatchingSession session = createSession(0);
+
+        assertThat(session.takeTop(PINNED_COUNT)).isEmpty();
+        assertThat(session.takeNext()).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("동시에 새로고침해도 같은 디자이너를 두 번 반환하지 않는다")
+    void concurrentRefresh() throws Exception {
+        int threadCount = 16;
+        int repeat = 200;
+
+        for (int round = 0; round < repeat; round++) {
+            // given
+            MatchingSession session = createSession(DESIGNER_COUNT);
+            session.takeTop(PINNED_COUNT);
+
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> futures = new ArrayList<>();
+
+            // when: 남은 디자이너 수만큼 여러 스레드에서 동시에 새로고침
+            int perThread = (DESIGNER_COUNT - PINNED_COUNT) / threadCount;
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(session.takeNext());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            List<Long> refreshed = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                refreshed.addAll(future.get(10, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(refreshed)
+                    .hasSize(perThread * threadCount)
+                    .doesNotHaveDuplicates()
+                    .doesNotContain(1L, 2L);
+            assertThat(session.getReturnedDesignerIds()).doesNotHaveDuplicates();
+        }
+    }
+
+    private MatchingSession createSession(int designerCount) {
+        List<ScoredDesignerDto> scoredDesigners = LongStream.rangeClosed(1, designerCount)
+                .mapToObj(id -> {
+                    RecommendedDesignerDto designer = new RecommendedDesignerDto();
+                    designer.setUserId(id);
+                    return new ScoredDesignerDto(designer, (int) (designerCount - id), List.of());
+                })
+                .collect(Collectors.toList());
+
+        return MatchingSession.of("session_test", new AiProposalDto(), scoredDesigners, PINNED_COUNT);
+    }
+}
@@ -0,0 +1,32 @@
+package thonlivethondie.artconnect.service.upload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageFormat의 시그니처 기반 확장자 판별에 대한 단위 테스트
+ */
+class ImageFormatTest {
+
+    @Test
+    @DisplayName("파일 앞부분의 시그니처로 확장자를 정하며, 판별할 수 없으면 빈 문자열을 반환한다")
+    void extensionOf() {
+        // given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+        byte[] text = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(ImageFormat.extensionOf(png, png.length)).isEqualTo(".png");
+        assertThat(ImageFormat.extensionOf(jpeg, jpeg.length)).isEqualTo(".jpg");
+        assertThat(ImageFormat.extensionOf(webp, webp.length)).isEqualTo(".webp");
+        assertThat(ImageFormat.extensionOf(text, text.length)).isEmpty();
+        // 유효한 길이만 확인
+        assertThat(ImageFormat.extensionOf(png, 3)).isEmpty();
+    }
+}
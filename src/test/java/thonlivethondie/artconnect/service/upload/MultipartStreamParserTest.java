@@ -0,0 +1,189 @@
+package thonlivethondie.artconnect.service.upload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MultipartStreamParser의 경계 탐색과 파트 읽기에 대한 단위 테스트
+ */
+class MultipartStreamParserTest {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    @DisplayName("폼 필드와 파일 파트를 순서대로 읽는다")
+    void readFieldAndFiles() throws IOException {
+        // given
+        byte[] image = randomBytes(200_000, 1);
+        byte[] body = new BodyBuilder()
+                .field("workRequest", "{\"projectTitle\":\"카페 로고\"}")
+                .file("images", "로고.png", "image/png", image)
+                .build();
+
+        // when
+        MultipartStreamParser parser = newParser(body, 1024);
+        MultipartStreamParser.Part field = parser.nextPart();
+        String json = field.readString(1024);
+        MultipartStreamParser.Part file = parser.nextPart();
+        byte[] uploaded = file.body().readAllBytes();
+
+        // then
+        assertThat(field.isFile()).isFalse();
+        assertThat(field.name()).isEqualTo("workRequest");
+        assertThat(json).isEqualTo("{\"projectTitle\":\"카페 로고\"}");
+        assertThat(file.isFile()).isTrue();
+        assertThat(file.filename()).isEqualTo("로고.png");
+        assertThat(file.contentType()).isEqualTo("image/png");
+        assertThat(uploaded).isEqualTo(image);
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    @DisplayName("본문에 경계의 앞부분이 섞여 있고 조금씩 도착해도 파트를 정확히 나눈다")
+    void partialBoundaryInsideBody() throws IOException {
+        // given
+        Random random = new Random(7);
+        List<byte[]> images = new ArrayList<>();
+        BodyBuilder builder = new BodyBuilder().preamble("preamble\r\n");
+        for (int i = 0; i < 5; i++) {
+            byte[] image = randomBytes(5_000 + random.nextInt(50_000), i);
+            byte[] partial = ("\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1)).getBytes(StandardCharsets.US_ASCII);
+            int at = random.nextInt(image.length - partial.length - 1);
+            System.arraycopy(partial, 0, image, at, partial.length);
+            image[at + partial.length] = 0;
+            images.add(image);
+            builder.file("images", "image" + i + ".jpg", "image/jpeg", image);
+        }
+
+        // when
+        MultipartStreamParser parser = new MultipartStreamParser(
+                new TrickleInputStream(builder.build(), random), BOUNDARY, new byte[256]);
+        List<byte[]> uploaded = new ArrayList<>();
+        MultipartStreamParser.Part part;
+        while ((part = parser.nextPart()) != null) {
+            uploaded.add(part.body().readAllBytes());
+        }
+
+        // then
+        assertThat(uploaded).hasSize(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            assertThat(uploaded.get(i)).isEqualTo(images.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("읽지 않은 파트 본문은 다음 파트로 이동할 때 건너뛴다")
+    void skipUnreadPart() throws IOException {
+        // given
+        byte[] body = new BodyBuilder()
+                .file("images", "a.png", "image/png", randomBytes(10_000, 1))
+                .field("comment", "두 번째")
+                .build();
+
+        // when
+        MultipartStreamParser parser = newParser(body, 512);
+        parser.nextPart();
+        MultipartStreamParser.Part second = parser.nextPart();
+
+        // then
+        assertThat(second.name()).isEqualTo("comment");
+        assertThat(second.readString(1024)).isEqualTo("두 번째");
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    @DisplayName("경계 없이 끝난 본문은 예외가 발생한다")
+    void truncatedBody() throws IOException {
+        // given
+        byte[] body = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"images\"; filename=\"a.png\"\r\n\r\nabc")
+                .getBytes(StandardCharsets.UTF_8);
+        MultipartStreamParser parser = newParser(body, 512);
+        MultipartStreamParser.Part part = parser.nextPart();
+
+        // when & then
+        assertThatThrownBy(() -> part.body().readAllBytes()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Content-Type 헤더에서 boundary를 추출한다")
+    void extractBoundary() {
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data; boundary=abc")).isEqualTo("abc");
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data; charset=UTF-8; boundary=\"a b\"")).isEqualTo("a b");
+        assertThat(MultipartStreamParser.extractBoundary("application/json")).isNull();
+        assertThat(MultipartStreamParser.extractBoundary(null)).isNull();
+    }
+
+    private MultipartStreamParser newParser(byte[] body, int bufferSize) {
+        return new MultipartStreamParser(new ByteArrayInputStream(body), BOUNDARY, new byte[bufferSize]);
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * multipart/form-data 본문 생성기
+     */
+    private static class BodyBuilder {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        BodyBuilder preamble(String text) {
+            body.writeBytes(text.getBytes(StandardCharsets.US_ASCII));
+            return this;
+        }
+
+        BodyBuilder field(String name, String value) {
+            writeHeader("Content-Disposition: form-data; name=\"" + name + "\"\r\n");
+            body.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            body.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+            return this;
+        }
+
+        BodyBuilder file(String name, String filename, String contentType, byte[] content) {
+            writeHeader("Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                    + "Content-Type: " + contentType + "\r\n");
+            body.writeBytes(content);
+            body.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+            return this;
+        }
+
+        byte[] build() {
+            body.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+            return body.toByteArray();
+        }
+
+        private void writeHeader(String headers) {
+            body.writeBytes(("--" + BOUNDARY + "\r\n" + headers + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 네트워크처럼 한 번에 몇 바이트씩만 돌려주는 입력 스트림
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+
+        private final Random random;
+
+        TrickleInputStream(byte[] data, Random random) {
+            super(new ByteArrayInputStream(data));
+            this.random = random;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1 + random.nextInt(97)));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package thonlivethondie.artconnect.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AhoCorasickMatcher의 다중 패턴 매칭에 대한 단위 테스트
+ */
+class AhoCorasickMatcherTest {
+
+    @Test
+    @DisplayName("텍스트에 등장하는 모든 패턴의 값을 등장 순서대로, 등장 횟수만큼 전달한다")
+    void forEachMatch() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.of(Map.of(
+                "로고", List.of("LOGO"),
+                "배너", List.of("BANNER")));
+        List<String> matches = new ArrayList<>();
+
+        // when
+        matcher.forEachMatch("배너와 로고, 그리고 로고", matches::add);
+
+        // then
+        assertThat(matches).containsExactly("BANNER", "LOGO", "LOGO");
+    }
+
+    @Test
+    @DisplayName("겹치거나 다른 패턴에 포함된 패턴도 모두 찾고, 끝나는 위치가 같으면 긴 패턴부터 전달한다")
+    void forEachMatchOverlapping() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.of(Map.of(
+                "he", List.of("he"),
+                "she", List.of("she"),
+                "his", List.of("his"),
+                "hers", List.of("hers")));
+        List<String> matches = new ArrayList<>();
+
+        // when
+        matcher.forEachMatch("ushers", matches::add);
+
+        // then
+        assertThat(matches).containsExactly("she", "he", "hers");
+    }
+
+    @Test
+    @DisplayName("매칭 위치는 시작(포함)과 끝(제외) 인덱스로 전달한다")
+    void forEachMatchWithPosition() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.of(Map.of("cute", List.of("CUTE")));
+        List<String> matches = new ArrayList<>();
+
+        // when
+        matcher.forEachMatch("execute cute", (value, start, end) -> matches.add(value + ":" + start + "-" + end));
+
+        // then
+        assertThat(matches).containsExactly("CUTE:3-7", "CUTE:8-12");
+    }
+
+    @Test
+    @DisplayName("한 패턴에 연결된 값이 여럿이면 모두 전달하고, 빈 패턴과 null 텍스트는 무시한다")
+    void forEachMatchMultipleValues() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.of(Map.of(
+                "카드", List.of("CARD", "PRINT"),
+                "", List.of("EMPTY")));
+        List<String> matches = new ArrayList<>();
+
+        // when
+        matcher.forEachMatch("명함 카드", matches::add);
+        matcher.forEachMatch(null, matches::add);
+
+        // then
+        assertThat(matches).containsExactly("CARD", "PRINT");
+    }
+}